@@ -0,0 +1,277 @@
+package com.ll.dopdang.load;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import com.ll.dopdang.domain.member.entity.Member;
+import com.ll.dopdang.global.security.custom.CustomUserDetails;
+import com.ll.dopdang.standard.util.JwtUtil;
+
+import jakarta.websocket.ContainerProvider;
+import jakarta.websocket.WebSocketContainer;
+
+/**
+ * 채팅 STOMP 부하 생성기
+ * 채팅방마다 두 참여자의 STOMP 세션을 열고 /app/chat.send로 정해진 속도만큼 메시지를 보내며,
+ * 상대 세션에 도착하기까지의 종단 간 지연(p50/p99/p999)과 유실을 측정합니다.
+ * <pre>
+ * 1. 서버 실행 (load 프로필: H2 인메모리 DB + 로컬 Redis)
+ *    ./gradlew chatLoadServer
+ * 2. 부하 실행 (옵션은 {@link ChatLoadOptions})
+ *    ./gradlew chatLoad --args="--rooms=1000 --rate=1 --duration=60 --storm-interval=15 --label=main"
+ * 3. 보고서: build/reports/chat-load/{label}-{시각}.json, latest.json
+ *    --baseline=이전 보고서 경로를 주면 주요 지표의 차이를 함께 출력
+ * </pre>
+ * 사용자는 실행마다 새로 만들고(load-{실행 ID}-{번호}-a/b), 서버와 같은 jwt.secret으로 발급한
+ * accessToken 쿠키로 핸드셰이크합니다. 채팅방은 첫 메시지 전송 때 서버가 만듭니다.
+ */
+public class ChatLoadGenerator {
+
+	private static final long TOKEN_EXPIRATION_MS = TimeUnit.HOURS.toMillis(6);
+	private static final int MAX_FRAME_BYTES = 1024 * 1024;
+
+	private final ChatLoadOptions options;
+	private final String runId = Long.toString(System.currentTimeMillis(), 36);
+	private final ChatLoadTracker tracker;
+	private final WebSocketStompClient stompClient;
+	private final List<ChatLoadSession> sessions = new ArrayList<>();
+
+	private final LatencyHistogram connectLatency = new LatencyHistogram();
+	private final LatencyHistogram reconnectLatency = new LatencyHistogram();
+	private final AtomicLong connectFailures = new AtomicLong();
+	private final AtomicLong reconnectFailures = new AtomicLong();
+	private final AtomicLong storms = new AtomicLong();
+	private final AtomicLong stormDisconnects = new AtomicLong();
+
+	private volatile boolean measuring;
+
+	public ChatLoadGenerator(ChatLoadOptions options) {
+		this.options = options;
+		this.tracker = new ChatLoadTracker(runId, options.payloadBytes());
+		WebSocketContainer container = ContainerProvider.getWebSocketContainer();
+		// 재접속 동기화 응답(최대 100건)도 한 프레임으로 받을 수 있도록 버퍼를 늘림
+		container.setDefaultMaxTextMessageBufferSize(MAX_FRAME_BYTES);
+		this.stompClient = new WebSocketStompClient(new StandardWebSocketClient(container));
+		this.stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+		this.stompClient.setInboundMessageSizeLimit(MAX_FRAME_BYTES);
+	}
+
+	public static void main(String[] args) throws Exception {
+		ChatLoadOptions options = ChatLoadOptions.parse(args);
+		Map<String, Object> report = new ChatLoadGenerator(options).run();
+		ChatLoadReport.write(report, options);
+		System.exit(0);
+	}
+
+	public Map<String, Object> run() throws InterruptedException {
+		String startedAt = OffsetDateTime.now().toString();
+		createSessions();
+
+		log("세션 %d개 연결 중 (초당 %d개)", sessions.size(), options.connectRate());
+		connectAll();
+		// 마지막 SUBSCRIBE가 브로커에 등록될 때까지 잠시 대기
+		Thread.sleep(1_000);
+
+		ScheduledExecutorService senders = Executors.newScheduledThreadPool(options.senderThreads());
+		long periodNanos = (long)(TimeUnit.SECONDS.toNanos(1) / options.rate());
+		for (int room = 0; room < options.rooms(); room++) {
+			senders.scheduleAtFixedRate(new RoomSender(sessions.get(room * 2), sessions.get(room * 2 + 1)),
+				ThreadLocalRandom.current().nextLong(periodNanos), periodNanos, TimeUnit.NANOSECONDS);
+		}
+
+		log("워밍업 %d초", options.warmupSeconds());
+		Thread.sleep(TimeUnit.SECONDS.toMillis(options.warmupSeconds()));
+		measuring = true;
+
+		ScheduledExecutorService stormScheduler = Executors.newSingleThreadScheduledExecutor();
+		if (options.stormIntervalSeconds() > 0) {
+			stormScheduler.scheduleWithFixedDelay(this::reconnectStorm, options.stormIntervalSeconds(),
+				options.stormIntervalSeconds(), TimeUnit.SECONDS);
+		}
+		log("측정 %d초 (채팅방 %d개, 채팅방별 초당 %.2f건)", options.durationSeconds(), options.rooms(), options.rate());
+		Thread.sleep(TimeUnit.SECONDS.toMillis(options.durationSeconds()));
+
+		senders.shutdownNow();
+		senders.awaitTermination(10, TimeUnit.SECONDS);
+		measuring = false;
+		// 진행 중인 재접속 폭주는 끝까지 기다려야 복구분이 집계됨
+		stormScheduler.shutdown();
+		stormScheduler.awaitTermination(options.stormDowntimeMs() + 60_000, TimeUnit.MILLISECONDS);
+
+		drain();
+		sessions.forEach(ChatLoadSession::disconnect);
+		return report(startedAt);
+	}
+
+	private void createSessions() {
+		JwtUtil jwtUtil = new JwtUtil(options.jwtSecret());
+		for (int room = 0; room < options.rooms(); room++) {
+			long projectId = options.projectIdBase() + room;
+			String first = "load-" + runId + "-" + room + "-a@load.test";
+			String second = "load-" + runId + "-" + room + "-b@load.test";
+			String roomId = projectId + "|" + first + ":" + second;
+			sessions.add(new ChatLoadSession(stompClient, tracker, options.url(),
+				accessToken(jwtUtil, room * 2L + 1, first), roomId, first, second, projectId));
+			sessions.add(new ChatLoadSession(stompClient, tracker, options.url(),
+				accessToken(jwtUtil, room * 2L + 2, second), roomId, second, first, projectId));
+		}
+	}
+
+	private String accessToken(JwtUtil jwtUtil, long id, String email) {
+		Member member = Member.builder()
+			.id(id)
+			.email(email)
+			.userRole("ROLE_USER")
+			.status("ACTIVE")
+			.isClient(true)
+			.build();
+		return jwtUtil.createAccessToken(new CustomUserDetails(member), TOKEN_EXPIRATION_MS);
+	}
+
+	/**
+	 * connect-rate에 맞춰 100ms마다 나눠 연결을 시작하고 모두 끝날 때까지 기다립니다.
+	 */
+	private void connectAll() throws InterruptedException {
+		int perTick = Math.max(1, options.connectRate() / 10);
+		List<CompletableFuture<Void>> futures = new ArrayList<>(sessions.size());
+		for (int i = 0; i < sessions.size(); i++) {
+			if (i > 0 && i % perTick == 0) {
+				Thread.sleep(100);
+			}
+			futures.add(connect(sessions.get(i), false, connectLatency, connectFailures));
+		}
+		await(futures);
+	}
+
+	private CompletableFuture<Void> connect(ChatLoadSession session, boolean resync, LatencyHistogram histogram,
+		AtomicLong failures) {
+		long start = System.nanoTime();
+		return session.connect(resync)
+			.orTimeout(30, TimeUnit.SECONDS)
+			.handle((ignored, error) -> {
+				if (error != null) {
+					failures.incrementAndGet();
+				} else {
+					histogram.recordNanos(System.nanoTime() - start);
+				}
+				return null;
+			});
+	}
+
+	/**
+	 * 재접속 폭주: 세션 일부를 한꺼번에 끊고, 잠시 뒤 동시에 다시 접속해 누락분을 동기화합니다.
+	 */
+	private void reconnectStorm() {
+		List<ChatLoadSession> shuffled = new ArrayList<>(sessions);
+		Collections.shuffle(shuffled);
+		List<ChatLoadSession> targets = shuffled.subList(0, (int)(sessions.size() * options.stormFraction()));
+		storms.incrementAndGet();
+		stormDisconnects.addAndGet(targets.size());
+		log("재접속 폭주 #%d: 세션 %d개", storms.get(), targets.size());
+		targets.forEach(ChatLoadSession::disconnect);
+		try {
+			Thread.sleep(options.stormDowntimeMs());
+			List<CompletableFuture<Void>> futures = new ArrayList<>(targets.size());
+			for (ChatLoadSession session : targets) {
+				futures.add(connect(session, true, reconnectLatency, reconnectFailures));
+			}
+			await(futures);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void drain() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(options.drainSeconds());
+		while (tracker.pendingCount() > 0 && System.nanoTime() < deadline) {
+			Thread.sleep(100);
+		}
+		log("미도착 메시지 %d건", tracker.pendingCount());
+	}
+
+	private void await(List<CompletableFuture<Void>> futures) throws InterruptedException {
+		try {
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+		} catch (TimeoutException | ExecutionException e) {
+			log("연결 대기 시간 초과: %s", e.getMessage());
+		}
+	}
+
+	private Map<String, Object> report(String startedAt) {
+		Map<String, Object> connect = new LinkedHashMap<>();
+		connect.put("sessions", sessions.size());
+		connect.put("failed", connectFailures.get());
+		connect.put("latencyMs", connectLatency.summary());
+
+		Map<String, Object> reconnect = new LinkedHashMap<>();
+		reconnect.put("storms", storms.get());
+		reconnect.put("disconnected", stormDisconnects.get());
+		reconnect.put("failed", reconnectFailures.get());
+		reconnect.put("latencyMs", reconnectLatency.summary());
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("label", options.label());
+		report.put("runId", runId);
+		report.put("startedAt", startedAt);
+		report.put("options", options);
+		report.put("connect", connect);
+		report.put("messages", tracker.messages(options.durationSeconds()));
+		report.put("latencyMs", tracker.latency().summary());
+		report.put("recoveryLatencyMs", tracker.recoveryLatency().summary());
+		report.put("reconnect", reconnect);
+		return report;
+	}
+
+	static void log(String format, Object... args) {
+		System.out.printf("[chat-load] " + format + "%n", args);
+	}
+
+	/**
+	 * 채팅방 하나의 전송 작업 (두 참여자가 번갈아 전송)
+	 * scheduleAtFixedRate는 같은 작업을 겹쳐 실행하지 않으므로 채팅방 단위로 전송 순서가 유지됩니다.
+	 */
+	private class RoomSender implements Runnable {
+
+		private final ChatLoadSession first;
+		private final ChatLoadSession second;
+		private boolean firstTurn = true;
+
+		RoomSender(ChatLoadSession first, ChatLoadSession second) {
+			this.first = first;
+			this.second = second;
+		}
+
+		@Override
+		public void run() {
+			ChatLoadSession sender = firstTurn ? first : second;
+			firstTurn = !firstTurn;
+			if (!sender.isConnected()) {
+				tracker.skipped();
+				return;
+			}
+			boolean measured = measuring;
+			String content = tracker.prepare(measured);
+			if (sender.send(content)) {
+				tracker.sent(measured);
+			} else {
+				tracker.sendFailed(content);
+			}
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.ll.dopdang.load;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 부하 생성기 옵션 ({@code --이름=값} 형식)
+ * <pre>
+ * --url                 STOMP 엔드포인트 (기본 ws://localhost:8080/ws-chat/websocket, SockJS의 순수 WebSocket 경로)
+ * --rooms               채팅방 수 (채팅방마다 세션 2개, 기본 1000 -> 세션 2000)
+ * --rate                채팅방별 초당 전송 수 (기본 1.0, 두 참여자가 번갈아 전송)
+ * --payload-bytes       메시지 내용 길이 (기본 64)
+ * --warmup              측정 전 워밍업 시간(초), 이 구간 메시지는 유실만 집계 (기본 10)
+ * --duration            측정 시간(초) (기본 60)
+ * --drain               전송 종료 후 미도착 메시지를 기다리는 최대 시간(초) (기본 10)
+ * --connect-rate        초당 새 연결 수 (기본 500)
+ * --storm-interval      재접속 폭주 주기(초), 0이면 사용 안 함 (기본 0)
+ * --storm-fraction      폭주 때 끊었다가 한꺼번에 다시 접속할 세션 비율 (기본 0.2)
+ * --storm-downtime-ms   끊긴 상태로 유지하는 시간 (기본 2000)
+ * --sender-threads      전송 스케줄러 스레드 수 (기본 CPU 수)
+ * --project-id-base     채팅방 프로젝트 ID 시작값 (기본 900000)
+ * --jwt-secret          서버 jwt.secret (기본: load 프로필 값, 보고서에는 남기지 않음)
+ * --label               보고서 이름 (기본 local)
+ * --report-dir          보고서 디렉터리 (기본 build/reports/chat-load)
+ * --baseline            비교할 이전 보고서(JSON) 경로, 지정하면 주요 지표 차이를 출력
+ * </pre>
+ */
+public record ChatLoadOptions(
+	String url,
+	int rooms,
+	double rate,
+	int payloadBytes,
+	int warmupSeconds,
+	int durationSeconds,
+	int drainSeconds,
+	int connectRate,
+	int stormIntervalSeconds,
+	double stormFraction,
+	long stormDowntimeMs,
+	int senderThreads,
+	long projectIdBase,
+	@JsonIgnore String jwtSecret,
+	String label,
+	String reportDir,
+	String baseline
+) {
+
+	static final String LOAD_PROFILE_JWT_SECRET =
+		"chat-load-test-secret-key-only-for-local-load-profile-do-not-use-elsewhere-0123456789";
+
+	private static final Set<String> NAMES = Set.of("url", "rooms", "rate", "payload-bytes", "warmup", "duration",
+		"drain", "connect-rate", "storm-interval", "storm-fraction", "storm-downtime-ms", "sender-threads",
+		"project-id-base", "jwt-secret", "label", "report-dir", "baseline");
+
+	public int sessions() {
+		return rooms * 2;
+	}
+
+	public static ChatLoadOptions parse(String[] args) {
+		Map<String, String> values = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("옵션은 --이름=값 형식이어야 합니다: " + arg);
+			}
+			int separator = arg.indexOf('=');
+			values.put(arg.substring(2, separator), arg.substring(separator + 1));
+		}
+		ChatLoadOptions options = new ChatLoadOptions(
+			values.getOrDefault("url", "ws://localhost:8080/ws-chat/websocket"),
+			Integer.parseInt(values.getOrDefault("rooms", "1000")),
+			Double.parseDouble(values.getOrDefault("rate", "1.0")),
+			Integer.parseInt(values.getOrDefault("payload-bytes", "64")),
+			Integer.parseInt(values.getOrDefault("warmup", "10")),
+			Integer.parseInt(values.getOrDefault("duration", "60")),
+			Integer.parseInt(values.getOrDefault("drain", "10")),
+			Integer.parseInt(values.getOrDefault("connect-rate", "500")),
+			Integer.parseInt(values.getOrDefault("storm-interval", "0")),
+			Double.parseDouble(values.getOrDefault("storm-fraction", "0.2")),
+			Long.parseLong(values.getOrDefault("storm-downtime-ms", "2000")),
+			Integer.parseInt(values.getOrDefault("sender-threads",
+				String.valueOf(Runtime.getRuntime().availableProcessors()))),
+			Long.parseLong(values.getOrDefault("project-id-base", "900000")),
+			values.getOrDefault("jwt-secret", LOAD_PROFILE_JWT_SECRET),
+			values.getOrDefault("label", "local"),
+			values.getOrDefault("report-dir", "build/reports/chat-load"),
+			values.get("baseline")
+		);
+		Set<String> unknown = new TreeSet<>(values.keySet());
+		unknown.removeAll(NAMES);
+		if (!unknown.isEmpty()) {
+			throw new IllegalArgumentException("알 수 없는 옵션: " + unknown);
+		}
+		if (options.rooms <= 0 || options.rate <= 0 || options.durationSeconds <= 0) {
+			throw new IllegalArgumentException("rooms, rate, duration은 0보다 커야 합니다.");
+		}
+		return options;
+	}
+}
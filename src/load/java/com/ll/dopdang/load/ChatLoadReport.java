@@ -0,0 +1,74 @@
+package com.ll.dopdang.load;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * 부하 테스트 보고서 (JSON)
+ * 빌드 간 비교가 쉽도록 키 순서가 고정된 JSON으로 저장하고, --baseline을 주면 주요 지표의 변화를 출력합니다.
+ */
+final class ChatLoadReport {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+		.enable(SerializationFeature.INDENT_OUTPUT);
+
+	/** 비교 출력할 지표 (JSON 경로) */
+	private static final List<String> KEY_METRICS = List.of(
+		"/messages/sentPerSecond",
+		"/messages/lossRate",
+		"/messages/lost",
+		"/messages/duplicates",
+		"/latencyMs/p50",
+		"/latencyMs/p99",
+		"/latencyMs/p999",
+		"/latencyMs/max",
+		"/recoveryLatencyMs/p99",
+		"/connect/failed",
+		"/connect/latencyMs/p99",
+		"/reconnect/failed",
+		"/reconnect/latencyMs/p99"
+	);
+
+	private ChatLoadReport() {
+	}
+
+	static void write(Map<String, Object> report, ChatLoadOptions options) throws IOException {
+		Path directory = Path.of(options.reportDir());
+		Files.createDirectories(directory);
+		String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+		Path file = directory.resolve(options.label() + "-" + timestamp + ".json");
+		OBJECT_MAPPER.writeValue(file.toFile(), report);
+		Files.copy(file, directory.resolve("latest.json"), StandardCopyOption.REPLACE_EXISTING);
+
+		JsonNode current = OBJECT_MAPPER.valueToTree(report);
+		ChatLoadGenerator.log("보고서: %s", file.toAbsolutePath());
+		for (String metric : KEY_METRICS) {
+			ChatLoadGenerator.log("%-26s %s", metric, current.at(metric).asText());
+		}
+		if (options.baseline() != null) {
+			compare(OBJECT_MAPPER.readTree(new File(options.baseline())), current);
+		}
+	}
+
+	private static void compare(JsonNode baseline, JsonNode current) {
+		ChatLoadGenerator.log("비교 기준: %s (%s)", baseline.at("/label").asText(), baseline.at("/startedAt").asText());
+		ChatLoadGenerator.log("%-26s %12s %12s %9s", "metric", "baseline", "current", "change");
+		for (String metric : KEY_METRICS) {
+			double before = baseline.at(metric).asDouble();
+			double after = current.at(metric).asDouble();
+			String change = before == 0 ? "-" : String.format("%+.1f%%", (after - before) / before * 100);
+			ChatLoadGenerator.log("%-26s %12.3f %12.3f %9s", metric, before, after, change);
+		}
+	}
+}
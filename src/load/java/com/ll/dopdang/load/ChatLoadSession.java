@@ -0,0 +1,186 @@
+package com.ll.dopdang.load;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+/**
+ * 부하 생성기의 STOMP 세션 하나 (채팅방 참여자 한 명)
+ * <ul>
+ *     <li>/topic/chat/{roomId}를 구독하고 상대가 보낸 메시지의 도착을 {@link ChatLoadTracker}에 기록</li>
+ *     <li>재접속하면 /app/chat.sync/{roomId}를 after 헤더(마지막으로 받은 순번)와 함께 구독해 누락분을 복구</li>
+ * </ul>
+ * 같은 WebSocket 세션에 여러 스레드가 동시에 쓰면 안 되므로 전송은 세션 단위로 직렬화하고,
+ * 클라이언트 heart-beat 전송은 끕니다. (서버 heart-beat 확인도 하지 않음)
+ */
+class ChatLoadSession {
+
+	private final WebSocketStompClient stompClient;
+	private final ChatLoadTracker tracker;
+	private final String url;
+	private final String accessToken;
+	private final String roomId;
+	private final String username;
+	private final String peer;
+	private final long projectId;
+
+	private volatile StompSession session;
+	private volatile long lastSeq;
+
+	ChatLoadSession(WebSocketStompClient stompClient, ChatLoadTracker tracker, String url, String accessToken,
+		String roomId, String username, String peer, long projectId) {
+		this.stompClient = stompClient;
+		this.tracker = tracker;
+		this.url = url;
+		this.accessToken = accessToken;
+		this.roomId = roomId;
+		this.username = username;
+		this.peer = peer;
+		this.projectId = projectId;
+	}
+
+	/**
+	 * 연결 후 채팅방을 구독합니다. 재접속이면 동기화 구독으로 누락분을 요청합니다.
+	 */
+	CompletableFuture<Void> connect(boolean resync) {
+		WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+		handshakeHeaders.add("Cookie", "accessToken=" + accessToken);
+		StompHeaders connectHeaders = new StompHeaders();
+		connectHeaders.setHeartbeat(new long[] {0, 0});
+		return stompClient.connectAsync(url, handshakeHeaders, connectHeaders, new SessionHandler())
+			.thenAccept(connected -> {
+				synchronized (this) {
+					connected.subscribe("/topic/chat/" + roomId, new TopicHandler());
+					if (resync) {
+						subscribeSync(connected, lastSeq);
+					}
+					session = connected;
+				}
+			});
+	}
+
+	boolean isConnected() {
+		StompSession current = session;
+		return current != null && current.isConnected();
+	}
+
+	void disconnect() {
+		StompSession current = session;
+		session = null;
+		if (current != null && current.isConnected()) {
+			synchronized (this) {
+				current.disconnect();
+			}
+		}
+	}
+
+	/**
+	 * 상대에게 메시지를 보냅니다.
+	 *
+	 * @return 연결되어 있지 않거나 전송에 실패하면 false
+	 */
+	boolean send(String content) {
+		StompSession current = session;
+		if (current == null || !current.isConnected()) {
+			return false;
+		}
+		try {
+			synchronized (this) {
+				current.send("/app/chat.send", Map.of(
+					"sender", username,
+					"receiver", peer,
+					"projectId", projectId,
+					"content", content));
+			}
+			return true;
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+
+	private void subscribeSync(StompSession target, long after) {
+		StompHeaders headers = new StompHeaders();
+		headers.setDestination("/app/chat.sync/" + roomId);
+		headers.add("after", String.valueOf(after));
+		target.subscribe(headers, new SyncHandler());
+	}
+
+	private void advance(Object seq) {
+		if (seq instanceof Number number) {
+			long value = number.longValue();
+			synchronized (this) {
+				if (value > lastSeq) {
+					lastSeq = value;
+				}
+			}
+		}
+	}
+
+	private class SessionHandler extends StompSessionHandlerAdapter {
+
+		@Override
+		public void handleException(StompSession stompSession, StompCommand command, StompHeaders headers,
+			byte[] payload, Throwable exception) {
+			tracker.clientError();
+		}
+
+		@Override
+		public void handleTransportError(StompSession stompSession, Throwable exception) {
+			tracker.transportError();
+		}
+	}
+
+	private class TopicHandler implements StompFrameHandler {
+
+		@Override
+		public Type getPayloadType(StompHeaders headers) {
+			return Map.class;
+		}
+
+		@Override
+		public void handleFrame(StompHeaders headers, Object payload) {
+			Map<?, ?> message = (Map<?, ?>)payload;
+			advance(message.get("seq"));
+			if (!username.equals(message.get("sender"))) {
+				tracker.delivered((String)message.get("content"), false);
+			}
+		}
+	}
+
+	private class SyncHandler implements StompFrameHandler {
+
+		@Override
+		public Type getPayloadType(StompHeaders headers) {
+			return Map.class;
+		}
+
+		@Override
+		public void handleFrame(StompHeaders headers, Object payload) {
+			Map<?, ?> response = (Map<?, ?>)payload;
+			Object last = null;
+			for (Object item : (List<?>)response.get("messages")) {
+				Map<?, ?> message = (Map<?, ?>)item;
+				last = message.get("seq");
+				advance(last);
+				if (!username.equals(message.get("sender"))) {
+					tracker.delivered((String)message.get("content"), true);
+				}
+			}
+			StompSession current = session;
+			if (Boolean.TRUE.equals(response.get("hasMore")) && last instanceof Number seq && current != null) {
+				synchronized (ChatLoadSession.this) {
+					subscribeSync(current, seq.longValue());
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,169 @@
+package com.ll.dopdang.load;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 보낸 메시지의 도착 여부와 지연 시간 집계
+ * 메시지 내용에 실행 ID와 메시지 번호를 넣어 보내고, 상대 세션에 도착하면 대기 목록에서 지웁니다.
+ * 전송과 도착 시각을 같은 JVM의 nanoTime으로 재므로 서버 시계와 무관한 종단 간 지연입니다.
+ * <ul>
+ *     <li>delivered: 구독 중인 상대에게 실시간으로 도착 (latency 히스토그램)</li>
+ *     <li>recovered: 상대가 끊겨 있어 재접속 후 동기화 응답으로 받음 (recovery 히스토그램)</li>
+ *     <li>lost: 종료 시점까지 어느 쪽으로도 도착하지 않음</li>
+ * </ul>
+ */
+class ChatLoadTracker {
+
+	private static final String PREFIX = "load|";
+
+	private final String runId;
+	private final String padding;
+	private final AtomicLong nextId = new AtomicLong();
+	private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+	private final Set<Long> recoveredIds = ConcurrentHashMap.newKeySet();
+
+	private final LatencyHistogram latency = new LatencyHistogram();
+	private final LatencyHistogram recoveryLatency = new LatencyHistogram();
+
+	private final LongAdder sent = new LongAdder();
+	private final LongAdder sentMeasured = new LongAdder();
+	private final LongAdder delivered = new LongAdder();
+	private final LongAdder recovered = new LongAdder();
+	private final LongAdder duplicates = new LongAdder();
+	private final LongAdder sendErrors = new LongAdder();
+	private final LongAdder skipped = new LongAdder();
+	private final LongAdder clientErrors = new LongAdder();
+	private final LongAdder transportErrors = new LongAdder();
+
+	ChatLoadTracker(String runId, int payloadBytes) {
+		this.runId = runId;
+		this.padding = "x".repeat(Math.max(0, payloadBytes - PREFIX.length() - runId.length() - 12));
+	}
+
+	/**
+	 * 보낼 메시지 내용을 만들고 도착 대기 목록에 등록합니다.
+	 *
+	 * @param measured 측정 구간 메시지면 true (워밍업 메시지는 유실만 집계)
+	 */
+	String prepare(boolean measured) {
+		long id = nextId.incrementAndGet();
+		pending.put(id, new Pending(System.nanoTime(), measured));
+		return PREFIX + runId + "|" + id + "|" + padding;
+	}
+
+	void sent(boolean measured) {
+		sent.increment();
+		if (measured) {
+			sentMeasured.increment();
+		}
+	}
+
+	void sendFailed(String content) {
+		Long id = parseId(content);
+		if (id != null) {
+			pending.remove(id);
+		}
+		sendErrors.increment();
+	}
+
+	void skipped() {
+		skipped.increment();
+	}
+
+	void clientError() {
+		clientErrors.increment();
+	}
+
+	void transportError() {
+		transportErrors.increment();
+	}
+
+	/**
+	 * 상대가 보낸 메시지가 도착했을 때 호출합니다.
+	 *
+	 * @param viaSync 재접속 동기화 응답으로 받았으면 true
+	 */
+	void delivered(String content, boolean viaSync) {
+		long now = System.nanoTime();
+		Long id = parseId(content);
+		if (id == null) {
+			return;
+		}
+		Pending message = pending.remove(id);
+		if (message == null) {
+			// 동기화 응답은 실시간 메시지와 겹칠 수 있으므로 중복으로 세지 않음
+			if (!viaSync && !recoveredIds.contains(id)) {
+				duplicates.increment();
+			}
+			return;
+		}
+		if (viaSync) {
+			recoveredIds.add(id);
+			recovered.increment();
+			if (message.measured) {
+				recoveryLatency.recordNanos(now - message.sentAt);
+			}
+		} else {
+			delivered.increment();
+			if (message.measured) {
+				latency.recordNanos(now - message.sentAt);
+			}
+		}
+	}
+
+	long pendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * 보고서용 메시지 집계
+	 */
+	Map<String, Object> messages(double measuredSeconds) {
+		long lost = pending.size();
+		long lostMeasured = pending.values().stream().filter(message -> message.measured).count();
+		long sentTotal = sent.sum();
+		Map<String, Object> summary = new LinkedHashMap<>();
+		summary.put("sent", sentTotal);
+		summary.put("sentMeasured", sentMeasured.sum());
+		summary.put("delivered", delivered.sum());
+		summary.put("recovered", recovered.sum());
+		summary.put("lost", lost);
+		summary.put("lostMeasured", lostMeasured);
+		summary.put("lossRate", sentTotal == 0 ? 0 : (double)lost / sentTotal);
+		summary.put("duplicates", duplicates.sum());
+		summary.put("sendErrors", sendErrors.sum());
+		summary.put("skippedWhileDisconnected", skipped.sum());
+		summary.put("clientErrors", clientErrors.sum());
+		summary.put("transportErrors", transportErrors.sum());
+		summary.put("sentPerSecond", Math.round(sentMeasured.sum() / measuredSeconds));
+		return summary;
+	}
+
+	LatencyHistogram latency() {
+		return latency;
+	}
+
+	LatencyHistogram recoveryLatency() {
+		return recoveryLatency;
+	}
+
+	/**
+	 * 이번 실행에서 보낸 메시지면 번호, 아니면 null
+	 */
+	private Long parseId(String content) {
+		if (content == null || !content.startsWith(PREFIX + runId + "|")) {
+			return null;
+		}
+		int start = PREFIX.length() + runId.length() + 1;
+		int end = content.indexOf('|', start);
+		return Long.parseLong(content.substring(start, end));
+	}
+
+	private record Pending(long sentAt, boolean measured) {
+	}
+}
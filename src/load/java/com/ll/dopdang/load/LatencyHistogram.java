@@ -0,0 +1,95 @@
+package com.ll.dopdang.load;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 히스토그램 (마이크로초 단위, 로그-선형 버킷)
+ * 128us까지는 1us 단위, 그 이상은 2의 거듭제곱 구간마다 64개 버킷으로 나눠 상대 오차 1.6% 이내로 기록합니다.
+ * 표본 수와 관계없이 메모리가 고정되고, 여러 수신 스레드가 잠금 없이 기록합니다.
+ */
+public class LatencyHistogram {
+
+	private static final int LINEAR_BUCKETS = 128;
+	private static final int SUB_BUCKETS = 64;
+	private static final int BUCKET_COUNT = LINEAR_BUCKETS + 57 * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	public void recordNanos(long nanos) {
+		long micros = Math.max(0, nanos / 1_000);
+		buckets.incrementAndGet(indexOf(micros));
+		count.increment();
+		sum.add(micros);
+		max.accumulateAndGet(micros, Math::max);
+	}
+
+	public long count() {
+		return count.sum();
+	}
+
+	/**
+	 * 분위수 값 (밀리초, 해당 버킷의 상한)
+	 *
+	 * @param quantile 0 ~ 1 (예: 0.999)
+	 */
+	public double percentileMillis(double quantile) {
+		long total = count();
+		if (total == 0) {
+			return 0;
+		}
+		long rank = (long)Math.ceil(quantile * total);
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += buckets.get(i);
+			if (seen >= Math.max(rank, 1)) {
+				return Math.min(upperBoundOf(i), max.get()) / 1_000.0;
+			}
+		}
+		return max.get() / 1_000.0;
+	}
+
+	/**
+	 * 보고서용 요약 (밀리초)
+	 */
+	public Map<String, Object> summary() {
+		long total = count();
+		Map<String, Object> summary = new LinkedHashMap<>();
+		summary.put("count", total);
+		summary.put("mean", total == 0 ? 0 : round(sum.sum() / 1_000.0 / total));
+		summary.put("p50", round(percentileMillis(0.50)));
+		summary.put("p90", round(percentileMillis(0.90)));
+		summary.put("p99", round(percentileMillis(0.99)));
+		summary.put("p999", round(percentileMillis(0.999)));
+		summary.put("max", round(max.get() / 1_000.0));
+		return summary;
+	}
+
+	static int indexOf(long micros) {
+		if (micros < LINEAR_BUCKETS) {
+			return (int)micros;
+		}
+		// micros >>> shift 가 [64, 128) 구간이 되도록 이동
+		int shift = 63 - Long.numberOfLeadingZeros(micros) - 6;
+		return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + (int)((micros >>> shift) - SUB_BUCKETS);
+	}
+
+	static long upperBoundOf(int index) {
+		if (index < LINEAR_BUCKETS) {
+			return index;
+		}
+		int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+		long mantissa = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+		return ((mantissa + 1) << shift) - 1;
+	}
+
+	private static double round(double millis) {
+		return Math.round(millis * 1_000) / 1_000.0;
+	}
+}
@@ -0,0 +1,36 @@
+package com.ll.dopdang.domain.chatroom.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import com.ll.dopdang.domain.chatroom.entity.ChatMessage;
+import com.ll.dopdang.domain.chatroom.util.ChatMessageRedisSerializer;
+
+/**
+ * 채팅 메시지 캐시(chat:{roomId}:messages) 전용 Redis 설정
+ * 메시지는 공용 JSON serializer 대신 {@link ChatMessageRedisSerializer}로 저장합니다.
+ */
+@Configuration
+public class ChatRedisConfig {
+
+	@Bean
+	public ChatMessageRedisSerializer chatMessageRedisSerializer(
+		@Value("${chat.message-cache.compression-threshold-bytes:256}") int compressionThreshold) {
+		return new ChatMessageRedisSerializer(compressionThreshold);
+	}
+
+	@Bean
+	public RedisTemplate<String, ChatMessage> chatMessageRedisTemplate(RedisConnectionFactory factory,
+		ChatMessageRedisSerializer chatMessageRedisSerializer) {
+		RedisTemplate<String, ChatMessage> template = new RedisTemplate<>();
+		template.setConnectionFactory(factory);
+		template.setKeySerializer(new StringRedisSerializer());
+		template.setValueSerializer(chatMessageRedisSerializer);
+		template.afterPropertiesSet();
+		return template;
+	}
+}
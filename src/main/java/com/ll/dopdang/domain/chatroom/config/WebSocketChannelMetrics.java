@@ -0,0 +1,144 @@
+package com.ll.dopdang.domain.chatroom.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * WebSocket 채널 실행기와 세션 지표
+ * <pre>
+ * chat.websocket.executor.queued{channel}     실행 대기 중인 메시지 수
+ * chat.websocket.executor.active{channel}     처리 중인 메시지 수
+ * chat.websocket.executor.wait{channel}       제출부터 실행 시작까지 대기 시간
+ * chat.websocket.executor.rejected{channel}   큐가 가득 차 호출 스레드에서 처리한 수 (backpressure)
+ * chat.websocket.sessions.open                열린 WebSocket 세션 수
+ * chat.websocket.sessions.closed{reason}      종료 사유별 세션 수 (limit_exceeded: 전송 시간/버퍼 제한 초과로 끊은 세션)
+ * </pre>
+ * 작업 스레드가 일반 스레드든 가상 스레드든 같은 방식(TaskDecorator)으로 측정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WebSocketChannelMetrics {
+
+	private final MeterRegistry meterRegistry;
+
+	private final AtomicInteger openSessions = new AtomicInteger();
+	private final Map<String, Counter> closedCounters = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void init() {
+		Gauge.builder("chat.websocket.sessions.open", openSessions, AtomicInteger::get)
+			.description("열린 WebSocket 세션 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 채널 실행기에 등록할 측정용 TaskDecorator를 만듭니다.
+	 *
+	 * @param channel 지표 태그 (inbound, outbound)
+	 */
+	public TaskDecorator taskDecorator(String channel) {
+		AtomicInteger queued = new AtomicInteger();
+		AtomicInteger active = new AtomicInteger();
+		Gauge.builder("chat.websocket.executor.queued", queued, AtomicInteger::get)
+			.description("실행 대기 중인 WebSocket 채널 메시지 수")
+			.tag("channel", channel)
+			.register(meterRegistry);
+		Gauge.builder("chat.websocket.executor.active", active, AtomicInteger::get)
+			.description("처리 중인 WebSocket 채널 메시지 수")
+			.tag("channel", channel)
+			.register(meterRegistry);
+		Timer waitTimer = Timer.builder("chat.websocket.executor.wait")
+			.description("WebSocket 채널 메시지의 실행 대기 시간")
+			.tag("channel", channel)
+			.publishPercentiles(0.5, 0.99)
+			.register(meterRegistry);
+		return runnable -> {
+			long submittedAt = System.nanoTime();
+			queued.incrementAndGet();
+			return () -> {
+				queued.decrementAndGet();
+				active.incrementAndGet();
+				waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+				try {
+					runnable.run();
+				} finally {
+					active.decrementAndGet();
+				}
+			};
+		};
+	}
+
+	/**
+	 * 큐가 가득 차면 호출 스레드에서 직접 처리하고(전송 계층까지 속도를 늦춤) 그 횟수를 기록합니다.
+	 */
+	public RejectedExecutionHandler callerRunsPolicy(String channel) {
+		Counter rejected = Counter.builder("chat.websocket.executor.rejected")
+			.description("큐가 가득 차 호출 스레드에서 처리한 WebSocket 채널 메시지 수")
+			.tag("channel", channel)
+			.register(meterRegistry);
+		ThreadPoolExecutor.CallerRunsPolicy callerRuns = new ThreadPoolExecutor.CallerRunsPolicy();
+		return (runnable, executor) -> {
+			rejected.increment();
+			callerRuns.rejectedExecution(runnable, executor);
+		};
+	}
+
+	/**
+	 * 세션 열림/종료를 기록하는 WebSocketHandler 데코레이터
+	 */
+	public WebSocketHandler decorate(WebSocketHandler handler) {
+		return new WebSocketHandlerDecorator(handler) {
+			@Override
+			public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+				openSessions.incrementAndGet();
+				super.afterConnectionEstablished(session);
+			}
+
+			@Override
+			public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+				openSessions.decrementAndGet();
+				closedCounter(reason(closeStatus)).increment();
+				super.afterConnectionClosed(session, closeStatus);
+			}
+		};
+	}
+
+	private Counter closedCounter(String reason) {
+		return closedCounters.computeIfAbsent(reason, key -> Counter.builder("chat.websocket.sessions.closed")
+			.description("종료 사유별 WebSocket 세션 수")
+			.tag("reason", key)
+			.register(meterRegistry));
+	}
+
+	private String reason(CloseStatus closeStatus) {
+		// 전송 시간/버퍼 제한을 넘긴 세션은 SESSION_NOT_RELIABLE로 닫힘
+		if (closeStatus.equalsCode(CloseStatus.SESSION_NOT_RELIABLE)) {
+			return "limit_exceeded";
+		}
+		if (closeStatus.equalsCode(CloseStatus.NORMAL) || closeStatus.equalsCode(CloseStatus.GOING_AWAY)) {
+			return "normal";
+		}
+		if (closeStatus.equalsCode(CloseStatus.TOO_BIG_TO_PROCESS)) {
+			return "message_too_big";
+		}
+		return "error";
+	}
+}
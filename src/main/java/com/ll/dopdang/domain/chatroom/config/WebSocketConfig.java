@@ -1,26 +1,161 @@
 package com.ll.dopdang.domain.chatroom.config;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import com.ll.dopdang.domain.chatroom.service.ChatPresenceRegistry;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+	private final ChatPresenceRegistry chatPresenceRegistry;
+	private final WebSocketChannelMetrics webSocketChannelMetrics;
+
+	@Value("${chat.presence.heartbeat-ms:10000}")
+	private long heartbeatMs;
+
+	@Value("${chat.websocket.virtual-threads:false}")
+	private boolean virtualThreads;
+
+	@Value("${chat.websocket.inbound.core-pool-size:8}")
+	private int inboundCorePoolSize;
+
+	@Value("${chat.websocket.inbound.max-pool-size:32}")
+	private int inboundMaxPoolSize;
+
+	@Value("${chat.websocket.inbound.queue-capacity:1000}")
+	private int inboundQueueCapacity;
+
+	@Value("${chat.websocket.outbound.core-pool-size:8}")
+	private int outboundCorePoolSize;
+
+	@Value("${chat.websocket.outbound.max-pool-size:32}")
+	private int outboundMaxPoolSize;
+
+	@Value("${chat.websocket.outbound.queue-capacity:5000}")
+	private int outboundQueueCapacity;
+
+	@Value("${chat.websocket.send-time-limit-ms:10000}")
+	private int sendTimeLimitMs;
+
+	@Value("${chat.websocket.send-buffer-size-limit-kb:512}")
+	private int sendBufferSizeLimitKb;
+
+	@Value("${chat.websocket.message-size-limit-kb:64}")
+	private int messageSizeLimitKb;
+
+	@Value("${chat.websocket.time-to-first-message-ms:30000}")
+	private int timeToFirstMessageMs;
+
+	private TaskScheduler messageBrokerTaskScheduler;
+
+	/**
+	 * STOMP heart-beat 전송/확인에 사용할 스케줄러 (메시지 브로커 설정이 만드는 빈이므로 지연 주입)
+	 */
+	@Autowired
+	public void setMessageBrokerTaskScheduler(
+		@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler messageBrokerTaskScheduler) {
+		this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+	}
+
 	@Override
 	public void registerStompEndpoints(StompEndpointRegistry registry) {
 		registry.addEndpoint("/ws-chat")
 			.setAllowedOriginPatterns("*")
 			.withSockJS();
+		// 채널 실행기가 여러 스레드라도 같은 세션의 메시지는 받은 순서대로 처리
+		registry.setPreserveReceiveOrder(true);
 	}
 
 	@Override
 	public void configureMessageBroker(MessageBrokerRegistry registry) {
 		// 구독 경로는 /topic (채팅방)으로 사용
-		registry.enableSimpleBroker("/topic");
+		// heart-beat를 협상한 클라이언트가 응답하지 않으면 브로커가 세션을 닫음 (DISCONNECT 이벤트로 접속 상태 정리)
+		registry.enableSimpleBroker("/topic")
+			.setHeartbeatValue(new long[] {heartbeatMs, heartbeatMs})
+			.setTaskScheduler(messageBrokerTaskScheduler);
 		registry.setApplicationDestinationPrefixes("/app");
+		// 같은 세션으로 보내는 메시지는 발행 순서대로 전달
+		registry.setPreservePublishOrder(true);
+	}
+
+	/**
+	 * 세션별 전송 제한
+	 * 느린 클라이언트로 보낼 메시지가 전송 시간 또는 버퍼 크기 제한을 넘으면 세션을 닫아 서버 메모리가 계속 늘지 않게 합니다.
+	 */
+	@Override
+	public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+		registration.setSendTimeLimit(sendTimeLimitMs)
+			.setSendBufferSizeLimit(sendBufferSizeLimitKb * 1024)
+			.setMessageSizeLimit(messageSizeLimitKb * 1024)
+			.setTimeToFirstMessage(timeToFirstMessageMs)
+			.addDecoratorFactory(webSocketChannelMetrics::decorate);
+	}
+
+	@Override
+	public void configureClientOutboundChannel(ChannelRegistration registration) {
+		registration.taskExecutor(channelExecutor("outbound", outboundCorePoolSize, outboundMaxPoolSize,
+			outboundQueueCapacity));
+	}
+
+	@Override
+	public void configureClientInboundChannel(ChannelRegistration registration) {
+		registration.taskExecutor(channelExecutor("inbound", inboundCorePoolSize, inboundMaxPoolSize,
+			inboundQueueCapacity));
+		// 클라이언트의 모든 프레임(heart-beat 포함)을 세션의 마지막 확인 시각으로 기록
+		registration.interceptors(new ChannelInterceptor() {
+			@Override
+			public Message<?> preSend(Message<?> message, MessageChannel channel) {
+				chatPresenceRegistry.touch(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+				return message;
+			}
+		});
+	}
+
+	/**
+	 * 클라이언트 채널 실행기
+	 * 채널 등록에 넘기면 메시지 브로커 설정이 빈으로 등록하여 초기화와 종료를 관리합니다.
+	 * 가상 스레드를 켜면 풀의 작업 스레드를 가상 스레드로 만듭니다. (JDK 21 미만이면 일반 스레드)
+	 * 큐가 가득 차면 호출 스레드에서 직접 처리해 전송 계층까지 속도를 늦춥니다.
+	 */
+	private ThreadPoolTaskExecutor channelExecutor(String channel, int corePoolSize, int maxPoolSize,
+		int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		if (virtualThreads) {
+			if (Runtime.version().feature() >= 21) {
+				executor.setVirtualThreads(true);
+			} else {
+				log.warn("가상 스레드를 지원하지 않는 JDK입니다. {} 채널은 일반 스레드를 사용합니다.", channel);
+			}
+		}
+		executor.setThreadNamePrefix("ws-" + channel + "-");
+		executor.setCorePoolSize(corePoolSize);
+		executor.setMaxPoolSize(maxPoolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setRejectedExecutionHandler(webSocketChannelMetrics.callerRunsPolicy(channel));
+		executor.setTaskDecorator(webSocketChannelMetrics.taskDecorator(channel));
+		return executor;
 	}
 }
@@ -1,28 +1,39 @@
 package com.ll.dopdang.domain.chatroom.controller;
 
+import java.security.Principal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import com.ll.dopdang.domain.chatroom.dto.ChatMessagePageResponse;
 import com.ll.dopdang.domain.chatroom.dto.ChatRoomDetailResponse;
 import com.ll.dopdang.domain.chatroom.dto.ChatRoomResponse;
+import com.ll.dopdang.domain.chatroom.dto.ChatSyncRequest;
+import com.ll.dopdang.domain.chatroom.dto.ChatSyncResponse;
+import com.ll.dopdang.domain.chatroom.dto.ChatTypingRequest;
 import com.ll.dopdang.domain.chatroom.entity.ChatMessage;
 import com.ll.dopdang.domain.chatroom.service.ChatService;
 import com.ll.dopdang.global.security.custom.CustomUserDetails;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @Controller
@@ -54,21 +65,119 @@ public class ChatController {
 		return ResponseEntity.ok(messages);
 	}
 
+	/**
+	 * 채팅방 메시지 페이지 조회
+	 * 메시지 순번(seq) 기준 키셋 페이지네이션으로, 최신 메시지부터 limit개씩 조회합니다.
+	 * 채팅방에 참여 중인 사용자만 조회할 수 있습니다. (참여자가 아니면 403)
+	 *
+	 * @param roomId            채팅방 식별자
+	 * @param before            이 순번보다 이전 메시지를 조회 (생략 시 최신 메시지부터)
+	 * @param limit             조회할 메시지 수 (최대 100)
+	 * @param customUserDetails 현재 로그인한 사용자의 정보
+	 * @return 메시지 페이지 응답 DTO
+	 */
+	@Operation(
+		summary = "채팅 메시지 페이지 조회",
+		description = "메시지 순번 기준으로 지정한 순번 이전의 메시지를 limit개 조회합니다."
+	)
+	@GetMapping("/{roomId}/messages")
+	public ResponseEntity<ChatMessagePageResponse> getMessages(
+		@PathVariable String roomId,
+		@RequestParam(required = false) Long before,
+		@RequestParam(defaultValue = "30") int limit,
+		@AuthenticationPrincipal CustomUserDetails customUserDetails) {
+		return ResponseEntity.ok(chatService.getMessagePage(roomId, customUserDetails.getId(), before, limit));
+	}
+
+	/**
+	 * 채팅방 동기화 (재접속 시 누락분 조회)
+	 * 채팅방에 참여 중인 사용자만 조회할 수 있습니다. (참여자가 아니면 403)
+	 *
+	 * @param roomId            채팅방 식별자
+	 * @param after             클라이언트가 마지막으로 받은 메시지 순번
+	 * @param limit             조회할 최대 메시지 수 (최대 100)
+	 * @param customUserDetails 현재 로그인한 사용자의 정보
+	 * @return after 이후 메시지와 읽음 위치 변경
+	 */
+	@Operation(
+		summary = "채팅방 동기화",
+		description = "클라이언트가 마지막으로 받은 순번 이후의 메시지와 읽음 위치 변경만 조회합니다."
+	)
+	@GetMapping("/{roomId}/sync")
+	public ResponseEntity<ChatSyncResponse> syncRoom(
+		@PathVariable String roomId,
+		@RequestParam(defaultValue = "0") long after,
+		@RequestParam(defaultValue = "100") int limit,
+		@AuthenticationPrincipal CustomUserDetails customUserDetails) {
+		return ResponseEntity.ok(chatService.getRoomDelta(roomId, customUserDetails.getId(), after, limit));
+	}
+
+	/**
+	 * 여러 채팅방 동기화
+	 * 재접속한 클라이언트가 참여 중인 채팅방을 한 번의 요청으로 동기화합니다. (최대 100개, 초과 시 400)
+	 * 요청한 채팅방 중 사용자가 참여 중이 아닌 채팅방은 응답에서 제외합니다.
+	 *
+	 * @param request           채팅방 ID -> 마지막으로 받은 순번
+	 * @param customUserDetails 현재 로그인한 사용자의 정보
+	 * @return 변경이 있는 채팅방의 동기화 응답 목록
+	 */
+	@Operation(
+		summary = "여러 채팅방 동기화",
+		description = "채팅방별 마지막 순번을 받아 변경이 있는 채팅방의 누락분만 조회합니다."
+	)
+	@PostMapping("/sync")
+	public ResponseEntity<List<ChatSyncResponse>> syncRooms(@Valid @RequestBody ChatSyncRequest request,
+		@AuthenticationPrincipal CustomUserDetails customUserDetails) {
+		return ResponseEntity.ok(chatService.getDelta(request, customUserDetails.getId()));
+	}
+
+	/**
+	 * STOMP 구독 시 동기화 핸드셰이크
+	 * 클라이언트는 /topic/chat/{roomId}를 구독한 뒤 /app/chat.sync/{roomId}를 after 헤더와 함께 구독하면,
+	 * 그 사이 누락된 메시지를 응답으로 한 번 받습니다. (실시간 메시지와 겹치는 부분은 순번으로 중복 제거)
+	 * 사용자는 STOMP 세션의 인증 정보로 식별하며, 인증되지 않았거나 채팅방 참여자가 아니면 거절합니다.
+	 *
+	 * @param roomId    채팅방 식별자
+	 * @param after     클라이언트가 마지막으로 받은 메시지 순번 (STOMP 헤더)
+	 * @param principal STOMP 세션의 인증 정보
+	 * @return after 이후 메시지와 읽음 위치 변경
+	 */
+	@SubscribeMapping("/chat.sync/{roomId}")
+	public ChatSyncResponse syncOnSubscribe(
+		@DestinationVariable String roomId,
+		@Header(name = "after", required = false) Long after,
+		Principal principal) {
+		return chatService.getRoomDelta(roomId, memberIdOf(principal), after != null ? after : 0, 100);
+	}
+
+	/**
+	 * STOMP 세션의 인증 정보에서 사용자 ID를 꺼냅니다. (인증되지 않은 세션이면 null)
+	 */
+	private Long memberIdOf(Principal principal) {
+		if (principal instanceof Authentication authentication
+			&& authentication.getPrincipal() instanceof CustomUserDetails customUserDetails) {
+			return customUserDetails.getId();
+		}
+		return null;
+	}
+
 	/**
 	 * 사용자의 채팅방 목록 조회
 	 *
 	 * @param member 사용자 식별자
-	 * @return 사용자가 참여 중인 채팅방 리스트
+	 * @param page   페이지 번호 (0부터)
+	 * @param size   페이지 크기 (최대 100)
+	 * @return 사용자가 참여 중인 채팅방 리스트 (최근 메시지 순)
 	 */
 	@Operation(
 		summary = "채팅방 목록 조회",
-		description = "사용자가 참여 중인 채팅방 목록을 조회합니다."
+		description = "사용자가 참여 중인 채팅방 목록을 최근 메시지 순으로 size개씩 조회합니다."
 	)
 	@GetMapping("/rooms")
 	public ResponseEntity<List<ChatRoomResponse>> getChatRooms(@RequestParam String member,
-			@AuthenticationPrincipal CustomUserDetails customUserDetails) {
-		Long currentUserId = customUserDetails.getId();
-		List<ChatRoomResponse> rooms = chatService.getChatRoomsForUser(member, currentUserId);
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size) {
+		List<ChatRoomResponse> rooms = chatService.getChatRoomsForUser(member, page, size);
 		return ResponseEntity.ok(rooms);
 	}
 
@@ -86,22 +195,37 @@ public class ChatController {
 		chatService.saveMessage(chatMessage);
 	}
 
+	/**
+	 * 입력 중 표시 핸들러
+	 * 채팅방마다 묶음 간격 동안의 상태를 모아 /topic/typing/{roomId}로 한 번에 전달합니다.
+	 *
+	 * @param request   채팅방 ID와 입력 중 여부
+	 * @param sessionId STOMP 세션 ID
+	 */
+	@MessageMapping("/chat.typing")
+	public void typing(ChatTypingRequest request, @Header("simpSessionId") String sessionId) {
+		chatService.typing(sessionId, request);
+	}
+
 	/**
 	 * 채팅방 읽음 처리 API
+	 * 읽은 위치는 바로 반영되고, 상대에게 가는 읽음 알림(/topic/read/{roomId})은 묶음 간격마다 한 번만 전송됩니다.
 	 *
 	 * @param roomId   채팅방 식별자
 	 * @param username 읽음 처리할 사용자
+	 * @param seq      마지막으로 본 메시지 순번 (생략 시 채팅방의 마지막 메시지까지 읽음)
 	 * @return 처리 결과 메시지
 	 */
 	@Operation(
 		summary = "읽음 처리",
-		description = "지정된 채팅방의 메시지들을 읽음 처리합니다."
+		description = "지정된 채팅방의 메시지들을 지정한 순번까지 읽음 처리합니다."
 	)
 	@PostMapping("/{roomId}/read")
 	public ResponseEntity<?> markAsRead(@PathVariable String roomId,
-		@RequestParam String username) {
+		@RequestParam String username,
+		@RequestParam(required = false) Long seq) {
 		try {
-			chatService.markChatRoomAsRead(roomId, username);
+			chatService.markChatRoomAsRead(roomId, username, seq);
 			return ResponseEntity.ok("채팅방 읽음 처리 완료");
 		} catch (RuntimeException e) {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body("채팅방을 찾을 수 없습니다.");
@@ -126,6 +250,22 @@ public class ChatController {
 		return ResponseEntity.ok(count);
 	}
 
+	/**
+	 * 전체 미확인 메시지 갯수(배지) 조회 API
+	 * 이후 변경은 /topic/notice/{username}의 totalUnreadCount로 전달됩니다.
+	 *
+	 * @param username 사용자 식별자
+	 * @return 전체 채팅방의 미확인 메시지 수
+	 */
+	@Operation(
+		summary = "전체 안 읽은 메시지 개수 조회",
+		description = "사용자의 모든 채팅방에서 읽지 않은 메시지 개수의 합계를 조회합니다."
+	)
+	@GetMapping("/unreadCount")
+	public ResponseEntity<Long> getTotalUnreadCount(@RequestParam String username) {
+		return ResponseEntity.ok(chatService.getTotalUnreadCount(username));
+	}
+
 	/**
 	 * 채팅방 생성 로직
 	 *
@@ -0,0 +1,19 @@
+package com.ll.dopdang.domain.chatroom.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메시지 전송 확인 DTO (/user/queue/ack)
+ * 클라이언트 메시지 ID를 보낸 경우에만 전송하며, 재전송된 메시지면 처음 발급된 순번을 담습니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatAckPayload {
+	private String roomId;
+	private String clientMessageId;
+	private Long seq;           // 서버가 발급한 메시지 순번
+	private boolean duplicate;  // 이미 받은 메시지의 재전송이면 true (저장, 브로드캐스트하지 않음)
+}
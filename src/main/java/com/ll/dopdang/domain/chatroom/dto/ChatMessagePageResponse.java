@@ -0,0 +1,24 @@
+package com.ll.dopdang.domain.chatroom.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅 메시지 페이지 응답 DTO
+ * 메시지 순번(seq) 기반 키셋 페이지네이션으로, 다음 페이지는 nextBefore를 before로 넘겨 조회합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatMessagePageResponse {
+
+	private List<ChatRoomDetailResponse> messages; // 순번 오름차순
+
+	private Long nextBefore;  // 다음(이전 메시지) 페이지 조회 시 before 값
+	private boolean hasNext;  // 이전 메시지 존재 여부
+}
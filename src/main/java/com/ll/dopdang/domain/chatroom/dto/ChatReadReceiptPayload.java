@@ -0,0 +1,21 @@
+package com.ll.dopdang.domain.chatroom.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 읽음 알림 DTO (/topic/read/{roomId})
+ * 묶음 간격 동안의 읽음 요청 중 마지막 읽은 위치만 담습니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReadReceiptPayload {
+	private String roomId;
+	private String reader;
+	private Long readSeq;            // 읽은 마지막 메시지 순번
+	private LocalDateTime timestamp; // 마지막 읽음 요청 시각
+}
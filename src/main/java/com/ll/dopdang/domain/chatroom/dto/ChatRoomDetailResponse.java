@@ -3,7 +3,7 @@ package com.ll.dopdang.domain.chatroom.dto;
 import java.time.LocalDateTime;
 
 import com.ll.dopdang.domain.chatroom.entity.ChatMessage;
-import com.ll.dopdang.domain.member.entity.Member;
+import com.ll.dopdang.domain.member.dto.response.MemberSummary;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -20,9 +20,11 @@ public class ChatRoomDetailResponse {
 	private String user_profile_image;
 	private boolean read;
 	private String fileUrl;
-	public static ChatRoomDetailResponse from(ChatMessage message, Member senderMember, boolean read) {
-		String senderName = senderMember != null ? senderMember.getName() : "";
-		String profileImage = senderMember != null ? senderMember.getProfileImage() : "";
+	private Long seq;
+
+	public static ChatRoomDetailResponse from(ChatMessage message, MemberSummary senderMember, boolean read) {
+		String senderName = senderMember != null ? senderMember.name() : "";
+		String profileImage = senderMember != null ? senderMember.profileImage() : "";
 		return new ChatRoomDetailResponse(
 			message.getRoomId(),
 			message.getSender(),
@@ -32,7 +34,8 @@ public class ChatRoomDetailResponse {
 			senderName,
 			profileImage,
 			read,
-			message.getFileUrl()
+			message.getFileUrl(),
+			message.getSeq()
 		);
 	}
 }
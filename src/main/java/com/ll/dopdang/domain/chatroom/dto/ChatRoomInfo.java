@@ -0,0 +1,77 @@
+package com.ll.dopdang.domain.chatroom.dto;
+
+import java.util.List;
+
+import com.ll.dopdang.domain.chatroom.entity.ChatRoom;
+
+/**
+ * 로컬 캐시에 보관하는 채팅방 메타데이터 (불변)
+ * 참여자의 회원 ID와 활성 상태는 chat_room_member 기준입니다. (참여자 행이 없으면 비활성)
+ */
+public record ChatRoomInfo(
+	Long id,
+	String roomId,
+	String member1,
+	String member2,
+	Long member1Id,
+	Long member2Id,
+	Long projectId,
+	boolean memberActive1,
+	boolean memberActive2
+) {
+	public static ChatRoomInfo from(ChatRoom chatRoom, List<ChatRoomMemberState> members) {
+		ChatRoomMemberState state1 = find(members, chatRoom.getMember1());
+		ChatRoomMemberState state2 = find(members, chatRoom.getMember2());
+		return new ChatRoomInfo(
+			chatRoom.getId(),
+			chatRoom.getRoomId(),
+			chatRoom.getMember1(),
+			chatRoom.getMember2(),
+			state1 != null ? state1.memberId() : null,
+			state2 != null ? state2.memberId() : null,
+			chatRoom.getProjectId(),
+			state1 != null && state1.active(),
+			state2 != null && state2.active()
+		);
+	}
+
+	/**
+	 * 사용자가 채팅방 참여자이고 나가지 않았는지 확인합니다.
+	 */
+	public boolean isActiveMember(String email) {
+		if (member1.equalsIgnoreCase(email)) {
+			return memberActive1;
+		} else if (member2.equalsIgnoreCase(email)) {
+			return memberActive2;
+		}
+		return false;
+	}
+
+	/**
+	 * 참여자의 회원 ID (참여자가 아니거나 참여자 행이 없으면 null)
+	 */
+	public Long memberIdOf(String email) {
+		if (member1.equalsIgnoreCase(email)) {
+			return member1Id;
+		} else if (member2.equalsIgnoreCase(email)) {
+			return member2Id;
+		}
+		return null;
+	}
+
+	/**
+	 * 상대방 이메일
+	 */
+	public String otherMember(String email) {
+		return member1.equalsIgnoreCase(email) ? member2 : member1;
+	}
+
+	private static ChatRoomMemberState find(List<ChatRoomMemberState> members, String email) {
+		for (ChatRoomMemberState member : members) {
+			if (member.email().equalsIgnoreCase(email)) {
+				return member;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,17 @@
+package com.ll.dopdang.domain.chatroom.dto;
+
+/**
+ * 채팅방 참여자의 회원 ID, 이메일, 활성 상태 (chat_room_member와 member를 함께 읽는 프로젝션)
+ *
+ * @param roomId   숫자 채팅방 ID
+ * @param memberId 회원 ID
+ * @param email    회원 이메일 (chat_room.member1, member2와 비교)
+ * @param active   채팅방을 나가지 않았으면 true
+ */
+public record ChatRoomMemberState(
+	Long roomId,
+	Long memberId,
+	String email,
+	boolean active
+) {
+}
@@ -2,9 +2,10 @@ package com.ll.dopdang.domain.chatroom.dto;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import com.ll.dopdang.domain.chatroom.entity.ChatMessage;
-import com.ll.dopdang.domain.chatroom.entity.ChatRoom;
-import com.ll.dopdang.domain.member.entity.Member;
+import com.ll.dopdang.domain.member.dto.response.MemberSummary;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -16,6 +17,9 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 public class ChatRoomResponse {
+	// inbox 키에 쓰는 숫자 채팅방 ID (응답에는 포함하지 않음)
+	@JsonIgnore
+	private Long chatRoomId;
 	private String roomId;
 	private String sender;
 	private String receiver;
@@ -30,36 +34,44 @@ public class ChatRoomResponse {
 	private boolean memberActive1;
 	private boolean memberActive2;
 
-	public static ChatRoomResponse from(ChatRoom chatRoom, Member currentMember,
-		Member otherUser, ChatMessage lastMessage, int unreadCount) {
+	public static ChatRoomResponse from(ChatRoomInfo chatRoom, MemberSummary currentMember,
+		MemberSummary otherUser, ChatMessage lastMessage, int unreadCount) {
 		ChatRoomResponse dto = new ChatRoomResponse();
-		dto.setRoomId(chatRoom.getRoomId());
-		if (chatRoom.getMember1().equalsIgnoreCase(currentMember.getEmail())) {
-			dto.setSender(chatRoom.getMember1());
-			dto.setReceiver(chatRoom.getMember2());
+		dto.setChatRoomId(chatRoom.id());
+		dto.setRoomId(chatRoom.roomId());
+		if (chatRoom.member1().equalsIgnoreCase(currentMember.email())) {
+			dto.setSender(chatRoom.member1());
+			dto.setReceiver(chatRoom.member2());
 		} else {
-			dto.setSender(chatRoom.getMember2());
-			dto.setReceiver(chatRoom.getMember1());
+			dto.setSender(chatRoom.member2());
+			dto.setReceiver(chatRoom.member1());
 		}
 
 		if (lastMessage != null) {
 			dto.setLastMessage(lastMessage.getContent());
 			dto.setLastMessageTime(lastMessage.getTimestamp());
 		}
-		dto.setProjectId(chatRoom.getProjectId());
-		if (otherUser != null) {
-			dto.setOtherUserId(otherUser.getId());
-			dto.setOtherUserName(otherUser.getName());
-			dto.setOtherUserProfile(otherUser.getProfileImage());
-			if (otherUser.getExpert() != null && otherUser.getExpert().getId() != null) {
-				dto.setExpertId(otherUser.getExpert().getId());
-			}else{
-				dto.setExpertId(currentMember.getId());
-			}
-		}
+		dto.setProjectId(chatRoom.projectId());
+		dto.applyOtherUser(otherUser, currentMember.id());
 		dto.setUnreadCount(unreadCount);
-		dto.setMemberActive1(chatRoom.isMemberActive1());
-		dto.setMemberActive2(chatRoom.isMemberActive2());
+		dto.setMemberActive1(chatRoom.memberActive1());
+		dto.setMemberActive2(chatRoom.memberActive2());
 		return dto;
 	}
+
+	/**
+	 * 상대방 요약 정보를 반영합니다.
+	 *
+	 * @param otherUser       상대방 요약 정보 (없으면 변경하지 않음)
+	 * @param currentMemberId 상대방이 전문가가 아닐 때 expertId로 사용할 현재 사용자 ID
+	 */
+	public void applyOtherUser(MemberSummary otherUser, Long currentMemberId) {
+		if (otherUser == null) {
+			return;
+		}
+		this.otherUserId = otherUser.id();
+		this.otherUserName = otherUser.name();
+		this.otherUserProfile = otherUser.profileImage();
+		this.expertId = otherUser.expertId() != null ? otherUser.expertId() : currentMemberId;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.ll.dopdang.domain.chatroom.dto;
+
+import java.util.Map;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 채팅방 동기화 요청 DTO
+ * 클라이언트가 채팅방별로 마지막으로 받은 메시지 순번(seq)을 전달합니다.
+ * 채팅방마다 조회가 일어나므로, 한 번에 채팅방 목록 최대 페이지 크기만큼만 받습니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatSyncRequest {
+	public static final int MAX_ROOMS = 100;
+
+	@Size(max = MAX_ROOMS)
+	private Map<String, Long> rooms; // 채팅방 ID -> 마지막으로 받은 순번 (처음이면 0)
+	private Integer limit;           // 채팅방별 최대 메시지 수 (생략 시 기본값)
+}
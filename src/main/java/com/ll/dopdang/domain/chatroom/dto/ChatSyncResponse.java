@@ -0,0 +1,26 @@
+package com.ll.dopdang.domain.chatroom.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅방 동기화 응답 DTO
+ * 클라이언트가 보낸 순번(after) 이후의 메시지와 읽음 위치 변경만 담습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatSyncResponse {
+
+	private String roomId;
+	private List<ChatRoomDetailResponse> messages; // after 이후 메시지, 순번 오름차순
+	private Map<String, Long> readReceipts;        // 사용자 -> 읽은 마지막 순번 (after 이후로 바뀐 것만)
+	private long lastSeq;                          // 채팅방의 마지막 순번
+	private boolean hasMore;                       // limit을 넘어 남은 메시지가 있으면 마지막 메시지 순번으로 다시 요청
+}
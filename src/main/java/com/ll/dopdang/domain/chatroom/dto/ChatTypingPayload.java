@@ -0,0 +1,19 @@
+package com.ll.dopdang.domain.chatroom.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 입력 중 표시 알림 DTO (/topic/typing/{roomId})
+ * 묶음 간격 동안 받은 사용자별 마지막 상태만 담습니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatTypingPayload {
+	private String roomId;
+	private Map<String, Boolean> typing; // 사용자 -> 입력 중 여부
+}
@@ -0,0 +1,16 @@
+package com.ll.dopdang.domain.chatroom.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 입력 중 표시 요청 DTO (/app/chat.typing)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatTypingRequest {
+	private String roomId;
+	private boolean typing;  // 입력 시작이면 true, 멈추면 false
+}
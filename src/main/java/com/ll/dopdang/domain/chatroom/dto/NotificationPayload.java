@@ -12,4 +12,6 @@ public class NotificationPayload {
 	private String otherUserName;
 	private String message;
 	private int unreadCount;
+	// 전체 채팅방의 안 읽은 메시지 수 합계 (배지)
+	private int totalUnreadCount;
 }
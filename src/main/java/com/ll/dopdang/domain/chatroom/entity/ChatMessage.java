@@ -10,14 +10,20 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = {
+	@Index(name = "idx_chat_message_chat_room_seq", columnList = "chat_room_id, seq", unique = true),
+	@Index(name = "idx_chat_message_chat_room_client_id", columnList = "chat_room_id, client_message_id", unique = true)
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,7 +33,31 @@ public class ChatMessage {
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
-	private String roomId;
+	/**
+	 * 외부 채팅방 ID (projectId|email1:email2)
+	 * DB에는 저장하지 않고(채팅방은 chat_room_id로 식별) 브로드캐스트와 캐시 직렬화에만 사용합니다.
+	 * (JPA @Transient는 Hibernate6Module이 JSON에서도 제외하므로 transient 키워드를 사용)
+	 */
+	private transient String roomId;
+
+	/**
+	 * 채팅방 ID (chat_room.id), 저장 시에는 연관관계 대신 이 값을 사용합니다.
+	 */
+	@Column(name = "chat_room_id")
+	private Long chatRoomId;
+
+	/**
+	 * 채팅방 내 메시지 순번 (채팅방별로 1부터 단조 증가)
+	 */
+	private Long seq;
+
+	/**
+	 * 클라이언트가 만든 메시지 ID (선택)
+	 * 재전송(재접속, 전송 방식 전환)된 메시지를 같은 메시지로 알아보는 데 사용합니다.
+	 */
+	@Column(length = 64)
+	private String clientMessageId;
+
 	private String sender;
 	private String receiver;
 	private String content;
@@ -39,7 +69,7 @@ public class ChatMessage {
 	private Long projectId;
 
 	@ManyToOne(fetch = FetchType.LAZY)
-	@JoinColumn(name = "chat_room_id")
+	@JoinColumn(name = "chat_room_id", insertable = false, updatable = false)
 	@JsonBackReference
 	private ChatRoom chatRoom;
 }
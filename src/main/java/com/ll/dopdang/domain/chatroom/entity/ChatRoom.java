@@ -40,8 +40,7 @@ public class ChatRoom {
 
 	private Long projectId;
 
-	private boolean memberActive1 = true;
-	private boolean memberActive2 = true;
+	// 참여자별 활성 상태와 읽은 위치(메시지 순번)는 chat_room_member에 저장
 
 	@OneToMany(mappedBy = "chatRoom", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
 	@JsonManagedReference
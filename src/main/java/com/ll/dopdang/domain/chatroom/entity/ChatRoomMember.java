@@ -0,0 +1,41 @@
+package com.ll.dopdang.domain.chatroom.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 채팅방 참여자
+ * 기본 키가 (회원 ID, 채팅방 ID)이므로 회원별 채팅방 조회는 기본 키 인덱스만으로 처리됩니다.
+ */
+@Entity
+@IdClass(ChatRoomMemberId.class)
+@Table(indexes = @Index(name = "idx_chat_room_member_room", columnList = "room_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatRoomMember {
+	@Id
+	@Column(name = "member_id")
+	private Long memberId;
+
+	@Id
+	@Column(name = "room_id")
+	private Long roomId;
+
+	// 채팅방을 나가면 false
+	@Column(nullable = false)
+	private boolean active = true;
+
+	// 읽은 마지막 메시지 순번
+	@Column(nullable = false)
+	private long lastReadSeq;
+}
@@ -0,0 +1,20 @@
+package com.ll.dopdang.domain.chatroom.entity;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@link ChatRoomMember} 복합 키 (회원 ID, 채팅방 ID)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ChatRoomMemberId implements Serializable {
+	private Long memberId;
+	private Long roomId;
+}
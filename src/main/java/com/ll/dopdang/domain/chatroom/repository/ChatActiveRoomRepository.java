@@ -0,0 +1,217 @@
+package com.ll.dopdang.domain.chatroom.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.ll.dopdang.domain.chatroom.util.ChatRedisKeys;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 활성 채팅방과 DB 저장 대기(dirty) 채팅방 추적
+ * <pre>
+ * chat:rooms:active   채팅방 ID -> 마지막 활동 시각 (유휴 채팅방은 sweeper가 제거)
+ * chat:rooms:dirty    채팅방 ID -> 처음 변경된 시각 (모두 저장되면 제거)
+ * chat:rooms:flushed  채팅방 ID -> DB에 저장된 마지막 순번 (watermark, 활성 목록과 dirty에서 모두 빠지면 제거)
+ * chat:rooms:dropped  배치 저장에 실패해 복구가 필요한 채팅방
+ * </pre>
+ * 채팅방 ID는 숫자 ID(chat_room.id)입니다.
+ * 활성, dirty 등록은 메시지 전송 스크립트(chat-send.lua)에서 함께 수행됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatActiveRoomRepository {
+
+	private static final RedisScript<Long> FLUSHED_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/chat-room-flushed.lua"), Long.class);
+	private static final RedisScript<Long> EVICT_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/chat-room-evict.lua"), Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 채팅방의 마지막 활동 시각을 갱신합니다. (캐시 적재 등 메시지 전송 외의 경로)
+	 */
+	public void touch(long chatRoomId, long epochMillis) {
+		stringRedisTemplate.opsForZSet().add(ChatRedisKeys.ACTIVE_ROOMS, String.valueOf(chatRoomId), epochMillis);
+	}
+
+	/**
+	 * 마지막 활동 시각이 기준보다 오래된 채팅방을 활성 목록에서 제거합니다.
+	 * 모두 저장된 채팅방(dirty가 아닌 채팅방)은 watermark도 함께 제거합니다.
+	 *
+	 * @param idleBeforeMillis 기준 시각
+	 * @param batchSize        스크립트 한 번에 제거할 최대 채팅방 수
+	 * @return 제거된 채팅방 수
+	 */
+	public long evictIdle(long idleBeforeMillis, int batchSize) {
+		List<String> keys = List.of(ChatRedisKeys.ACTIVE_ROOMS, ChatRedisKeys.DIRTY_ROOMS,
+			ChatRedisKeys.FLUSHED_SEQ, ChatRedisKeys.DROPPED_ROOMS);
+		long total = 0;
+		while (true) {
+			Long removed = stringRedisTemplate.execute(EVICT_SCRIPT, keys,
+				String.valueOf(idleBeforeMillis), String.valueOf(batchSize));
+			long count = removed != null ? removed : 0;
+			total += count;
+			if (count < batchSize) {
+				return total;
+			}
+		}
+	}
+
+	/**
+	 * 이전 추적 방식의 활성 채팅방 집합(chat:active_rooms)을 삭제합니다.
+	 * 더 이상 읽거나 쓰지 않는 키이며, 커질 대로 커졌을 수 있으므로 UNLINK로 지웁니다.
+	 *
+	 * @return 삭제했으면 true
+	 */
+	public boolean deleteLegacyActiveRooms() {
+		return Boolean.TRUE.equals(stringRedisTemplate.unlink(ChatRedisKeys.LEGACY_ACTIVE_ROOMS));
+	}
+
+	/**
+	 * 활성 채팅방 수를 조회합니다.
+	 */
+	public long countActive() {
+		Long count = stringRedisTemplate.opsForZSet().zCard(ChatRedisKeys.ACTIVE_ROOMS);
+		return count != null ? count : 0;
+	}
+
+	/**
+	 * 처음 변경된 시각이 기준보다 오래된 dirty 채팅방을 오래된 순으로 조회합니다.
+	 */
+	public List<Long> findDirtyBefore(long beforeMillis, int limit) {
+		Set<String> rooms = stringRedisTemplate.opsForZSet().rangeByScore(ChatRedisKeys.DIRTY_ROOMS,
+			Double.NEGATIVE_INFINITY, beforeMillis, 0, limit);
+		if (rooms == null) {
+			return List.of();
+		}
+		List<Long> chatRoomIds = new ArrayList<>(rooms.size());
+		for (String room : rooms) {
+			try {
+				chatRoomIds.add(Long.parseLong(room));
+			} catch (NumberFormatException e) {
+				// 숫자 ID로 바뀌기 전의 외부 채팅방 ID는 더 이상 확인할 캐시 키가 없으므로 제거
+				stringRedisTemplate.opsForZSet().remove(ChatRedisKeys.DIRTY_ROOMS, room);
+			}
+		}
+		return chatRoomIds;
+	}
+
+	/**
+	 * dirty 채팅방 수를 조회합니다.
+	 */
+	public long countDirty() {
+		Long count = stringRedisTemplate.opsForZSet().zCard(ChatRedisKeys.DIRTY_ROOMS);
+		return count != null ? count : 0;
+	}
+
+	/**
+	 * dirty 채팅방의 다음 확인 시각을 미룹니다. (아직 저장 중인 메시지가 있을 때)
+	 * 그 사이 모두 저장되어 다시 추가되더라도, 다음 확인 때 watermark를 보고 제거됩니다.
+	 */
+	public void deferDirty(long chatRoomId, long epochMillis) {
+		stringRedisTemplate.opsForZSet().add(ChatRedisKeys.DIRTY_ROOMS, String.valueOf(chatRoomId), epochMillis);
+	}
+
+	/**
+	 * 아직 저장 큐나 WAL에 메시지가 남아 있는 채팅방을 dirty로 두고 확인 시각을 미룹니다. (ZADD GT)
+	 * 저장 대기 중인 채팅방은 큐가 밀려 있어도 sweeper가 유예 시간이 지난 것으로 보지 않습니다.
+	 * 다른 노드가 더 뒤의 순번을 저장해 dirty에서 제거한 채팅방도 다시 추가합니다.
+	 * (이 노드가 저장하기 전에 죽어도 sweeper가 확인하도록)
+	 */
+	public void deferDirty(Collection<Long> chatRoomIds, long epochMillis) {
+		if (chatRoomIds.isEmpty()) {
+			return;
+		}
+		Set<Tuple> tuples = new HashSet<>();
+		for (Long chatRoomId : chatRoomIds) {
+			tuples.add(new DefaultTuple(String.valueOf(chatRoomId).getBytes(StandardCharsets.UTF_8),
+				(double)epochMillis));
+		}
+		byte[] key = ChatRedisKeys.DIRTY_ROOMS.getBytes(StandardCharsets.UTF_8);
+		stringRedisTemplate.execute((RedisCallback<Long>)connection ->
+			connection.zSetCommands().zAdd(key, tuples, RedisZSetCommands.ZAddArgs.empty().gt()));
+	}
+
+	/**
+	 * DB에 저장된 마지막 순번(watermark)을 조회합니다.
+	 */
+	public long findFlushedSeq(long chatRoomId) {
+		Object value = stringRedisTemplate.opsForHash().get(ChatRedisKeys.FLUSHED_SEQ, String.valueOf(chatRoomId));
+		return value != null ? Long.parseLong(value.toString()) : 0;
+	}
+
+	/**
+	 * 배치 저장에 성공한 채팅방의 watermark를 올리고, 모두 저장된 채팅방은 dirty에서 제거합니다.
+	 * 이미 활성 목록에서 빠진 채팅방은 dirty에서 제거할 때 watermark도 함께 제거합니다.
+	 *
+	 * @param flushedSeqs 채팅방 ID -> 이번에 저장된 마지막 순번
+	 * @return dirty에서 제거된 채팅방 수
+	 */
+	public long markFlushed(Map<Long, Long> flushedSeqs) {
+		if (flushedSeqs.isEmpty()) {
+			return 0;
+		}
+		List<String> keys = new ArrayList<>();
+		keys.add(ChatRedisKeys.DIRTY_ROOMS);
+		keys.add(ChatRedisKeys.FLUSHED_SEQ);
+		keys.add(ChatRedisKeys.DROPPED_ROOMS);
+		keys.add(ChatRedisKeys.ACTIVE_ROOMS);
+		List<String> args = new ArrayList<>();
+		flushedSeqs.forEach((chatRoomId, seq) -> {
+			keys.add(ChatRedisKeys.sequence(chatRoomId));
+			args.add(String.valueOf(chatRoomId));
+			args.add(String.valueOf(seq));
+		});
+		Long cleaned = stringRedisTemplate.execute(FLUSHED_SCRIPT, keys, args.toArray());
+		return cleaned != null ? cleaned : 0;
+	}
+
+	/**
+	 * 배치 저장에 실패한 채팅방을 복구 대상으로 표시합니다.
+	 * 다른 노드가 더 뒤의 순번을 저장하더라도 복구 전까지 dirty에서 빠지지 않습니다.
+	 *
+	 * @param chatRoomIds  채팅방 ID 목록
+	 * @param epochMillis  실패한 메시지 중 가장 오래된 시각
+	 */
+	public void markDropped(Collection<Long> chatRoomIds, long epochMillis) {
+		if (chatRoomIds.isEmpty()) {
+			return;
+		}
+		String[] members = chatRoomIds.stream().map(String::valueOf).toArray(String[]::new);
+		stringRedisTemplate.opsForSet().add(ChatRedisKeys.DROPPED_ROOMS, members);
+		for (String member : members) {
+			stringRedisTemplate.opsForZSet().add(ChatRedisKeys.DIRTY_ROOMS, member, epochMillis);
+		}
+	}
+
+	/**
+	 * 복구가 필요한 채팅방인지 확인합니다.
+	 */
+	public boolean isDropped(long chatRoomId) {
+		return Boolean.TRUE.equals(stringRedisTemplate.opsForSet()
+			.isMember(ChatRedisKeys.DROPPED_ROOMS, String.valueOf(chatRoomId)));
+	}
+
+	/**
+	 * 복구가 끝난 채팅방의 복구 표시를 해제합니다.
+	 */
+	public void clearDropped(long chatRoomId) {
+		stringRedisTemplate.opsForSet().remove(ChatRedisKeys.DROPPED_ROOMS, String.valueOf(chatRoomId));
+	}
+}
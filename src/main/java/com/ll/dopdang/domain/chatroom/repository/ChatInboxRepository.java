@@ -0,0 +1,210 @@
+package com.ll.dopdang.domain.chatroom.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.ll.dopdang.domain.chatroom.dto.ChatRoomResponse;
+import com.ll.dopdang.domain.chatroom.util.ChatRedisKeys;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 채팅방 목록(inbox) 읽기 모델
+ * <ul>
+ *     <li>chat:inbox:{memberId} - 숫자 채팅방 ID ZSET, 점수는 마지막 메시지 시각(epoch millis, 메시지가 없으면 0)</li>
+ *     <li>chat:inbox:{memberId}:{chatRoomId} - 외부 채팅방 ID, 마지막 메시지, 상대방 요약 해시</li>
+ * </ul>
+ * 메시지 전송 시 갱신은 chat-send.lua에서 함께 수행하며, inbox가 없으면 조회 시 DB에서 만듭니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatInboxRepository {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	// 채팅방이 하나도 없는 inbox도 만들어진 것으로 구분하기 위한 표식 (점수 -1)
+	private static final String BUILT_MARKER = "~";
+	// 상대방 요약까지 채워진 항목인지 판단하는 필드
+	private static final String COMPLETE_FIELD = "receiver";
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * inbox 정렬 점수 (마지막 메시지 시각)
+	 */
+	public static long score(LocalDateTime lastMessageTime) {
+		return lastMessageTime != null ? lastMessageTime.atZone(ZONE_ID).toInstant().toEpochMilli() : 0;
+	}
+
+	/**
+	 * 최근 메시지 순으로 채팅방 ID 한 페이지를 조회합니다.
+	 *
+	 * @param memberId 사용자 회원 ID
+	 * @param offset   건너뛸 채팅방 수
+	 * @param count    조회할 채팅방 수
+	 * @return 숫자 채팅방 ID 목록, inbox가 아직 없으면 null
+	 */
+	public List<Long> findRoomIds(long memberId, long offset, long count) {
+		Set<String> roomIds = stringRedisTemplate.opsForZSet()
+			.reverseRangeByScore(ChatRedisKeys.inbox(memberId), 0, Double.POSITIVE_INFINITY, offset, count);
+		if (roomIds == null || roomIds.isEmpty()) {
+			return Boolean.TRUE.equals(stringRedisTemplate.hasKey(ChatRedisKeys.inbox(memberId)))
+				? new ArrayList<>() : null;
+		}
+		return roomIds.stream().map(Long::valueOf).toList();
+	}
+
+	/**
+	 * 채팅방 목록 항목을 한 번의 파이프라인으로 조회합니다.
+	 *
+	 * @return chatRoomIds 순서의 항목, 상대방 요약이 없는(불완전한) 항목은 null
+	 */
+	public List<ChatRoomResponse> findEntries(long memberId, List<Long> chatRoomIds) {
+		List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			for (Long chatRoomId : chatRoomIds) {
+				connection.hashCommands().hGetAll(bytes(ChatRedisKeys.inboxEntry(memberId, chatRoomId)));
+			}
+			return null;
+		});
+		List<ChatRoomResponse> entries = new ArrayList<>(chatRoomIds.size());
+		for (int i = 0; i < results.size(); i++) {
+			@SuppressWarnings("unchecked")
+			Map<String, String> fields = (Map<String, String>)results.get(i);
+			entries.add(fields != null && fields.containsKey(COMPLETE_FIELD)
+				? toResponse(chatRoomIds.get(i), fields) : null);
+		}
+		return entries;
+	}
+
+	/**
+	 * DB에서 만든 채팅방 목록 전체로 inbox를 만듭니다.
+	 */
+	public void saveAll(long memberId, List<ChatRoomResponse> rooms, Duration ttl) {
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			byte[] inboxKey = bytes(ChatRedisKeys.inbox(memberId));
+			connection.keyCommands().del(inboxKey);
+			connection.zSetCommands().zAdd(inboxKey, -1, bytes(BUILT_MARKER));
+			for (ChatRoomResponse room : rooms) {
+				writeEntry(connection, memberId, room, ttl);
+			}
+			connection.keyCommands().expire(inboxKey, ttl.getSeconds());
+			return null;
+		});
+	}
+
+	/**
+	 * 채팅방 항목 하나를 저장합니다. (불완전한 항목을 DB 기준으로 채울 때 사용)
+	 */
+	public void save(long memberId, ChatRoomResponse room, Duration ttl) {
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			writeEntry(connection, memberId, room, ttl);
+			return null;
+		});
+	}
+
+	/**
+	 * 새로 만든 채팅방을 inbox 맨 뒤(메시지 없음)에 추가합니다. inbox가 없으면 아무것도 하지 않습니다.
+	 */
+	public void addRoom(long memberId, long chatRoomId) {
+		String inboxKey = ChatRedisKeys.inbox(memberId);
+		if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(inboxKey))) {
+			stringRedisTemplate.opsForZSet().addIfAbsent(inboxKey, String.valueOf(chatRoomId), 0);
+		}
+	}
+
+	/**
+	 * 사용자의 inbox에서 채팅방을 제거합니다.
+	 */
+	public void remove(long memberId, long chatRoomId) {
+		stringRedisTemplate.opsForZSet().remove(ChatRedisKeys.inbox(memberId), String.valueOf(chatRoomId));
+		stringRedisTemplate.delete(ChatRedisKeys.inboxEntry(memberId, chatRoomId));
+	}
+
+	/**
+	 * 채팅방 멤버의 활성 상태를 갱신합니다. (상대방이 나갔을 때)
+	 */
+	public void updateActiveFlags(long memberId, long chatRoomId, boolean memberActive1, boolean memberActive2) {
+		updateIfPresent(memberId, chatRoomId, Map.of(
+			"memberActive1", String.valueOf(memberActive1),
+			"memberActive2", String.valueOf(memberActive2)));
+	}
+
+	private void updateIfPresent(long memberId, long chatRoomId, Map<String, String> fields) {
+		String entryKey = ChatRedisKeys.inboxEntry(memberId, chatRoomId);
+		if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(entryKey))) {
+			stringRedisTemplate.opsForHash().putAll(entryKey, fields);
+		}
+	}
+
+	private void writeEntry(RedisConnection connection, long memberId, ChatRoomResponse room, Duration ttl) {
+		byte[] entryKey = bytes(ChatRedisKeys.inboxEntry(memberId, room.getChatRoomId()));
+		Map<byte[], byte[]> fields = new HashMap<>();
+		toFields(room).forEach((field, value) -> fields.put(bytes(field), bytes(value)));
+		connection.keyCommands().del(entryKey);
+		connection.hashCommands().hMSet(entryKey, fields);
+		connection.keyCommands().expire(entryKey, ttl.getSeconds());
+		connection.zSetCommands().zAdd(bytes(ChatRedisKeys.inbox(memberId)), score(room.getLastMessageTime()),
+			bytes(String.valueOf(room.getChatRoomId())));
+	}
+
+	private Map<String, String> toFields(ChatRoomResponse room) {
+		Map<String, String> fields = new HashMap<>();
+		putIfNotNull(fields, "roomId", room.getRoomId());
+		putIfNotNull(fields, "sender", room.getSender());
+		putIfNotNull(fields, "receiver", room.getReceiver());
+		putIfNotNull(fields, "lastMessage", room.getLastMessage());
+		putIfNotNull(fields, "lastMessageTime", room.getLastMessageTime());
+		putIfNotNull(fields, "projectId", room.getProjectId());
+		putIfNotNull(fields, "otherUserName", room.getOtherUserName());
+		putIfNotNull(fields, "otherUserProfile", room.getOtherUserProfile());
+		putIfNotNull(fields, "otherUserId", room.getOtherUserId());
+		putIfNotNull(fields, "expertId", room.getExpertId());
+		putIfNotNull(fields, "memberActive1", room.isMemberActive1());
+		putIfNotNull(fields, "memberActive2", room.isMemberActive2());
+		return fields;
+	}
+
+	private ChatRoomResponse toResponse(Long chatRoomId, Map<String, String> fields) {
+		ChatRoomResponse room = new ChatRoomResponse();
+		room.setChatRoomId(chatRoomId);
+		room.setRoomId(fields.get("roomId"));
+		room.setSender(fields.get("sender"));
+		room.setReceiver(fields.get("receiver"));
+		room.setLastMessage(fields.get("lastMessage"));
+		room.setLastMessageTime(fields.containsKey("lastMessageTime")
+			? LocalDateTime.parse(fields.get("lastMessageTime")) : null);
+		room.setProjectId(toLong(fields.get("projectId")));
+		room.setOtherUserName(fields.get("otherUserName"));
+		room.setOtherUserProfile(fields.get("otherUserProfile"));
+		room.setOtherUserId(toLong(fields.get("otherUserId")));
+		room.setExpertId(toLong(fields.get("expertId")));
+		room.setMemberActive1(Boolean.parseBoolean(fields.get("memberActive1")));
+		room.setMemberActive2(Boolean.parseBoolean(fields.get("memberActive2")));
+		return room;
+	}
+
+	private void putIfNotNull(Map<String, String> fields, String field, Object value) {
+		if (value != null) {
+			fields.put(field, value.toString());
+		}
+	}
+
+	private Long toLong(String value) {
+		return value != null ? Long.valueOf(value) : null;
+	}
+
+	private byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,207 @@
+package com.ll.dopdang.domain.chatroom.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.ll.dopdang.domain.chatroom.entity.ChatMessage;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 메시지를 JDBC 배치로 저장하는 레포지토리
+ * JPA의 IDENTITY 전략은 배치 insert가 불가능하므로, 대량 저장 경로에서는 이 레포지토리를 사용합니다.
+ * (MySQL 드라이버의 rewriteBatchedStatements 옵션이 켜져 있으면 multi-row INSERT로 전송됩니다.)
+ * <p>
+ * 저장 전에 같은 채팅방의 같은 순번 또는 클라이언트 메시지 ID를 가진 행을 조회해
+ * 이미 저장된 같은 메시지(재전송, 재시도, 복구)만 건너뜁니다.
+ * 같은 순번에 다른 메시지가 저장되어 있으면 순번 충돌로 보고 저장하지 않은 채 결과로 돌려줍니다.
+ * (ON DUPLICATE KEY로 무시하면 다른 메시지가 조용히 사라짐)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageJdbcRepository {
+
+	private static final String INSERT_SQL = "INSERT INTO chat_message "
+		+ "(chat_room_id, seq, client_message_id, sender, receiver, content, timestamp, file_url, project_id) "
+		+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+	private static final String EXISTING_SQL = "SELECT chat_room_id, seq, client_message_id, sender, timestamp "
+		+ "FROM chat_message WHERE chat_room_id IN (:chatRoomIds) AND (seq IN (:seqs)";
+	private static final String EXISTING_CLIENT_ID_CONDITION = " OR client_message_id IN (:clientMessageIds)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/**
+	 * 메시지 목록 중 아직 저장되지 않은 메시지를 하나의 배치로 저장합니다.
+	 * 다른 트랜잭션이 그 사이 같은 키로 저장하면 DuplicateKeyException이 발생하므로, 호출하는 쪽에서 다시 시도하면
+	 * 이번에 저장된 행은 건너뜁니다.
+	 *
+	 * @param messages 저장할 메시지 목록
+	 * @return 저장, 건너뜀, 순번 충돌 결과
+	 */
+	public InsertResult batchInsert(List<ChatMessage> messages) {
+		if (messages.isEmpty()) {
+			return new InsertResult(0, 0, List.of());
+		}
+		Map<String, ExistingMessage> existing = findExisting(messages);
+		List<ChatMessage> inserts = new ArrayList<>(messages.size());
+		List<ChatMessage> collisions = new ArrayList<>();
+		int duplicates = 0;
+		for (ChatMessage message : messages) {
+			ExistingMessage byClientId = message.getClientMessageId() != null
+				? existing.get(clientIdKey(message.getChatRoomId(), message.getClientMessageId())) : null;
+			ExistingMessage bySeq = message.getSeq() != null ? existing.get(seqKey(message.getChatRoomId(),
+				message.getSeq())) : null;
+			if (byClientId != null || (bySeq != null && bySeq.isSameMessage(message))) {
+				duplicates++;
+				continue;
+			}
+			if (bySeq != null) {
+				collisions.add(message);
+				continue;
+			}
+			inserts.add(message);
+			// 같은 배치 안의 중복도 같은 기준으로 걸러냄
+			ExistingMessage added = ExistingMessage.of(message);
+			if (message.getSeq() != null) {
+				existing.put(seqKey(message.getChatRoomId(), message.getSeq()), added);
+			}
+			if (message.getClientMessageId() != null) {
+				existing.put(clientIdKey(message.getChatRoomId(), message.getClientMessageId()), added);
+			}
+		}
+		if (!inserts.isEmpty()) {
+			int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, inserts, inserts.size(), (ps, message) -> {
+				setNullableLong(ps, 1, message.getChatRoomId());
+				setNullableLong(ps, 2, message.getSeq());
+				ps.setString(3, message.getClientMessageId());
+				ps.setString(4, message.getSender());
+				ps.setString(5, message.getReceiver());
+				ps.setString(6, message.getContent());
+				ps.setTimestamp(7, Timestamp.valueOf(message.getTimestamp()));
+				ps.setString(8, message.getFileUrl());
+				setNullableLong(ps, 9, message.getProjectId());
+			});
+			verifyCounts(counts);
+		}
+		return new InsertResult(inserts.size(), duplicates, collisions);
+	}
+
+	/**
+	 * 배치의 채팅방에서 순번 또는 클라이언트 메시지 ID가 같은 기존 행을 한 번에 조회합니다.
+	 */
+	private Map<String, ExistingMessage> findExisting(List<ChatMessage> messages) {
+		Set<Long> chatRoomIds = new HashSet<>();
+		Set<Long> seqs = new HashSet<>();
+		Set<String> clientMessageIds = new HashSet<>();
+		for (ChatMessage message : messages) {
+			chatRoomIds.add(message.getChatRoomId());
+			if (message.getSeq() != null) {
+				seqs.add(message.getSeq());
+			}
+			if (message.getClientMessageId() != null) {
+				clientMessageIds.add(message.getClientMessageId());
+			}
+		}
+		Map<String, ExistingMessage> existing = new HashMap<>();
+		if (seqs.isEmpty() && clientMessageIds.isEmpty()) {
+			return existing;
+		}
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("chatRoomIds", chatRoomIds)
+			// 빈 IN 목록은 문법 오류이므로 순번이 없으면 존재할 수 없는 값을 넣음
+			.addValue("seqs", seqs.isEmpty() ? List.of(-1L) : seqs);
+		String sql = EXISTING_SQL;
+		if (!clientMessageIds.isEmpty()) {
+			sql += EXISTING_CLIENT_ID_CONDITION;
+			params.addValue("clientMessageIds", clientMessageIds);
+		}
+		namedParameterJdbcTemplate.query(sql + ")", params, rs -> {
+			long chatRoomId = rs.getLong("chat_room_id");
+			long seq = rs.getLong("seq");
+			boolean hasSeq = !rs.wasNull();
+			Timestamp timestamp = rs.getTimestamp("timestamp");
+			ExistingMessage row = new ExistingMessage(rs.getString("client_message_id"), rs.getString("sender"),
+				timestamp != null ? timestamp.toLocalDateTime() : null);
+			if (hasSeq) {
+				existing.put(seqKey(chatRoomId, seq), row);
+			}
+			if (row.clientMessageId() != null) {
+				existing.put(clientIdKey(chatRoomId, row.clientMessageId()), row);
+			}
+		});
+		return existing;
+	}
+
+	/**
+	 * 행마다 1건이 저장되었는지 확인합니다. (rewriteBatchedStatements면 드라이버가 SUCCESS_NO_INFO를 돌려줌)
+	 */
+	private void verifyCounts(int[][] counts) {
+		for (int[] batch : counts) {
+			for (int count : batch) {
+				if (count != 1 && count != Statement.SUCCESS_NO_INFO) {
+					throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(INSERT_SQL, 1, count);
+				}
+			}
+		}
+	}
+
+	private static String seqKey(Long chatRoomId, long seq) {
+		return chatRoomId + ":seq:" + seq;
+	}
+
+	private static String clientIdKey(Long chatRoomId, String clientMessageId) {
+		return chatRoomId + ":client:" + clientMessageId;
+	}
+
+	private void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+		if (value != null) {
+			ps.setLong(index, value);
+		} else {
+			ps.setNull(index, Types.BIGINT);
+		}
+	}
+
+	/**
+	 * 배치 저장 결과
+	 *
+	 * @param inserted   새로 저장한 메시지 수
+	 * @param duplicates 이미 저장되어 있어 건너뛴 메시지 수
+	 * @param collisions 같은 순번에 다른 메시지가 저장되어 있어 저장하지 못한 메시지
+	 */
+	public record InsertResult(int inserted, int duplicates, List<ChatMessage> collisions) {
+	}
+
+	/**
+	 * 이미 저장된 행에서 같은 메시지인지 판단하는 데 필요한 값
+	 */
+	private record ExistingMessage(String clientMessageId, String sender, LocalDateTime timestamp) {
+
+		static ExistingMessage of(ChatMessage message) {
+			return new ExistingMessage(message.getClientMessageId(), message.getSender(), message.getTimestamp());
+		}
+
+		boolean isSameMessage(ChatMessage message) {
+			return Objects.equals(clientMessageId, message.getClientMessageId())
+				&& Objects.equals(sender, message.getSender())
+				&& Objects.equals(timestamp, message.getTimestamp());
+		}
+	}
+}
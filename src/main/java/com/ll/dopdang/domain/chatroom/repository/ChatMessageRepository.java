@@ -1,6 +1,7 @@
 package com.ll.dopdang.domain.chatroom.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
@@ -11,20 +12,42 @@ import org.springframework.stereotype.Repository;
 
 import com.ll.dopdang.domain.chatroom.entity.ChatMessage;
 
+/**
+ * 채팅 메시지 레포지토리
+ * 메시지는 숫자 채팅방 ID(chat_room_id)로만 조회하며, 조회 결과의 외부 채팅방 ID(roomId)는 호출하는 쪽에서 채웁니다.
+ */
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 	// 채팅 온 시간에 대해 asc 처리
-	List<ChatMessage> findByRoomIdOrderByTimestampAsc(String roomId);
+	List<ChatMessage> findByChatRoomIdOrderByTimestampAsc(Long chatRoomId);
 
 	// 최신 메시지 타임스탬프 조회 - JPQL로 수정
-	@Query("SELECT MAX(cm.timestamp) FROM ChatMessage cm WHERE cm.roomId = :roomId")
-	LocalDateTime findLatestMessageTimeByRoomId(@Param("roomId") String roomId);
+	@Query("SELECT MAX(cm.timestamp) FROM ChatMessage cm WHERE cm.chatRoomId = :chatRoomId")
+	LocalDateTime findLatestMessageTimeByChatRoomId(@Param("chatRoomId") Long chatRoomId);
 
 	// 최근 메시지 조회 - Pageable 추가
-	List<ChatMessage> findByRoomIdOrderByTimestampDesc(String roomId, Pageable pageable);
+	List<ChatMessage> findByChatRoomIdOrderByTimestampDesc(Long chatRoomId, Pageable pageable);
+
+	// 채팅방의 마지막 메시지 순번 조회 (메시지가 없으면 0)
+	@Query("SELECT COALESCE(MAX(cm.seq), 0) FROM ChatMessage cm WHERE cm.chatRoomId = :chatRoomId")
+	long findMaxSeqByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+
+	// 순번 기준 키셋 페이지 조회 - (chat_room_id, seq) 인덱스 사용
+	List<ChatMessage> findByChatRoomIdAndSeqLessThanOrderBySeqDesc(Long chatRoomId, Long seq, Pageable pageable);
+
+	List<ChatMessage> findByChatRoomIdAndSeqNotNullOrderBySeqDesc(Long chatRoomId, Pageable pageable);
+
+	// 동기화용 - 지정한 순번 이후 메시지 조회
+	List<ChatMessage> findByChatRoomIdAndSeqGreaterThanOrderBySeqAsc(Long chatRoomId, Long seq, Pageable pageable);
+
+	// 저장 누락 확인용 - 지정한 순번 중 DB에 있는 순번 조회
+	@Query("SELECT cm.seq FROM ChatMessage cm WHERE cm.chatRoomId = :chatRoomId AND cm.seq IN :seqs")
+	List<Long> findSeqsByChatRoomIdAndSeqIn(@Param("chatRoomId") Long chatRoomId,
+		@Param("seqs") Collection<Long> seqs);
 
 	// 위의 메소드를 ChatService에서 사용하는 메소드명으로 별칭 추가
-	default List<ChatMessage> findTopMessagesByRoomIdOrderByTimestampDesc(String roomId, int limit) {
-		return findByRoomIdOrderByTimestampDesc(roomId, org.springframework.data.domain.PageRequest.of(0, limit));
+	default List<ChatMessage> findTopMessagesByChatRoomIdOrderByTimestampDesc(Long chatRoomId, int limit) {
+		return findByChatRoomIdOrderByTimestampDesc(chatRoomId,
+			org.springframework.data.domain.PageRequest.of(0, limit));
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,63 @@
+package com.ll.dopdang.domain.chatroom.repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.ll.dopdang.domain.chatroom.util.ChatRedisKeys;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅방 사용자별 읽은 위치 (Redis 해시)
+ * <pre>
+ * chat:{chatRoomId}:read  사용자 -> 읽은 마지막 메시지 순번
+ * </pre>
+ * 읽음 요청마다 바로 기록하는 기준 값이며, DB(chat_room, chat_room_member) 반영과 읽음 알림은 ChatReadReceiptCoalescer가 묶어서 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatReadSeqRepository {
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> ADVANCE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/chat-read-seq.lua"), List.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 읽은 위치를 앞으로 옮깁니다. 이미 더 뒤의 순번까지 읽었으면 그대로 둡니다.
+	 *
+	 * @return 적용 후 읽은 위치와 이동 여부
+	 */
+	public ReadPosition advance(long chatRoomId, String username, long seq) {
+		List<?> result = stringRedisTemplate.execute(ADVANCE_SCRIPT, List.of(ChatRedisKeys.readSeq(chatRoomId)),
+			username, String.valueOf(seq));
+		if (result == null || result.size() < 2) {
+			return new ReadPosition(seq, true);
+		}
+		return new ReadPosition(((Number)result.get(0)).longValue(), ((Number)result.get(1)).longValue() == 1);
+	}
+
+	/**
+	 * 채팅방 사용자별 읽은 위치를 조회합니다.
+	 */
+	public Map<String, Long> findAll(long chatRoomId) {
+		Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(ChatRedisKeys.readSeq(chatRoomId));
+		Map<String, Long> readSeqs = new HashMap<>();
+		entries.forEach((reader, readSeq) -> readSeqs.put(reader.toString(), Long.parseLong(readSeq.toString())));
+		return readSeqs;
+	}
+
+	/**
+	 * @param seq      읽은 마지막 메시지 순번
+	 * @param advanced 이번 요청으로 읽은 위치가 이동했는지
+	 */
+	public record ReadPosition(long seq, boolean advanced) {
+	}
+}
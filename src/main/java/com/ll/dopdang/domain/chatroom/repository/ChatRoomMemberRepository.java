@@ -0,0 +1,58 @@
+package com.ll.dopdang.domain.chatroom.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ll.dopdang.domain.chatroom.dto.ChatRoomMemberState;
+import com.ll.dopdang.domain.chatroom.entity.ChatRoomMember;
+import com.ll.dopdang.domain.chatroom.entity.ChatRoomMemberId;
+
+/**
+ * 채팅방 참여자 레포지토리
+ * 채팅 참여자는 이메일로 식별되므로, 회원 ID는 member 테이블에서 찾아 한 문장으로 갱신합니다.
+ */
+public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember, ChatRoomMemberId> {
+
+	// 채팅방 참여 여부 (나간 채팅방은 제외)
+	boolean existsByRoomIdAndMemberIdAndActiveTrue(Long roomId, Long memberId);
+
+	// 주어진 채팅방 중 사용자가 참여 중인 채팅방 ID (나간 채팅방은 제외)
+	@Query("SELECT crm.roomId FROM ChatRoomMember crm "
+		+ "WHERE crm.memberId = :memberId AND crm.active = true AND crm.roomId IN (:roomIds)")
+	List<Long> findActiveRoomIds(@Param("memberId") Long memberId, @Param("roomIds") Collection<Long> roomIds);
+
+	// 채팅방 참여자의 회원 ID, 이메일, 활성 상태 (채팅방 활성 상태는 이 테이블만 기준으로 함)
+	@Query("SELECT new com.ll.dopdang.domain.chatroom.dto.ChatRoomMemberState("
+		+ "crm.roomId, crm.memberId, m.email, crm.active) "
+		+ "FROM ChatRoomMember crm JOIN Member m ON m.id = crm.memberId WHERE crm.roomId IN (:roomIds)")
+	List<ChatRoomMemberState> findStatesByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+	// 새 채팅방의 참여자 등록 (회원 테이블에 없는 이메일은 제외)
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO chat_room_member (member_id, room_id, active, last_read_seq) "
+		+ "SELECT m.id, :roomId, TRUE, 0 FROM member m WHERE m.email IN (:emails)", nativeQuery = true)
+	int addMembers(@Param("roomId") Long roomId, @Param("emails") Collection<String> emails);
+
+	// 채팅방 나가기
+	@Transactional
+	@Modifying
+	@Query("UPDATE ChatRoomMember crm SET crm.active = false "
+		+ "WHERE crm.roomId = :roomId AND crm.memberId = (SELECT m.id FROM Member m WHERE m.email = :email)")
+	int deactivate(@Param("roomId") Long roomId, @Param("email") String email);
+
+	// 읽음 처리 - 늦게 반영되는 요청이 읽은 위치를 되돌리지 않도록 순번이 커질 때만 갱신
+	@Transactional
+	@Modifying
+	@Query("UPDATE ChatRoomMember crm SET crm.lastReadSeq = :readSeq "
+		+ "WHERE crm.roomId = :roomId AND crm.lastReadSeq < :readSeq "
+		+ "AND crm.memberId = (SELECT m.id FROM Member m WHERE m.email = :email)")
+	int advanceLastReadSeq(@Param("roomId") Long roomId, @Param("email") String email,
+		@Param("readSeq") long readSeq);
+}
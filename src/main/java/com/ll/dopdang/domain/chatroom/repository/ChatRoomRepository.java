@@ -1,9 +1,11 @@
 package com.ll.dopdang.domain.chatroom.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,6 +15,17 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 	//채팅방 생성 시 room이 존재하는 지 확인을 위한 메소드
 	Optional<ChatRoom> findByRoomId(String roomId);
 
-	@Query("SELECT c FROM ChatRoom c WHERE c.member1 = :member OR c.member2 = :member")
-	List<ChatRoom> findByMember(@Param("member") String member);
+	// 회원이 참여 중인 채팅방 - chat_room_member 기본 키 (member_id, room_id)로 조회
+	@Query("SELECT c FROM ChatRoom c WHERE c.id IN "
+		+ "(SELECT crm.roomId FROM ChatRoomMember crm WHERE crm.memberId = :memberId AND crm.active = true)")
+	List<ChatRoom> findActiveByMemberId(@Param("memberId") Long memberId);
+
+	// 읽음 처리 - 채팅방을 조회하지 않고 읽은 시각만 갱신 (읽은 위치는 chat_room_member에 저장)
+	@Modifying
+	@Query("UPDATE ChatRoom c SET c.lastReadAtUser1 = :readAt WHERE c.id = :id")
+	int updateLastReadAtUser1(@Param("id") Long id, @Param("readAt") LocalDateTime readAt);
+
+	@Modifying
+	@Query("UPDATE ChatRoom c SET c.lastReadAtUser2 = :readAt WHERE c.id = :id")
+	int updateLastReadAtUser2(@Param("id") Long id, @Param("readAt") LocalDateTime readAt);
 }
@@ -0,0 +1,109 @@
+package com.ll.dopdang.domain.chatroom.repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import com.ll.dopdang.domain.chatroom.util.ChatRedisKeys;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 안 읽은 메시지 수 (Redis 해시)
+ * <pre>
+ * chat:unread:{memberId}  채팅방 ID -> 안 읽은 수, _total -> 전체 합계
+ * </pre>
+ * 증가는 메시지 전송 스크립트(chat-send.lua)에서 HINCRBY로, 초기화는 chat-unread-reset.lua로
+ * 원자적으로 수행하므로 합계(배지)를 채팅방을 순회하지 않고 바로 읽을 수 있습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatUnreadRepository {
+
+	private static final RedisScript<Long> RESET_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/chat-unread-reset.lua"), Long.class);
+	private static final RedisScript<Long> MIGRATE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/chat-unread-migrate.lua"), Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 사용자의 채팅방별 안 읽은 메시지 수를 한 번에 조회합니다. (HGETALL)
+	 *
+	 * @return 채팅방 ID -> 안 읽은 수 (0인 채팅방은 없음)
+	 */
+	public Map<String, Long> findAll(long memberId) {
+		Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(ChatRedisKeys.unread(memberId));
+		Map<String, Long> counts = new HashMap<>();
+		entries.forEach((roomId, count) -> {
+			if (!ChatRedisKeys.UNREAD_TOTAL_FIELD.equals(roomId)) {
+				counts.put(roomId.toString(), Long.parseLong(count.toString()));
+			}
+		});
+		return counts;
+	}
+
+	/**
+	 * 채팅방 하나의 안 읽은 메시지 수를 조회합니다.
+	 */
+	public long find(long memberId, String roomId) {
+		return toLong(stringRedisTemplate.opsForHash().get(ChatRedisKeys.unread(memberId), roomId));
+	}
+
+	/**
+	 * 사용자의 전체 안 읽은 메시지 수(배지)를 조회합니다.
+	 */
+	public long findTotal(long memberId) {
+		return toLong(stringRedisTemplate.opsForHash()
+			.get(ChatRedisKeys.unread(memberId), ChatRedisKeys.UNREAD_TOTAL_FIELD));
+	}
+
+	/**
+	 * 채팅방의 안 읽은 메시지 수를 0으로 초기화하고 합계에서 뺍니다.
+	 *
+	 * @return 초기화 후 전체 안 읽은 메시지 수
+	 */
+	public long reset(long memberId, String roomId) {
+		Long total = stringRedisTemplate.execute(RESET_SCRIPT, List.of(ChatRedisKeys.unread(memberId)),
+			roomId, ChatRedisKeys.UNREAD_TOTAL_FIELD);
+		return total != null ? total : 0;
+	}
+
+	/**
+	 * 이메일로 만들던 이전 안 읽은 수 해시를 회원 ID 키로 옮깁니다.
+	 * 회원을 찾을 수 없는 이전 키는 삭제합니다.
+	 *
+	 * @param memberIdOf 이메일 -> 회원 ID (회원이 없으면 null)
+	 * @return 옮긴 키 수
+	 */
+	public int migrateLegacyKeys(Function<String, Long> memberIdOf) {
+		int migrated = 0;
+		ScanOptions options = ScanOptions.scanOptions().match(ChatRedisKeys.LEGACY_UNREAD_PATTERN).count(100).build();
+		try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				String legacyKey = cursor.next();
+				String username = ChatRedisKeys.legacyUnreadUsername(legacyKey);
+				Long memberId = username != null ? memberIdOf.apply(username) : null;
+				if (memberId == null) {
+					stringRedisTemplate.unlink(legacyKey);
+					continue;
+				}
+				stringRedisTemplate.execute(MIGRATE_SCRIPT, List.of(legacyKey, ChatRedisKeys.unread(memberId)));
+				migrated++;
+			}
+		}
+		return migrated;
+	}
+
+	private long toLong(Object value) {
+		return value != null ? Long.parseLong(value.toString()) : 0;
+	}
+}
@@ -0,0 +1,186 @@
+package com.ll.dopdang.domain.chatroom.service;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ll.dopdang.domain.chatroom.entity.ChatMessage;
+import com.ll.dopdang.domain.chatroom.repository.ChatActiveRoomRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatInboxRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatMessageJdbcRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatMessageRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatUnreadRepository;
+import com.ll.dopdang.domain.chatroom.util.ChatRedisKeys;
+import com.ll.dopdang.domain.member.dto.response.MemberSummary;
+import com.ll.dopdang.domain.member.service.MemberSummaryCache;
+import com.ll.dopdang.global.redis.lock.RedisLock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활성 채팅방 정리와 저장 누락 복구를 주기적으로 수행합니다.
+ * <ul>
+ *     <li>마지막 활동 후 idle 시간이 지난 채팅방을 활성 목록에서 제거합니다.</li>
+ *     <li>dirty 채팅방 중 유예 시간이 지난 채팅방만 확인하여,
+ *     Redis 캐시에는 있지만 DB에 없는 메시지를 다시 저장합니다.</li>
+ * </ul>
+ * 저장 큐나 WAL에 메시지가 남아 있는 채팅방은 확인하지 않습니다. 다른 노드의 채팅방은
+ * {@link ChatMessageBatchWriter}가 저장을 기다리는 동안 dirty 확인 시각을 계속 미루므로 선택되지 않고,
+ * 이 노드의 채팅방은 writer에 직접 확인합니다. (큐가 유예 시간보다 밀려도 writer와 같은 메시지를 저장하지 않음)
+ * 여러 노드 중 락을 얻은 한 노드만 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatActiveRoomSweeper {
+
+	private static final String SWEEP_LOCK_KEY = ChatRedisKeys.lock("chat:rooms:sweep");
+
+	private final ChatActiveRoomRepository chatActiveRoomRepository;
+	private final ChatMessageRepository chatMessageRepository;
+	private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+	private final ChatMessageBatchWriter chatMessageBatchWriter;
+	private final ChatUnreadRepository chatUnreadRepository;
+	private final MemberSummaryCache memberSummaryCache;
+	private final RedisTemplate<String, ChatMessage> chatMessageRedisTemplate;
+	private final RedisLock redisLock;
+	private final TransactionTemplate transactionTemplate;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${chat.active-rooms.idle-seconds:1800}")
+	private long idleSeconds;
+
+	@Value("${chat.active-rooms.dirty-grace-seconds:30}")
+	private long dirtyGraceSeconds;
+
+	@Value("${chat.active-rooms.sweep-batch-size:100}")
+	private int sweepBatchSize;
+
+	@Value("${chat.active-rooms.sweep-interval-ms:60000}")
+	private long sweepIntervalMs;
+
+	private Counter recoveredCounter;
+	private volatile boolean legacyKeysCleaned;
+
+	@PostConstruct
+	public void init() {
+		Gauge.builder("chat.rooms.active", chatActiveRoomRepository, ChatActiveRoomRepository::countActive)
+			.description("최근 활동이 있는 채팅방 수")
+			.register(meterRegistry);
+		Gauge.builder("chat.rooms.dirty", chatActiveRoomRepository, ChatActiveRoomRepository::countDirty)
+			.description("DB 저장 확인이 필요한 채팅방 수")
+			.register(meterRegistry);
+		recoveredCounter = Counter.builder("chat.rooms.recovered")
+			.description("sweeper가 다시 저장한 채팅 메시지 수")
+			.register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${chat.active-rooms.sweep-interval-ms:60000}",
+		initialDelayString = "${chat.active-rooms.sweep-interval-ms:60000}")
+	public void sweep() {
+		Optional<RedisLock.Lease> lease = redisLock.tryAcquire(SWEEP_LOCK_KEY, Duration.ofMillis(sweepIntervalMs));
+		if (lease.isEmpty()) {
+			return;
+		}
+		try {
+			cleanLegacyKeys();
+			long now = System.currentTimeMillis();
+			long evicted = chatActiveRoomRepository.evictIdle(now - Duration.ofSeconds(idleSeconds).toMillis(),
+				sweepBatchSize);
+			List<Long> dirtyRooms = chatActiveRoomRepository.findDirtyBefore(
+				now - Duration.ofSeconds(dirtyGraceSeconds).toMillis(), sweepBatchSize);
+			for (Long chatRoomId : dirtyRooms) {
+				try {
+					if (chatMessageBatchWriter.hasInFlight(chatRoomId)) {
+						chatActiveRoomRepository.deferDirty(chatRoomId, now);
+						continue;
+					}
+					reconcile(chatRoomId, now);
+				} catch (RuntimeException e) {
+					log.warn("채팅방 저장 상태 확인 실패. chatRoomId: {}, error: {}", chatRoomId, e.getMessage());
+				}
+			}
+			log.debug("채팅방 sweep 완료: 유휴 제거 {}개, dirty 확인 {}개", evicted, dirtyRooms.size());
+		} finally {
+			redisLock.release(lease.get());
+		}
+	}
+
+	/**
+	 * 이전 추적 방식의 활성 채팅방 집합을 노드마다 처음 sweep할 때 한 번 삭제하고,
+	 * 이메일로 만들던 안 읽은 수 해시를 회원 ID 키로 옮깁니다.
+	 */
+	private void cleanLegacyKeys() {
+		if (legacyKeysCleaned) {
+			return;
+		}
+		if (chatActiveRoomRepository.deleteLegacyActiveRooms()) {
+			log.info("이전 활성 채팅방 집합({})을 삭제했습니다.", ChatRedisKeys.LEGACY_ACTIVE_ROOMS);
+		}
+		int migrated = chatUnreadRepository.migrateLegacyKeys(
+			email -> memberSummaryCache.getByEmail(email).map(MemberSummary::id).orElse(null));
+		if (migrated > 0) {
+			log.info("이메일 기준 안 읽은 수 {}건을 회원 ID 키로 옮겼습니다.", migrated);
+		}
+		legacyKeysCleaned = true;
+	}
+
+	/**
+	 * 캐시된 메시지 중 유예 시간이 지난 메시지가 DB에 있는지 확인하고, 없으면 다시 저장합니다.
+	 * watermark는 여러 노드가 저장한 순번 중 가장 큰 값이라 그 아래에도 다른 노드가 저장하지 못한 순번이 있을 수 있으므로,
+	 * watermark와 관계없이 캐시된 메시지를 모두 확인합니다. (최대 캐시 보관 개수, 한 번의 IN 조회)
+	 * 유예 시간 안의 메시지는 writer가 dirty 확인 시각을 아직 미루지 않았을 수 있으므로 건드리지 않습니다.
+	 */
+	private void reconcile(long chatRoomId, long now) {
+		boolean dropped = chatActiveRoomRepository.isDropped(chatRoomId);
+		long flushedSeq = dropped ? 0 : chatActiveRoomRepository.findFlushedSeq(chatRoomId);
+		long settledBefore = now - Duration.ofSeconds(dirtyGraceSeconds).toMillis();
+
+		List<ChatMessage> cached = chatMessageRedisTemplate.opsForList()
+			.range(ChatRedisKeys.messages(chatRoomId), 0, -1);
+		List<ChatMessage> candidates = (cached == null ? List.<ChatMessage>of() : cached)
+			.stream()
+			.filter(message -> message.getSeq() != null)
+			.filter(message -> ChatInboxRepository.score(message.getTimestamp()) <= settledBefore)
+			.toList();
+
+		long verifiedSeq = flushedSeq;
+		if (!candidates.isEmpty()) {
+			Set<Long> persisted = new HashSet<>(chatMessageRepository.findSeqsByChatRoomIdAndSeqIn(chatRoomId,
+				candidates.stream().map(ChatMessage::getSeq).toList()));
+			List<ChatMessage> missing = candidates.stream()
+				.filter(message -> !persisted.contains(message.getSeq()))
+				.toList();
+			if (!missing.isEmpty()) {
+				missing.forEach(message -> message.setChatRoomId(chatRoomId));
+				ChatMessageJdbcRepository.InsertResult result = transactionTemplate.execute(
+					status -> chatMessageJdbcRepository.batchInsert(missing));
+				recoveredCounter.increment(result.inserted());
+				log.warn("DB에 저장되지 않은 채팅 메시지 {}건을 복구했습니다. chatRoomId: {}", result.inserted(), chatRoomId);
+			}
+			verifiedSeq = Math.max(flushedSeq, candidates.get(candidates.size() - 1).getSeq());
+		}
+		if (dropped) {
+			chatActiveRoomRepository.clearDropped(chatRoomId);
+		}
+
+		// 모두 저장되었으면 dirty에서 제거, 아직 저장 중인 메시지가 있으면 다음 확인을 미룸
+		if (chatActiveRoomRepository.markFlushed(Map.of(chatRoomId, verifiedSeq)) == 0) {
+			chatActiveRoomRepository.deferDirty(chatRoomId, now);
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.ll.dopdang.domain.chatroom.service;
+
+/**
+ * 채팅 관련 STOMP 목적지(/topic/chat, /topic/notice, /topic/read, /topic/typing)로 메시지를 보냅니다.
+ * 구현체는 chat.fanout.mode 설정으로 선택합니다.
+ * <ul>
+ *     <li>local: 현재 노드의 구독자에게만 전송 (단일 노드)</li>
+ *     <li>redis: Redis pub/sub을 거쳐 구독자가 있는 모든 노드로 전송</li>
+ * </ul>
+ */
+public interface ChatBroadcaster {
+
+	/**
+	 * 목적지 구독자에게 메시지를 전송합니다.
+	 *
+	 * @param destination STOMP 목적지
+	 * @param payload     전송할 객체
+	 */
+	void broadcast(String destination, Object payload);
+}
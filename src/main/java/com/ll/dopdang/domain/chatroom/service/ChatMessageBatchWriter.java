@@ -0,0 +1,525 @@
+package com.ll.dopdang.domain.chatroom.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.dopdang.domain.chatroom.entity.ChatMessage;
+import com.ll.dopdang.domain.chatroom.entity.ChatRoom;
+import com.ll.dopdang.domain.chatroom.repository.ChatActiveRoomRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatInboxRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatMessageJdbcRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatMessageJdbcRepository.InsertResult;
+import com.ll.dopdang.domain.chatroom.repository.ChatMessageRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatRoomRepository;
+import com.ll.dopdang.global.exception.ErrorCode;
+import com.ll.dopdang.global.exception.ServiceException;
+import com.ll.dopdang.global.wal.WalFsyncPolicy;
+import com.ll.dopdang.global.wal.WriteAheadLog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지 write-behind 저장기
+ * 메시지는 제한된 크기의 메모리 큐에 적재되는 즉시 수신 확인되고,
+ * 전용 writer 스레드가 flush 주기 또는 배치 크기마다 모아서 JDBC 배치로 DB에 저장합니다.
+ * 큐가 가득 차면 offer 대기 시간 동안만 기다린 뒤 전송을 거절합니다. (backpressure)
+ * 저장 결과는 {@link ChatActiveRoomRepository}의 watermark에 반영되어, 실패한 채팅방만 sweeper가 복구합니다.
+ * 저장을 기다리는 메시지가 있는 채팅방은 chat.write-behind.in-flight-refresh-ms마다 dirty 확인 시각을 미뤄,
+ * 큐가 밀려 있는 동안 sweeper가 같은 메시지를 먼저 저장하지 않게 합니다.
+ * <p>
+ * chat.wal.enabled이면 메시지를 큐에 넣기 전에 노드 로컬 WAL({@link WriteAheadLog})에 먼저 기록하고,
+ * DB 저장이 끝난 메시지만 WAL에서 반영 확인합니다. 노드가 죽어 큐의 메시지를 잃어도
+ * 재시작 시 WAL에 남은 메시지 중 DB에 없는 메시지를 다시 저장합니다.
+ * 재시도 후에도 저장하지 못한 메시지는 채팅방을 sweeper 복구 대상으로 표시한 뒤 WAL에서 반영 확인합니다.
+ * (확인하지 않으면 그 뒤의 세그먼트가 모두 삭제되지 못함) 표시에 실패하면 다음 주기마다 다시 표시합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageBatchWriter {
+
+	private static final int MAX_FLUSH_ATTEMPTS = 3;
+	private static final long RETRY_BACKOFF_MILLIS = 200;
+
+	private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+	private final ChatMessageRepository chatMessageRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final ChatActiveRoomRepository chatActiveRoomRepository;
+	private final ChatRoomRepository chatRoomRepository;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${chat.write-behind.enabled:true}")
+	private boolean enabled;
+
+	@Value("${chat.write-behind.queue-capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${chat.write-behind.batch-size:200}")
+	private int batchSize;
+
+	@Value("${chat.write-behind.flush-interval-ms:200}")
+	private long flushIntervalMs;
+
+	@Value("${chat.write-behind.offer-timeout-ms:50}")
+	private long offerTimeoutMs;
+
+	@Value("${chat.write-behind.in-flight-refresh-ms:5000}")
+	private long inFlightRefreshMs;
+
+	@Value("${chat.wal.enabled:false}")
+	private boolean walEnabled;
+
+	@Value("${chat.wal.directory:data/chat-wal}")
+	private String walDirectory;
+
+	@Value("${chat.wal.segment-size-mb:64}")
+	private int walSegmentSizeMb;
+
+	@Value("${chat.wal.fsync:BATCH}")
+	private WalFsyncPolicy walFsyncPolicy;
+
+	@Value("${chat.wal.fsync-interval-ms:100}")
+	private long walFsyncIntervalMs;
+
+	// 채팅방 ID -> 이 노드에서 아직 DB 반영이 끝나지 않은 메시지 (큐에 있거나 저장 중)
+	private final Map<Long, InFlight> inFlight = new ConcurrentHashMap<>();
+
+	private BlockingQueue<PendingMessage> queue;
+	private WriteAheadLog wal;
+	private ExecutorService writerExecutor;
+	private Timer flushTimer;
+	private Counter rejectedCounter;
+	private Counter droppedCounter;
+	private Counter collisionCounter;
+	private volatile boolean running;
+	private long lastInFlightRefresh;
+	// 저장에 실패했지만 아직 복구 대상으로 표시하지 못한 메시지 (writer 스레드에서만 접근)
+	private final List<PendingMessage> unsettled = new ArrayList<>();
+
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			log.info("채팅 write-behind 비활성화: 메시지를 즉시 DB에 저장합니다.");
+			return;
+		}
+		if (walEnabled) {
+			openWal();
+		}
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		Gauge.builder("chat.write_behind.queue.depth", queue, BlockingQueue::size)
+			.description("DB 저장 대기 중인 채팅 메시지 수")
+			.register(meterRegistry);
+		Gauge.builder("chat.write_behind.in_flight.rooms", inFlight, Map::size)
+			.description("DB 저장 대기 중인 메시지가 있는 채팅방 수")
+			.register(meterRegistry);
+		flushTimer = Timer.builder("chat.write_behind.flush.latency")
+			.description("채팅 메시지 배치 저장 소요 시간")
+			.publishPercentiles(0.5, 0.99)
+			.register(meterRegistry);
+		rejectedCounter = Counter.builder("chat.write_behind.rejected")
+			.description("큐가 가득 차 거절된 채팅 메시지 수")
+			.register(meterRegistry);
+		droppedCounter = Counter.builder("chat.write_behind.dropped")
+			.description("재시도 후에도 저장하지 못한 채팅 메시지 수")
+			.register(meterRegistry);
+		collisionCounter = Counter.builder("chat.write_behind.seq_collisions")
+			.description("같은 순번에 다른 메시지가 있어 저장하지 못한 채팅 메시지 수")
+			.register(meterRegistry);
+
+		running = true;
+		writerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "chat-batch-writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		// submit은 빠져나온 예외를 아무도 읽지 않는 Future에 담으므로, 기본 예외 처리기에 기록되도록 execute 사용
+		writerExecutor.execute(this::runWriterLoop);
+		log.info("채팅 write-behind 시작: capacity={}, batchSize={}, flushInterval={}ms",
+			queueCapacity, batchSize, flushIntervalMs);
+	}
+
+	/**
+	 * 종료 시 큐에 남은 메시지를 모두 저장한 뒤 writer 스레드를 정리합니다.
+	 */
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		if (writerExecutor == null) {
+			return;
+		}
+		running = false;
+		writerExecutor.shutdown();
+		if (!writerExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+			log.error("채팅 write-behind 종료 시간 초과: {}개 메시지가 저장되지 못했습니다.", queue.size());
+			writerExecutor.shutdownNow();
+		}
+		if (wal != null) {
+			wal.close();
+		}
+	}
+
+	/**
+	 * 메시지를 저장 큐에 적재합니다. (WAL이 켜져 있으면 WAL에 먼저 기록)
+	 * write-behind가 비활성화된 경우 즉시 DB에 저장합니다.
+	 *
+	 * @param chatMessage 저장할 메시지
+	 * @throws ServiceException 큐가 가득 차 대기 시간 안에 적재하지 못한 경우
+	 */
+	public void submit(ChatMessage chatMessage) {
+		if (!enabled) {
+			chatMessageRepository.save(chatMessage);
+			markFlushed(List.of(chatMessage));
+			return;
+		}
+		long lsn = (wal != null) ? wal.append(encode(chatMessage)) : 0;
+		// writer 스레드가 저장을 끝내기 전에 등록되도록 큐에 넣기 전에 추적
+		track(chatMessage);
+		boolean accepted;
+		try {
+			accepted = queue.offer(new PendingMessage(chatMessage, lsn), offerTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			accepted = false;
+		}
+		if (!accepted) {
+			untrack(List.of(chatMessage));
+			if (wal != null) {
+				wal.abort(lsn);
+			}
+			rejectedCounter.increment();
+			throw new ServiceException(ErrorCode.CHATTING_QUEUE_FULL);
+		}
+	}
+
+	private void runWriterLoop() {
+		List<PendingMessage> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				collectBatch(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				queue.drainTo(batch);
+				running = false;
+			}
+			try {
+				if (!batch.isEmpty()) {
+					if (wal != null) {
+						wal.syncBatch();
+					}
+					flush(batch);
+					batch.clear();
+				}
+				settleUnsettled();
+				refreshInFlightRooms();
+			} catch (RuntimeException e) {
+				// writer 스레드가 하나뿐이므로 죽지 않도록 잡고, 배치는 남겨 다음 주기에 다시 저장 (이미 저장된 메시지는 중복으로 건너뜀)
+				log.error("채팅 write-behind 처리 실패, {}건을 다음 주기에 다시 저장합니다: {}", batch.size(), e.getMessage(), e);
+				sleepBeforeRetry(1);
+			}
+		}
+	}
+
+	/**
+	 * 이전 주기에 복구 대상으로 표시하지 못한 메시지를 다시 넘깁니다.
+	 */
+	private void settleUnsettled() {
+		if (unsettled.isEmpty()) {
+			return;
+		}
+		List<PendingMessage> retry = new ArrayList<>(unsettled);
+		unsettled.clear();
+		try {
+			settleDropped(retry);
+		} catch (RuntimeException e) {
+			// 표시는 여러 번 해도 되므로 전부 다시 남겨둠
+			unsettled.clear();
+			unsettled.addAll(retry);
+			throw e;
+		}
+	}
+
+	/**
+	 * 이 노드에서 아직 DB 반영이 끝나지 않은 채팅방 메시지가 있는지 확인합니다.
+	 */
+	public boolean hasInFlight(long chatRoomId) {
+		return inFlight.containsKey(chatRoomId);
+	}
+
+	/**
+	 * 이 노드에서 아직 DB 반영이 끝나지 않은 채팅방 메시지 중 가장 큰 순번 (없으면 0)
+	 * 순번 카운터를 다시 초기화할 때 DB에 아직 없는 순번을 다시 발급하지 않도록 사용합니다.
+	 */
+	public long inFlightMaxSeq(long chatRoomId) {
+		InFlight current = inFlight.get(chatRoomId);
+		return current != null ? current.maxSeq() : 0;
+	}
+
+	/**
+	 * 저장을 기다리는 메시지가 있는 채팅방의 dirty 확인 시각을 주기적으로 미룹니다.
+	 * 이 노드가 죽으면 갱신이 멈추므로, 유예 시간이 지난 뒤 sweeper가 Redis 캐시로 복구합니다.
+	 */
+	private void refreshInFlightRooms() {
+		long now = System.currentTimeMillis();
+		if (inFlight.isEmpty() || now - lastInFlightRefresh < inFlightRefreshMs) {
+			return;
+		}
+		lastInFlightRefresh = now;
+		try {
+			chatActiveRoomRepository.deferDirty(inFlight.keySet(), now);
+		} catch (RuntimeException e) {
+			log.warn("저장 대기 채팅방 dirty 갱신 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * flush 주기 동안 최대 배치 크기까지 메시지를 모읍니다.
+	 */
+	private void collectBatch(List<PendingMessage> batch) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+		while (batch.size() < batchSize) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				return;
+			}
+			PendingMessage message = queue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (message == null) {
+				return;
+			}
+			batch.add(message);
+			queue.drainTo(batch, batchSize - batch.size());
+		}
+	}
+
+	private void flush(List<PendingMessage> pendingBatch) {
+		List<ChatMessage> batch = pendingBatch.stream().map(PendingMessage::message).toList();
+		for (int attempt = 1; attempt <= MAX_FLUSH_ATTEMPTS; attempt++) {
+			Timer.Sample sample = Timer.start(meterRegistry);
+			try {
+				InsertResult result = transactionTemplate.execute(status -> chatMessageJdbcRepository.batchInsert(batch));
+				sample.stop(flushTimer);
+				log.debug("채팅 메시지 {}건 배치 저장 완료 (이미 저장됨 {}건)", result.inserted(), result.duplicates());
+				reportCollisions(result);
+				markFlushed(batch);
+				if (wal != null) {
+					wal.confirm(pendingBatch.stream().map(PendingMessage::lsn).toList());
+				}
+				untrack(batch);
+				return;
+			} catch (RuntimeException e) {
+				sample.stop(flushTimer);
+				log.warn("채팅 메시지 배치 저장 실패 ({}/{}): {}", attempt, MAX_FLUSH_ATTEMPTS, e.getMessage());
+				if (attempt == MAX_FLUSH_ATTEMPTS || !sleepBeforeRetry(attempt)) {
+					break;
+				}
+			}
+		}
+		droppedCounter.increment(batch.size());
+		log.error("채팅 메시지 {}건을 DB에 저장하지 못했습니다.", batch.size());
+		settleDropped(pendingBatch);
+	}
+
+	/**
+	 * 저장하지 못한 메시지를 sweeper에 넘깁니다.
+	 * 채팅방을 복구 대상으로 표시한 뒤에야 WAL에서 반영 확인하고 추적에서 뺍니다.
+	 * 표시에 실패하면 WAL 레코드를 남겨두고 다음 주기에 다시 시도합니다. (그 사이 재시작하면 WAL에서 복구)
+	 */
+	private void settleDropped(List<PendingMessage> pendingBatch) {
+		List<ChatMessage> batch = pendingBatch.stream().map(PendingMessage::message).toList();
+		if (!markDropped(batch)) {
+			unsettled.addAll(pendingBatch);
+			return;
+		}
+		if (wal != null) {
+			wal.confirm(pendingBatch.stream().map(PendingMessage::lsn).toList());
+		}
+		untrack(batch);
+	}
+
+	/**
+	 * WAL을 열고, 이전 실행에서 DB 반영이 확인되지 않은 메시지 중 DB에 없는 메시지를 다시 저장합니다.
+	 * 복구에 실패하면 이전 세그먼트를 남겨두고 다음 시작 때 다시 시도합니다.
+	 */
+	private void openWal() {
+		wal = new WriteAheadLog(Path.of(walDirectory), walSegmentSizeMb * 1024 * 1024, walFsyncPolicy,
+			Duration.ofMillis(walFsyncIntervalMs));
+		List<ChatMessage> recovered = wal.open().stream().map(this::decode).toList();
+		if (recovered.isEmpty()) {
+			wal.discardRecovered();
+			return;
+		}
+		try {
+			int restored = replay(recovered);
+			wal.discardRecovered();
+			log.warn("WAL 복구 완료: 미확인 메시지 {}건 중 {}건을 다시 저장했습니다.", recovered.size(), restored);
+		} catch (RuntimeException e) {
+			log.error("WAL 복구 실패, 다음 시작 때 다시 시도합니다: {}", e.getMessage(), e);
+		}
+	}
+
+	private int replay(List<ChatMessage> messages) {
+		// 숫자 채팅방 ID가 없는 이전 형식 레코드는 외부 채팅방 ID로 채팅방을 찾음
+		Map<String, Optional<Long>> legacyRooms = new HashMap<>();
+		Map<Long, List<ChatMessage>> byRoom = new HashMap<>();
+		for (ChatMessage message : messages) {
+			if (message.getChatRoomId() == null && message.getRoomId() != null) {
+				legacyRooms.computeIfAbsent(message.getRoomId(),
+						roomId -> chatRoomRepository.findByRoomId(roomId).map(ChatRoom::getId))
+					.ifPresent(message::setChatRoomId);
+			}
+			if (message.getChatRoomId() == null) {
+				log.warn("채팅방을 찾을 수 없는 WAL 레코드를 건너뜁니다. roomId: {}", message.getRoomId());
+				continue;
+			}
+			byRoom.computeIfAbsent(message.getChatRoomId(), key -> new ArrayList<>()).add(message);
+		}
+
+		List<ChatMessage> missing = new ArrayList<>();
+		byRoom.forEach((chatRoomId, roomMessages) -> {
+			Set<Long> persisted = new HashSet<>(chatMessageRepository.findSeqsByChatRoomIdAndSeqIn(chatRoomId,
+				roomMessages.stream().map(ChatMessage::getSeq).filter(seq -> seq != null).toList()));
+			roomMessages.stream()
+				.filter(message -> message.getSeq() == null || !persisted.contains(message.getSeq()))
+				.forEach(missing::add);
+		});
+		if (missing.isEmpty()) {
+			return 0;
+		}
+		InsertResult result = transactionTemplate.execute(status -> chatMessageJdbcRepository.batchInsert(missing));
+		reportCollisions(result);
+		return result.inserted();
+	}
+
+	/**
+	 * 같은 순번에 다른 메시지가 이미 저장되어 저장하지 못한 메시지를 오류로 기록합니다.
+	 * (다른 노드의 저장 대기 순번을 모른 채 카운터를 다시 초기화한 경우 등)
+	 */
+	private void reportCollisions(InsertResult result) {
+		if (result.collisions().isEmpty()) {
+			return;
+		}
+		collisionCounter.increment(result.collisions().size());
+		for (ChatMessage message : result.collisions()) {
+			log.error("채팅 메시지 순번 충돌로 저장하지 못했습니다. chatRoomId: {}, seq: {}, sender: {}, clientMessageId: {}",
+				message.getChatRoomId(), message.getSeq(), message.getSender(), message.getClientMessageId());
+		}
+	}
+
+	private byte[] encode(ChatMessage message) {
+		try {
+			return objectMapper.writeValueAsBytes(message);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("WAL 레코드 직렬화 실패", e);
+		}
+	}
+
+	private ChatMessage decode(byte[] payload) {
+		try {
+			return objectMapper.readValue(payload, ChatMessage.class);
+		} catch (IOException e) {
+			throw new IllegalStateException("WAL 레코드 역직렬화 실패", e);
+		}
+	}
+
+	/**
+	 * 저장 대기 중인 메시지와 WAL LSN (WAL을 쓰지 않으면 0)
+	 */
+	private record PendingMessage(ChatMessage message, long lsn) {
+	}
+
+	/**
+	 * 채팅방별 저장 대기 메시지 수와 그중 가장 큰 순번
+	 */
+	private record InFlight(int count, long maxSeq) {
+	}
+
+	private void track(ChatMessage message) {
+		long seq = message.getSeq() != null ? message.getSeq() : 0;
+		inFlight.merge(message.getChatRoomId(), new InFlight(1, seq),
+			(current, added) -> new InFlight(current.count() + 1, Math.max(current.maxSeq(), seq)));
+	}
+
+	/**
+	 * 저장(또는 복구 대상 표시)이 끝난 메시지를 추적에서 뺍니다. watermark 반영 뒤에 호출해야 합니다.
+	 */
+	private void untrack(List<ChatMessage> messages) {
+		for (ChatMessage message : messages) {
+			inFlight.computeIfPresent(message.getChatRoomId(), (chatRoomId, current) -> current.count() <= 1
+				? null : new InFlight(current.count() - 1, current.maxSeq()));
+		}
+	}
+
+	/**
+	 * 저장된 채팅방별 마지막 순번을 watermark에 반영합니다.
+	 * Redis 오류는 저장 자체에 영향을 주지 않도록 기록만 합니다. (다음 sweep에서 DB 기준으로 확인)
+	 */
+	private void markFlushed(List<ChatMessage> messages) {
+		Map<Long, Long> flushedSeqs = new HashMap<>();
+		for (ChatMessage message : messages) {
+			if (message.getSeq() != null) {
+				flushedSeqs.merge(message.getChatRoomId(), message.getSeq(), Math::max);
+			}
+		}
+		try {
+			chatActiveRoomRepository.markFlushed(flushedSeqs);
+		} catch (RuntimeException e) {
+			log.warn("채팅방 저장 watermark 갱신 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 저장하지 못한 메시지의 채팅방을 복구 대상으로 표시합니다.
+	 * 메시지는 Redis 최근 메시지 캐시에 남아 있으므로 sweeper가 다시 저장합니다.
+	 */
+	private boolean markDropped(List<ChatMessage> messages) {
+		Set<Long> roomIds = new HashSet<>();
+		long oldest = Long.MAX_VALUE;
+		for (ChatMessage message : messages) {
+			roomIds.add(message.getChatRoomId());
+			oldest = Math.min(oldest, ChatInboxRepository.score(message.getTimestamp()));
+		}
+		try {
+			chatActiveRoomRepository.markDropped(roomIds, oldest);
+			return true;
+		} catch (RuntimeException e) {
+			log.error("저장 실패 채팅방 표시 실패: rooms={}, error={}", roomIds, e.getMessage());
+			return false;
+		}
+	}
+
+	private boolean sleepBeforeRetry(int attempt) {
+		try {
+			Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,319 @@
+package com.ll.dopdang.domain.chatroom.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import com.ll.dopdang.domain.chatroom.util.ChatRedisKeys;
+import com.ll.dopdang.domain.member.dto.response.MemberSummary;
+import com.ll.dopdang.domain.member.service.MemberSummaryCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드별 접속(presence) 레지스트리
+ *
+ * STOMP CONNECT, SUBSCRIBE, UNSUBSCRIBE, DISCONNECT 이벤트로 세션별 사용자와 보고 있는 채팅방(/topic/chat/{roomId})을
+ * 메모리에 유지하고, 다른 노드가 볼 수 있도록 Redis에 TTL과 함께 반영합니다.
+ * <pre>
+ * chat:presence:{memberId}      세션 ID -> 마지막 확인 시각 (다른 노드에서 보는 접속 여부, 키 TTL은 주기적으로 갱신)
+ * active_chat_room:{memberId}   마지막으로 연 채팅방 ID (메시지 전송 스크립트가 안 읽은 수 증가 여부 판단에 사용)
+ * </pre>
+ * 노드가 비정상 종료되어도 TTL이 지나면 Redis 값이 사라집니다.
+ * 클라이언트 heart-beat를 협상한 세션은 마지막 프레임 이후 세션 만료 시간이 지나면 끊긴 것으로 보고 정리합니다.
+ *
+ * 사용자는 CONNECT 시 인증된 정보(Principal)로만 식별하고, 인증 정보가 없거나 회원을 찾을 수 없는 세션은 등록하지 않습니다.
+ * 메모리에서는 이메일로, Redis 키에는 회원 ID로 사용자를 구분합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceRegistry {
+
+	private static final String ROOM_DESTINATION_PREFIX = "/topic/chat/";
+	private static final RedisScript<Long> COMPARE_AND_DELETE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/lock-release.lua"), Long.class);
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final MemberSummaryCache memberSummaryCache;
+
+	@Value("${chat.presence.ttl-seconds:30}")
+	private long ttlSeconds;
+
+	@Value("${chat.presence.session-timeout-ms:30000}")
+	private long sessionTimeoutMs;
+
+	// 세션 ID -> 세션
+	private final Map<String, PresenceSession> sessions = new ConcurrentHashMap<>();
+	// 사용자 -> 세션 ID 목록
+	private final Map<String, Set<String>> userSessions = new ConcurrentHashMap<>();
+
+	@EventListener
+	public void onConnect(SessionConnectEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		String username = resolveUsername(accessor);
+		if (accessor.getSessionId() == null || username == null) {
+			return;
+		}
+		Long memberId = memberSummaryCache.getByEmail(username).map(MemberSummary::id).orElse(null);
+		if (memberId == null) {
+			return;
+		}
+		long[] heartbeat = accessor.getHeartbeat();
+		connect(accessor.getSessionId(), username, memberId, heartbeat.length > 0 && heartbeat[0] > 0);
+	}
+
+	@EventListener
+	public void onSubscribe(SessionSubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		String destination = accessor.getDestination();
+		if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+			return;
+		}
+		subscribe(accessor.getSessionId(), accessor.getSubscriptionId(),
+			destination.substring(ROOM_DESTINATION_PREFIX.length()));
+	}
+
+	@EventListener
+	public void onUnsubscribe(SessionUnsubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+	}
+
+	@EventListener
+	public void onDisconnect(SessionDisconnectEvent event) {
+		disconnect(event.getSessionId());
+	}
+
+	/**
+	 * 클라이언트에서 프레임(heart-beat 포함)을 받았을 때 호출됩니다.
+	 */
+	public void touch(String sessionId) {
+		if (sessionId == null) {
+			return;
+		}
+		PresenceSession session = sessions.get(sessionId);
+		if (session != null) {
+			session.lastSeen = System.currentTimeMillis();
+		}
+	}
+
+	/**
+	 * 사용자가 이 노드에서 채팅방을 보고 있는지 확인합니다. (Redis 조회 없음)
+	 * 다른 노드에 접속한 세션은 포함하지 않으므로, false면 메시지 전송 스크립트가 Redis의 보고 있는 채팅방을 확인합니다.
+	 */
+	public boolean isViewing(String username, String roomId) {
+		for (PresenceSession session : sessionsOf(username)) {
+			if (session.rooms.containsValue(roomId)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 세션의 사용자 (CONNECT 시 식별하지 못했으면 null)
+	 */
+	public String usernameOf(String sessionId) {
+		PresenceSession session = sessionId != null ? sessions.get(sessionId) : null;
+		return session != null ? session.username : null;
+	}
+
+	/**
+	 * heart-beat가 끊긴 세션을 정리하고, 남은 세션의 Redis TTL을 갱신합니다.
+	 */
+	@Scheduled(fixedDelayString = "${chat.presence.refresh-interval-ms:10000}")
+	public void refresh() {
+		long now = System.currentTimeMillis();
+		List<String> expired = new ArrayList<>();
+		for (Map.Entry<String, PresenceSession> entry : sessions.entrySet()) {
+			PresenceSession session = entry.getValue();
+			if (session.heartbeating && now - session.lastSeen > sessionTimeoutMs) {
+				expired.add(entry.getKey());
+			}
+		}
+		for (String sessionId : expired) {
+			log.debug("heart-beat가 끊긴 세션을 정리합니다. sessionId: {}", sessionId);
+			disconnect(sessionId);
+		}
+		if (sessions.isEmpty()) {
+			return;
+		}
+		String lastSeen = String.valueOf(now);
+		try {
+			stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public Object execute(RedisOperations operations) {
+					sessions.forEach((sessionId, session) -> {
+						String key = ChatRedisKeys.presence(session.memberId);
+						operations.opsForHash().put(key, sessionId, lastSeen);
+						operations.expire(key, ttlSeconds, TimeUnit.SECONDS);
+					});
+					return null;
+				}
+			});
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public Object execute(RedisOperations operations) {
+					for (String username : userSessions.keySet()) {
+						List<PresenceSession> viewing = sessionsOf(username);
+						String roomId = viewingRoom(username);
+						if (roomId != null && !viewing.isEmpty()) {
+							operations.opsForValue().set(ChatRedisKeys.viewingRoom(viewing.get(0).memberId), roomId,
+								ttlSeconds, TimeUnit.SECONDS);
+						}
+					}
+					return null;
+				}
+			});
+		} catch (RuntimeException e) {
+			log.warn("접속 상태 Redis 갱신 실패: {}", e.getMessage());
+		}
+	}
+
+	void connect(String sessionId, String username, long memberId, boolean heartbeating) {
+		sessions.put(sessionId, new PresenceSession(username, memberId, heartbeating));
+		userSessions.computeIfAbsent(username, key -> ConcurrentHashMap.newKeySet()).add(sessionId);
+		try {
+			String key = ChatRedisKeys.presence(memberId);
+			stringRedisTemplate.opsForHash().put(key, sessionId, String.valueOf(System.currentTimeMillis()));
+			stringRedisTemplate.expire(key, Duration.ofSeconds(ttlSeconds));
+		} catch (RuntimeException e) {
+			log.warn("접속 상태 Redis 반영 실패: username: {}, error: {}", username, e.getMessage());
+		}
+	}
+
+	void subscribe(String sessionId, String subscriptionId, String roomId) {
+		PresenceSession session = sessionId != null ? sessions.get(sessionId) : null;
+		if (session == null || subscriptionId == null) {
+			return;
+		}
+		session.rooms.put(subscriptionId, roomId);
+		try {
+			redisTemplate.opsForValue().set(ChatRedisKeys.viewingRoom(session.memberId), roomId,
+				Duration.ofSeconds(ttlSeconds));
+		} catch (RuntimeException e) {
+			log.warn("보고 있는 채팅방 Redis 반영 실패: username: {}, error: {}", session.username, e.getMessage());
+		}
+	}
+
+	void unsubscribe(String sessionId, String subscriptionId) {
+		PresenceSession session = sessionId != null ? sessions.get(sessionId) : null;
+		if (session == null || subscriptionId == null) {
+			return;
+		}
+		String roomId = session.rooms.remove(subscriptionId);
+		if (roomId != null) {
+			leaveRoom(session, roomId);
+		}
+	}
+
+	void disconnect(String sessionId) {
+		PresenceSession session = sessionId != null ? sessions.remove(sessionId) : null;
+		if (session == null) {
+			return;
+		}
+		userSessions.computeIfPresent(session.username, (key, ids) -> {
+			ids.remove(sessionId);
+			return ids.isEmpty() ? null : ids;
+		});
+		try {
+			stringRedisTemplate.opsForHash().delete(ChatRedisKeys.presence(session.memberId), sessionId);
+		} catch (RuntimeException e) {
+			log.warn("접속 상태 Redis 삭제 실패: username: {}, error: {}", session.username, e.getMessage());
+		}
+		for (String roomId : Set.copyOf(session.rooms.values())) {
+			leaveRoom(session, roomId);
+		}
+	}
+
+	/**
+	 * 채팅방을 닫았을 때 Redis의 보고 있는 채팅방을 정리합니다.
+	 * 이 노드의 다른 세션에서 보고 있는 채팅방이 있으면 그 채팅방으로 바꾸고,
+	 * 없으면 값이 닫은 채팅방일 때만 삭제합니다. (다른 노드에서 연 채팅방을 지우지 않도록)
+	 */
+	private void leaveRoom(PresenceSession session, String roomId) {
+		String username = session.username;
+		String key = ChatRedisKeys.viewingRoom(session.memberId);
+		try {
+			String stillViewing = viewingRoom(username);
+			if (stillViewing != null) {
+				redisTemplate.opsForValue().set(key, stillViewing, Duration.ofSeconds(ttlSeconds));
+			} else {
+				redisTemplate.execute(COMPARE_AND_DELETE_SCRIPT, List.of(key), roomId);
+			}
+		} catch (RuntimeException e) {
+			log.warn("보고 있는 채팅방 Redis 정리 실패: username: {}, error: {}", username, e.getMessage());
+		}
+	}
+
+	/**
+	 * 이 노드에서 사용자가 보고 있는 채팅방 중 하나 (없으면 null)
+	 */
+	private String viewingRoom(String username) {
+		for (PresenceSession session : sessionsOf(username)) {
+			for (String roomId : session.rooms.values()) {
+				return roomId;
+			}
+		}
+		return null;
+	}
+
+	private List<PresenceSession> sessionsOf(String username) {
+		Set<String> sessionIds = username != null ? userSessions.get(username) : null;
+		if (sessionIds == null) {
+			return List.of();
+		}
+		List<PresenceSession> result = new ArrayList<>(sessionIds.size());
+		for (String sessionId : sessionIds) {
+			PresenceSession session = sessions.get(sessionId);
+			if (session != null) {
+				result.add(session);
+			}
+		}
+		return result;
+	}
+
+	private String resolveUsername(StompHeaderAccessor accessor) {
+		return accessor.getUser() != null ? accessor.getUser().getName().trim().toLowerCase() : null;
+	}
+
+	private static final class PresenceSession {
+		private final String username;
+		private final long memberId;
+		private final boolean heartbeating;
+		// 구독 ID -> 채팅방 ID
+		private final Map<String, String> rooms = new ConcurrentHashMap<>();
+		private volatile long lastSeen = System.currentTimeMillis();
+
+		private PresenceSession(String username, long memberId, boolean heartbeating) {
+			this.username = username;
+			this.memberId = memberId;
+			this.heartbeating = heartbeating;
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package com.ll.dopdang.domain.chatroom.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ll.dopdang.domain.chatroom.dto.ChatReadReceiptPayload;
+import com.ll.dopdang.domain.chatroom.dto.ChatRoomInfo;
+import com.ll.dopdang.domain.chatroom.dto.NotificationPayload;
+import com.ll.dopdang.domain.chatroom.repository.ChatRoomMemberRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatRoomRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽음 처리를 (채팅방, 사용자)별로 묶어서 반영합니다.
+ * 읽은 위치(Redis)와 안 읽은 수는 요청마다 바로 기록하고, 여기서는 느리거나 팬아웃이 있는 작업만 묶습니다.
+ * <ul>
+ *     <li>chat_room_member의 읽은 위치(순번), chat_room의 읽은 위치/시각 컬럼 갱신</li>
+ *     <li>/topic/read/{roomId} 읽음 알림, /topic/notice/{username} 배지 갱신</li>
+ * </ul>
+ * 묶음 간격(chat.read-receipt.interval-ms)마다 최대 한 번만 반영하고, 그 사이 요청은 마지막 값만 남깁니다.
+ * 첫 요청은 바로 반영하므로 상대에게 읽음 표시가 늦어지지 않습니다. (노드마다 따로 묶음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatReadReceiptCoalescer {
+
+	private static final String READ_DESTINATION_PREFIX = "/topic/read/";
+	private static final String NOTICE_DESTINATION_PREFIX = "/topic/notice/";
+
+	private final ChatRoomRepository chatRoomRepository;
+	private final ChatRoomMemberRepository chatRoomMemberRepository;
+	private final ChatBroadcaster chatBroadcaster;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${chat.read-receipt.interval-ms:1000}")
+	private long intervalMs;
+
+	// (채팅방 ID, 사용자) -> 묶음
+	private final Map<ReadKey, ReadWindow> windows = new ConcurrentHashMap<>();
+	private ScheduledExecutorService scheduler;
+
+	@PostConstruct
+	public void start() {
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "chat-read-receipt");
+			thread.setDaemon(true);
+			return thread;
+		});
+		// 한동안 요청이 없는 묶음 정리
+		long evictIntervalMs = Math.max(intervalMs * 20, 10_000);
+		scheduler.scheduleWithFixedDelay(this::evictIdle, evictIntervalMs, evictIntervalMs, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 종료 전에 예약된 묶음을 모두 반영합니다. (DB 읽은 위치가 뒤처지지 않도록)
+	 */
+	@PreDestroy
+	public void stop() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+		}
+		windows.forEach(this::flush);
+	}
+
+	/**
+	 * 읽음 처리 결과를 기록하고, 묶음의 다음 반영을 예약합니다.
+	 *
+	 * @param chatRoom     채팅방
+	 * @param username     읽은 사용자
+	 * @param readSeq      적용 후 읽은 위치 (메시지 순번)
+	 * @param readAt       읽음 요청 시각
+	 * @param totalUnread  초기화 후 전체 안 읽은 메시지 수
+	 */
+	public void read(ChatRoomInfo chatRoom, String username, long readSeq, LocalDateTime readAt, long totalUnread) {
+		ReadKey key = new ReadKey(chatRoom.roomId(), username);
+		ReadWindow window = windows.computeIfAbsent(key, ignored -> new ReadWindow(chatRoom.id(),
+			username.equals(chatRoom.member1())));
+		synchronized (window) {
+			window.readSeq = Math.max(window.readSeq, readSeq);
+			window.readAt = readAt;
+			window.totalUnread = totalUnread;
+			if (window.scheduled) {
+				return;
+			}
+			window.scheduled = true;
+			long delay = Math.max(0, window.lastFlushedAt + intervalMs - System.currentTimeMillis());
+			scheduler.schedule(() -> flush(key, window), delay, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void flush(ReadKey key, ReadWindow window) {
+		long readSeq;
+		LocalDateTime readAt;
+		long totalUnread;
+		boolean readChanged;
+		boolean totalChanged;
+		synchronized (window) {
+			if (!window.scheduled) {
+				return;
+			}
+			window.scheduled = false;
+			window.lastFlushedAt = System.currentTimeMillis();
+			readSeq = window.readSeq;
+			readAt = window.readAt;
+			totalUnread = window.totalUnread;
+			readChanged = readSeq > window.flushedSeq;
+			totalChanged = totalUnread != window.sentTotal;
+			window.flushedSeq = readSeq;
+			window.sentTotal = totalUnread;
+		}
+		try {
+			if (readChanged) {
+				transactionTemplate.executeWithoutResult(status -> {
+					chatRoomMemberRepository.advanceLastReadSeq(window.roomPk, key.username(), readSeq);
+					if (window.member1) {
+						chatRoomRepository.updateLastReadAtUser1(window.roomPk, readAt);
+					} else {
+						chatRoomRepository.updateLastReadAtUser2(window.roomPk, readAt);
+					}
+				});
+				chatBroadcaster.broadcast(READ_DESTINATION_PREFIX + key.roomId(),
+					new ChatReadReceiptPayload(key.roomId(), key.username(), readSeq, readAt));
+			}
+			// 다른 기기, 탭의 배지 갱신
+			if (totalChanged) {
+				chatBroadcaster.broadcast(NOTICE_DESTINATION_PREFIX + key.username(),
+					new NotificationPayload(key.roomId(), null, null, 0, (int)totalUnread));
+			}
+		} catch (RuntimeException e) {
+			log.warn("읽음 처리 반영 실패: roomId: {}, username: {}, error: {}", key.roomId(), key.username(),
+				e.getMessage());
+		}
+	}
+
+	private void evictIdle() {
+		long idleBefore = System.currentTimeMillis() - intervalMs;
+		// 제거 직후 들어온 요청도 이미 꺼낸 묶음으로 예약되므로 유실되지 않음
+		windows.entrySet().removeIf(entry -> {
+			ReadWindow window = entry.getValue();
+			synchronized (window) {
+				return !window.scheduled && window.lastFlushedAt < idleBefore;
+			}
+		});
+	}
+
+	private record ReadKey(String roomId, String username) {
+	}
+
+	private static final class ReadWindow {
+		private final Long roomPk;
+		private final boolean member1;
+		private long readSeq;
+		private LocalDateTime readAt;
+		private long totalUnread;
+		private long flushedSeq;
+		private long sentTotal = -1;
+		private boolean scheduled;
+		private long lastFlushedAt;
+
+		private ReadWindow(Long roomPk, boolean member1) {
+			this.roomPk = roomPk;
+			this.member1 = member1;
+		}
+	}
+}
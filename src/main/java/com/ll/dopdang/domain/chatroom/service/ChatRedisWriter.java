@@ -0,0 +1,110 @@
+package com.ll.dopdang.domain.chatroom.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import com.ll.dopdang.domain.chatroom.entity.ChatMessage;
+import com.ll.dopdang.domain.chatroom.repository.ChatInboxRepository;
+import com.ll.dopdang.domain.chatroom.util.ChatMessageRedisSerializer;
+import com.ll.dopdang.domain.chatroom.util.ChatRedisKeys;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메시지 전송 시 필요한 Redis 변경을 Lua 스크립트 한 번(EVALSHA)으로 수행합니다.
+ * 값은 {@link RedisTemplate}의 value serializer로 미리 직렬화해서 넘기므로
+ * 기존 조회 경로(opsForList, opsForHash 등)와 저장 형식이 같습니다.
+ * (메시지 리스트는 chatMessageRedisTemplate과 같은 {@link ChatMessageRedisSerializer} 형식)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRedisWriter {
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> SEND_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/chat-send.lua"), List.class);
+	// 배열 결과의 정수 원소는 그대로 Long으로 반환되고, 문자열 원소만 이 serializer로 변환됨
+	@SuppressWarnings("rawtypes")
+	private static final RedisSerializer RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+	private static final long RECEIVER_VIEWING = -1L;
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final ChatMessageRedisSerializer chatMessageRedisSerializer;
+
+	/**
+	 * 메시지를 캐시에 추가하고, 받는 사람의 안 읽은 메시지 수와 합계를 원자적으로 증가시킵니다.
+	 *
+	 * 보낸 사람과 받는 사람의 inbox(채팅방 목록)가 있으면 마지막 메시지와 순서도 함께 갱신합니다.
+	 * 받는 사람이 이 노드에서 채팅방을 보고 있지 않으면, 다른 노드에서 보고 있을 수 있으므로 Redis의 보고 있는 채팅방을 확인합니다.
+	 *
+	 * @param chatMessage 채팅방 정보(외부 채팅방 ID, 숫자 채팅방 ID)가 설정된 메시지
+	 * @param senderId 보낸 사람 회원 ID
+	 * @param receiverId 받는 사람 회원 ID
+	 * @param messageLimit 채팅방별 보관할 최근 메시지 수
+	 * @param ttlSeconds 캐시 만료 시간(초)
+	 * @param inboxTtlSeconds inbox 만료 시간(초)
+	 * @param receiverViewingLocally 받는 사람이 이 노드에서 채팅방을 보고 있는지 여부
+	 * @return 증가된 안 읽은 메시지 수, 받는 사람이 해당 채팅방을 보고 있으면 null
+	 */
+	@SuppressWarnings("unchecked")
+	public UnreadCount appendMessage(ChatMessage chatMessage, long senderId, long receiverId, int messageLimit,
+		long ttlSeconds, long inboxTtlSeconds, boolean receiverViewingLocally) {
+		String roomId = chatMessage.getRoomId();
+		long chatRoomId = chatMessage.getChatRoomId();
+		List<String> keys = List.of(
+			ChatRedisKeys.messages(chatRoomId),
+			ChatRedisKeys.ACTIVE_ROOMS,
+			ChatRedisKeys.inbox(senderId),
+			ChatRedisKeys.inbox(receiverId),
+			ChatRedisKeys.inboxEntry(senderId, chatRoomId),
+			ChatRedisKeys.inboxEntry(receiverId, chatRoomId),
+			ChatRedisKeys.roomTimestamp(chatRoomId),
+			ChatRedisKeys.viewingRoom(receiverId),
+			ChatRedisKeys.unread(receiverId),
+			ChatRedisKeys.DIRTY_ROOMS
+		);
+		List<?> result = redisTemplate.execute(SEND_SCRIPT, RedisSerializer.byteArray(), RESULT_SERIALIZER, keys,
+			chatMessageRedisSerializer.serialize(chatMessage),
+			toBytes(String.valueOf(messageLimit)),
+			toBytes(String.valueOf(ttlSeconds)),
+			toBytes(roomId),
+			serializeValue(roomId),
+			serializeValue(chatMessage.getTimestamp().toString()),
+			toBytes(chatMessage.getContent() != null ? chatMessage.getContent() : ""),
+			toBytes(chatMessage.getTimestamp().toString()),
+			toBytes(String.valueOf(ChatInboxRepository.score(chatMessage.getTimestamp()))),
+			toBytes(String.valueOf(inboxTtlSeconds)),
+			toBytes(ChatRedisKeys.UNREAD_TOTAL_FIELD),
+			toBytes(String.valueOf(chatRoomId)),
+			toBytes(receiverViewingLocally ? "1" : "0"));
+		if (result == null || result.isEmpty() || ((Number)result.get(0)).longValue() == RECEIVER_VIEWING) {
+			return null;
+		}
+		return new UnreadCount(((Number)result.get(0)).longValue(), ((Number)result.get(1)).longValue());
+	}
+
+	/**
+	 * 메시지 전송 후 받는 사람의 안 읽은 메시지 수
+	 *
+	 * @param room  해당 채팅방의 안 읽은 수
+	 * @param total 전체 채팅방의 안 읽은 수 합계 (배지)
+	 */
+	public record UnreadCount(long room, long total) {
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] serializeValue(Object value) {
+		return ((RedisSerializer<Object>)redisTemplate.getValueSerializer()).serialize(value);
+	}
+
+	private byte[] toBytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
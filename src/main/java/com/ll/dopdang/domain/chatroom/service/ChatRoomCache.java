@@ -0,0 +1,118 @@
+package com.ll.dopdang.domain.chatroom.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ll.dopdang.domain.chatroom.dto.ChatRoomInfo;
+import com.ll.dopdang.domain.chatroom.entity.ChatRoom;
+import com.ll.dopdang.domain.chatroom.repository.ChatRoomMemberRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatRoomRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 메타데이터(멤버, 프로젝트 ID, 활성 상태) 로컬 캐시
+ * 메시지 전송 시 채팅방 조회 SQL을 없애기 위해 사용하며, 크기와 TTL로 제한합니다.
+ * 활성 상태와 참여자 회원 ID는 chat_room_member에서 읽습니다.
+ * 활성 상태가 바뀌면(채팅방 나가기) Redis pub/sub으로 모든 노드의 캐시를 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatRoomCache {
+
+	static final String INVALIDATION_CHANNEL = "chat:room-cache:invalidate";
+
+	private final ChatRoomRepository chatRoomRepository;
+	private final ChatRoomMemberRepository chatRoomMemberRepository;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${chat.room-cache.maximum-size:10000}")
+	private long maximumSize;
+
+	@Value("${chat.room-cache.expire-after-write-seconds:600}")
+	private long expireAfterWriteSeconds;
+
+	private Cache<String, ChatRoomInfo> cache;
+
+	@PostConstruct
+	public void init() {
+		cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "chat.room");
+		redisMessageListenerContainer.addMessageListener(
+			(message, pattern) -> cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+			new ChannelTopic(INVALIDATION_CHANNEL));
+	}
+
+	/**
+	 * 채팅방 메타데이터를 조회합니다. 캐시에 없으면 DB에서 읽어 캐시합니다.
+	 *
+	 * @param roomId 채팅방 ID
+	 * @return 채팅방 메타데이터, 채팅방이 없으면 empty
+	 */
+	public Optional<ChatRoomInfo> get(String roomId) {
+		return Optional.ofNullable(cache.get(roomId, key ->
+			chatRoomRepository.findByRoomId(key).map(this::load).orElse(null)));
+	}
+
+	/**
+	 * 새로 만든 채팅방을 캐시에 넣습니다.
+	 */
+	public ChatRoomInfo put(ChatRoom chatRoom) {
+		ChatRoomInfo info = load(chatRoom);
+		cache.put(chatRoom.getRoomId(), info);
+		return info;
+	}
+
+	private ChatRoomInfo load(ChatRoom chatRoom) {
+		return ChatRoomInfo.from(chatRoom, chatRoomMemberRepository.findStatesByRoomIds(List.of(chatRoom.getId())));
+	}
+
+	/**
+	 * 모든 노드에서 채팅방 캐시를 무효화합니다.
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 무효화하여, 커밋 전의 활성 상태가 다시 캐시되지 않도록 합니다.
+	 */
+	public void invalidate(String roomId) {
+		Runnable eviction = () -> {
+			cache.invalidate(roomId);
+			try {
+				stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, roomId);
+			} catch (RuntimeException e) {
+				// 다른 노드는 TTL이 지나면 갱신됨
+				log.warn("채팅방 캐시 무효화 발행 실패. roomId: {}, error: {}", roomId, e.getMessage());
+			}
+		};
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					eviction.run();
+				}
+			});
+		} else {
+			eviction.run();
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package com.ll.dopdang.domain.chatroom.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import com.ll.dopdang.domain.chatroom.dto.ChatRoomInfo;
+import com.ll.dopdang.domain.chatroom.repository.ChatMessageRepository;
+import com.ll.dopdang.domain.chatroom.util.ChatRedisKeys;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅방별 메시지 순번(seq)을 발급합니다.
+ * Redis 카운터(INCR)로 노드 간에도 순번이 겹치지 않으며,
+ * 카운터는 숫자 채팅방 ID로 만들며, 없으면(최초 전송, Redis 초기화 등) DB와 이 노드 저장 큐의 마지막 순번으로 초기화합니다.
+ * 카운터는 만료 시간을 두지 않습니다. (만료되면 아직 저장 큐에 있는 순번을 다시 발급할 수 있음)
+ * <p>
+ * 클라이언트 메시지 ID가 있는 메시지는 채팅방의 최근 ID(chat.client-message-id.window 범위의 순번)와 비교해
+ * 재전송이면 새 순번 대신 처음 발급된 순번을 돌려줍니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatSequenceGenerator {
+
+	private static final RedisScript<Long> SEQUENCE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/chat-seq.lua"), Long.class);
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> CLIENT_ID_SEQUENCE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/chat-seq-client-id.lua"), List.class);
+	private static final RedisScript<Long> CLIENT_ID_RELEASE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/chat-client-id-release.lua"), Long.class);
+	private static final RedisSerializer<String> ARG_SERIALIZER = RedisSerializer.string();
+	private static final RedisSerializer<Long> RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+	// 배열 결과의 정수 원소는 그대로 Long으로 반환됨
+	@SuppressWarnings("rawtypes")
+	private static final RedisSerializer LIST_RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+	private static final long NOT_INITIALIZED = -1L;
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final ChatMessageRepository chatMessageRepository;
+	private final ChatMessageBatchWriter chatMessageBatchWriter;
+
+	@Value("${chat.client-message-id.window:1000}")
+	private long clientIdWindow;
+
+	@Value("${chat.client-message-id.ttl-seconds:86400}")
+	private long clientIdTtlSeconds;
+
+	/**
+	 * 채팅방의 다음 메시지 순번을 발급합니다.
+	 *
+	 * @param chatRoom 채팅방
+	 * @return 1부터 시작하는 순번
+	 */
+	public long next(ChatRoomInfo chatRoom) {
+		List<String> keys = List.of(ChatRedisKeys.sequence(chatRoom.id()));
+		Long seq = redisTemplate.execute(SEQUENCE_SCRIPT, ARG_SERIALIZER, RESULT_SERIALIZER, keys);
+		if (seq != null && seq != NOT_INITIALIZED) {
+			return seq;
+		}
+		// 카운터가 없으면 DB 기준으로 초기화 (동시에 초기화해도 스크립트 안에서 한 번만 SET 됨)
+		long lastSeq = lastIssuedSeq(chatRoom);
+		return redisTemplate.execute(SEQUENCE_SCRIPT, ARG_SERIALIZER, RESULT_SERIALIZER, keys,
+			String.valueOf(lastSeq));
+	}
+
+	/**
+	 * 클라이언트 메시지 ID가 있는 메시지의 순번을 발급합니다.
+	 * 보관 범위 안에서 이미 받은 ID면 새로 발급하지 않고 처음 발급된 순번을 돌려줍니다.
+	 *
+	 * @param chatRoom        채팅방
+	 * @param clientMessageId 클라이언트가 만든 메시지 ID
+	 * @return 발급된 순번과 중복 여부
+	 */
+	@SuppressWarnings("unchecked")
+	public Sequence next(ChatRoomInfo chatRoom, String clientMessageId) {
+		List<String> keys = List.of(ChatRedisKeys.sequence(chatRoom.id()),
+			ChatRedisKeys.clientMessageIds(chatRoom.id()));
+		String window = String.valueOf(clientIdWindow);
+		String ttl = String.valueOf(clientIdTtlSeconds);
+		List<Object> result = redisTemplate.execute(CLIENT_ID_SEQUENCE_SCRIPT, ARG_SERIALIZER, LIST_RESULT_SERIALIZER,
+			keys, clientMessageId, window, ttl);
+		if (result == null || ((Number)result.get(0)).longValue() == NOT_INITIALIZED) {
+			long lastSeq = lastIssuedSeq(chatRoom);
+			result = redisTemplate.execute(CLIENT_ID_SEQUENCE_SCRIPT, ARG_SERIALIZER, LIST_RESULT_SERIALIZER, keys,
+				clientMessageId, window, ttl, String.valueOf(lastSeq));
+		}
+		return new Sequence(((Number)result.get(0)).longValue(), ((Number)result.get(1)).longValue() == 1);
+	}
+
+	/**
+	 * 저장하지 못한 메시지의 클라이언트 메시지 ID를 지워, 같은 ID의 재전송을 새 메시지로 받게 합니다.
+	 * (발급된 순번은 되돌리지 않음)
+	 */
+	public void release(ChatRoomInfo chatRoom, String clientMessageId, long seq) {
+		redisTemplate.execute(CLIENT_ID_RELEASE_SCRIPT, ARG_SERIALIZER, RESULT_SERIALIZER,
+			List.of(ChatRedisKeys.clientMessageIds(chatRoom.id())), clientMessageId, String.valueOf(seq));
+	}
+
+	/**
+	 * 채팅방에서 마지막으로 발급된 순번을 조회합니다.
+	 *
+	 * @param chatRoomId 채팅방 ID (chat_room.id)
+	 * @return 마지막 순번, 카운터가 없으면 null
+	 */
+	public Long current(long chatRoomId) {
+		return parse(redisTemplate.opsForValue().get(ChatRedisKeys.sequence(chatRoomId)), null);
+	}
+
+	/**
+	 * 여러 채팅방의 마지막 순번을 한 번에 조회합니다.
+	 * 카운터가 없는 채팅방은 DB의 마지막 순번을 사용합니다.
+	 *
+	 * @param chatRoomIds 채팅방 ID (chat_room.id) 목록
+	 * @return 채팅방 ID -> 마지막 순번
+	 */
+	public Map<Long, Long> currentAll(Collection<Long> chatRoomIds) {
+		List<Long> rooms = new ArrayList<>(chatRoomIds);
+		List<Object> values = redisTemplate.opsForValue().multiGet(
+			rooms.stream().map(ChatRedisKeys::sequence).toList());
+		Map<Long, Long> result = new HashMap<>();
+		for (int i = 0; i < rooms.size(); i++) {
+			Long value = parse((values != null) ? values.get(i) : null, null);
+			result.put(rooms.get(i), value != null ? value : chatMessageRepository.findMaxSeqByChatRoomId(rooms.get(i)));
+		}
+		return result;
+	}
+
+	/**
+	 * 카운터를 다시 초기화할 때 기준이 되는 마지막 순번
+	 * DB의 마지막 순번만 쓰면 아직 저장 큐나 WAL에 있는 순번을 다시 발급하므로 이 노드의 저장 대기 순번도 함께 봅니다.
+	 * 외부 채팅방 ID로 만든 이전 카운터가 남아 있으면 그 값도 포함합니다.
+	 * (다른 노드의 저장 대기 순번은 알 수 없으므로, 그 순번과 겹치면 저장 시 순번 충돌로 기록됨)
+	 */
+	private long lastIssuedSeq(ChatRoomInfo chatRoom) {
+		long lastSeq = Math.max(chatMessageRepository.findMaxSeqByChatRoomId(chatRoom.id()),
+			chatMessageBatchWriter.inFlightMaxSeq(chatRoom.id()));
+		return Math.max(lastSeq,
+			parse(redisTemplate.opsForValue().get(ChatRedisKeys.legacySequence(chatRoom.roomId())), 0L));
+	}
+
+	private Long parse(Object value, Long defaultValue) {
+		return value != null ? Long.valueOf(value.toString()) : defaultValue;
+	}
+
+	/**
+	 * @param seq       발급된 순번 (중복이면 처음 발급된 순번)
+	 * @param duplicate 이미 받은 클라이언트 메시지 ID인지
+	 */
+	public record Sequence(long seq, boolean duplicate) {
+	}
+}
@@ -1,9 +1,15 @@
 package com.ll.dopdang.domain.chatroom.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -11,31 +17,47 @@ import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.dopdang.domain.chatroom.dto.ChatAckPayload;
+import com.ll.dopdang.domain.chatroom.dto.ChatMessagePageResponse;
 import com.ll.dopdang.domain.chatroom.dto.ChatRoomDetailResponse;
+import com.ll.dopdang.domain.chatroom.dto.ChatRoomInfo;
+import com.ll.dopdang.domain.chatroom.dto.ChatRoomMemberState;
 import com.ll.dopdang.domain.chatroom.dto.ChatRoomResponse;
+import com.ll.dopdang.domain.chatroom.dto.ChatSyncRequest;
+import com.ll.dopdang.domain.chatroom.dto.ChatSyncResponse;
+import com.ll.dopdang.domain.chatroom.dto.ChatTypingRequest;
 import com.ll.dopdang.domain.chatroom.dto.NotificationPayload;
 import com.ll.dopdang.domain.chatroom.entity.ChatMessage;
 import com.ll.dopdang.domain.chatroom.entity.ChatRoom;
+import com.ll.dopdang.domain.chatroom.repository.ChatActiveRoomRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatInboxRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatReadSeqRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatUnreadRepository;
 import com.ll.dopdang.domain.chatroom.repository.ChatMessageRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatRoomMemberRepository;
 import com.ll.dopdang.domain.chatroom.repository.ChatRoomRepository;
+import com.ll.dopdang.domain.chatroom.util.ChatRedisKeys;
 import com.ll.dopdang.domain.expert.entity.Expert;
 import com.ll.dopdang.domain.expert.repository.ExpertRepository;
-import com.ll.dopdang.domain.member.entity.Member;
-import com.ll.dopdang.domain.member.repository.MemberRepository;
+import com.ll.dopdang.domain.member.dto.response.MemberSummary;
+import com.ll.dopdang.domain.member.service.MemberSummaryCache;
 import com.ll.dopdang.domain.project.dto.ProjectDetailResponse;
 import com.ll.dopdang.domain.project.service.ProjectService;
+import com.ll.dopdang.global.cache.SingleFlightLoader;
 import com.ll.dopdang.global.exception.ErrorCode;
 import com.ll.dopdang.global.exception.ServiceException;
+import com.ll.dopdang.global.redis.lock.RedisLock;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,22 +68,41 @@ import lombok.extern.slf4j.Slf4j;
 public class ChatService {
 
 	private final ChatRoomRepository chatRoomRepository;
+	private final ChatRoomMemberRepository chatRoomMemberRepository;
 	private final ChatMessageRepository chatMessageRepository;
 	private final SimpMessagingTemplate messagingTemplate;
-	private final MemberRepository memberRepository;
 	private final RedisTemplate<String, Object> redisTemplate;
+	private final RedisTemplate<String, ChatMessage> chatMessageRedisTemplate;
 	private final ProjectService projectService;
-	private final ObjectMapper objectMapper;
+	private final ChatMessageBatchWriter chatMessageBatchWriter;
+	private final ChatRedisWriter chatRedisWriter;
+	private final ChatSequenceGenerator chatSequenceGenerator;
+	private final ChatBroadcaster chatBroadcaster;
+	private final ChatInboxRepository chatInboxRepository;
+	private final ChatRoomCache chatRoomCache;
+	private final ChatUnreadRepository chatUnreadRepository;
+	private final ChatActiveRoomRepository chatActiveRoomRepository;
+	private final MemberSummaryCache memberSummaryCache;
+	private final ChatPresenceRegistry chatPresenceRegistry;
+	private final ChatTypingCoalescer chatTypingCoalescer;
+	private final ChatReadSeqRepository chatReadSeqRepository;
+	private final ChatReadReceiptCoalescer chatReadReceiptCoalescer;
 
 	private static final int RECENT_MESSAGE_LIMIT = 100;
-	private static final String UNREAD_COUNT_KEY_TEMPLATE = "chat:%s:unread:%s";
-	private static final String CHAT_MESSAGES_KEY_TEMPLATE = "chat:%s:messages";
-	private static final String CHAT_ROOMS_KEY_TEMPLATE = "chatrooms:%s";
-	private static final String CHAT_ROOM_TIMESTAMP_KEY_TEMPLATE = "chatrooms:%s:timestamp";
-	private static final String ACTIVE_ROOMS_KEY = "chat:active_rooms";
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final int DEFAULT_SYNC_LIMIT = 100;
+	private static final int MAX_CLIENT_MESSAGE_ID_LENGTH = 64;
 	private static final long CACHE_EXPIRATION = 30;
-	private static final long LOCK_EXPIRATION = 10;
+	private static final Duration LOCK_EXPIRATION = Duration.ofSeconds(10);
+	private static final Duration INBOX_EXPIRATION = Duration.ofDays(7);
 	private final ExpertRepository expertRepository;
+	private final RedisLock redisLock;
+	private final TransactionTemplate transactionTemplate;
+	private final SingleFlightLoader<String, List<ChatMessage>> historyLoader = new SingleFlightLoader<>();
+
+	// 빈 순번이 이 시간보다 오래되면 저장 중이 아니라 거절, 충돌로 빠진 순번으로 봄 (sweeper의 유예 시간과 같음)
+	@Value("${chat.active-rooms.dirty-grace-seconds:30}")
+	private long gapGraceSeconds;
 
 	/**
 	 * 프로젝트 ID, sender, receiver를 기반으로 채팅방 ID를 생성합니다.
@@ -77,13 +118,16 @@ public class ChatService {
 
 	/**
 	 * 메시지를 저장합니다.
+	 * DB 저장은 {@link ChatMessageBatchWriter}에 위임하므로 트랜잭션(커넥션)을 점유하지 않습니다.
+	 * 클라이언트 메시지 ID가 있으면 /user/queue/ack로 발급된 순번을 보내고,
+	 * 이미 받은 메시지의 재전송이면 저장, 브로드캐스트 없이 확인(ACK)만 다시 보냅니다.
 	 */
-	@Transactional
 	public void saveMessage(ChatMessage chatMessage) {
 		// sender, receiver 소문자 처리 및 타임스탬프 세팅
+		// (DB 컬럼 정밀도와 맞추기 위해 마이크로초 단위로 자릅니다)
 		chatMessage.setSender(chatMessage.getSender().trim().toLowerCase());
 		chatMessage.setReceiver(chatMessage.getReceiver().trim().toLowerCase());
-		chatMessage.setTimestamp(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
+		chatMessage.setTimestamp(LocalDateTime.now(ZoneId.of("Asia/Seoul")).truncatedTo(ChronoUnit.MICROS));
 
 		// 프로젝트 ID가 반드시 포함되어야 함
 		Long projectId = chatMessage.getProjectId();
@@ -91,36 +135,40 @@ public class ChatService {
 			throw new IllegalArgumentException("프로젝트 ID가 누락되었습니다.");
 		}
 
+		// 클라이언트 메시지 ID는 선택 (빈 값은 없는 것으로 처리)
+		String clientMessageId = chatMessage.getClientMessageId();
+		if (clientMessageId != null && clientMessageId.isBlank()) {
+			clientMessageId = null;
+			chatMessage.setClientMessageId(null);
+		}
+		if (clientMessageId != null && clientMessageId.length() > MAX_CLIENT_MESSAGE_ID_LENGTH) {
+			throw new IllegalArgumentException("클라이언트 메시지 ID는 " + MAX_CLIENT_MESSAGE_ID_LENGTH + "자 이하여야 합니다.");
+		}
+
 		// 수정된 getRoomId 메소드로 채팅방 ID 생성
 		String roomId = getRoomId(chatMessage.getSender(), chatMessage.getReceiver(), projectId);
 
-		// 채팅방 조회 또는 생성
-		ChatRoom chatRoom = chatRoomRepository.findByRoomId(roomId)
-			.orElseGet(() -> {
-				ChatRoom newRoom = new ChatRoom();
-				newRoom.setRoomId(roomId);
-				newRoom.setMember1(chatMessage.getSender());
-				newRoom.setMember2(chatMessage.getReceiver());
-				newRoom.setProjectId(projectId);
-				return chatRoomRepository.save(newRoom);
-			});
-
-		// 메시지 객체에 채팅방 정보 설정
-		chatMessage.setRoomId(chatRoom.getRoomId());
-		chatMessage.setChatRoom(chatRoom);
+		// 채팅방 조회(로컬 캐시) 또는 생성
+		ChatRoomInfo chatRoom = chatRoomCache.get(roomId)
+			.orElseGet(() -> chatRoomCache.put(
+				createRoom(roomId, chatMessage.getSender(), chatMessage.getReceiver(), projectId)));
+
+		// 메시지 객체에 채팅방 정보 설정 (저장 시 FK만 필요하므로 조회 없이 ID만 설정)
+		chatMessage.setRoomId(chatRoom.roomId());
+		chatMessage.setChatRoomId(chatRoom.id());
 
 		// 파트너 active 상태 확인:
 		// sender가 member1이면 partner는 member2, 아니면 partner는 member1
-		if (chatMessage.getSender().equals(chatRoom.getMember1())) {
-			if (!chatRoom.isMemberActive2()) {
+		if (chatMessage.getSender().equals(chatRoom.member1())) {
+			if (!chatRoom.memberActive2()) {
 				// 프론트엔드에 /queue/partner-left 경로로 알림 전송
 				messagingTemplate.convertAndSendToUser(
 					chatMessage.getSender(), "/queue/partner-left", "상대방이 채팅방을 나갔습니다."
 				);
 				throw new ServiceException(ErrorCode.CHATTING_CLOSE_OTHER);
 			}
-		} else if (chatMessage.getSender().equals(chatRoom.getMember2())) {
-			if (!chatRoom.isMemberActive1()) {
+		} else if (chatMessage.getSender().equals(chatRoom.member2())) {
+			if (!chatRoom.memberActive1()) {
 				messagingTemplate.convertAndSendToUser(
 					chatMessage.getSender(), "/queue/partner-left", "상대방이 채팅방을 나갔습니다."
 				);
@@ -129,229 +177,568 @@ public class ChatService {
 		} else {
 			throw new ServiceException(ErrorCode.CHATTING_SENDER_EQUAL);
 		}
-
-		// 메시지를 DB에 즉시 저장
-		chatMessageRepository.save(chatMessage);
-
-		// Redis 캐시에 메시지 추가 (오른쪽에 추가)
-		String redisKey = String.format(CHAT_MESSAGES_KEY_TEMPLATE, chatRoom.getRoomId());
-		redisTemplate.opsForList().rightPush(redisKey, chatMessage);
-		redisTemplate.expire(redisKey, CACHE_EXPIRATION, TimeUnit.MINUTES);
-
-		// 활성 채팅방 목록에 추가
-		redisTemplate.opsForSet().add(ACTIVE_ROOMS_KEY, chatRoom.getRoomId());
-
-		// 메시지 개수가 제한 초과 시 오래된 메시지 제거
-		long listSize = redisTemplate.opsForList().size(redisKey);
-		if (listSize > RECENT_MESSAGE_LIMIT) {
-			redisTemplate.opsForList().trim(redisKey, listSize - RECENT_MESSAGE_LIMIT, -1);
+		Long senderId = chatRoom.memberIdOf(chatMessage.getSender());
+		Long receiverId = chatRoom.memberIdOf(chatRoom.otherMember(chatMessage.getSender()));
+		if (senderId == null || receiverId == null) {
+			throw new ServiceException(ErrorCode.CHATTING_SENDER_EQUAL);
 		}
 
-		// 채팅방 캐시 업데이트 (Hash 방식)
-		updateChatRoomCache(chatRoom.getRoomId(), chatMessage);
+		// 채팅방 내 순번 발급 (키셋 페이지 조회 기준)
+		if (clientMessageId == null) {
+			chatMessage.setSeq(chatSequenceGenerator.next(chatRoom));
+		} else {
+			ChatSequenceGenerator.Sequence sequence = chatSequenceGenerator.next(chatRoom, clientMessageId);
+			if (sequence.duplicate()) {
+				log.debug("재전송된 메시지입니다. roomId: {}, clientMessageId: {}, seq: {}", chatRoom.roomId(),
+					clientMessageId, sequence.seq());
+				sendAck(chatMessage.getSender(), chatRoom.roomId(), clientMessageId, sequence.seq(), true);
+				return;
+			}
+			chatMessage.setSeq(sequence.seq());
+		}
 
-		// 채팅방 타임스탬프 업데이트
-		updateChatRoomTimestamp(chatRoom.getRoomId(), chatMessage.getTimestamp());
+		// 메시지를 저장 큐에 적재 (write-behind, 큐가 가득 차면 예외)
+		try {
+			chatMessageBatchWriter.submit(chatMessage);
+		} catch (ServiceException e) {
+			// 거절된 메시지의 재전송은 새 메시지로 받아야 함
+			if (clientMessageId != null) {
+				chatSequenceGenerator.release(chatRoom, clientMessageId, chatMessage.getSeq());
+			}
+			throw e;
+		}
 
-		// 실시간 브로드캐스트 (WebSocket)
-		messagingTemplate.convertAndSend("/topic/chat/" + chatRoom.getRoomId(), chatMessage);
+		// Redis 캐시 갱신 (메시지 리스트, 활성 채팅방, inbox, 타임스탬프, 안 읽은 수)을 한 번에 수행
+		// 받는 사람이 이 노드에서 채팅방을 보고 있으면 스크립트가 보고 있는 채팅방 키를 읽지 않음
+		ChatRedisWriter.UnreadCount updatedUnread = chatRedisWriter.appendMessage(chatMessage, senderId, receiverId,
+			RECENT_MESSAGE_LIMIT, TimeUnit.MINUTES.toSeconds(CACHE_EXPIRATION), INBOX_EXPIRATION.getSeconds(),
+			chatPresenceRegistry.isViewing(chatMessage.getReceiver(), chatRoom.roomId()));
 
-		// --- 미읽은 메시지 알림 처리 ---
-		String activeRoomKey = "active_chat_room:" + chatMessage.getReceiver();
-		Object activeRoomObj = redisTemplate.opsForValue().get(activeRoomKey);
-		if (activeRoomObj == null || !activeRoomObj.toString().equals(chatRoom.getRoomId())) {
-			String unreadKey = String.format(UNREAD_COUNT_KEY_TEMPLATE, roomId, chatMessage.getReceiver());
-			Object value = redisTemplate.opsForValue().get(unreadKey);
-			long currentUnread = (value != null) ? Long.parseLong(value.toString()) : 0;
-			long updatedUnread = currentUnread + 1;
-			redisTemplate.opsForValue().set(unreadKey, updatedUnread);
+		// 실시간 브로드캐스트 (WebSocket, 다중 노드면 Redis 중계)
+		chatBroadcaster.broadcast("/topic/chat/" + chatRoom.roomId(), chatMessage);
 
+		// --- 미읽은 메시지 알림 처리 (받는 사람이 채팅방을 보고 있지 않을 때만) ---
+		if (updatedUnread != null) {
 			NotificationPayload notification = new NotificationPayload(
-				chatRoom.getRoomId(),
+				chatRoom.roomId(),
 				chatMessage.getSender(),
 				chatMessage.getContent(),
-				(int) updatedUnread
+				(int) updatedUnread.room(),
+				(int) updatedUnread.total()
 			);
-			messagingTemplate.convertAndSend("/topic/notice/" + chatMessage.getReceiver(), notification);
+			chatBroadcaster.broadcast("/topic/notice/" + chatMessage.getReceiver(), notification);
+		}
+
+		if (clientMessageId != null) {
+			sendAck(chatMessage.getSender(), chatRoom.roomId(), clientMessageId, chatMessage.getSeq(), false);
 		}
 	}
 
+	/**
+	 * 보낸 사람에게 전송 확인(발급된 순번)을 보냅니다. (보낸 세션이 연결된 노드에서 바로 전송)
+	 */
+	private void sendAck(String sender, String roomId, String clientMessageId, long seq, boolean duplicate) {
+		messagingTemplate.convertAndSendToUser(sender, "/queue/ack",
+			new ChatAckPayload(roomId, clientMessageId, seq, duplicate));
+	}
+
 	/**
 	 * 채팅방 타임스탬프 업데이트
 	 */
-	private void updateChatRoomTimestamp(String roomId, LocalDateTime timestamp) {
-		String timeKey = String.format(CHAT_ROOM_TIMESTAMP_KEY_TEMPLATE, roomId);
+	private void updateChatRoomTimestamp(long chatRoomId, LocalDateTime timestamp) {
+		String timeKey = ChatRedisKeys.roomTimestamp(chatRoomId);
 		redisTemplate.opsForValue().set(timeKey, timestamp.toString());
 		redisTemplate.expire(timeKey, CACHE_EXPIRATION, TimeUnit.MINUTES);
 	}
 
 	/**
-	 * Redis 또는 DB에서 채팅방 메시지 기록 조회
+	 * Redis 또는 DB에서 채팅방의 최근 메시지(최대 {@value #RECENT_MESSAGE_LIMIT}개)를 조회합니다.
+	 * 이전 메시지는 {@link #getMessagePage}로 조회합니다.
+	 * 캐시가 순번 기준으로 온전하면 DB를 조회하지 않고, 캐시가 없거나 빈 순번이 있을 때만 DB에서 읽어 캐시를 다시 채웁니다.
+	 * 같은 채팅방에 대한 동시 DB 조회는 {@link SingleFlightLoader}로 한 번으로 합칩니다.
+	 * (트랜잭션 밖에서 호출해야 결과를 기다리는 동안 커넥션을 점유하지 않음)
 	 */
-	@Transactional(readOnly = true)
 	public List<ChatMessage> getChatRoomDetailByRoomId(String roomId) {
-		String redisKey = String.format(CHAT_MESSAGES_KEY_TEMPLATE, roomId);
-		List<Object> cachedMessages = redisTemplate.opsForList().range(redisKey, 0, -1);
-		List<ChatMessage> dbMessages = chatMessageRepository.findByRoomIdOrderByTimestampAsc(roomId);
+		Optional<ChatRoomInfo> chatRoom = chatRoomCache.get(roomId);
+		if (chatRoom.isEmpty()) {
+			return new ArrayList<>();
+		}
+		long chatRoomId = chatRoom.get().id();
+		String redisKey = ChatRedisKeys.messages(chatRoomId);
+		List<ChatMessage> redisMessages = readCachedMessages(chatRoomId);
 
 		// Redis에 메시지가 있는 경우
-		if (cachedMessages != null && !cachedMessages.isEmpty()) {
-			log.debug("Redis에서 채팅 메시지를 가져옵니다. roomId: {}", roomId);
-			try {
-				List<ChatMessage> redisMessages = objectMapper.convertValue(cachedMessages,
-					new TypeReference<List<ChatMessage>>() {});
-
-				// Redis 메시지의 일관성 검증
-				if (isRedisDataConsistent(redisMessages, dbMessages)) {
-					log.debug("Redis 데이터가 일관성이 있습니다. Redis 메시지를 반환합니다. roomId: {}", roomId);
-					return redisMessages;
-				} else {
-					log.debug("Redis 데이터가 일관성이 없습니다. DB 메시지를 사용합니다. roomId: {}", roomId);
-				}
-			} catch (Exception e) {
-				log.error("Redis 메시지 변환 중 오류 발생: {}, roomId: {}", e.getMessage(), roomId);
-				// 변환 오류 시 Redis 캐시 삭제
-				redisTemplate.delete(redisKey);
+		if (redisMessages != null && !redisMessages.isEmpty()) {
+			if (isCacheConsistent(chatRoomId, redisMessages, chatSequenceGenerator.current(chatRoomId))) {
+				log.debug("Redis에서 채팅 메시지를 가져옵니다. roomId: {}", roomId);
+				return redisMessages;
 			}
+			log.debug("Redis 데이터가 일관성이 없습니다. DB 메시지를 사용합니다. roomId: {}", roomId);
 		}
 
 		// DB에서 메시지를 가져와 Redis에 저장
 		log.debug("DB에서 채팅 메시지를 가져와 Redis에 저장합니다. roomId: {}", roomId);
-		if (!dbMessages.isEmpty()) {
-			// 분산 락 획득 시도
-			String lockKey = "lock:" + redisKey;
-			Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, "LOCK", LOCK_EXPIRATION, TimeUnit.SECONDS);
+		List<ChatMessage> dbMessages = historyLoader.load(roomId, () -> {
+			List<ChatMessage> recent = new ArrayList<>(chatMessageRepository
+				.findTopMessagesByChatRoomIdOrderByTimestampDesc(chatRoomId, RECENT_MESSAGE_LIMIT));
+			Collections.reverse(recent);
+			return List.copyOf(withRoomId(recent, roomId));
+		});
+		// 아직 저장 큐에 있어 DB에 없는 최근 메시지는 캐시에서 가져와 뒤에 붙임
+		List<ChatMessage> messages = appendNewer(dbMessages, redisMessages);
+		if (!messages.isEmpty()) {
+			// 분산 락 획득 시도 (다른 노드와 동시에 다시 채우지 않도록)
+			Optional<RedisLock.Lease> lease = redisLock.tryAcquire(ChatRedisKeys.lock(redisKey), LOCK_EXPIRATION);
 
-			if (Boolean.TRUE.equals(acquired)) {
+			if (lease.isPresent()) {
 				try {
-					// Redis 캐시 초기화
-					redisTemplate.delete(redisKey);
-
-					// DB 메시지를 Redis에 저장
-					for (ChatMessage message : dbMessages) {
-						redisTemplate.opsForList().rightPush(redisKey, message);
-					}
-					redisTemplate.expire(redisKey, CACHE_EXPIRATION, TimeUnit.MINUTES);
-					redisTemplate.opsForSet().add(ACTIVE_ROOMS_KEY, roomId);
-
-					if (!dbMessages.isEmpty()) {
-						ChatMessage latestMessage = dbMessages.get(dbMessages.size() - 1);
-						updateChatRoomTimestamp(roomId, latestMessage.getTimestamp());
-					}
+					// Redis 캐시를 한 번에 다시 채움 (전송 경로와 같은 개수만 보관)
+					chatMessageRedisTemplate.delete(redisKey);
+					chatMessageRedisTemplate.opsForList().rightPushAll(redisKey, messages);
+					chatMessageRedisTemplate.opsForList().trim(redisKey, -RECENT_MESSAGE_LIMIT, -1);
+					chatMessageRedisTemplate.expire(redisKey, CACHE_EXPIRATION, TimeUnit.MINUTES);
+
+					ChatMessage latestMessage = messages.get(messages.size() - 1);
+					updateChatRoomTimestamp(chatRoomId, latestMessage.getTimestamp());
+					chatActiveRoomRepository.touch(chatRoomId, System.currentTimeMillis());
 				} finally {
-					// 분산 락 해제
-					redisTemplate.delete(lockKey);
+					// 자신의 락일 때만 해제
+					redisLock.release(lease.get());
 				}
 			} else {
 				log.debug("다른 프로세스가 이미 Redis 캐시를 업데이트 중입니다. DB 메시지를 직접 반환합니다. roomId: {}", roomId);
 			}
 		}
-		return dbMessages;
+		return messages;
 	}
 
 	/**
-	 * Redis 데이터의 일관성 검증
-	 * Redis 메시지와 DB 메시지를 비교하여 일관성이 있는지 확인
+	 * 캐시된 메시지 목록을 읽습니다.
+	 * 저장 형식을 읽을 수 없으면 캐시를 삭제하고 null을 반환합니다. (다음 조회 때 DB에서 다시 채움)
 	 */
-	private boolean isRedisDataConsistent(List<ChatMessage> redisMessages, List<ChatMessage> dbMessages) {
-		if (dbMessages.isEmpty()) return true;
-		if (redisMessages.isEmpty()) return false;
-
-		// 메시지 수 비교
-		if (redisMessages.size() < dbMessages.size()) {
-			return false;
+	private List<ChatMessage> readCachedMessages(long chatRoomId) {
+		String redisKey = ChatRedisKeys.messages(chatRoomId);
+		try {
+			return chatMessageRedisTemplate.opsForList().range(redisKey, 0, -1);
+		} catch (SerializationException e) {
+			log.error("Redis 메시지 변환 중 오류 발생: {}, chatRoomId: {}", e.getMessage(), chatRoomId);
+			chatMessageRedisTemplate.delete(redisKey);
+			return null;
 		}
+	}
 
-		// 최신 메시지의 타임스탬프 비교
-		LocalDateTime latestRedisTimestamp = redisMessages.stream()
-			.map(ChatMessage::getTimestamp)
-			.max(LocalDateTime::compareTo)
-			.orElse(null);
-
-		LocalDateTime latestDbTimestamp = dbMessages.stream()
-			.map(ChatMessage::getTimestamp)
-			.max(LocalDateTime::compareTo)
-			.orElse(null);
-
-		if (latestRedisTimestamp == null || latestDbTimestamp == null) return false;
+	/**
+	 * DB에서 읽은 메시지에 외부 채팅방 ID를 채웁니다. (chat_message에는 숫자 채팅방 ID만 저장됨)
+	 */
+	private List<ChatMessage> withRoomId(List<ChatMessage> messages, String roomId) {
+		messages.forEach(message -> message.setRoomId(roomId));
+		return messages;
+	}
 
-		// Redis의 최신 메시지가 DB의 최신 메시지보다 이전이면 일관성이 없는 것으로 간주
-		if (latestRedisTimestamp.isBefore(latestDbTimestamp)) {
+	/**
+	 * 캐시가 순번 기준으로 온전한지 DB 조회 없이 확인합니다.
+	 * <ul>
+	 *     <li>순번이 있는 메시지는 1씩 이어져야 함 (순번 도입 전 메시지는 앞쪽에만 있을 수 있음)
+	 *     저장 유예 시간이 지난 빈 순번(전송 거절, 순번 충돌로 저장되지 않은 메시지)은 DB에도 없으므로 허용</li>
+	 *     <li>마지막 순번이 발급된 순번보다 크면 안 됨 (작은 것은 전송 중인 메시지일 수 있으므로 허용)</li>
+	 *     <li>보관 개수만큼, 또는 첫 메시지부터 모두 있어야 함</li>
+	 * </ul>
+	 */
+	private boolean isCacheConsistent(long chatRoomId, List<ChatMessage> cachedMessages, Long issuedSeq) {
+		Long lastSeq = cachedMessages.get(cachedMessages.size() - 1).getSeq();
+		if (lastSeq == null) {
+			// 순번 도입 전 메시지만 있는 캐시
+			return issuedSeq == null || issuedSeq == 0;
+		}
+		if (issuedSeq == null || lastSeq > issuedSeq) {
 			return false;
 		}
-
-		// DB에 있는 모든 메시지 ID가 Redis에도 있는지 확인
-		Set<Long> redisMessageIds = redisMessages.stream()
-			.map(ChatMessage::getId)
-			.filter(id -> id != null)
-			.collect(Collectors.toSet());
-
-		for (ChatMessage dbMessage : dbMessages) {
-			if (dbMessage.getId() != null && !redisMessageIds.contains(dbMessage.getId())) {
+		long expectedSeq = lastSeq;
+		for (int i = cachedMessages.size() - 1; i >= 0; i--) {
+			Long seq = cachedMessages.get(i).getSeq();
+			if (seq == null) {
+				return expectedSeq == 0;
+			}
+			if (seq > expectedSeq || (seq < expectedSeq && isGapPending(chatRoomId, cachedMessages.get(i + 1)))) {
 				return false;
 			}
+			expectedSeq = seq - 1;
 		}
-
-		return true;
+		return expectedSeq == 0 || cachedMessages.size() >= RECENT_MESSAGE_LIMIT;
 	}
 
+	/**
+	 * DB 메시지 뒤에 DB의 마지막 순번보다 큰 캐시 메시지를 순번 순으로 붙이고, 최근 메시지만 남깁니다.
+	 */
+	private List<ChatMessage> appendNewer(List<ChatMessage> dbMessages, List<ChatMessage> cachedMessages) {
+		long dbLastSeq = dbMessages.stream()
+			.map(ChatMessage::getSeq)
+			.filter(seq -> seq != null)
+			.max(Long::compare)
+			.orElse(0L);
+		List<ChatMessage> newer = (cachedMessages == null ? List.<ChatMessage>of() : cachedMessages).stream()
+			.filter(message -> message.getSeq() != null && message.getSeq() > dbLastSeq)
+			.sorted(Comparator.comparing(ChatMessage::getSeq))
+			.toList();
+		if (newer.isEmpty()) {
+			return dbMessages;
+		}
+		List<ChatMessage> merged = new ArrayList<>(dbMessages);
+		long previousSeq = dbLastSeq;
+		for (ChatMessage message : newer) {
+			if (message.getSeq() != previousSeq) {
+				merged.add(message);
+				previousSeq = message.getSeq();
+			}
+		}
+		return merged.subList(Math.max(0, merged.size() - RECENT_MESSAGE_LIMIT), merged.size());
+	}
 
 	/**
 	 * sender, receiver를 통해 채팅방 상세 정보를 DTO로 반환
+	 * 캐시 미스 시 DB 조회를 single-flight로 기다리므로 트랜잭션을 열지 않습니다.
 	 */
-	@Transactional(readOnly = true)
 	public List<ChatRoomDetailResponse> getChatRoomDetail(String sender, String receiver, Long projectId) {
 		String roomId = getRoomId(sender.trim().toLowerCase(), receiver.trim().toLowerCase(), projectId);
 		List<ChatMessage> messages = getChatRoomDetailByRoomId(roomId);
-		Map<String, Member> memberCache = new HashMap<>();
-		List<ChatRoomDetailResponse> responseList = new ArrayList<>();
+		return toDetailResponses(messages);
+	}
+
+	/**
+	 * 메시지 목록을 응답 DTO로 변환합니다. 보낸 사람 정보는 회원 요약 캐시에서 한 번에 조회합니다.
+	 */
+	private List<ChatRoomDetailResponse> toDetailResponses(List<ChatMessage> messages) {
+		Map<String, MemberSummary> senders = memberSummaryCache.getAllByEmail(
+			messages.stream().map(ChatMessage::getSender).toList());
+		List<ChatRoomDetailResponse> responseList = new ArrayList<>(messages.size());
 		for (ChatMessage msg : messages) {
-			Member senderMember = memberCache.computeIfAbsent(msg.getSender(), email ->
-				memberRepository.findByEmail(email).orElse(null)
-			);
-			ChatRoomDetailResponse detailDto = ChatRoomDetailResponse.from(msg, senderMember, true);
-			responseList.add(detailDto);
+			responseList.add(ChatRoomDetailResponse.from(msg, senders.get(msg.getSender()), true));
 		}
 		return responseList;
 	}
 
 	/**
-	 * 사용자의 채팅방 목록 조회
+	 * 채팅방 메시지를 순번(seq) 기준 키셋 페이지로 조회합니다.
+	 * 최근 메시지는 Redis 캐시에서, 캐시 범위를 벗어나거나 캐시에 빈 순번이 있으면
+	 * (chat_room_id, seq) 인덱스를 사용하는 DB 조회로 처리합니다.
+	 *
+	 * @param roomId   채팅방 ID
+	 * @param memberId 조회하는 사용자 ID
+	 * @param before   이 순번보다 이전 메시지를 조회 (null이면 최신 메시지부터)
+	 * @param limit    조회할 메시지 수
+	 * @return 순번 오름차순 메시지 페이지
+	 * @throws ServiceException 사용자가 채팅방 참여자가 아닌 경우
 	 */
 	@Transactional(readOnly = true)
-	public List<ChatRoomResponse> getChatRoomsForUser(String member, Long currentUserId) {
-		List<ChatRoom> dbRooms = chatRoomRepository.findByMember(member)
-			.stream()
-			.filter(room -> {
-				if (room.getMember1().equalsIgnoreCase(member)) {
-					return room.isMemberActive1();
-				} else if (room.getMember2().equalsIgnoreCase(member)) {
-					return room.isMemberActive2();
+	public ChatMessagePageResponse getMessagePage(String roomId, Long memberId, Long before, int limit) {
+		int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+		Optional<ChatRoomInfo> chatRoom = chatRoomCache.get(roomId);
+		if (chatRoom.isEmpty()) {
+			return ChatMessagePageResponse.builder().messages(new ArrayList<>()).hasNext(false).build();
+		}
+		long chatRoomId = chatRoom.get().id();
+		requireMember(chatRoomId, memberId);
+		List<ChatMessage> page = findPageInCache(chatRoomId, before, pageSize);
+		if (page == null) {
+			log.debug("Redis 캐시로 페이지를 구성할 수 없어 DB에서 조회합니다. roomId: {}, before: {}", roomId, before);
+			PageRequest pageRequest = PageRequest.of(0, pageSize);
+			List<ChatMessage> dbPage = (before == null)
+				? chatMessageRepository.findByChatRoomIdAndSeqNotNullOrderBySeqDesc(chatRoomId, pageRequest)
+				: chatMessageRepository.findByChatRoomIdAndSeqLessThanOrderBySeqDesc(chatRoomId, before, pageRequest);
+			page = withRoomId(new ArrayList<>(dbPage), roomId);
+			Collections.reverse(page);
+		}
+
+		List<ChatRoomDetailResponse> responseList = toDetailResponses(page);
+
+		Long oldestSeq = page.isEmpty() ? null : page.get(0).getSeq();
+		boolean hasNext = oldestSeq != null && oldestSeq > 1;
+		return ChatMessagePageResponse.builder()
+			.messages(responseList)
+			.nextBefore(hasNext ? oldestSeq : null)
+			.hasNext(hasNext)
+			.build();
+	}
+
+	/**
+	 * chat_room_member 기준으로 사용자가 채팅방에 참여 중인지 확인합니다.
+	 *
+	 * @throws ServiceException 참여 중이 아닌 경우
+	 */
+	private void requireMember(long chatRoomId, Long memberId) {
+		if (memberId == null || !chatRoomMemberRepository.existsByRoomIdAndMemberIdAndActiveTrue(chatRoomId, memberId)) {
+			throw new ServiceException(ErrorCode.CHATTING_NOT_MEMBER);
+		}
+	}
+
+	/**
+	 * Redis 최근 메시지 캐시에서 페이지를 구성합니다.
+	 *
+	 * @return 순번 오름차순 메시지 목록, 캐시로 구성할 수 없으면 null
+	 */
+	private List<ChatMessage> findPageInCache(long chatRoomId, Long before, int pageSize) {
+		Long newestSeq = (before == null) ? chatSequenceGenerator.current(chatRoomId) : Long.valueOf(before - 1);
+		if (newestSeq == null) {
+			return null;
+		}
+		return sliceCache(chatRoomId, Math.max(1, newestSeq - pageSize + 1), newestSeq);
+	}
+
+	/**
+	 * Redis 최근 메시지 캐시에서 [fromSeq, toSeq] 범위의 메시지를 꺼냅니다.
+	 * 범위의 순번이 빈틈 없이 캐시에 있을 때만 결과를 반환합니다.
+	 *
+	 * @return 순번 오름차순 메시지 목록, 캐시로 구성할 수 없으면 null
+	 */
+	private List<ChatMessage> sliceCache(long chatRoomId, long fromSeq, long toSeq) {
+		if (toSeq < fromSeq) {
+			return new ArrayList<>();
+		}
+		List<ChatMessage> redisMessages = readCachedMessages(chatRoomId);
+		if (redisMessages == null || redisMessages.isEmpty()) {
+			return null;
+		}
+
+		// 캐시는 순번 오름차순이므로 뒤에서부터 toSeq, toSeq - 1, ... 을 찾음
+		List<ChatMessage> slice = new ArrayList<>((int)(toSeq - fromSeq + 1));
+		long expectedSeq = toSeq;
+		for (int i = redisMessages.size() - 1; i >= 0 && expectedSeq >= fromSeq; i--) {
+			Long seq = redisMessages.get(i).getSeq();
+			if (seq == null) {
+				return null;
+			}
+			if (seq < expectedSeq) {
+				// 저장이 끝난 빈 순번만 건너뜀 (범위 끝의 빈 순번은 뒤 메시지가 없어 판단할 수 없음)
+				ChatMessage next = slice.isEmpty() ? null : slice.get(slice.size() - 1);
+				if (next == null || isGapPending(chatRoomId, next)) {
+					return null;
 				}
-				return false;
-			})
-			.collect(Collectors.toList());
-		Member currentMember = memberRepository.findByEmail(member)
+				expectedSeq = seq;
+			}
+			if (seq == expectedSeq) {
+				slice.add(redisMessages.get(i));
+				expectedSeq--;
+			}
+		}
+		if (expectedSeq >= fromSeq) {
+			return null;
+		}
+		Collections.reverse(slice);
+		return slice;
+	}
+
+	/**
+	 * 채팅방에서 클라이언트가 받은 순번(after) 이후의 변경분을 조회합니다.
+	 * 재접속한 클라이언트가 전체 기록 대신 누락된 메시지와 읽음 위치만 받아갈 때 사용합니다.
+	 *
+	 * @param roomId   채팅방 ID
+	 * @param memberId 동기화하는 사용자 ID
+	 * @param after    클라이언트가 마지막으로 받은 순번 (처음이면 0)
+	 * @param limit    최대 메시지 수
+	 * @return 동기화 응답
+	 * @throws ServiceException 사용자가 채팅방 참여자가 아닌 경우
+	 */
+	@Transactional(readOnly = true)
+	public ChatSyncResponse getRoomDelta(String roomId, Long memberId, long after, int limit) {
+		Optional<ChatRoomInfo> chatRoom = chatRoomCache.get(roomId);
+		if (chatRoom.isEmpty()) {
+			return ChatSyncResponse.builder()
+				.roomId(roomId)
+				.messages(new ArrayList<>())
+				.readReceipts(new HashMap<>())
+				.lastSeq(0)
+				.hasMore(false)
+				.build();
+		}
+		requireMember(chatRoom.get().id(), memberId);
+		return buildRoomDelta(chatRoom.get(), after, lastSeqOf(chatRoom.get()),
+			Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+	}
+
+	/**
+	 * 채팅방의 마지막 순번 (Redis 카운터가 없으면 DB 기준)
+	 */
+	private long lastSeqOf(ChatRoomInfo chatRoom) {
+		Long lastSeq = chatSequenceGenerator.current(chatRoom.id());
+		return lastSeq != null ? lastSeq : chatMessageRepository.findMaxSeqByChatRoomId(chatRoom.id());
+	}
+
+	/**
+	 * 여러 채팅방의 변경분을 한 번에 조회합니다.
+	 * 새 메시지도, 읽음 위치 변경도 없는 채팅방과 사용자가 참여 중이 아닌 채팅방은 응답에서 제외합니다.
+	 *
+	 * @param request  채팅방 ID -> 마지막으로 받은 순번
+	 * @param memberId 동기화하는 사용자 ID
+	 * @return 변경이 있는 채팅방의 동기화 응답 목록
+	 * @throws ServiceException 채팅방이 {@link ChatSyncRequest#MAX_ROOMS}개보다 많은 경우
+	 */
+	@Transactional(readOnly = true)
+	public List<ChatSyncResponse> getDelta(ChatSyncRequest request, Long memberId) {
+		if (request.getRooms() == null || request.getRooms().isEmpty()) {
+			return new ArrayList<>();
+		}
+		if (request.getRooms().size() > ChatSyncRequest.MAX_ROOMS) {
+			throw new ServiceException(ErrorCode.CHATTING_SYNC_TOO_MANY_ROOMS);
+		}
+		int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_SYNC_LIMIT;
+		int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+		// 없는 채팅방은 제외
+		Map<ChatRoomInfo, Long> rooms = new LinkedHashMap<>();
+		request.getRooms().forEach((roomId, after) -> chatRoomCache.get(roomId)
+			.ifPresent(chatRoom -> rooms.put(chatRoom, after != null ? after : 0)));
+		// 참여 중이 아닌 채팅방은 제외 (한 번의 조회로 확인)
+		if (rooms.isEmpty()) {
+			return new ArrayList<>();
+		}
+		Set<Long> memberRoomIds = new HashSet<>(chatRoomMemberRepository.findActiveRoomIds(memberId,
+			rooms.keySet().stream().map(ChatRoomInfo::id).toList()));
+		rooms.keySet().removeIf(chatRoom -> !memberRoomIds.contains(chatRoom.id()));
+		Map<Long, Long> lastSeqs = chatSequenceGenerator.currentAll(
+			rooms.keySet().stream().map(ChatRoomInfo::id).toList());
+		List<ChatSyncResponse> responses = new ArrayList<>();
+		for (Map.Entry<ChatRoomInfo, Long> room : rooms.entrySet()) {
+			ChatSyncResponse delta = buildRoomDelta(room.getKey(), room.getValue(), lastSeqs.get(room.getKey().id()),
+				pageSize);
+			if (!delta.getMessages().isEmpty() || !delta.getReadReceipts().isEmpty()) {
+				responses.add(delta);
+			}
+		}
+		return responses;
+	}
+
+	private ChatSyncResponse buildRoomDelta(ChatRoomInfo chatRoom, long after, long lastSeq, int pageSize) {
+		String roomId = chatRoom.roomId();
+		List<ChatMessage> messages;
+		boolean exhausted = false;
+		if (lastSeq <= after) {
+			messages = new ArrayList<>();
+		} else {
+			long toSeq = Math.min(lastSeq, after + pageSize);
+			messages = sliceCache(chatRoom.id(), after + 1, toSeq);
+			if (messages == null) {
+				log.debug("Redis 캐시로 동기화할 수 없어 DB에서 조회합니다. roomId: {}, after: {}", roomId, after);
+				List<ChatMessage> rows = withRoomId(chatMessageRepository
+					.findByChatRoomIdAndSeqGreaterThanOrderBySeqAsc(chatRoom.id(), after, PageRequest.of(0, pageSize)),
+					roomId);
+				messages = contiguousFrom(chatRoom.id(), after + 1, rows);
+				// DB의 마지막 행까지 전달했고 저장 중인 메시지도 없으면 남은 순번은 채워지지 않은 순번
+				exhausted = messages.size() == rows.size() && rows.size() < pageSize
+					&& !chatMessageBatchWriter.hasInFlight(chatRoom.id());
+			}
+		}
+
+		Map<String, Long> readReceipts = new HashMap<>();
+		chatReadSeqRepository.findAll(chatRoom.id()).forEach((reader, readSeq) -> {
+			if (readSeq > after) {
+				readReceipts.put(reader, readSeq);
+			}
+		});
+
+		List<ChatRoomDetailResponse> responseList = toDetailResponses(messages);
+		long deliveredSeq = messages.isEmpty() ? after : messages.get(messages.size() - 1).getSeq();
+		return ChatSyncResponse.builder()
+			.roomId(roomId)
+			.messages(responseList)
+			.readReceipts(readReceipts)
+			.lastSeq(lastSeq)
+			.hasMore(deliveredSeq < lastSeq && !exhausted)
+			.build();
+	}
+
+	/**
+	 * 아직 저장 중일 수 있는 빈 순번 앞까지만 남깁니다.
+	 * 저장 큐에 있는 메시지 때문에 빈 순번이 있으면, 클라이언트가 그 순번을 건너뛰지 않도록 거기서 자릅니다.
+	 * 저장 유예 시간이 지난 빈 순번(전송 거절, 순번 충돌로 저장되지 않은 메시지)은 건너뛰고 이어서 반환합니다.
+	 */
+	private List<ChatMessage> contiguousFrom(long chatRoomId, long firstSeq, List<ChatMessage> messages) {
+		long expectedSeq = firstSeq;
+		int count = 0;
+		for (ChatMessage message : messages) {
+			if (message.getSeq() != expectedSeq && isGapPending(chatRoomId, message)) {
+				break;
+			}
+			expectedSeq = message.getSeq() + 1;
+			count++;
+		}
+		return messages.subList(0, count);
+	}
+
+	/**
+	 * 빈 순번의 메시지가 아직 저장 중일 수 있는지 확인합니다.
+	 * 이 노드의 저장 큐에 채팅방 메시지가 있거나, 빈 순번 바로 뒤 메시지를 보낸 지 유예 시간이 지나지 않았으면 저장 중으로 봅니다.
+	 * (순번은 저장 큐에 넣기 직전에 발급되므로, 뒤 메시지보다 오래 저장 대기하는 메시지는 유예 시간 안에만 있음)
+	 *
+	 * @param next 빈 순번 바로 뒤 메시지
+	 */
+	private boolean isGapPending(long chatRoomId, ChatMessage next) {
+		if (chatMessageBatchWriter.hasInFlight(chatRoomId) || next.getTimestamp() == null) {
+			return true;
+		}
+		long settledBefore = System.currentTimeMillis() - Duration.ofSeconds(gapGraceSeconds).toMillis();
+		return ChatInboxRepository.score(next.getTimestamp()) > settledBefore;
+	}
+
+	/**
+	 * 사용자의 채팅방 목록 조회
+	 * Redis inbox(읽기 모델)에서 최근 메시지 순으로 한 페이지만 조회하며, inbox가 없거나
+	 * 상대방 요약이 빠진 항목만 DB에서 만들어 채웁니다.
+	 *
+	 * @param page 페이지 번호 (0부터)
+	 * @param size 페이지 크기 (최대 100)
+	 */
+	public List<ChatRoomResponse> getChatRoomsForUser(String member, int page, int size) {
+		int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		long offset = (long)Math.max(page, 0) * pageSize;
+		MemberSummary currentMember = memberSummaryCache.getByEmail(member)
 			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
-		List<ChatRoomResponse> dtoList = dbRooms.stream().map(room -> {
-			String otherEmail = room.getMember1().equalsIgnoreCase(member) ? room.getMember2() : room.getMember1();
-			Member otherUser = memberRepository.findByEmail(otherEmail).orElse(null);
-			// DB에서 최신 메시지 조회 (최대 1건, 내림차순 정렬)
-			List<ChatMessage> messages = chatMessageRepository.findTopMessagesByRoomIdOrderByTimestampDesc(room.getRoomId(), 1);
-			ChatMessage lastMessage = messages.isEmpty() ? null : messages.get(0);
-			// 만약 DB에서 최신 메시지가 없으면, Redis에서 조회
-			if (lastMessage == null) {
-				String redisKey = String.format(CHAT_MESSAGES_KEY_TEMPLATE, room.getRoomId());
-				List<Object> cachedMessages = redisTemplate.opsForList().range(redisKey, 0, -1);
-				if (cachedMessages != null && !cachedMessages.isEmpty()) {
-					List<ChatMessage> redisMessages = objectMapper.convertValue(cachedMessages,
-						new TypeReference<List<ChatMessage>>() {});
-					lastMessage = redisMessages.isEmpty() ? null : redisMessages.get(redisMessages.size() - 1);
+		long memberId = currentMember.id();
+		List<Long> roomIds = chatInboxRepository.findRoomIds(memberId, offset, pageSize);
+		if (roomIds == null) {
+			log.debug("inbox가 없어 DB에서 채팅방 목록을 만듭니다. member: {}", member);
+			List<ChatRoomResponse> rooms = loadChatRoomsFromDb(member, currentMember);
+			chatInboxRepository.saveAll(memberId, rooms, INBOX_EXPIRATION);
+			int from = (int)Math.min(offset, rooms.size());
+			return new ArrayList<>(rooms.subList(from, Math.min(from + pageSize, rooms.size())));
+		}
+
+		List<ChatRoomResponse> entries = chatInboxRepository.findEntries(memberId, roomIds);
+		List<ChatRoomResponse> dtoList = new ArrayList<>(roomIds.size());
+		for (int i = 0; i < roomIds.size(); i++) {
+			ChatRoomResponse room = entries.get(i);
+			if (room == null) {
+				room = loadChatRoomFromDb(roomIds.get(i), member, currentMember);
+				if (room == null) {
+					chatInboxRepository.remove(memberId, roomIds.get(i));
+					continue;
 				}
+				chatInboxRepository.save(memberId, room, INBOX_EXPIRATION);
 			}
-			int unreadCount = (int) getUnreadCount(room.getRoomId(), member);
-			return ChatRoomResponse.from(room, currentMember, otherUser, lastMessage, unreadCount);
-		}).collect(Collectors.toList());
+			dtoList.add(room);
+		}
+
+		// 안 읽은 수는 사용자별 해시 한 번(HGETALL)으로 반영
+		Map<String, Long> unreadCounts = chatUnreadRepository.findAll(memberId);
+		dtoList.forEach(room -> room.setUnreadCount(unreadCounts.getOrDefault(room.getRoomId(), 0L).intValue()));
+
+		// 상대방 이름, 프로필은 회원 요약 캐시 기준으로 최신화 (inbox 값은 캐시에 없을 때의 대체값)
+		Map<String, MemberSummary> partners = memberSummaryCache.getAllByEmail(
+			dtoList.stream().map(ChatRoomResponse::getReceiver).toList());
+		dtoList.forEach(room -> room.applyOtherUser(partners.get(room.getReceiver()), memberId));
+		return dtoList;
+	}
+
+	/**
+	 * DB 기준으로 사용자의 채팅방 목록을 만듭니다. (inbox가 없을 때)
+	 */
+	private List<ChatRoomResponse> loadChatRoomsFromDb(String member, MemberSummary currentMember) {
+		List<ChatRoomInfo> rooms = toChatRoomInfos(chatRoomRepository.findActiveByMemberId(currentMember.id()));
+		Map<String, MemberSummary> partners = memberSummaryCache.getAllByEmail(
+			rooms.stream().map(room -> room.otherMember(member)).toList());
+		Map<String, Long> unreadCounts = chatUnreadRepository.findAll(currentMember.id());
+		List<ChatRoomResponse> dtoList = rooms.stream()
+			.map(room -> toChatRoomResponse(room, currentMember, partners.get(room.otherMember(member)),
+				unreadCounts.getOrDefault(room.roomId(), 0L)))
+			.collect(Collectors.toList());
 		dtoList.sort((a, b) -> {
 			LocalDateTime timeA = a.getLastMessageTime();
 			LocalDateTime timeB = b.getLastMessageTime();
@@ -364,64 +751,86 @@ public class ChatService {
 	}
 
 	/**
-	 * 채팅방 나가기 로직: 주어진 채팅방에서 현재 사용자가 나간 것으로 표시하기 위해,
-	 * 사용자가 멤버1이면 member1Active를, 멤버2이면 member2Active를 false로 설정합니다.
+	 * DB 기준으로 채팅방 항목 하나를 만듭니다. (inbox 항목이 불완전할 때)
+	 *
+	 * @return 채팅방 항목, 채팅방이 없거나 사용자가 나간 경우 null
 	 */
-	@Transactional
-	public void leaveChatRoomUser(String roomId, String userEmail) {
-		// 채팅방 조회
-		ChatRoom chatRoom = chatRoomRepository.findByRoomId(roomId)
-			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "채팅방을 찾을 수 없습니다."));
-
-		// 현재 사용자가 어느 멤버인지 확인 후 active 상태를 false로 설정
-		if (chatRoom.getMember1().equalsIgnoreCase(userEmail)) {
-			chatRoom.setMemberActive1(false);
-		} else if (chatRoom.getMember2().equalsIgnoreCase(userEmail)) {
-			chatRoom.setMemberActive2(false);
-		} else {
-			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "해당 채팅방의 멤버가 아닙니다.");
+	private ChatRoomResponse loadChatRoomFromDb(long chatRoomId, String member, MemberSummary currentMember) {
+		ChatRoomInfo room = chatRoomRepository.findById(chatRoomId)
+			.map(chatRoom -> toChatRoomInfos(List.of(chatRoom)).get(0))
+			.orElse(null);
+		if (room == null || !room.isActiveMember(member)) {
+			return null;
 		}
-		chatRoomRepository.save(chatRoom);
-
-		// Redis 캐시 상에도 채팅방 요약 정보 갱신 또는 제거 필요할 수 있음(옵션)
-		String userRedisKey = String.format(CHAT_ROOMS_KEY_TEMPLATE, userEmail);
-		redisTemplate.opsForHash().delete(userRedisKey, roomId);
-
-		log.info("사용자 {}가 채팅방 {}에서 나갔습니다.", userEmail, roomId);
+		MemberSummary otherUser = memberSummaryCache.getByEmail(room.otherMember(member)).orElse(null);
+		return toChatRoomResponse(room, currentMember, otherUser,
+			chatUnreadRepository.find(currentMember.id(), room.roomId()));
 	}
 
 	/**
-	 * 채팅방 캐시 업데이트 (각 사용자 Redis 해시 갱신)
+	 * 채팅방에 chat_room_member의 참여자 상태를 한 번의 조회로 붙입니다.
 	 */
-	private void updateChatRoomCache(String roomId, ChatMessage chatMessage) {
-		if (chatMessage == null) return;
-		ChatRoom room = chatRoomRepository.findByRoomId(roomId)
-			.orElseThrow(() -> new IllegalStateException("채팅방을 찾을 수 없습니다."));
-		Long projectId = room.getProjectId();
-		String keySender = String.format(CHAT_ROOMS_KEY_TEMPLATE, chatMessage.getSender());
-		String keyReceiver = String.format(CHAT_ROOMS_KEY_TEMPLATE, chatMessage.getReceiver());
-		String roomSummary = createRoomSummaryJson(roomId, chatMessage, projectId);
-		redisTemplate.opsForHash().put(keySender, roomId, roomSummary);
-		redisTemplate.expire(keySender, CACHE_EXPIRATION, TimeUnit.MINUTES);
-		redisTemplate.opsForHash().put(keyReceiver, roomId, roomSummary);
-		redisTemplate.expire(keyReceiver, CACHE_EXPIRATION, TimeUnit.MINUTES);
+	private List<ChatRoomInfo> toChatRoomInfos(List<ChatRoom> rooms) {
+		if (rooms.isEmpty()) {
+			return new ArrayList<>();
+		}
+		Map<Long, List<ChatRoomMemberState>> members = chatRoomMemberRepository
+			.findStatesByRoomIds(rooms.stream().map(ChatRoom::getId).toList())
+			.stream()
+			.collect(Collectors.groupingBy(ChatRoomMemberState::roomId));
+		return rooms.stream()
+			.map(room -> ChatRoomInfo.from(room, members.getOrDefault(room.getId(), List.of())))
+			.toList();
+	}
+
+	private ChatRoomResponse toChatRoomResponse(ChatRoomInfo room, MemberSummary currentMember,
+		MemberSummary otherUser, long unreadCount) {
+		// 최신 메시지는 Redis 캐시를 우선 사용 (DB 저장은 write-behind로 늦을 수 있음)
+		ChatMessage lastMessage = null;
+		ChatMessage cachedLast = null;
+		try {
+			cachedLast = chatMessageRedisTemplate.opsForList().index(ChatRedisKeys.messages(room.id()), -1);
+		} catch (SerializationException e) {
+			log.error("Redis 메시지 변환 중 오류 발생: {}, roomId: {}", e.getMessage(), room.roomId());
+		}
+		if (cachedLast != null) {
+			lastMessage = cachedLast;
+		} else {
+			List<ChatMessage> messages = withRoomId(
+				chatMessageRepository.findTopMessagesByChatRoomIdOrderByTimestampDesc(room.id(), 1), room.roomId());
+			lastMessage = messages.isEmpty() ? null : messages.get(0);
+		}
+		return ChatRoomResponse.from(room, currentMember, otherUser, lastMessage, (int) unreadCount);
 	}
 
 	/**
-	 * 채팅방 요약 JSON 문자열 생성 (기본 버전)
+	 * 채팅방 나가기 로직: 주어진 채팅방에서 현재 사용자가 나간 것으로 표시하기 위해,
+	 * 사용자의 chat_room_member 행을 비활성으로 바꿉니다. (활성 상태는 이 테이블만 기준으로 함)
 	 */
-	private String createRoomSummaryJson(String roomId, ChatMessage chatMessage, Long projectId) {
-		if (chatMessage != null) {
-			String content = chatMessage.getContent()
-				.replace("\"", "\\\"")
-				.replace("\n", "\\n");
-			return "{\"roomId\":\"" + roomId + "\"," +
-				"\"lastMessage\":\"" + content + "\"," +
-				"\"timestamp\":\"" + chatMessage.getTimestamp() + "\"}";
-		} else {
-			return "{\"roomId\":\"" + roomId + "\"," +
-				"\"projectId\":" + projectId + "}";
+	@Transactional
+	public void leaveChatRoomUser(String roomId, String userEmail) {
+		// 채팅방 조회
+		ChatRoom chatRoom = chatRoomRepository.findByRoomId(roomId)
+			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "채팅방을 찾을 수 없습니다."));
+		if (!chatRoom.getMember1().equalsIgnoreCase(userEmail) && !chatRoom.getMember2().equalsIgnoreCase(userEmail)) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "해당 채팅방의 멤버가 아닙니다.");
 		}
+		chatRoomMemberRepository.deactivate(chatRoom.getId(), userEmail);
+		chatRoomCache.invalidate(roomId);
+
+		// inbox에서 채팅방 제거, 상대방 inbox에는 나간 상태 반영
+		ChatRoomInfo room = toChatRoomInfos(List.of(chatRoom)).get(0);
+		Long leaverId = room.memberIdOf(userEmail);
+		Long partnerId = room.memberIdOf(room.otherMember(userEmail));
+		if (leaverId != null) {
+			chatInboxRepository.remove(leaverId, chatRoom.getId());
+		}
+		if (partnerId != null) {
+			chatInboxRepository.updateActiveFlags(partnerId, chatRoom.getId(), room.memberActive1(),
+				room.memberActive2());
+		}
+
+		log.info("사용자 {}가 채팅방 {}에서 나갔습니다.", userEmail, roomId);
 	}
 
 	/**
@@ -443,12 +852,8 @@ public class ChatService {
 		if (existingChatRoom.isPresent()) {
 			chatRoom = existingChatRoom.get();
 		} else {
-			chatRoom = new ChatRoom();
-			chatRoom.setRoomId(roomId);
-			chatRoom.setMember1(email);
-			chatRoom.setMember2(receiverEmail);
-			chatRoom.setProjectId(projectId);
-			chatRoom = chatRoomRepository.save(chatRoom);
+			chatRoom = createRoom(roomId, email, receiverEmail, projectId);
+			addToInboxes(chatRoomCache.put(chatRoom));
 		}
 	}
 
@@ -469,129 +874,96 @@ public class ChatService {
 		if (existingChatRoom.isPresent()) {
 			chatRoom = existingChatRoom.get();
 		} else {
-			chatRoom = new ChatRoom();
+			chatRoom = createRoom(roomId, email, receiverEmail, projectId);
+			addToInboxes(chatRoomCache.put(chatRoom));
+		}
+	}
+
+	/**
+	 * 새 채팅방을 두 참여자의 inbox에 추가합니다.
+	 */
+	private void addToInboxes(ChatRoomInfo room) {
+		if (room.member1Id() != null) {
+			chatInboxRepository.addRoom(room.member1Id(), room.id());
+		}
+		if (room.member2Id() != null) {
+			chatInboxRepository.addRoom(room.member2Id(), room.id());
+		}
+	}
+
+	/**
+	 * 채팅방과 참여자 행을 한 트랜잭션으로 저장합니다.
+	 * (참여자 저장이 실패하면 참여자 없는 채팅방이 남지 않도록 함께 롤백)
+	 */
+	private ChatRoom createRoom(String roomId, String member1, String member2, Long projectId) {
+		return transactionTemplate.execute(status -> {
+			ChatRoom chatRoom = new ChatRoom();
 			chatRoom.setRoomId(roomId);
-			chatRoom.setMember1(email);
-			chatRoom.setMember2(receiverEmail);
+			chatRoom.setMember1(member1);
+			chatRoom.setMember2(member2);
 			chatRoom.setProjectId(projectId);
-			chatRoom = chatRoomRepository.save(chatRoom);
-		}
+			ChatRoom saved = chatRoomRepository.save(chatRoom);
+			chatRoomMemberRepository.addMembers(saved.getId(), List.of(member1, member2));
+			return saved;
+		});
 	}
 
 	/**
 	 * 채팅방 읽음 처리
+	 * 읽은 위치(메시지 순번)와 안 읽은 수는 Redis에 바로 반영하고,
+	 * DB 반영과 읽음/배지 알림은 {@link ChatReadReceiptCoalescer}가 묶음 간격마다 한 번만 처리합니다.
+	 *
+	 * @param seq 클라이언트가 마지막으로 본 메시지 순번 (생략 시 채팅방의 마지막 순번)
 	 */
-	@Transactional
-	public void markChatRoomAsRead(String roomId, String username) {
-		ChatRoom chatRoom = chatRoomRepository.findByRoomId(roomId)
+	public void markChatRoomAsRead(String roomId, String username, Long seq) {
+		ChatRoomInfo chatRoom = chatRoomCache.get(roomId)
 			.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "채팅방을 찾을 수 없습니다."));
-		LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-		if (username.equals(chatRoom.getMember1())) {
-			chatRoom.setLastReadAtUser1(now);
-		} else if (username.equals(chatRoom.getMember2())) {
-			chatRoom.setLastReadAtUser2(now);
+		Long memberId = chatRoom.memberIdOf(username);
+		if (memberId == null) {
+			throw new ServiceException(ErrorCode.CHATTING_SENDER_EQUAL);
 		}
-		String unreadKey = String.format(UNREAD_COUNT_KEY_TEMPLATE, roomId, username);
-		redisTemplate.opsForValue().set(unreadKey, 0);
-		messagingTemplate.convertAndSend("/topic/read/" + roomId,
-			"{\"roomId\":\"" + roomId + "\",\"reader\":\"" + username + "\",\"timestamp\":\"" + now + "\"}");
+		LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+		long totalUnread = chatUnreadRepository.reset(memberId, roomId);
+
+		// 채팅방의 마지막 순번을 넘지 않는 범위에서 읽은 위치를 앞으로만 옮김
+		long lastSeq = lastSeqOf(chatRoom);
+		long readSeq = seq != null ? Math.min(Math.max(seq, 0), lastSeq) : lastSeq;
+		ChatReadSeqRepository.ReadPosition position = chatReadSeqRepository.advance(chatRoom.id(), username, readSeq);
+
+		chatReadReceiptCoalescer.read(chatRoom, username, position.seq(), now, totalUnread);
 	}
 
 	/**
 	 * 사용자의 미확인 메시지 수 조회
 	 */
-	@Transactional(readOnly = true)
 	public long getUnreadCount(String roomId, String username) {
-		String unreadKey = String.format(UNREAD_COUNT_KEY_TEMPLATE, roomId, username);
-		Object value = redisTemplate.opsForValue().get(unreadKey);
-		if (value == null) {
-			return 0;
-		}
-		try {
-			return Long.parseLong(value.toString());
-		} catch (NumberFormatException e) {
-			log.error("Unread count 파싱 실패: {}", e.getMessage());
-			return 0;
-		}
+		return memberSummaryCache.getByEmail(username)
+			.map(member -> chatUnreadRepository.find(member.id(), roomId))
+			.orElse(0L);
 	}
 
 	/**
-	 * 매 1분마다 Redis에 있는 채팅 메시지를 DB로 flush합니다.
+	 * 사용자의 전체 미확인 메시지 수(배지) 조회
 	 */
-	@Scheduled(fixedRate = 60000 * 1)
-	@Transactional
-	public void flushChatMessagesToDB() {
-		Set<Object> activeRoomIds = redisTemplate.opsForSet().members(ACTIVE_ROOMS_KEY);
-		if (activeRoomIds == null || activeRoomIds.isEmpty()) {
-			log.info("활성 채팅방 없음.");
+	public long getTotalUnreadCount(String username) {
+		return memberSummaryCache.getByEmail(username)
+			.map(member -> chatUnreadRepository.findTotal(member.id()))
+			.orElse(0L);
+	}
+
+	/**
+	 * 입력 중 표시 처리
+	 * 사용자는 STOMP 세션의 인증 정보(CONNECT 시 식별)로만 정하고, 식별되지 않은 세션이나 채팅방 참여자가 아니면 무시합니다.
+	 */
+	public void typing(String sessionId, ChatTypingRequest request) {
+		String username = chatPresenceRegistry.usernameOf(sessionId);
+		if (username == null || request.getRoomId() == null) {
 			return;
 		}
-		for (Object roomIdObj : activeRoomIds) {
-			String roomId = (String) roomIdObj;
-			String redisKey = String.format(CHAT_MESSAGES_KEY_TEMPLATE, roomId);
-			String lockKey = "lock:" + redisKey;
-			Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, "LOCK", LOCK_EXPIRATION, TimeUnit.SECONDS);
-			if (Boolean.TRUE.equals(acquired)) {
-				try {
-					// 현재 Redis 리스트 전체 데이터를 가져옵니다.
-					List<Object> cachedMessages = redisTemplate.opsForList().range(redisKey, 0, -1);
-					if (cachedMessages != null && !cachedMessages.isEmpty()) {
-						try {
-							List<ChatMessage> messages = objectMapper.convertValue(cachedMessages,
-								new TypeReference<List<ChatMessage>>() {});
-
-							// 신규 메시지 : DB에 저장되지 않은 메시지 (id가 null인 경우)
-							List<ChatMessage> newMessages = messages.stream()
-								.filter(msg -> msg.getId() == null)
-								.collect(Collectors.toList());
-
-							int newMessagesCount = newMessages.size();
-							if (newMessagesCount > 0) {
-								chatMessageRepository.saveAll(newMessages);
-								log.info("채팅방 {}의 {}개 신규 메시지 DB 저장", roomId, newMessagesCount);
-							} else {
-								log.debug("채팅방 {}에 저장할 신규 메시지 없음", roomId);
-							}
-
-							// 증분 업데이트: Redis 캐시를 완전히 삭제하지 않고 DB에 있는 메시지만 확인
-							List<ChatMessage> messagesFromDB = chatMessageRepository.findByRoomIdOrderByTimestampAsc(roomId);
-
-							// Redis 메시지와 DB 메시지의 일관성 검증
-							if (!isRedisDataConsistent(messages, messagesFromDB)) {
-								log.info("채팅방 {} Redis 데이터 일관성 검증 실패, 캐시 재구성", roomId);
-
-								// 일관성이 없는 경우에만 Redis 캐시 재구성
-								redisTemplate.delete(redisKey);
-								for (ChatMessage message : messagesFromDB) {
-									redisTemplate.opsForList().rightPush(redisKey, message);
-								}
-								redisTemplate.expire(redisKey, CACHE_EXPIRATION, TimeUnit.MINUTES);
-							} else {
-								log.debug("채팅방 {} Redis 데이터 일관성 검증 성공", roomId);
-								// 캐시 만료 시간만 갱신
-								redisTemplate.expire(redisKey, CACHE_EXPIRATION, TimeUnit.MINUTES);
-							}
-						} catch (Exception e) {
-							log.error("채팅방 {} Redis 메시지 변환 중 오류 발생: {}", roomId, e.getMessage());
-
-							// 변환 오류 시 Redis 캐시 재구성
-							List<ChatMessage> messagesFromDB = chatMessageRepository.findByRoomIdOrderByTimestampAsc(roomId);
-							redisTemplate.delete(redisKey);
-							for (ChatMessage message : messagesFromDB) {
-								redisTemplate.opsForList().rightPush(redisKey, message);
-							}
-							redisTemplate.expire(redisKey, CACHE_EXPIRATION, TimeUnit.MINUTES);
-							log.info("채팅방 {} Redis 캐시 재구성 완료", roomId);
-						}
-					}
-				} finally {
-					// 분산 락 해제
-					redisTemplate.delete(lockKey);
-				}
-			} else {
-				log.debug("채팅방 {} flush 작업 중", roomId);
-			}
+		Optional<ChatRoomInfo> room = chatRoomCache.get(request.getRoomId());
+		if (room.isEmpty() || !(username.equals(room.get().member1()) || username.equals(room.get().member2()))) {
+			return;
 		}
+		chatTypingCoalescer.typing(request.getRoomId(), username, request.isTyping());
 	}
-
 }
@@ -0,0 +1,111 @@
+package com.ll.dopdang.domain.chatroom.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ll.dopdang.domain.chatroom.dto.ChatTypingPayload;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 입력 중 표시를 채팅방별로 묶어서 보냅니다.
+ * 한 채팅방에는 묶음 간격(chat.presence.typing-interval-ms)마다 최대 한 번만 /topic/typing/{roomId}로 보내고,
+ * 그 사이에 받은 이벤트는 사용자별 마지막 상태만 남깁니다.
+ * 첫 이벤트는 바로 보내므로 입력 시작 표시가 늦어지지 않습니다. (노드마다 따로 묶음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatTypingCoalescer {
+
+	private static final String TYPING_DESTINATION_PREFIX = "/topic/typing/";
+
+	private final ChatBroadcaster chatBroadcaster;
+
+	@Value("${chat.presence.typing-interval-ms:500}")
+	private long intervalMs;
+
+	// 채팅방 ID -> 묶음
+	private final Map<String, TypingWindow> windows = new ConcurrentHashMap<>();
+	private ScheduledExecutorService scheduler;
+
+	@PostConstruct
+	public void start() {
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "chat-typing");
+			thread.setDaemon(true);
+			return thread;
+		});
+		// 한동안 이벤트가 없는 채팅방의 묶음 정리
+		long evictIntervalMs = Math.max(intervalMs * 20, 10_000);
+		scheduler.scheduleWithFixedDelay(this::evictIdle, evictIntervalMs, evictIntervalMs, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+		}
+	}
+
+	/**
+	 * 사용자의 입력 상태를 기록하고, 채팅방의 다음 전송을 예약합니다.
+	 */
+	public void typing(String roomId, String username, boolean typing) {
+		TypingWindow window = windows.computeIfAbsent(roomId, key -> new TypingWindow());
+		synchronized (window) {
+			window.pending.put(username, typing);
+			if (window.scheduled) {
+				return;
+			}
+			window.scheduled = true;
+			long delay = Math.max(0, window.lastSentAt + intervalMs - System.currentTimeMillis());
+			scheduler.schedule(() -> flush(roomId, window), delay, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void flush(String roomId, TypingWindow window) {
+		Map<String, Boolean> batch;
+		synchronized (window) {
+			batch = new LinkedHashMap<>(window.pending);
+			window.pending.clear();
+			window.scheduled = false;
+			window.lastSentAt = System.currentTimeMillis();
+		}
+		if (batch.isEmpty()) {
+			return;
+		}
+		try {
+			chatBroadcaster.broadcast(TYPING_DESTINATION_PREFIX + roomId, new ChatTypingPayload(roomId, batch));
+		} catch (RuntimeException e) {
+			log.warn("입력 중 표시 전송 실패: roomId: {}, error: {}", roomId, e.getMessage());
+		}
+	}
+
+	private void evictIdle() {
+		long idleBefore = System.currentTimeMillis() - intervalMs;
+		// 제거 직후 들어온 이벤트도 이미 꺼낸 묶음으로 예약되므로 유실되지 않음
+		windows.entrySet().removeIf(entry -> {
+			TypingWindow window = entry.getValue();
+			synchronized (window) {
+				return !window.scheduled && window.lastSentAt < idleBefore;
+			}
+		});
+	}
+
+	private static final class TypingWindow {
+		private final Map<String, Boolean> pending = new LinkedHashMap<>();
+		private boolean scheduled;
+		private long lastSentAt;
+	}
+}
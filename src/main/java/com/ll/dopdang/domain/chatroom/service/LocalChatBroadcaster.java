@@ -0,0 +1,23 @@
+package com.ll.dopdang.domain.chatroom.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 현재 노드의 simple broker로만 전송하는 구현체 (단일 노드 배포용)
+ */
+@Component
+@ConditionalOnProperty(name = "chat.fanout.mode", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalChatBroadcaster implements ChatBroadcaster {
+
+	private final SimpMessagingTemplate messagingTemplate;
+
+	@Override
+	public void broadcast(String destination, Object payload) {
+		messagingTemplate.convertAndSend(destination, payload);
+	}
+}
@@ -0,0 +1,198 @@
+package com.ll.dopdang.domain.chatroom.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.web.socket.messaging.AbstractSubProtocolEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis pub/sub으로 여러 노드에 STOMP 메시지를 중계하는 구현체
+ * 목적지마다 "stomp:{destination}" 채널로 발행하고, 각 노드는 로컬 구독자가 있는 목적지의 채널만 구독합니다.
+ * 발행한 노드도 Redis를 거쳐 받으므로 로컬 구독자에게는 한 번만 전달됩니다.
+ * Redis 구독이 완료되기 전의 짧은 구간에 발행된 메시지는 받지 못할 수 있으며, 이는 순번 기반 동기화로 보완합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "chat.fanout.mode", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisChatBroadcaster implements ChatBroadcaster {
+
+	static final String CHANNEL_PREFIX = "stomp:";
+	private static final List<String> RELAYED_PREFIXES = List.of("/topic/chat/", "/topic/notice/", "/topic/read/",
+		"/topic/typing/");
+	private static final byte SEPARATOR = '\n';
+
+	private final SimpMessagingTemplate messagingTemplate;
+	private final RedisConnectionFactory connectionFactory;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final MessageListener relayListener = (message, pattern) ->
+		deliverLocally(message.getChannel(), message.getBody());
+
+	// 세션 ID -> (구독 ID -> 목적지)
+	private final Map<String, Map<String, String>> sessionSubscriptions = new HashMap<>();
+	// 목적지 -> 로컬 구독 수
+	private final Map<String, Integer> destinationCounts = new HashMap<>();
+
+	@Override
+	public void broadcast(String destination, Object payload) {
+		if (!isRelayed(destination)) {
+			messagingTemplate.convertAndSend(destination, payload);
+			return;
+		}
+		Message<?> converted =
+			messagingTemplate.getMessageConverter().toMessage(payload, null);
+		if (converted == null || !(converted.getPayload() instanceof byte[] body)) {
+			messagingTemplate.convertAndSend(destination, payload);
+			return;
+		}
+		Object contentType = converted.getHeaders().get(MessageHeaders.CONTENT_TYPE);
+		byte[] channel = (CHANNEL_PREFIX + destination).getBytes(StandardCharsets.UTF_8);
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.publish(channel, encode(contentType != null ? contentType.toString() : "", body));
+		} catch (RuntimeException e) {
+			// Redis 장애 시 최소한 같은 노드의 구독자에게는 전달
+			log.warn("Redis 중계 발행 실패, 로컬로만 전송합니다. destination: {}, error: {}", destination, e.getMessage());
+			messagingTemplate.send(destination, toStompMessage(contentType != null ? contentType.toString() : "", body));
+		}
+	}
+
+	/**
+	 * 다른 노드(또는 자신)가 발행한 메시지를 로컬 구독자에게 전달합니다.
+	 */
+	private void deliverLocally(byte[] channel, byte[] encoded) {
+		String destination = new String(channel, StandardCharsets.UTF_8).substring(CHANNEL_PREFIX.length());
+		int separatorIndex = indexOfSeparator(encoded);
+		if (separatorIndex < 0) {
+			log.warn("잘못된 중계 메시지 형식입니다. destination: {}", destination);
+			return;
+		}
+		String contentType = new String(encoded, 0, separatorIndex, StandardCharsets.UTF_8);
+		byte[] body = new byte[encoded.length - separatorIndex - 1];
+		System.arraycopy(encoded, separatorIndex + 1, body, 0, body.length);
+		messagingTemplate.send(destination, toStompMessage(contentType, body));
+	}
+
+	@EventListener
+	public void onSubscribe(SessionSubscribeEvent event) {
+		SimpMessageHeaderAccessor accessor = wrap(event);
+		String destination = accessor.getDestination();
+		if (destination == null || !isRelayed(destination)) {
+			return;
+		}
+		synchronized (this) {
+			sessionSubscriptions.computeIfAbsent(accessor.getSessionId(), key -> new HashMap<>())
+				.put(accessor.getSubscriptionId(), destination);
+			if (destinationCounts.merge(destination, 1, Integer::sum) == 1) {
+				redisMessageListenerContainer.addMessageListener(relayListener, new ChannelTopic(CHANNEL_PREFIX + destination));
+			}
+		}
+	}
+
+	@EventListener
+	public void onUnsubscribe(SessionUnsubscribeEvent event) {
+		SimpMessageHeaderAccessor accessor = wrap(event);
+		synchronized (this) {
+			Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+			if (subscriptions == null) {
+				return;
+			}
+			String destination = subscriptions.remove(accessor.getSubscriptionId());
+			if (subscriptions.isEmpty()) {
+				sessionSubscriptions.remove(accessor.getSessionId());
+			}
+			release(destination);
+		}
+	}
+
+	@EventListener
+	public void onDisconnect(SessionDisconnectEvent event) {
+		synchronized (this) {
+			Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+			if (subscriptions != null) {
+				subscriptions.values().forEach(this::release);
+			}
+		}
+	}
+
+	/**
+	 * 현재 노드가 Redis에서 구독 중인 목적지 목록
+	 */
+	synchronized Set<String> getRelayedDestinations() {
+		return Set.copyOf(destinationCounts.keySet());
+	}
+
+	private void release(String destination) {
+		if (destination == null) {
+			return;
+		}
+		Integer remaining = destinationCounts.computeIfPresent(destination, (key, count) -> count > 1 ? count - 1 : null);
+		if (remaining == null) {
+			redisMessageListenerContainer.removeMessageListener(relayListener, new ChannelTopic(CHANNEL_PREFIX + destination));
+		}
+	}
+
+	private boolean isRelayed(String destination) {
+		for (String prefix : RELAYED_PREFIXES) {
+			if (destination.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private SimpMessageHeaderAccessor wrap(AbstractSubProtocolEvent event) {
+		return SimpMessageHeaderAccessor.wrap(event.getMessage());
+	}
+
+	private Message<byte[]> toStompMessage(String contentType, byte[] body) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		if (!contentType.isEmpty()) {
+			accessor.setContentType(MimeType.valueOf(contentType));
+		}
+		accessor.setLeaveMutable(true);
+		return MessageBuilder.createMessage(body, accessor.getMessageHeaders());
+	}
+
+	// 중계 메시지 형식: content-type + '\n' + 본문
+	private byte[] encode(String contentType, byte[] body) {
+		byte[] header = contentType.getBytes(StandardCharsets.UTF_8);
+		byte[] encoded = new byte[header.length + 1 + body.length];
+		System.arraycopy(header, 0, encoded, 0, header.length);
+		encoded[header.length] = SEPARATOR;
+		System.arraycopy(body, 0, encoded, header.length + 1, body.length);
+		return encoded;
+	}
+
+	private int indexOfSeparator(byte[] encoded) {
+		for (int i = 0; i < encoded.length; i++) {
+			if (encoded[i] == SEPARATOR) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,378 @@
+package com.ll.dopdang.domain.chatroom.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ll.dopdang.domain.chatroom.entity.ChatMessage;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * Redis에 캐시하는 채팅 메시지 전용 바이너리 serializer
+ *
+ * 형식(v1): [버전 1B][플래그 1B][roomId][id][seq][sender][receiver][timestamp][content][fileUrl][projectId]
+ * 형식(v2): [버전 1B][플래그 1B][확장 플래그 1B][roomId][id][seq][clientMessageId][sender]...(이후 v1과 같음)
+ * - 첫 플래그 바이트를 모두 사용하므로 추가 필드는 확장 플래그로 표시
+ * - 확장 플래그가 필요 없는 메시지는 v1으로 써서, 배포 중 v1만 읽는 노드도 대부분의 캐시를 읽을 수 있음
+ * - 정수는 varint, 문자열은 (UTF-8 길이 + 1)을 varint로 쓴 뒤 본문 (0이면 null)
+ * - 값이 없는 정수 필드는 플래그로 표시하고 생략
+ * - 타임스탬프는 LocalDateTime을 시간대 변환 없이 UTC 기준으로 환산한 epoch micros
+ *   (DB 컬럼이 마이크로초까지 저장하므로 밀리초로 줄이면 캐시와 DB 메시지 비교가 어긋남)
+ * - 보낸 사람과 받는 사람이 채팅방 ID("프로젝트ID|사용자1:사용자2")의 참여자와 같으면 생략
+ * - 내용이 기준 길이 이상이면 LZ4로 압축하고, 압축본이 더 작을 때만 사용
+ *
+ * 첫 바이트가 '{'이면 변경 전 JSON 형식으로 읽으므로, 배포 중 섞여 있는 기존 캐시도 그대로 읽힙니다.
+ */
+public class ChatMessageRedisSerializer implements RedisSerializer<ChatMessage> {
+
+	static final byte VERSION = 1;
+	static final byte VERSION_EXTENDED = 2;
+	private static final byte LEGACY_JSON_START = '{';
+
+	private static final int HAS_ID = 1;
+	private static final int HAS_SEQ = 1 << 1;
+	private static final int HAS_TIMESTAMP = 1 << 2;
+	private static final int HAS_SUB_MICROS = 1 << 3;
+	private static final int HAS_PROJECT_ID = 1 << 4;
+	private static final int PARTICIPANTS_FROM_ROOM = 1 << 5;
+	private static final int SENDER_IS_SECOND = 1 << 6;
+	private static final int CONTENT_LZ4 = 1 << 7;
+
+	/** 확장 플래그 (v2) */
+	private static final int HAS_CLIENT_MESSAGE_ID = 1;
+
+	private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+	private final int compressionThreshold;
+	private final LZ4Compressor compressor = LZ4.fastCompressor();
+	private final LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+	private final ObjectMapper legacyMapper;
+
+	/**
+	 * @param compressionThreshold 내용을 LZ4로 압축하기 시작하는 UTF-8 바이트 수 (0 이하면 압축하지 않음)
+	 */
+	public ChatMessageRedisSerializer(int compressionThreshold) {
+		this.compressionThreshold = compressionThreshold;
+		this.legacyMapper = new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+	}
+
+	@Override
+	public byte[] serialize(ChatMessage message) throws SerializationException {
+		if (message == null) {
+			return null;
+		}
+		int flags = 0;
+		if (message.getId() != null) {
+			flags |= HAS_ID;
+		}
+		if (message.getSeq() != null) {
+			flags |= HAS_SEQ;
+		}
+		LocalDateTime timestamp = message.getTimestamp();
+		int subMicros = 0;
+		if (timestamp != null) {
+			flags |= HAS_TIMESTAMP;
+			subMicros = timestamp.getNano() % 1_000;
+			if (subMicros != 0) {
+				flags |= HAS_SUB_MICROS;
+			}
+		}
+		if (message.getProjectId() != null) {
+			flags |= HAS_PROJECT_ID;
+		}
+		int participants = participantsFromRoom(message);
+		if (participants != 0) {
+			flags |= PARTICIPANTS_FROM_ROOM;
+			if (participants == 2) {
+				flags |= SENDER_IS_SECOND;
+			}
+		}
+		byte[] content = message.getContent() != null ? message.getContent().getBytes(StandardCharsets.UTF_8) : null;
+		byte[] compressed = compress(content);
+		if (compressed != null) {
+			flags |= CONTENT_LZ4;
+		}
+		int extendedFlags = 0;
+		if (message.getClientMessageId() != null) {
+			extendedFlags |= HAS_CLIENT_MESSAGE_ID;
+		}
+
+		Output out = new Output(64 + (content != null ? content.length : 0));
+		if (extendedFlags != 0) {
+			out.writeByte(VERSION_EXTENDED);
+			out.writeByte(flags);
+			out.writeByte(extendedFlags);
+		} else {
+			out.writeByte(VERSION);
+			out.writeByte(flags);
+		}
+		out.writeString(message.getRoomId());
+		if (message.getId() != null) {
+			out.writeVarLong(message.getId());
+		}
+		if (message.getSeq() != null) {
+			out.writeVarLong(message.getSeq());
+		}
+		if ((extendedFlags & HAS_CLIENT_MESSAGE_ID) != 0) {
+			out.writeString(message.getClientMessageId());
+		}
+		if (participants == 0) {
+			out.writeString(message.getSender());
+			out.writeString(message.getReceiver());
+		}
+		if (timestamp != null) {
+			long epochMicros = timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + timestamp.getNano() / 1_000;
+			out.writeVarLong(zigZag(epochMicros));
+			if (subMicros != 0) {
+				out.writeVarLong(subMicros);
+			}
+		}
+		if (compressed != null) {
+			out.writeVarLong(content.length);
+			out.writeBytes(compressed);
+		} else {
+			out.writeBytes(content);
+		}
+		out.writeString(message.getFileUrl());
+		if (message.getProjectId() != null) {
+			out.writeVarLong(zigZag(message.getProjectId()));
+		}
+		return out.toByteArray();
+	}
+
+	@Override
+	public ChatMessage deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+		if (bytes[0] == LEGACY_JSON_START) {
+			return readLegacy(bytes);
+		}
+		if (bytes[0] != VERSION && bytes[0] != VERSION_EXTENDED) {
+			throw new SerializationException("지원하지 않는 채팅 메시지 형식 버전입니다: " + bytes[0]);
+		}
+		try {
+			Input in = new Input(bytes, 1);
+			int flags = in.readByte();
+			int extendedFlags = bytes[0] == VERSION_EXTENDED ? in.readByte() : 0;
+			ChatMessage message = new ChatMessage();
+			message.setRoomId(in.readString());
+			if ((flags & HAS_ID) != 0) {
+				message.setId(in.readVarLong());
+			}
+			if ((flags & HAS_SEQ) != 0) {
+				message.setSeq(in.readVarLong());
+			}
+			if ((extendedFlags & HAS_CLIENT_MESSAGE_ID) != 0) {
+				message.setClientMessageId(in.readString());
+			}
+			if ((flags & PARTICIPANTS_FROM_ROOM) != 0) {
+				String[] pair = participants(message.getRoomId());
+				boolean senderIsSecond = (flags & SENDER_IS_SECOND) != 0;
+				message.setSender(senderIsSecond ? pair[1] : pair[0]);
+				message.setReceiver(senderIsSecond ? pair[0] : pair[1]);
+			} else {
+				message.setSender(in.readString());
+				message.setReceiver(in.readString());
+			}
+			if ((flags & HAS_TIMESTAMP) != 0) {
+				long epochMicros = unZigZag(in.readVarLong());
+				int nanos = (int)Math.floorMod(epochMicros, 1_000_000L) * 1_000;
+				if ((flags & HAS_SUB_MICROS) != 0) {
+					nanos += (int)in.readVarLong();
+				}
+				message.setTimestamp(LocalDateTime.ofEpochSecond(Math.floorDiv(epochMicros, 1_000_000L), nanos,
+					ZoneOffset.UTC));
+			}
+			if ((flags & CONTENT_LZ4) != 0) {
+				int length = (int)in.readVarLong();
+				message.setContent(new String(in.readCompressed(decompressor, length), StandardCharsets.UTF_8));
+			} else {
+				message.setContent(in.readString());
+			}
+			message.setFileUrl(in.readString());
+			if ((flags & HAS_PROJECT_ID) != 0) {
+				message.setProjectId(unZigZag(in.readVarLong()));
+			}
+			return message;
+		} catch (RuntimeException e) {
+			throw new SerializationException("채팅 메시지를 역직렬화할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * 보낸 사람과 받는 사람이 채팅방 ID의 참여자와 같은지 확인합니다.
+	 *
+	 * @return 보낸 사람이 첫 번째 참여자면 1, 두 번째 참여자면 2, 유도할 수 없으면 0
+	 */
+	private int participantsFromRoom(ChatMessage message) {
+		String[] pair = participants(message.getRoomId());
+		if (pair == null || message.getSender() == null || message.getReceiver() == null) {
+			return 0;
+		}
+		if (pair[0].equals(message.getSender()) && pair[1].equals(message.getReceiver())) {
+			return 1;
+		}
+		if (pair[1].equals(message.getSender()) && pair[0].equals(message.getReceiver())) {
+			return 2;
+		}
+		return 0;
+	}
+
+	private static String[] participants(String roomId) {
+		if (roomId == null) {
+			return null;
+		}
+		int bar = roomId.indexOf('|');
+		int colon = roomId.indexOf(':', bar + 1);
+		// 참여자 구분자가 하나일 때만 나눌 수 있음
+		if (bar < 0 || colon < 0 || roomId.indexOf(':', colon + 1) >= 0) {
+			return null;
+		}
+		return new String[] {roomId.substring(bar + 1, colon), roomId.substring(colon + 1)};
+	}
+
+	private byte[] compress(byte[] content) {
+		if (content == null || compressionThreshold <= 0 || content.length < compressionThreshold) {
+			return null;
+		}
+		byte[] buffer = new byte[compressor.maxCompressedLength(content.length)];
+		int length = compressor.compress(content, 0, content.length, buffer, 0, buffer.length);
+		// 길이 varint와 압축본을 합쳐도 원본 문자열보다 작을 때만 사용
+		if (length + varLongSize(content.length) >= content.length) {
+			return null;
+		}
+		return Arrays.copyOf(buffer, length);
+	}
+
+	private ChatMessage readLegacy(byte[] bytes) {
+		try {
+			return legacyMapper.readValue(bytes, ChatMessage.class);
+		} catch (IOException e) {
+			throw new SerializationException("기존 JSON 형식의 채팅 메시지를 읽을 수 없습니다.", e);
+		}
+	}
+
+	private static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static int varLongSize(long value) {
+		int size = 1;
+		while ((value & ~0x7FL) != 0) {
+			value >>>= 7;
+			size++;
+		}
+		return size;
+	}
+
+	private static final class Output {
+		private byte[] buffer;
+		private int position;
+
+		Output(int capacity) {
+			this.buffer = new byte[capacity];
+		}
+
+		void writeByte(int value) {
+			ensure(1);
+			buffer[position++] = (byte)value;
+		}
+
+		void writeVarLong(long value) {
+			ensure(10);
+			while ((value & ~0x7FL) != 0) {
+				buffer[position++] = (byte)((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			buffer[position++] = (byte)value;
+		}
+
+		/** 길이 + 1을 앞에 쓰고 본문을 씀 (null이면 0만 씀) */
+		void writeBytes(byte[] bytes) {
+			if (bytes == null) {
+				writeVarLong(0);
+				return;
+			}
+			writeVarLong(bytes.length + 1L);
+			ensure(bytes.length);
+			System.arraycopy(bytes, 0, buffer, position, bytes.length);
+			position += bytes.length;
+		}
+
+		void writeString(String value) {
+			writeBytes(value != null ? value.getBytes(StandardCharsets.UTF_8) : null);
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(buffer, position);
+		}
+
+		private void ensure(int extra) {
+			if (position + extra > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+			}
+		}
+	}
+
+	private static final class Input {
+		private final byte[] buffer;
+		private int position;
+
+		Input(byte[] buffer, int position) {
+			this.buffer = buffer;
+			this.position = position;
+		}
+
+		int readByte() {
+			return buffer[position++] & 0xFF;
+		}
+
+		long readVarLong() {
+			long value = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				byte b = buffer[position++];
+				value |= (long)(b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+			throw new IllegalStateException("varint가 너무 깁니다.");
+		}
+
+		String readString() {
+			int length = (int)readVarLong() - 1;
+			if (length < 0) {
+				return null;
+			}
+			String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+			position += length;
+			return value;
+		}
+
+		byte[] readCompressed(LZ4FastDecompressor decompressor, int originalLength) {
+			int length = (int)readVarLong() - 1;
+			byte[] restored = new byte[originalLength];
+			decompressor.decompress(buffer, position, restored, 0, originalLength);
+			position += length;
+			return restored;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package com.ll.dopdang.domain.chatroom.util;
+
+/**
+ * 채팅 관련 Redis 키 모음
+ * 채팅방별 키와 채팅방 집합의 멤버는 숫자 채팅방 ID(chat_room.id)를, 사용자별 키는 회원 ID(member.id)를 사용합니다.
+ * (키 이름에 이메일이 드러나지 않도록) 안 읽은 수 해시의 필드는 클라이언트가 쓰는 외부 채팅방 ID(roomId)를 그대로 사용합니다.
+ */
+public final class ChatRedisKeys {
+
+	/** 최근 활동이 있는 채팅방 ID (마지막 활동 시각 순 ZSET, 유휴 채팅방은 주기적으로 제거) */
+	public static final String ACTIVE_ROOMS = "chat:rooms:active";
+	/** DB에 저장되지 않은 메시지가 있을 수 있는 채팅방 (처음 변경된 시각 순 ZSET) */
+	public static final String DIRTY_ROOMS = "chat:rooms:dirty";
+	/** 배치 저장에 실패해 복구가 필요한 채팅방 (복구 전에는 dirty에서 빠지지 않음) */
+	public static final String DROPPED_ROOMS = "chat:rooms:dropped";
+	/** 채팅방별 DB에 저장된 마지막 순번 (watermark 해시) */
+	public static final String FLUSHED_SEQ = "chat:rooms:flushed";
+	/** 이전 추적 방식의 활성 채팅방 집합 (더 이상 쓰지 않으며 sweeper가 한 번 삭제) */
+	public static final String LEGACY_ACTIVE_ROOMS = "chat:active_rooms";
+	/** 이메일로 만들던 이전 안 읽은 수 해시 (chat:unread:{email}, sweeper가 회원 ID 키로 한 번 옮김) */
+	public static final String LEGACY_UNREAD_PATTERN = "chat:unread:*@*";
+	/** 안 읽은 메시지 수 해시에서 합계를 담는 필드 (채팅방 ID와 겹치지 않음) */
+	public static final String UNREAD_TOTAL_FIELD = "_total";
+
+	private static final String MESSAGES_TEMPLATE = "chat:%s:messages";
+	private static final String SEQUENCE_TEMPLATE = "chat:%s:seq";
+	private static final String READ_SEQ_TEMPLATE = "chat:%s:read";
+	private static final String CLIENT_MESSAGE_IDS_TEMPLATE = "chat:%s:client-ids";
+	private static final String UNREAD_PREFIX = "chat:unread:";
+	private static final String UNREAD_TEMPLATE = UNREAD_PREFIX + "%s";
+	private static final String INBOX_TEMPLATE = "chat:inbox:%s";
+	private static final String INBOX_ENTRY_TEMPLATE = "chat:inbox:%s:%s";
+	private static final String ROOM_TIMESTAMP_TEMPLATE = "chatrooms:%s:timestamp";
+	private static final String PRESENCE_TEMPLATE = "chat:presence:%s";
+	private static final String VIEWING_ROOM_PREFIX = "active_chat_room:";
+	private static final String LOCK_PREFIX = "lock:";
+
+	private ChatRedisKeys() {
+	}
+
+	/** 채팅방의 최근 메시지 리스트 */
+	public static String messages(long chatRoomId) {
+		return String.format(MESSAGES_TEMPLATE, chatRoomId);
+	}
+
+	/** 채팅방의 마지막 메시지 순번 */
+	public static String sequence(long chatRoomId) {
+		return String.format(SEQUENCE_TEMPLATE, chatRoomId);
+	}
+
+	/**
+	 * 외부 채팅방 ID로 만들던 이전 순번 카운터
+	 * 숫자 ID 카운터를 처음 만들 때, 아직 DB에 저장되지 않은 순번을 다시 발급하지 않도록 함께 확인합니다.
+	 */
+	public static String legacySequence(String roomId) {
+		return String.format(SEQUENCE_TEMPLATE, roomId);
+	}
+
+	/** 채팅방의 최근 클라이언트 메시지 ID (ID -> 발급된 순번 ZSET, 재전송 중복 제거용) */
+	public static String clientMessageIds(long chatRoomId) {
+		return String.format(CLIENT_MESSAGE_IDS_TEMPLATE, chatRoomId);
+	}
+
+	/** 채팅방 사용자별 읽은 마지막 순번 해시 */
+	public static String readSeq(long chatRoomId) {
+		return String.format(READ_SEQ_TEMPLATE, chatRoomId);
+	}
+
+	/** 사용자의 채팅방별 안 읽은 메시지 수 해시 (채팅방 ID -> 수, 합계 필드 포함) */
+	public static String unread(long memberId) {
+		return String.format(UNREAD_TEMPLATE, memberId);
+	}
+
+	/** 이전 안 읽은 수 해시 키에서 이메일을 꺼냅니다. (키가 이전 형식이 아니면 null) */
+	public static String legacyUnreadUsername(String key) {
+		return key.startsWith(UNREAD_PREFIX) && key.indexOf('@') > 0 ? key.substring(UNREAD_PREFIX.length()) : null;
+	}
+
+	/** 사용자의 채팅방 목록 (숫자 채팅방 ID, 마지막 메시지 시각 순 ZSET) */
+	public static String inbox(long memberId) {
+		return String.format(INBOX_TEMPLATE, memberId);
+	}
+
+	/** 사용자의 채팅방 목록 항목 (외부 채팅방 ID, 마지막 메시지, 상대방 요약 해시) */
+	public static String inboxEntry(long memberId, long chatRoomId) {
+		return String.format(INBOX_ENTRY_TEMPLATE, memberId, chatRoomId);
+	}
+
+	/** 채팅방의 마지막 메시지 시각 */
+	public static String roomTimestamp(long chatRoomId) {
+		return String.format(ROOM_TIMESTAMP_TEMPLATE, chatRoomId);
+	}
+
+	/** 사용자의 접속 세션 해시 (세션 ID -> 마지막 확인 시각) */
+	public static String presence(long memberId) {
+		return String.format(PRESENCE_TEMPLATE, memberId);
+	}
+
+	/** 사용자가 현재 보고 있는 채팅방 */
+	public static String viewingRoom(long memberId) {
+		return VIEWING_ROOM_PREFIX + memberId;
+	}
+
+	/** 키에 대한 분산 락 */
+	public static String lock(String key) {
+		return LOCK_PREFIX + key;
+	}
+}
@@ -0,0 +1,44 @@
+package com.ll.dopdang.domain.expert.category.controller;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ll.dopdang.domain.expert.category.dto.response.CategoryNodeResponseDto;
+import com.ll.dopdang.domain.expert.category.service.CategoryService;
+import com.ll.dopdang.domain.expert.category.util.CategoryTree;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/categories")
+@RequiredArgsConstructor
+@Tag(name = "카테고리", description = "카테고리 관련 API")
+public class CategoryController {
+
+	private final CategoryService categoryService;
+
+	@Value("${category.tree.max-age-seconds:300}")
+	private long maxAgeSeconds;
+
+	@Operation(summary = "카테고리 트리 조회", description = "대분류와 하위 소분류를 트리로 조회합니다. ETag가 같으면(If-None-Match) 304를 반환합니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공")
+	@ApiResponse(responseCode = "304", description = "변경 없음")
+	@GetMapping
+	public ResponseEntity<List<CategoryNodeResponseDto>> getCategories() {
+		CategoryTree tree = categoryService.tree();
+		return ResponseEntity.ok()
+			.cacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic())
+			.eTag(tree.version())
+			.body(tree.response());
+	}
+}
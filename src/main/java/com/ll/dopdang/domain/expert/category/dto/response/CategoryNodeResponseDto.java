@@ -0,0 +1,21 @@
+package com.ll.dopdang.domain.expert.category.dto.response;
+
+import java.util.List;
+
+import com.ll.dopdang.domain.expert.category.entity.CategoryType;
+
+/**
+ * 카테고리 트리 응답 (대분류 -> 소분류)
+ *
+ * @param id           카테고리 ID
+ * @param name         카테고리 이름
+ * @param categoryType 카테고리 유형
+ * @param children     하위 카테고리 (ID 순)
+ */
+public record CategoryNodeResponseDto(
+	Long id,
+	String name,
+	CategoryType categoryType,
+	List<CategoryNodeResponseDto> children
+) {
+}
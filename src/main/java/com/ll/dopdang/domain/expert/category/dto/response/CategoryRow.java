@@ -0,0 +1,19 @@
+package com.ll.dopdang.domain.expert.category.dto.response;
+
+import com.ll.dopdang.domain.expert.category.entity.CategoryType;
+
+/**
+ * 카테고리 트리에 넣을 카테고리 (엔티티를 만들지 않는 프로젝션)
+ *
+ * @param id           카테고리 ID
+ * @param name         카테고리 이름
+ * @param parentId     대분류 카테고리 ID (대분류면 null)
+ * @param categoryType 카테고리 유형
+ */
+public record CategoryRow(
+	Long id,
+	String name,
+	Long parentId,
+	CategoryType categoryType
+) {
+}
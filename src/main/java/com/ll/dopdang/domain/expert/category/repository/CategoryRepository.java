@@ -1,17 +1,19 @@
 package com.ll.dopdang.domain.expert.category.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.ll.dopdang.domain.expert.category.dto.response.CategoryRow;
 import com.ll.dopdang.domain.expert.category.entity.Category;
 
 import io.lettuce.core.dynamic.annotation.Param;
 
 @Repository
-public interface CategoryRepository extends JpaRepository<Category, Integer> {
+public interface CategoryRepository extends JpaRepository<Category, Long> {
 
 	Optional<Category> findByName(String name);
 
@@ -24,4 +26,11 @@ public interface CategoryRepository extends JpaRepository<Category, Integer> {
 	Optional<Category> findByNameAndParent(@Param("name") String name, @Param("parent") Category parent);
 
 	Optional<Category> findById(Long id);
+
+	/**
+	 * 카테고리 트리 생성용 전체 조회 (엔티티를 만들지 않는 프로젝션)
+	 */
+	@Query("SELECT new com.ll.dopdang.domain.expert.category.dto.response.CategoryRow("
+		+ "c.id, c.name, c.parent.id, c.categoryType) FROM Category c")
+	List<CategoryRow> findAllRows();
 }
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.ll.dopdang.domain.expert.category.entity.ExpertCategory;
+import com.ll.dopdang.domain.expert.dto.response.ExpertIndexLink;
+import com.ll.dopdang.domain.expert.dto.response.ExpertIndexName;
 
 @Repository
 public interface ExpertCategoryRepository extends JpaRepository<ExpertCategory, Long> {
@@ -17,4 +19,20 @@ public interface ExpertCategoryRepository extends JpaRepository<ExpertCategory,
 	@Modifying
 	@Query("DELETE FROM ExpertCategory ec WHERE ec.expert.id = :expertId")
 	void deleteAllByExpertId(Long expertId);
+
+	// 전문가 필터 인덱스 생성용 전체 전문가 - 소분류 연결
+	@Query("SELECT new com.ll.dopdang.domain.expert.dto.response.ExpertIndexLink(ec.expert.id, ec.subCategory.id) "
+		+ "FROM ExpertCategory ec")
+	List<ExpertIndexLink> findIndexLinks();
+
+	@Query("SELECT ec.subCategory.id FROM ExpertCategory ec WHERE ec.expert.id = :expertId")
+	List<Long> findSubCategoryIdsByExpertId(Long expertId);
+
+	// 전문가 검색 인덱스 생성용 전체 전문가 - 소분류 이름
+	@Query("SELECT new com.ll.dopdang.domain.expert.dto.response.ExpertIndexName(ec.expert.id, ec.subCategory.name) "
+		+ "FROM ExpertCategory ec")
+	List<ExpertIndexName> findIndexNames();
+
+	@Query("SELECT ec.subCategory.name FROM ExpertCategory ec WHERE ec.expert.id = :expertId")
+	List<String> findSubCategoryNamesByExpertId(Long expertId);
 }
@@ -4,6 +4,7 @@ import org.springframework.stereotype.Service;
 
 import com.ll.dopdang.domain.expert.category.entity.Category;
 import com.ll.dopdang.domain.expert.category.repository.CategoryRepository;
+import com.ll.dopdang.domain.expert.category.util.CategoryTree;
 import com.ll.dopdang.global.exception.ErrorCode;
 import com.ll.dopdang.global.exception.ServiceException;
 
@@ -13,10 +14,28 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CategoryService {
 	private final CategoryRepository categoryRepository;
+	private final CategoryTreeCache categoryTreeCache;
 
+	/**
+	 * 카테고리 트리에서 존재를 확인하고, 연관관계 설정용 참조를 반환합니다. (DB 조회 없음)
+	 */
 	public Category findById(Long id) {
-		return categoryRepository.findById(id).orElseThrow(() ->
-			new ServiceException(ErrorCode.CATEGORY_NOT_FOUND)
-		);
+		return tree().find(id)
+			.map(this::getReference)
+			.orElseThrow(() -> new ServiceException(ErrorCode.CATEGORY_NOT_FOUND));
+	}
+
+	/**
+	 * 현재 카테고리 트리 스냅샷
+	 */
+	public CategoryTree tree() {
+		return categoryTreeCache.get();
+	}
+
+	/**
+	 * 트리의 카테고리를 연관관계 설정용 참조로 바꿉니다. 필드에 접근하기 전까지 DB를 조회하지 않습니다.
+	 */
+	public Category getReference(CategoryTree.Node node) {
+		return categoryRepository.getReferenceById(node.id());
 	}
 }
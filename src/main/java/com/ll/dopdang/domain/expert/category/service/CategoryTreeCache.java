@@ -0,0 +1,81 @@
+package com.ll.dopdang.domain.expert.category.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ll.dopdang.domain.expert.category.repository.CategoryRepository;
+import com.ll.dopdang.domain.expert.category.util.CategoryTree;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 로컬 카테고리 트리 캐시
+ * 카테고리 테이블은 거의 바뀌지 않으므로 전체를 {@link CategoryTree} 스냅샷 하나로 들고 있고,
+ * 카테고리 조회(ID, 대분류/소분류 이름, 경로)는 DB 대신 스냅샷에서 처리합니다.
+ * <ul>
+ *     <li>생성: 애플리케이션 시작 시(또는 첫 조회 시) DB에서 프로젝션으로 전체 생성</li>
+ *     <li>갱신: category.tree.reload-interval-ms마다 다시 읽어 내용이 바뀌었을 때만 스냅샷을 통째로 교체
+ *     (조회 중인 스레드는 이전 스냅샷을 끝까지 사용)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+
+	private final CategoryRepository categoryRepository;
+
+	private final Object reloadMonitor = new Object();
+
+	private volatile CategoryTree tree;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		try {
+			reload();
+		} catch (RuntimeException e) {
+			// 첫 조회 때 다시 생성
+			log.warn("카테고리 트리 생성 실패. error: {}", e.getMessage());
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${category.tree.reload-interval-ms:300000}",
+		initialDelayString = "${category.tree.reload-interval-ms:300000}")
+	public void scheduledReload() {
+		reload();
+	}
+
+	/**
+	 * DB에서 카테고리를 다시 읽어 내용이 바뀌었으면 스냅샷을 교체합니다.
+	 */
+	public void reload() {
+		synchronized (reloadMonitor) {
+			CategoryTree loaded = CategoryTree.of(categoryRepository.findAllRows());
+			CategoryTree current = tree;
+			if (current != null && current.version().equals(loaded.version())) {
+				return;
+			}
+			tree = loaded;
+			log.info("카테고리 트리 교체. categories: {}, version: {}", loaded.size(), loaded.version());
+		}
+	}
+
+	/**
+	 * 현재 카테고리 트리 스냅샷을 반환합니다. 아직 생성 전이면 생성합니다.
+	 */
+	public CategoryTree get() {
+		CategoryTree current = tree;
+		if (current != null) {
+			return current;
+		}
+		synchronized (reloadMonitor) {
+			if (tree == null) {
+				reload();
+			}
+			return tree;
+		}
+	}
+}
@@ -0,0 +1,195 @@
+package com.ll.dopdang.domain.expert.category.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.ll.dopdang.domain.expert.category.dto.response.CategoryNodeResponseDto;
+import com.ll.dopdang.domain.expert.category.dto.response.CategoryRow;
+import com.ll.dopdang.domain.expert.category.entity.CategoryType;
+
+/**
+ * 카테고리 트리 스냅샷 (불변)
+ * ID/이름 조회, 대분류 -> 소분류 인접 목록, 경로 조회를 DB 없이 처리합니다.
+ * 생성 후 바뀌지 않으므로 여러 스레드가 잠금 없이 공유하고, 변경은 새 스냅샷으로 통째로 교체합니다.
+ * ({@link com.ll.dopdang.domain.expert.category.service.CategoryTreeCache})
+ */
+public final class CategoryTree {
+
+	private final Map<Long, Node> nodes;
+	private final List<Node> roots;
+	private final Map<String, Node> rootsByName;
+	// 상위 카테고리 ID -> 하위 카테고리 이름 -> 카테고리
+	private final Map<Long, Map<String, Node>> childrenByName;
+	private final List<CategoryNodeResponseDto> response;
+	private final String version;
+
+	private CategoryTree(Map<Long, Node> nodes, List<Node> roots, Map<String, Node> rootsByName,
+		Map<Long, Map<String, Node>> childrenByName, String version) {
+		this.nodes = nodes;
+		this.roots = roots;
+		this.rootsByName = rootsByName;
+		this.childrenByName = childrenByName;
+		this.version = version;
+		this.response = roots.stream().map(this::toResponse).toList();
+	}
+
+	/**
+	 * 카테고리 목록으로 트리를 만듭니다. 상위 카테고리가 목록에 없는 카테고리는 대분류로 취급합니다.
+	 * 같은 상위 카테고리 아래 이름이 겹치면 ID가 작은 카테고리로 조회됩니다.
+	 */
+	public static CategoryTree of(Collection<CategoryRow> rows) {
+		List<CategoryRow> sorted = rows.stream().sorted(Comparator.comparing(CategoryRow::id)).toList();
+		Map<Long, List<Long>> childIds = new HashMap<>();
+		for (CategoryRow row : sorted) {
+			if (row.parentId() != null) {
+				childIds.computeIfAbsent(row.parentId(), ignored -> new ArrayList<>()).add(row.id());
+			}
+		}
+
+		Map<Long, Node> nodes = new HashMap<>();
+		for (CategoryRow row : sorted) {
+			nodes.put(row.id(), new Node(row.id(), row.name(), row.parentId(), row.categoryType(),
+				List.copyOf(childIds.getOrDefault(row.id(), List.of()))));
+		}
+
+		List<Node> roots = new ArrayList<>();
+		Map<String, Node> rootsByName = new HashMap<>();
+		Map<Long, Map<String, Node>> childrenByName = new HashMap<>();
+		for (CategoryRow row : sorted) {
+			Node node = nodes.get(row.id());
+			if (row.parentId() == null || !nodes.containsKey(row.parentId())) {
+				roots.add(node);
+				rootsByName.putIfAbsent(node.name(), node);
+			} else {
+				childrenByName.computeIfAbsent(row.parentId(), ignored -> new HashMap<>())
+					.putIfAbsent(node.name(), node);
+			}
+		}
+		childrenByName.replaceAll((parentId, children) -> Map.copyOf(children));
+
+		return new CategoryTree(Map.copyOf(nodes), List.copyOf(roots), Map.copyOf(rootsByName),
+			Map.copyOf(childrenByName), version(sorted));
+	}
+
+	/**
+	 * 카테고리를 ID로 찾습니다. (ID가 null이면 빈 값)
+	 */
+	public Optional<Node> find(Long id) {
+		return id == null ? Optional.empty() : Optional.ofNullable(nodes.get(id));
+	}
+
+	/**
+	 * 대분류를 이름으로 찾습니다.
+	 */
+	public Optional<Node> findRoot(String name) {
+		return Optional.ofNullable(rootsByName.get(name));
+	}
+
+	/**
+	 * 상위 카테고리 아래의 하위 카테고리를 이름으로 찾습니다.
+	 */
+	public Optional<Node> findChild(long parentId, String name) {
+		return Optional.ofNullable(childrenByName.getOrDefault(parentId, Map.of()).get(name));
+	}
+
+	/**
+	 * 대분류부터 이름을 차례로 따라가 카테고리를 찾습니다. (예: "개발", "백엔드")
+	 */
+	public Optional<Node> findByPath(List<String> names) {
+		if (names.isEmpty()) {
+			return Optional.empty();
+		}
+		Optional<Node> node = findRoot(names.get(0));
+		for (int i = 1; i < names.size() && node.isPresent(); i++) {
+			node = findChild(node.get().id(), names.get(i));
+		}
+		return node;
+	}
+
+	/**
+	 * 대분류부터 해당 카테고리까지의 경로를 반환합니다. (없는 ID면 빈 목록)
+	 */
+	public List<Node> path(long id) {
+		List<Node> path = new ArrayList<>();
+		Node node = nodes.get(id);
+		// 잘못된 데이터로 순환이 생겨도 끝나도록 깊이를 카테고리 수로 제한
+		while (node != null && path.size() <= nodes.size()) {
+			path.add(0, node);
+			node = node.parentId() != null ? nodes.get(node.parentId()) : null;
+		}
+		return List.copyOf(path);
+	}
+
+	/**
+	 * 모든 카테고리 (순서 없음)
+	 */
+	public Collection<Node> all() {
+		return nodes.values();
+	}
+
+	public List<Node> roots() {
+		return roots;
+	}
+
+	public List<Node> children(long id) {
+		Node node = nodes.get(id);
+		return node == null ? List.of() : node.childIds().stream().map(nodes::get).toList();
+	}
+
+	public int size() {
+		return nodes.size();
+	}
+
+	/**
+	 * 트리 내용으로 계산한 버전 (내용이 같으면 노드가 달라도 같은 값, 응답 ETag로 사용)
+	 */
+	public String version() {
+		return version;
+	}
+
+	/**
+	 * GET /categories 응답 (스냅샷마다 한 번만 만들어 공유)
+	 */
+	public List<CategoryNodeResponseDto> response() {
+		return response;
+	}
+
+	private CategoryNodeResponseDto toResponse(Node node) {
+		return new CategoryNodeResponseDto(node.id(), node.name(), node.categoryType(),
+			children(node.id()).stream().map(this::toResponse).toList());
+	}
+
+	private static String version(List<CategoryRow> sorted) {
+		long hash = 1125899906842597L;
+		for (CategoryRow row : sorted) {
+			hash = 31 * hash + row.id();
+			hash = 31 * hash + (row.parentId() != null ? row.parentId() : -1);
+			hash = 31 * hash + (row.name() != null ? row.name().hashCode() : 0);
+			hash = 31 * hash + (row.categoryType() != null ? row.categoryType().name().hashCode() : 0);
+		}
+		return Long.toHexString(hash);
+	}
+
+	/**
+	 * 카테고리
+	 *
+	 * @param id           카테고리 ID
+	 * @param name         카테고리 이름
+	 * @param parentId     상위 카테고리 ID (대분류면 null)
+	 * @param categoryType 카테고리 유형
+	 * @param childIds     하위 카테고리 ID (ID 순)
+	 */
+	public record Node(
+		long id,
+		String name,
+		Long parentId,
+		CategoryType categoryType,
+		List<Long> childIds
+	) {
+	}
+}
@@ -0,0 +1,44 @@
+package com.ll.dopdang.domain.expert.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ll.dopdang.domain.expert.dto.response.AutocompleteResponseDto;
+import com.ll.dopdang.domain.expert.service.AutocompleteIndex;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/autocomplete")
+@RequiredArgsConstructor
+@Tag(name = "자동완성", description = "자격증, 카테고리, 전문가 이름 자동완성 API")
+public class AutocompleteController {
+
+	private final AutocompleteIndex autocompleteIndex;
+
+	@Operation(summary = "자동완성", description = "입력 중인 검색어로 시작하는 자격증, 카테고리, 전문가 이름을 인기도 순으로 조회합니다. 입력 중인 글자(예: 정보ㅊ)와 초성(예: ㅈㅂㅊㄹ)도 일치하며, 자격증과 카테고리는 이름 중간부터도 일치합니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공")
+	@ApiResponse(responseCode = "400", description = "잘못된 유형")
+	@GetMapping
+	public ResponseEntity<List<AutocompleteResponseDto>> autocomplete(
+		@Parameter(description = "자동완성 유형 (certificate, category, expert)", example = "certificate")
+		@RequestParam String type,
+
+		@Parameter(description = "입력 중인 검색어", example = "정보ㅊ")
+		@RequestParam(defaultValue = "") String q,
+
+		@Parameter(description = "최대 결과 수 (최대 20)", example = "10")
+		@RequestParam(defaultValue = "10") int size
+	) {
+		return ResponseEntity.ok(autocompleteIndex.search(AutocompleteIndex.Type.from(type), q, size));
+	}
+}
@@ -17,6 +17,8 @@ import com.ll.dopdang.domain.expert.dto.request.ExpertRequestDto;
 import com.ll.dopdang.domain.expert.dto.request.ExpertUpdateRequestDto;
 import com.ll.dopdang.domain.expert.dto.response.ExpertCreateResponseDto;
 import com.ll.dopdang.domain.expert.dto.response.ExpertDetailResponseDto;
+import com.ll.dopdang.domain.expert.dto.response.ExpertFacetResponseDto;
+import com.ll.dopdang.domain.expert.dto.response.ExpertPageResponseDto;
 import com.ll.dopdang.domain.expert.dto.response.ExpertResponseDto;
 import com.ll.dopdang.domain.expert.service.ExpertService;
 import com.ll.dopdang.global.security.custom.CustomUserDetails;
@@ -52,28 +54,79 @@ public class ExpertController {
 		return ResponseEntity.ok(response);
 	}
 
+	@Operation(summary = "전문가 검색", description = "이름, 자기소개, 카테고리, 소분류, 자격증 이름으로 전문가를 검색합니다. 검색어 일치도와 리뷰 평점으로 정렬한 상위 결과를 반환하며, 검색어가 없으면 필터 조건만으로 조회합니다.")
+	@ApiResponse(responseCode = "200", description = "검색 성공")
 	@GetMapping("/search")
 	public ResponseEntity<List<ExpertResponseDto>> searchExperts(
+		@Parameter(description = "검색어", example = "백엔드 개발")
+		@RequestParam(required = false) String q,
+
+		@Parameter(description = "검색어 (q가 없을 때 사용, 이전 파라미터)", example = "김철수")
 		@RequestParam(required = false) String name,
+
+		@Parameter(description = "필터링할 카테고리 이름 목록", example = "개발,디자인")
 		@RequestParam(required = false) List<String> categoryNames,
-		@RequestParam(required = false) String careerLevel
+
+		@Parameter(description = "필터링할 경력 수준", example = "SENIOR")
+		@RequestParam(required = false) String careerLevel,
+
+		@Parameter(description = "최대 결과 수 (최대 100)", example = "20")
+		@RequestParam(defaultValue = "20") int size
 	) {
-		List<ExpertResponseDto> experts;
-		experts = expertService.searchExperts(categoryNames,careerLevel,name);
-		return ResponseEntity.ok(experts);
+		String query = q != null ? q : name;
+		return ResponseEntity.ok(expertService.searchExperts(query, categoryNames, careerLevel, size));
 	}
 
-	@Operation(summary = "전문가 목록 조회", description = "모든 전문가 목록을 조회합니다. 카테고리명 또는 경력 수준으로 필터링할 수 있습니다.")
+	@Operation(summary = "전문가 목록 조회", description = "전문가 목록을 전문가 ID 순으로 페이지 조회합니다. 카테고리명, 소분류, 경력 수준, 자격증, 활동 가능 여부로 필터링할 수 있으며, 다음 페이지는 응답의 nextCursor를 cursor로 넘겨 조회합니다.")
 	@ApiResponse(responseCode = "200", description = "조회 성공")
 	@GetMapping
-	public ResponseEntity<List<ExpertResponseDto>> getExperts(
+	public ResponseEntity<ExpertPageResponseDto> getExperts(
 		@Parameter(description = "필터링할 카테고리 이름 목록", example = "개발,디자인")
 		@RequestParam(required = false) List<String> categoryNames,
 
 		@Parameter(description = "필터링할 경력 수준", example = "SENIOR")
-		@RequestParam(required = false) String careerLevel
+		@RequestParam(required = false) String careerLevel,
+
+		@Parameter(description = "필터링할 소분류 카테고리 ID 목록", example = "11,12")
+		@RequestParam(required = false) List<Long> subCategoryIds,
+
+		@Parameter(description = "필터링할 자격증 ID 목록", example = "1,2")
+		@RequestParam(required = false) List<Long> certificateIds,
+
+		@Parameter(description = "활동 가능 여부", example = "true")
+		@RequestParam(required = false) Boolean available,
+
+		@Parameter(description = "이전 페이지의 nextCursor (생략 시 첫 페이지)", example = "120")
+		@RequestParam(required = false) Long cursor,
+
+		@Parameter(description = "페이지 크기 (최대 100)", example = "20")
+		@RequestParam(defaultValue = "20") int size
 	) {
-		return ResponseEntity.ok(expertService.getAllExperts(categoryNames, careerLevel));
+		return ResponseEntity.ok(expertService.getAllExperts(categoryNames, careerLevel, subCategoryIds,
+			certificateIds, available, cursor, size));
+	}
+
+	@Operation(summary = "전문가 필터 항목별 수 조회", description = "전문가 목록 조회와 같은 조건으로 전체 수와 대분류, 소분류, 경력 수준, 자격증별 전문가 수를 조회합니다. 각 항목의 수는 해당 항목의 조건을 빼고 계산합니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공")
+	@GetMapping("/facets")
+	public ResponseEntity<ExpertFacetResponseDto> getExpertFacets(
+		@Parameter(description = "필터링할 카테고리 이름 목록", example = "개발,디자인")
+		@RequestParam(required = false) List<String> categoryNames,
+
+		@Parameter(description = "필터링할 경력 수준", example = "SENIOR")
+		@RequestParam(required = false) String careerLevel,
+
+		@Parameter(description = "필터링할 소분류 카테고리 ID 목록", example = "11,12")
+		@RequestParam(required = false) List<Long> subCategoryIds,
+
+		@Parameter(description = "필터링할 자격증 ID 목록", example = "1,2")
+		@RequestParam(required = false) List<Long> certificateIds,
+
+		@Parameter(description = "활동 가능 여부", example = "true")
+		@RequestParam(required = false) Boolean available
+	) {
+		return ResponseEntity.ok(
+			expertService.getExpertFacets(categoryNames, careerLevel, subCategoryIds, certificateIds, available));
 	}
 
 	@Operation(summary = "전문가 상세 조회", description = "전문가 ID를 통해 해당 전문가의 상세 정보를 조회합니다.")
@@ -88,16 +141,23 @@ public class ExpertController {
 	}
 
 	@GetMapping("/search/name")
-	public ResponseEntity<List<ExpertResponseDto>> searchExpertsByName(@RequestParam(required = false) String name) {
-		List<ExpertResponseDto> experts = expertService.searchByName(name);
+	public ResponseEntity<List<ExpertResponseDto>> searchExpertsByName(@RequestParam(required = false) String name,
+		@RequestParam(defaultValue = "20") int size) {
+		List<ExpertResponseDto> experts = expertService.searchByName(name, size);
 		return ResponseEntity.ok(experts);
 	}
+	@Operation(summary = "평점 상위 전문가 조회", description = "대분류별(없으면 전체) 평점 상위 전문가를 조회합니다. 리뷰 수가 적은 전문가의 평점은 사전 평점 쪽으로 보정해 정렬합니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공")
 	@GetMapping("/topReviews")
 	public ResponseEntity<List<ExpertResponseDto>> getTopRatedExpertsByCategory(
-		@RequestParam(required = false) Long categoryId
+		@Parameter(description = "대분류 카테고리 ID", example = "1")
+		@RequestParam(required = false) Long categoryId,
+
+		@Parameter(description = "최대 결과 수 (최대 100)", example = "20")
+		@RequestParam(defaultValue = "20") int size
 	) {
 		// 카테고리 ID를 기반으로 필터링된 리스트 반환
-		List<ExpertResponseDto> filteredExperts = expertService.getTopRatedExperts(categoryId);
+		List<ExpertResponseDto> filteredExperts = expertService.getTopRatedExperts(categoryId, size);
 		return ResponseEntity.ok(filteredExperts);
 	}
 
@@ -0,0 +1,15 @@
+package com.ll.dopdang.domain.expert.dto.response;
+
+/**
+ * 자동완성 결과 항목
+ *
+ * @param id     항목 ID (자격증/카테고리/전문가 ID)
+ * @param name   이름
+ * @param detail 설명 (소분류면 대분류 이름, 전문가면 대분류 이름, 없으면 null)
+ */
+public record AutocompleteResponseDto(
+	Long id,
+	String name,
+	String detail
+) {
+}
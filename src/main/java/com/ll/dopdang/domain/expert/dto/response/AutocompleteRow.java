@@ -0,0 +1,21 @@
+package com.ll.dopdang.domain.expert.dto.response;
+
+/**
+ * 자동완성 색인에 넣을 항목 (엔티티를 만들지 않는 프로젝션)
+ *
+ * @param id         항목 ID (자격증/카테고리/전문가 ID)
+ * @param name       자동완성할 이름
+ * @param detail     이름 옆에 보여줄 설명 (상위 카테고리 이름, 전문가 대분류 이름 등, 없으면 null)
+ * @param popularity 인기도 (클수록 앞, 자격증/카테고리는 전문가 수, 전문가는 리뷰 수)
+ */
+public record AutocompleteRow(
+	Long id,
+	String name,
+	String detail,
+	Long popularity
+) {
+
+	public AutocompleteRow(Long id, String name, Long popularity) {
+		this(id, name, null, popularity);
+	}
+}
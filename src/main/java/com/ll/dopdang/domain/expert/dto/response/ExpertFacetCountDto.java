@@ -0,0 +1,14 @@
+package com.ll.dopdang.domain.expert.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpertFacetCountDto {
+    private Long id; // 카테고리/자격증 ID (경력 수준이면 null)
+    private String name; // 카테고리/자격증 이름 또는 경력 수준 (junior, senior, expert)
+    private int count; // 전문가 수
+}
@@ -0,0 +1,25 @@
+package com.ll.dopdang.domain.expert.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전문가 필터 항목별 전문가 수
+ * 각 항목의 수는 해당 항목의 조건만 빼고 계산합니다. (대분류를 골라도 다른 대분류의 수가 보임)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpertFacetResponseDto {
+    private int total; // 조건에 맞는 전문가 수
+    private int available; // 활동 가능한 전문가 수
+    private List<ExpertFacetCountDto> categories; // 대분류별
+    private List<ExpertFacetCountDto> subCategories; // 소분류별
+    private List<ExpertFacetCountDto> careerLevels; // 경력 수준별
+    private List<ExpertFacetCountDto> certificates; // 자격증별
+}
@@ -0,0 +1,13 @@
+package com.ll.dopdang.domain.expert.dto.response;
+
+/**
+ * 전문가 검색 인덱스에 넣을 전문가 - 소분류/자격증 이름 (엔티티를 만들지 않는 프로젝션)
+ *
+ * @param expertId 전문가 ID
+ * @param name     소분류 카테고리 이름 또는 자격증 이름
+ */
+public record ExpertIndexName(
+	Long expertId,
+	String name
+) {
+}
@@ -0,0 +1,18 @@
+package com.ll.dopdang.domain.expert.dto.response;
+
+/**
+ * 전문가 필터 인덱스에 넣을 전문가 단위 값 (엔티티를 만들지 않는 프로젝션)
+ * {@link com.ll.dopdang.domain.expert.service.ExpertFilterIndex}에서 사용합니다.
+ *
+ * @param expertId     전문가 ID
+ * @param categoryId   대분류 카테고리 ID
+ * @param careerYears  경력 연수
+ * @param availability 활동 가능 여부
+ */
+public record ExpertIndexRow(
+	Long expertId,
+	long categoryId,
+	int careerYears,
+	boolean availability
+) {
+}
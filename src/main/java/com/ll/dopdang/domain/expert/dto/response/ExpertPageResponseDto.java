@@ -0,0 +1,22 @@
+package com.ll.dopdang.domain.expert.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전문가 목록 페이지
+ * 전문가 ID 기반 키셋 페이지네이션으로, 다음 페이지는 nextCursor를 cursor로 넘겨 조회합니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpertPageResponseDto {
+    private List<ExpertResponseDto> experts; // 전문가 ID 오름차순
+    private Long nextCursor; // 다음 페이지 조회 시 cursor 값
+    private boolean hasNext; // 다음 페이지 존재 여부
+}
@@ -0,0 +1,19 @@
+package com.ll.dopdang.domain.expert.dto.response;
+
+import java.math.BigDecimal;
+
+/**
+ * 전문가 평점 순위표에 넣을 전문가 (엔티티를 만들지 않는 프로젝션)
+ *
+ * @param expertId     전문가 ID
+ * @param categoryId   대분류 카테고리 ID
+ * @param averageScore 리뷰 평균 평점 (리뷰 통계가 없으면 null)
+ * @param reviewCount  리뷰 수 (리뷰 통계가 없으면 null)
+ */
+public record ExpertRatingRow(
+	Long expertId,
+	Long categoryId,
+	BigDecimal averageScore,
+	Integer reviewCount
+) {
+}
@@ -7,6 +7,11 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 전문가 목록 항목
+ * 목록 조회는 엔티티 대신 ExpertRepository.findListItemsByIdIn의 생성자 표현식으로 만들므로,
+ * 필드 순서(전체 필드 생성자 인자 순서)를 바꾸면 쿼리도 함께 바꿔야 합니다.
+ */
 @Getter
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,23 @@
+package com.ll.dopdang.domain.expert.dto.response;
+
+import java.math.BigDecimal;
+
+/**
+ * 전문가 검색 인덱스에 넣을 전문가 (엔티티를 만들지 않는 프로젝션)
+ *
+ * @param expertId     전문가 ID
+ * @param name         회원 이름
+ * @param introduction 자기소개
+ * @param categoryName 대분류 카테고리 이름
+ * @param averageScore 리뷰 평균 평점 (리뷰 통계가 없으면 null)
+ * @param reviewCount  리뷰 수 (리뷰 통계가 없으면 null)
+ */
+public record ExpertSearchRow(
+	Long expertId,
+	String name,
+	String introduction,
+	String categoryName,
+	BigDecimal averageScore,
+	Integer reviewCount
+) {
+}
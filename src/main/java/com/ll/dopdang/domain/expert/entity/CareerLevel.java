@@ -0,0 +1,57 @@
+package com.ll.dopdang.domain.expert.entity;
+
+import java.util.Arrays;
+
+import com.ll.dopdang.global.exception.ErrorCode;
+import com.ll.dopdang.global.exception.ServiceException;
+
+import lombok.Getter;
+
+/**
+ * 전문가 경력 수준 enum
+ * JUNIOR - 1~5년
+ * SENIOR - 6~10년
+ * EXPERT - 11년 이상
+ */
+@Getter
+public enum CareerLevel {
+	JUNIOR("junior", 1, 5),
+	SENIOR("senior", 6, 10),
+	EXPERT("expert", 11, 100); // 제한 없는 최대값 설정
+
+	private final String value;
+	private final int minYears;
+	private final int maxYears;
+
+	CareerLevel(String value, int minYears, int maxYears) {
+		this.value = value;
+		this.minYears = minYears;
+		this.maxYears = maxYears;
+	}
+
+	/**
+	 * 요청 값(junior, senior, expert)을 Enum으로 변환합니다. (대소문자 무시)
+	 *
+	 * @param value 문자열 형태의 경력 수준
+	 * @return 해당하는 CareerLevel Enum
+	 * @throws ServiceException 잘못된 값이 들어왔을 경우 예외 발생
+	 */
+	public static CareerLevel from(String value) {
+		return Arrays.stream(CareerLevel.values())
+			.filter(level -> level.getValue().equalsIgnoreCase(value))
+			.findFirst()
+			.orElseThrow(() -> new ServiceException(ErrorCode.INVALID_CAREER_EXCEPTION, value));
+	}
+
+	/**
+	 * 경력 연수에 해당하는 경력 수준을 반환합니다. (어느 구간에도 속하지 않으면 null)
+	 */
+	public static CareerLevel of(int careerYears) {
+		for (CareerLevel level : values()) {
+			if (careerYears >= level.minYears && careerYears <= level.maxYears) {
+				return level;
+			}
+		}
+		return null;
+	}
+}
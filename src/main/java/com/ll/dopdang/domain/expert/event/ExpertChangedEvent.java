@@ -0,0 +1,25 @@
+package com.ll.dopdang.domain.expert.event;
+
+/**
+ * 전문가 검색, 필터, 순위표, 자동완성에 반영할 전문가 정보가 바뀌었음을 알리는 이벤트
+ * 트랜잭션 안에서 발행하면 각 인덱스가 커밋 후에 반영합니다. (롤백되면 반영하지 않음)
+ *
+ * @param expertId       전문가 ID
+ * @param profileChanged 전문가 정보(이름, 소개, 카테고리, 경력, 자격증 등)가 바뀌었으면 true, 리뷰 평점만 바뀌었으면 false
+ */
+public record ExpertChangedEvent(Long expertId, boolean profileChanged) {
+
+	/**
+	 * 전문가 등록/수정
+	 */
+	public static ExpertChangedEvent profile(Long expertId) {
+		return new ExpertChangedEvent(expertId, true);
+	}
+
+	/**
+	 * 리뷰 등록/삭제로 평점만 바뀜
+	 */
+	public static ExpertChangedEvent review(Long expertId) {
+		return new ExpertChangedEvent(expertId, false);
+	}
+}
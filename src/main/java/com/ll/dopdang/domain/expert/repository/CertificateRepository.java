@@ -7,16 +7,19 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.ll.dopdang.domain.expert.dto.response.AutocompleteRow;
 import com.ll.dopdang.domain.expert.entity.Certificate;
 
-import io.lettuce.core.dynamic.annotation.Param;
-
 @Repository
 public interface CertificateRepository extends JpaRepository<Certificate, Long> {
 	boolean existsByName(String name);
 
-	@Query("SELECT c FROM Certificate c WHERE c.name LIKE %:name%")
-	List<Certificate> findByNameContaining(@Param("name") String name);
-
 	Optional<Certificate> findByName(String name);
+
+	/**
+	 * 자동완성 색인 생성용 전체 조회 (인기도는 보유 전문가 수, 엔티티를 만들지 않는 프로젝션)
+	 */
+	@Query("SELECT new com.ll.dopdang.domain.expert.dto.response.AutocompleteRow(c.id, c.name, COUNT(ec.id)) "
+		+ "FROM Certificate c LEFT JOIN c.expertCertificates ec GROUP BY c.id, c.name")
+	List<AutocompleteRow> findAutocompleteRows();
 }
@@ -1,10 +1,14 @@
 package com.ll.dopdang.domain.expert.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.ll.dopdang.domain.expert.dto.response.ExpertIndexLink;
+import com.ll.dopdang.domain.expert.dto.response.ExpertIndexName;
 import com.ll.dopdang.domain.expert.entity.ExpertCertificate;
 
 import io.lettuce.core.dynamic.annotation.Param;
@@ -14,4 +18,20 @@ public interface ExpertCertificateRepository extends JpaRepository<ExpertCertifi
 	@Modifying
 	@Query("DELETE FROM ExpertCertificate ec WHERE ec.expert.id = :expertId")
 	void deleteAllByExpertId(@Param("expertId") Long expertId);
-}
\ No newline at end of file
+
+	// 전문가 필터 인덱스 생성용 전체 전문가 - 자격증 연결
+	@Query("SELECT new com.ll.dopdang.domain.expert.dto.response.ExpertIndexLink(ec.expert.id, ec.certificate.id) "
+		+ "FROM ExpertCertificate ec")
+	List<ExpertIndexLink> findIndexLinks();
+
+	@Query("SELECT ec.certificate.id FROM ExpertCertificate ec WHERE ec.expert.id = :expertId")
+	List<Long> findCertificateIdsByExpertId(@Param("expertId") Long expertId);
+
+	// 전문가 검색 인덱스 생성용 전체 전문가 - 자격증 이름
+	@Query("SELECT new com.ll.dopdang.domain.expert.dto.response.ExpertIndexName(ec.expert.id, ec.certificate.name) "
+		+ "FROM ExpertCertificate ec")
+	List<ExpertIndexName> findIndexNames();
+
+	@Query("SELECT ec.certificate.name FROM ExpertCertificate ec WHERE ec.expert.id = :expertId")
+	List<String> findCertificateNamesByExpertId(@Param("expertId") Long expertId);
+}
@@ -1,5 +1,6 @@
 package com.ll.dopdang.domain.expert.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,6 +8,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.ll.dopdang.domain.expert.dto.response.AutocompleteRow;
+import com.ll.dopdang.domain.expert.dto.response.ExpertIndexRow;
+import com.ll.dopdang.domain.expert.dto.response.ExpertRatingRow;
+import com.ll.dopdang.domain.expert.dto.response.ExpertResponseDto;
+import com.ll.dopdang.domain.expert.dto.response.ExpertSearchRow;
 import com.ll.dopdang.domain.expert.entity.Expert;
 
 import io.lettuce.core.dynamic.annotation.Param;
@@ -17,29 +23,60 @@ public interface ExpertRepository extends JpaRepository<Expert, Long> {
     @Query("SELECT e FROM Expert e JOIN FETCH e.member")
     List<Expert> findAllWithMember();
 
-    @Query("SELECT e FROM Expert e WHERE "
-        + "(e.careerYears >= :minYears OR :minYears IS NULL) AND "
-        + "(e.careerYears <= :maxYears OR :maxYears IS NULL) AND "
-        + "(e.category.name IN :categoryNames OR :categoryNames IS NULL)")
-    List<Expert> findByFilters(@Param("categoryNames") List<String> categoryNames,
-        @Param("minYears") Integer minYears,
-        @Param("maxYears") Integer maxYears);
-
     Optional<Expert> findByMemberId(Long memberId);
 
-    @Query("SELECT e FROM Expert e " +
-        "WHERE (:categoryNames IS NULL OR e.category.name IN :categoryNames) " +
-        "AND (:minYears IS NULL OR e.careerYears >= :minYears) " +
-        "AND (:maxYears IS NULL OR e.careerYears <= :maxYears) " +
-        "AND (:name IS NULL OR LOWER(e.member.name) LIKE LOWER(CONCAT('%', :name, '%')))")
-    List<Expert> findByFilters(
-        @Param("categoryNames") List<String> categoryNames,
-        @Param("minYears") Integer minYears,
-        @Param("maxYears") Integer maxYears,
-        @Param("name") String name
-    );
-
-	@Query("SELECT e FROM Expert e WHERE LOWER(e.member.name) LIKE LOWER(CONCAT('%', :name, '%'))")
-	List<Expert> findByMemberNameContaining(@Param("name") String name);
 	boolean existsByMemberId(Long id);
+
+	/**
+	 * 목록 응답 항목을 SQL 한 번으로 조회합니다. (엔티티를 만들지 않는 프로젝션, 순서는 보장하지 않음)
+	 */
+	@Query("SELECT new com.ll.dopdang.domain.expert.dto.response.ExpertResponseDto("
+		+ "COALESCE(rs.averageScore, 0), COALESCE(rs.reviewCount, 0), e.id, m.name, c.name, e.careerYears, "
+		+ "e.introduction, m.profileImage, c.id) "
+		+ "FROM Expert e JOIN e.member m JOIN e.category c LEFT JOIN e.reviewStats rs WHERE e.id IN :ids")
+	List<ExpertResponseDto> findListItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * 전문가 필터 인덱스 생성용 전체 조회 (엔티티를 만들지 않는 프로젝션)
+	 */
+	@Query("SELECT new com.ll.dopdang.domain.expert.dto.response.ExpertIndexRow("
+		+ "e.id, e.category.id, e.careerYears, e.availability) FROM Expert e")
+	List<ExpertIndexRow> findIndexRows();
+
+	@Query("SELECT new com.ll.dopdang.domain.expert.dto.response.ExpertIndexRow("
+		+ "e.id, e.category.id, e.careerYears, e.availability) FROM Expert e WHERE e.id = :id")
+	Optional<ExpertIndexRow> findIndexRowById(@Param("id") Long id);
+
+	/**
+	 * 전문가 검색 인덱스 생성용 전체 조회 (엔티티를 만들지 않는 프로젝션)
+	 */
+	@Query("SELECT new com.ll.dopdang.domain.expert.dto.response.ExpertSearchRow("
+		+ "e.id, m.name, e.introduction, c.name, rs.averageScore, rs.reviewCount) "
+		+ "FROM Expert e JOIN e.member m JOIN e.category c LEFT JOIN e.reviewStats rs")
+	List<ExpertSearchRow> findSearchRows();
+
+	@Query("SELECT new com.ll.dopdang.domain.expert.dto.response.ExpertSearchRow("
+		+ "e.id, m.name, e.introduction, c.name, rs.averageScore, rs.reviewCount) "
+		+ "FROM Expert e JOIN e.member m JOIN e.category c LEFT JOIN e.reviewStats rs WHERE e.id = :id")
+	Optional<ExpertSearchRow> findSearchRowById(@Param("id") Long id);
+
+	/**
+	 * 전문가 평점 순위표 생성용 전체 조회 (엔티티를 만들지 않는 프로젝션)
+	 */
+	@Query("SELECT new com.ll.dopdang.domain.expert.dto.response.ExpertRatingRow("
+		+ "e.id, e.category.id, rs.averageScore, rs.reviewCount) FROM Expert e LEFT JOIN e.reviewStats rs")
+	List<ExpertRatingRow> findRatingRows();
+
+	@Query("SELECT new com.ll.dopdang.domain.expert.dto.response.ExpertRatingRow("
+		+ "e.id, e.category.id, rs.averageScore, rs.reviewCount) FROM Expert e LEFT JOIN e.reviewStats rs "
+		+ "WHERE e.id = :id")
+	Optional<ExpertRatingRow> findRatingRowById(@Param("id") Long id);
+
+	/**
+	 * 전문가 이름 자동완성 색인 생성용 전체 조회 (인기도는 리뷰 수, 엔티티를 만들지 않는 프로젝션)
+	 */
+	@Query("SELECT new com.ll.dopdang.domain.expert.dto.response.AutocompleteRow("
+		+ "e.id, m.name, c.name, CAST(COALESCE(rs.reviewCount, 0) AS Long)) "
+		+ "FROM Expert e JOIN e.member m JOIN e.category c LEFT JOIN e.reviewStats rs")
+	List<AutocompleteRow> findAutocompleteRows();
 }
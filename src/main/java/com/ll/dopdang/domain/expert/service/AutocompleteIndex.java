@@ -0,0 +1,267 @@
+package com.ll.dopdang.domain.expert.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ll.dopdang.domain.expert.category.service.CategoryTreeCache;
+import com.ll.dopdang.domain.expert.category.util.CategoryTree;
+import com.ll.dopdang.domain.expert.dto.response.AutocompleteResponseDto;
+import com.ll.dopdang.domain.expert.dto.response.AutocompleteRow;
+import com.ll.dopdang.domain.expert.dto.response.ExpertFacetResponseDto;
+import com.ll.dopdang.domain.expert.event.ExpertChangedEvent;
+import com.ll.dopdang.domain.expert.repository.CertificateRepository;
+import com.ll.dopdang.domain.expert.repository.ExpertRepository;
+import com.ll.dopdang.domain.expert.util.AutocompleteTrie;
+import com.ll.dopdang.global.exception.ErrorCode;
+import com.ll.dopdang.global.exception.ServiceException;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 로컬 자동완성 색인 (자격증, 카테고리, 전문가 이름)
+ * 유형별로 {@link AutocompleteTrie}를 하나씩 두고, 입력할 때마다 LIKE 조회 대신 트라이에서 인기도 상위 k건을 찾습니다.
+ * <ul>
+ *     <li>생성: 애플리케이션 시작 시(또는 첫 조회 시) 유형별로 전체 생성</li>
+ *     <li>갱신: 전문가 등록/수정({@link ExpertChangedEvent}) 커밋 후, 자격증 수집 후 {@link #refresh}가 Redis로 모든 노드에 알리면,
+ *     각 노드는 해당 유형을 표시해 두었다가 autocomplete.refresh-delay-ms마다 백그라운드에서 새 트라이로 교체
+ *     (연속된 변경은 한 번의 생성으로 합쳐짐)</li>
+ *     <li>보정: 알림을 놓치거나 인기도(리뷰 수)만 바뀐 경우는 autocomplete.rebuild-interval-ms마다 전체 재생성</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutocompleteIndex {
+
+	static final String REFRESH_CHANNEL = "autocomplete:refresh";
+
+	private final ExpertRepository expertRepository;
+	private final CertificateRepository certificateRepository;
+	private final CategoryTreeCache categoryTreeCache;
+	private final ExpertFilterIndex expertFilterIndex;
+	private final IndexRefreshNotifier indexRefreshNotifier;
+
+	private final Object rebuildMonitor = new Object();
+	private final Map<Type, AtomicBoolean> dirty = dirtyFlags();
+	// 조회 결과 항목 번호를 받을 스레드별 버퍼
+	private final ThreadLocal<int[]> buffers = ThreadLocal.withInitial(() -> new int[AutocompleteTrie.MAX_LIMIT]);
+
+	// 유형 -> 트라이 (교체할 때마다 새 맵으로 바꿔 끼움)
+	private volatile Map<Type, AutocompleteTrie> tries = new EnumMap<>(Type.class);
+
+	@PostConstruct
+	public void init() {
+		indexRefreshNotifier.subscribe(REFRESH_CHANNEL, payload -> dirty.get(Type.valueOf(payload)).set(true));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		// 실패한 유형은 다음 갱신 주기나 첫 조회 때 다시 생성
+		rebuildAll();
+	}
+
+	@Scheduled(fixedDelayString = "${autocomplete.rebuild-interval-ms:600000}",
+		initialDelayString = "${autocomplete.rebuild-interval-ms:600000}")
+	public void rebuildAll() {
+		for (Type type : Type.values()) {
+			dirty.get(type).set(false);
+			try {
+				rebuild(type);
+			} catch (RuntimeException e) {
+				dirty.get(type).set(true);
+				log.warn("자동완성 색인 생성 실패. type: {}, error: {}", type, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 변경 알림을 받은 유형만 새로 만듭니다.
+	 */
+	@Scheduled(fixedDelayString = "${autocomplete.refresh-delay-ms:5000}")
+	public void rebuildChanged() {
+		for (Type type : Type.values()) {
+			if (dirty.get(type).getAndSet(false)) {
+				try {
+					rebuild(type);
+				} catch (RuntimeException e) {
+					dirty.get(type).set(true);
+					log.warn("자동완성 색인 갱신 실패. type: {}, error: {}", type, e.getMessage());
+				}
+			}
+		}
+	}
+
+	/**
+	 * 유형의 트라이를 DB 기준으로 새로 만들어 교체합니다. 생성 중에도 기존 트라이로 조회할 수 있습니다.
+	 */
+	public void rebuild(Type type) {
+		synchronized (rebuildMonitor) {
+			long start = System.nanoTime();
+			AutocompleteTrie trie = AutocompleteTrie.of(load(type), type.infix);
+			Map<Type, AutocompleteTrie> replaced = new EnumMap<>(Type.class);
+			replaced.putAll(tries);
+			replaced.put(type, trie);
+			tries = replaced;
+			log.info("자동완성 색인 생성 완료. type: {}, items: {}, nodes: {}, bytes: {}, elapsedMs: {}", type,
+				trie.size(), trie.nodeCount(), trie.sizeInBytes(),
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		}
+	}
+
+	/**
+	 * 전문가가 등록/수정되면 커밋 후 모든 유형을 갱신하도록 알립니다.
+	 * (전문가 이름, 전문가 수로 정하는 자격증/카테고리 인기도가 바뀔 수 있음)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onExpertChanged(ExpertChangedEvent event) {
+		if (event.profileChanged()) {
+			refresh(Type.values());
+		}
+	}
+
+	/**
+	 * 자동완성 대상이 바뀌었음을 모든 노드에 바로 알립니다. (트랜잭션 안에서 바뀌었으면 커밋 후에 호출)
+	 *
+	 * @param types 바뀐 유형
+	 */
+	public void refresh(Type... types) {
+		for (Type type : types) {
+			indexRefreshNotifier.publish(REFRESH_CHANNEL, type.name(), payload -> dirty.get(type).set(true));
+		}
+	}
+
+	/**
+	 * 검색어로 시작하는 항목을 인기도 순으로 반환합니다.
+	 * 트라이 조회({@link AutocompleteTrie#search})는 스레드별 버퍼에 항목 번호만 쓰고 객체를 만들지 않으며,
+	 * 이 메서드는 결과 목록 하나를 새로 만듭니다. (목록에 담는 항목 객체는 트라이와 공유)
+	 *
+	 * @param type  자동완성 유형
+	 * @param query 입력 중인 검색어 (완성되지 않은 글자, 초성만 입력한 경우 포함)
+	 * @param limit 최대 결과 수 (1~{@value AutocompleteTrie#MAX_LIMIT})
+	 */
+	public List<AutocompleteResponseDto> search(Type type, String query, int limit) {
+		if (query == null || query.isBlank()) {
+			return List.of();
+		}
+		AutocompleteTrie trie = ensureBuilt(type);
+		int[] buffer = buffers.get();
+		int count = trie.search(query, buffer, Math.max(1, limit));
+		List<AutocompleteResponseDto> results = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			results.add(trie.item(buffer[i]));
+		}
+		return results;
+	}
+
+	/**
+	 * 이름에 검색어가 포함된 항목을 모두 인기도 순으로 반환합니다. (대소문자 무시, 자모/초성 일치 없음)
+	 * 상위 k건이 아닌 전체 일치 결과가 필요한 기존 이름 검색용이며, 항목 전체를 훑으므로 항목 수가 적은 유형에만 사용합니다.
+	 *
+	 * @param type  자동완성 유형
+	 * @param query 검색어 (비어 있으면 전체)
+	 */
+	public List<AutocompleteResponseDto> findAllContaining(Type type, String query) {
+		AutocompleteTrie trie = ensureBuilt(type);
+		String keyword = query != null ? query.strip() : "";
+		List<AutocompleteResponseDto> results = new ArrayList<>();
+		for (int entry = 0; entry < trie.size(); entry++) {
+			AutocompleteResponseDto item = trie.item(entry);
+			if (containsIgnoreCase(item.name(), keyword)) {
+				results.add(item);
+			}
+		}
+		return results;
+	}
+
+	private static boolean containsIgnoreCase(String name, String keyword) {
+		for (int offset = 0; offset + keyword.length() <= name.length(); offset++) {
+			if (name.regionMatches(true, offset, keyword, 0, keyword.length())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private AutocompleteTrie ensureBuilt(Type type) {
+		AutocompleteTrie trie = tries.get(type);
+		if (trie != null) {
+			return trie;
+		}
+		synchronized (rebuildMonitor) {
+			if (!tries.containsKey(type)) {
+				rebuild(type);
+			}
+			return tries.get(type);
+		}
+	}
+
+	private List<AutocompleteRow> load(Type type) {
+		return switch (type) {
+			case CERTIFICATE -> certificateRepository.findAutocompleteRows();
+			case EXPERT -> expertRepository.findAutocompleteRows();
+			case CATEGORY -> loadCategories();
+		};
+	}
+
+	/**
+	 * 카테고리 트리의 모든 카테고리 (인기도는 필터 인덱스의 대분류/소분류별 전문가 수)
+	 */
+	private List<AutocompleteRow> loadCategories() {
+		CategoryTree categoryTree = categoryTreeCache.get();
+		ExpertFacetResponseDto facets = expertFilterIndex.facets(null, null, null, null, null);
+		Map<Long, Integer> counts = new HashMap<>();
+		facets.getCategories().forEach(count -> counts.put(count.getId(), count.getCount()));
+		facets.getSubCategories().forEach(count -> counts.put(count.getId(), count.getCount()));
+		return categoryTree.all().stream()
+			.map(category -> new AutocompleteRow(category.id(), category.name(),
+				categoryTree.find(category.parentId()).map(CategoryTree.Node::name).orElse(null),
+				counts.getOrDefault(category.id(), 0).longValue()))
+			.toList();
+	}
+
+	private static Map<Type, AtomicBoolean> dirtyFlags() {
+		return Arrays.stream(Type.values())
+			.collect(Collectors.toMap(Function.identity(), ignored -> new AtomicBoolean(),
+				(left, right) -> left, () -> new EnumMap<>(Type.class)));
+	}
+
+	/**
+	 * 자동완성 유형
+	 */
+	public enum Type {
+		CERTIFICATE(true),
+		CATEGORY(true),
+		EXPERT(false);
+
+		// 이름 중간부터도 일치시킬지 (항목 수가 적은 유형만)
+		private final boolean infix;
+
+		Type(boolean infix) {
+			this.infix = infix;
+		}
+
+		public static Type from(String value) {
+			return Arrays.stream(values())
+				.filter(type -> type.name().equalsIgnoreCase(value))
+				.findFirst()
+				.orElseThrow(() -> new ServiceException(ErrorCode.INVALID_AUTOCOMPLETE_TYPE, value));
+		}
+	}
+}
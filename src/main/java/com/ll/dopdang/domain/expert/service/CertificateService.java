@@ -25,6 +25,7 @@ public class CertificateService {
 	private static final Logger log = LoggerFactory.getLogger(CertificateService.class);
 	private static final String API_URL = "http://openapi.q-net.or.kr/api/service/rest/InquiryQualInfo/getList";
 	private final CertificateRepository certificateRepository; // DB 접근 레포지토리
+	private final AutocompleteIndex autocompleteIndex;
 	@Value("${service.key}") // 환경변수로부터 서비스 키 값 주입
 	private String serviceKey;
 
@@ -41,11 +42,17 @@ public class CertificateService {
 			.toList();
 	}
 
+	/**
+	 * 자격증 이름 검색
+	 * 기존 LIKE 검색과 같이 이름에 검색어가 포함된 자격증을 모두 반환하고, 검색어가 비어 있으면 전체를 반환합니다.
+	 * 입력할 때마다 호출되므로 DB 대신 자동완성 색인의 항목에서 찾고, 보유 전문가가 많은 순으로 정렬합니다.
+	 * (자격증 수집 직후에는 색인이 갱신될 때까지 autocomplete.refresh-delay-ms 정도 늦게 반영됨)
+	 * 상위 k건 자동완성과 자모/초성 일치는 GET /autocomplete?type=certificate를 사용합니다.
+	 */
 	public List<CertificateResponseDto> getCertificatesByName(String name) {
-		List<Certificate> certificates = certificateRepository.findByNameContaining(name);
-
-		return certificates.stream()
-			.map(certificate -> new CertificateResponseDto(certificate.getId(), certificate.getName()))
+		return autocompleteIndex.findAllContaining(AutocompleteIndex.Type.CERTIFICATE, name)
+			.stream()
+			.map(certificate -> new CertificateResponseDto(certificate.id(), certificate.name()))
 			.toList();
 	}
 
@@ -88,6 +95,7 @@ public class CertificateService {
 
 			if (!certificatesToSave.isEmpty()) {
 				certificateRepository.saveAll(certificatesToSave); // 배치 저장
+				autocompleteIndex.refresh(AutocompleteIndex.Type.CERTIFICATE);
 			}
 
 		} catch (Exception e) {
@@ -0,0 +1,336 @@
+package com.ll.dopdang.domain.expert.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ll.dopdang.domain.expert.category.repository.ExpertCategoryRepository;
+import com.ll.dopdang.domain.expert.category.service.CategoryTreeCache;
+import com.ll.dopdang.domain.expert.category.util.CategoryTree;
+import com.ll.dopdang.domain.expert.dto.response.ExpertFacetCountDto;
+import com.ll.dopdang.domain.expert.dto.response.ExpertFacetResponseDto;
+import com.ll.dopdang.domain.expert.dto.response.ExpertIndexRow;
+import com.ll.dopdang.domain.expert.entity.CareerLevel;
+import com.ll.dopdang.domain.expert.event.ExpertChangedEvent;
+import com.ll.dopdang.domain.expert.entity.Certificate;
+import com.ll.dopdang.domain.expert.repository.CertificateRepository;
+import com.ll.dopdang.domain.expert.repository.ExpertCertificateRepository;
+import com.ll.dopdang.domain.expert.repository.ExpertRepository;
+import com.ll.dopdang.domain.expert.util.CompressedBitmap;
+import com.ll.dopdang.domain.expert.util.ExpertBitmapIndex;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 로컬 전문가 필터 인덱스
+ * 전문가 목록 필터(대분류, 소분류, 경력 수준, 자격증, 활동 가능 여부)를 DB 조회 대신
+ * {@link ExpertBitmapIndex}의 비트맵 교집합으로 계산하고, 같은 인덱스로 항목별 전문가 수도 계산합니다.
+ * <ul>
+ *     <li>생성: 애플리케이션 시작 시(또는 첫 조회 시) DB에서 프로젝션으로 전체 생성</li>
+ *     <li>갱신: 전문가 등록/수정({@link ExpertChangedEvent}) 커밋 후 Redis로 모든 노드에 알리고,
+ *     각 노드가 해당 전문가만 DB에서 다시 읽어 반영</li>
+ *     <li>보정: 알림을 놓쳐도 expert.filter-index.rebuild-interval-ms마다 전체 재생성</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpertFilterIndex {
+
+	static final String REFRESH_CHANNEL = "expert:filter-index:refresh";
+
+	private final ExpertRepository expertRepository;
+	private final ExpertCategoryRepository expertCategoryRepository;
+	private final ExpertCertificateRepository expertCertificateRepository;
+	private final CategoryTreeCache categoryTreeCache;
+	private final CertificateRepository certificateRepository;
+	private final IndexRefreshNotifier indexRefreshNotifier;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Object rebuildMonitor = new Object();
+	// 전체 재생성 중에 갱신된 전문가 (이전 인덱스에 반영되므로 재생성 후 다시 반영)
+	private final Set<Long> refreshedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+	private volatile ExpertBitmapIndex index;
+	private volatile Names names = new Names(Map.of(), Map.of(), Map.of());
+	private volatile boolean rebuilding;
+
+	@PostConstruct
+	public void init() {
+		indexRefreshNotifier.subscribe(REFRESH_CHANNEL, payload -> refreshLocal(Long.valueOf(payload)));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			// 첫 조회 때 다시 생성
+			log.warn("전문가 필터 인덱스 생성 실패. error: {}", e.getMessage());
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${expert.filter-index.rebuild-interval-ms:600000}",
+		initialDelayString = "${expert.filter-index.rebuild-interval-ms:600000}")
+	public void scheduledRebuild() {
+		rebuild();
+	}
+
+	/**
+	 * DB에서 인덱스를 새로 만들어 교체합니다. 생성 중에도 기존 인덱스로 조회할 수 있습니다.
+	 */
+	public void rebuild() {
+		synchronized (rebuildMonitor) {
+			long start = System.nanoTime();
+			rebuilding = true;
+			ExpertBitmapIndex rebuilt = new ExpertBitmapIndex();
+			Names loadedNames;
+			try {
+				expertRepository.findIndexRows().forEach(rebuilt::add);
+				expertCategoryRepository.findIndexLinks()
+					.forEach(link -> rebuilt.addSubCategory(link.expertId(), link.targetId()));
+				expertCertificateRepository.findIndexLinks()
+					.forEach(link -> rebuilt.addCertificate(link.expertId(), link.targetId()));
+				loadedNames = loadNames();
+				lock.writeLock().lock();
+				try {
+					index = rebuilt;
+					names = loadedNames;
+				} finally {
+					lock.writeLock().unlock();
+				}
+			} finally {
+				rebuilding = false;
+			}
+			for (Long expertId : List.copyOf(refreshedDuringRebuild)) {
+				refreshedDuringRebuild.remove(expertId);
+				refreshLocal(expertId);
+			}
+			log.info("전문가 필터 인덱스 생성 완료. experts: {}, bytes: {}, elapsedMs: {}", rebuilt.size(),
+				rebuilt.sizeInBytes(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		}
+	}
+
+	/**
+	 * 전문가가 등록/수정되면 커밋 후 모든 노드에 알립니다. (리뷰 평점은 필터 대상이 아니므로 무시)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onExpertChanged(ExpertChangedEvent event) {
+		if (!event.profileChanged()) {
+			return;
+		}
+		indexRefreshNotifier.publish(REFRESH_CHANNEL, String.valueOf(event.expertId()),
+			payload -> refreshLocal(event.expertId()));
+	}
+
+	/**
+	 * 이 노드의 인덱스에서 전문가 하나를 DB 기준으로 다시 반영합니다. (삭제된 전문가는 제거)
+	 */
+	void refreshLocal(Long expertId) {
+		if (rebuilding) {
+			refreshedDuringRebuild.add(expertId);
+		}
+		if (index == null) {
+			// 아직 생성 전이면 생성할 때 DB에서 함께 읽음
+			return;
+		}
+		Optional<ExpertIndexRow> row = expertRepository.findIndexRowById(expertId);
+		List<Long> subCategoryIds = row.isPresent()
+			? expertCategoryRepository.findSubCategoryIdsByExpertId(expertId) : List.of();
+		List<Long> certificateIds = row.isPresent()
+			? expertCertificateRepository.findCertificateIdsByExpertId(expertId) : List.of();
+		Names currentNames = names;
+		// 새로 추가된 카테고리/자격증이면 이름도 다시 읽음
+		boolean unknownCategory = row.isPresent() && (!currentNames.categories().containsKey(row.get().categoryId())
+			|| !currentNames.categories().keySet().containsAll(subCategoryIds));
+		boolean unknownName = unknownCategory
+			|| row.isPresent() && !currentNames.certificates().keySet().containsAll(certificateIds);
+		if (unknownCategory) {
+			// 카테고리 트리 스냅샷이 아직 이전 내용일 수 있으므로 먼저 다시 읽음
+			categoryTreeCache.reload();
+		}
+		Names loadedNames = unknownName ? loadNames() : currentNames;
+
+		lock.writeLock().lock();
+		try {
+			row.ifPresentOrElse(
+				value -> index.put(value, subCategoryIds, certificateIds),
+				() -> index.remove(expertId));
+			names = loadedNames;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 조건에 맞는 전문가 중 ID가 after보다 큰 전문가 ID를 오름차순으로 최대 limit개 반환합니다. (null인 조건은 적용하지 않음)
+	 *
+	 * @param categoryNames  대분류 카테고리 이름 (하나라도 해당)
+	 * @param subCategoryIds 소분류 카테고리 ID (하나라도 해당)
+	 * @param careerLevel    경력 수준
+	 * @param certificateIds 자격증 ID (하나라도 보유)
+	 * @param available      활동 가능 여부
+	 * @param after          이전 페이지의 마지막 전문가 ID (null이면 처음부터)
+	 * @param limit          최대 결과 수
+	 */
+	public List<Long> search(Collection<String> categoryNames, Collection<Long> subCategoryIds,
+		CareerLevel careerLevel, Collection<Long> certificateIds, Boolean available, Long after, int limit) {
+		ExpertBitmapIndex.Filter filter = filter(categoryNames, subCategoryIds, careerLevel, certificateIds, available);
+		int from = after == null ? -1 : (int)Math.max(-1, Math.min(after, Integer.MAX_VALUE));
+		int[] expertIds;
+		lock.readLock().lock();
+		try {
+			expertIds = ensureBuilt().search(filter, from, limit);
+		} finally {
+			lock.readLock().unlock();
+		}
+		List<Long> result = new ArrayList<>(expertIds.length);
+		for (int expertId : expertIds) {
+			result.add((long)expertId);
+		}
+		return result;
+	}
+
+	/**
+	 * 조건에 맞는 전문가 ID 조건을 반환합니다. (다른 검색 결과를 필터 조건으로 거를 때 사용, 조건은 {@link #search}와 같음)
+	 */
+	public IntPredicate matcher(Collection<String> categoryNames, Collection<Long> subCategoryIds,
+		CareerLevel careerLevel, Collection<Long> certificateIds, Boolean available) {
+		ExpertBitmapIndex.Filter filter = filter(categoryNames, subCategoryIds, careerLevel, certificateIds, available);
+		CompressedBitmap matches;
+		lock.readLock().lock();
+		try {
+			matches = ensureBuilt().match(filter);
+		} finally {
+			lock.readLock().unlock();
+		}
+		return matches::contains;
+	}
+
+	/**
+	 * 조건에 맞는 전문가 수와 항목별 전문가 수를 반환합니다. (조건은 {@link #search}와 같음)
+	 */
+	public ExpertFacetResponseDto facets(Collection<String> categoryNames, Collection<Long> subCategoryIds,
+		CareerLevel careerLevel, Collection<Long> certificateIds, Boolean available) {
+		ExpertBitmapIndex.Filter filter = filter(categoryNames, subCategoryIds, careerLevel, certificateIds, available);
+		ExpertBitmapIndex.Facets facets;
+		lock.readLock().lock();
+		try {
+			facets = ensureBuilt().facets(filter);
+		} finally {
+			lock.readLock().unlock();
+		}
+		Names currentNames = names;
+		return ExpertFacetResponseDto.builder()
+			.total(facets.total())
+			.available(facets.available())
+			.categories(toCounts(facets.mainCategories(), currentNames.categories()))
+			.subCategories(toCounts(facets.subCategories(), currentNames.categories()))
+			.careerLevels(facets.careerLevels().entrySet().stream()
+				.map(entry -> new ExpertFacetCountDto(null, entry.getKey().getValue(), entry.getValue()))
+				.toList())
+			.certificates(toCounts(facets.certificates(), currentNames.certificates()))
+			.build();
+	}
+
+	private ExpertBitmapIndex.Filter filter(Collection<String> categoryNames, Collection<Long> subCategoryIds,
+		CareerLevel careerLevel, Collection<Long> certificateIds, Boolean available) {
+		Collection<Long> mainCategoryIds = null;
+		if (categoryNames != null) {
+			// 없는 이름은 해당하는 전문가가 없는 조건 (기존 category.name IN 조건과 같음)
+			Map<String, Long> idsByName = ensureNames().mainCategoryIdsByName();
+			mainCategoryIds = categoryNames.stream()
+				.map(idsByName::get)
+				.filter(Objects::nonNull)
+				.toList();
+		}
+		return new ExpertBitmapIndex.Filter(mainCategoryIds, subCategoryIds, careerLevel, certificateIds, available);
+	}
+
+	/**
+	 * 읽기 잠금을 잡은 상태에서 호출합니다. 아직 생성 전이면 잠금을 잠시 풀고 생성합니다.
+	 */
+	private ExpertBitmapIndex ensureBuilt() {
+		ExpertBitmapIndex current = index;
+		if (current != null) {
+			return current;
+		}
+		lock.readLock().unlock();
+		try {
+			synchronized (rebuildMonitor) {
+				if (index == null) {
+					rebuild();
+				}
+			}
+		} finally {
+			lock.readLock().lock();
+		}
+		return index;
+	}
+
+	private Names ensureNames() {
+		if (index == null) {
+			lock.readLock().lock();
+			try {
+				ensureBuilt();
+			} finally {
+				lock.readLock().unlock();
+			}
+		}
+		return names;
+	}
+
+	private Names loadNames() {
+		Map<String, Long> mainCategoryIdsByName = new HashMap<>();
+		Map<Long, String> categories = new HashMap<>();
+		CategoryTree categoryTree = categoryTreeCache.get();
+		categoryTree.roots().forEach(root -> mainCategoryIdsByName.putIfAbsent(root.name(), root.id()));
+		categoryTree.all().forEach(category -> categories.put(category.id(), category.name()));
+		Map<Long, String> certificates = new HashMap<>();
+		for (Certificate certificate : certificateRepository.findAll()) {
+			certificates.put(certificate.getId(), certificate.getName());
+		}
+		return new Names(mainCategoryIdsByName, categories, certificates);
+	}
+
+	private static List<ExpertFacetCountDto> toCounts(Map<Long, Integer> counts, Map<Long, String> names) {
+		return counts.entrySet().stream()
+			.sorted(Map.Entry.<Long, Integer>comparingByValue(Comparator.reverseOrder())
+				.thenComparing(Map.Entry.comparingByKey()))
+			.map(entry -> new ExpertFacetCountDto(entry.getKey(), names.get(entry.getKey()), entry.getValue()))
+			.toList();
+	}
+
+	/**
+	 * 필터 조건, 항목별 수 응답에 쓰는 이름
+	 *
+	 * @param mainCategoryIdsByName 대분류 이름 -> ID
+	 * @param categories            카테고리 ID -> 이름 (대분류, 소분류)
+	 * @param certificates          자격증 ID -> 이름
+	 */
+	private record Names(
+		Map<String, Long> mainCategoryIdsByName,
+		Map<Long, String> categories,
+		Map<Long, String> certificates
+	) {
+	}
+}
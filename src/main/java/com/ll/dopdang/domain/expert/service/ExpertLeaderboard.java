@@ -0,0 +1,251 @@
+package com.ll.dopdang.domain.expert.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ll.dopdang.domain.expert.dto.response.ExpertRatingRow;
+import com.ll.dopdang.domain.expert.event.ExpertChangedEvent;
+import com.ll.dopdang.domain.expert.repository.ExpertRepository;
+import com.ll.dopdang.domain.review.repository.ReviewStatsRepository;
+import com.ll.dopdang.global.redis.lock.RedisLock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대분류별 전문가 평점 순위표 (Redis ZSET)
+ * <pre>
+ * expert:leaderboard:all             전문가 ID -> 점수 (전체 순위)
+ * expert:leaderboard:category:{id}   전문가 ID -> 점수 (대분류별 순위)
+ * expert:leaderboard:categories      전문가 ID -> 대분류 ID (대분류가 바뀌면 이전 순위표에서 빼기 위함)
+ * </pre>
+ * 점수는 베이지안 평균 평점 ((사전 리뷰 수 x 사전 평점 + 평균 평점 x 리뷰 수) / (사전 리뷰 수 + 리뷰 수))으로,
+ * 리뷰 1건짜리 만점 전문가가 리뷰가 많은 전문가보다 앞서지 않도록 합니다. 평점이 같으면 리뷰가 많은 전문가가 앞입니다.
+ * <ul>
+ *     <li>갱신: 리뷰 등록/삭제, 전문가 등록/수정({@link ExpertChangedEvent}) 커밋 후 해당 전문가만 DB에서 읽어 반영
+ *     (순위표가 Redis에 있으므로 이벤트가 발생한 노드에서 한 번만 반영)</li>
+ *     <li>생성: 순위표가 없으면 애플리케이션 시작 시, 그리고 expert.leaderboard.rebuild-interval-ms마다
+ *     한 노드만(분산 락) DB 기준으로 전체를 다시 반영 (갱신 유실, 삭제된 전문가 보정)</li>
+ *     <li>조회: 상위 k건만 ZREVRANGE로 읽고, Redis를 쓸 수 없으면 DB에서 같은 점수식으로 k건만 조회</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpertLeaderboard {
+
+	static final String ALL_KEY = "expert:leaderboard:all";
+	static final String CATEGORY_KEY_PREFIX = "expert:leaderboard:category:";
+	static final String CATEGORIES_KEY = "expert:leaderboard:categories";
+	private static final String REBUILD_LOCK_KEY = "lock:expert:leaderboard:rebuild";
+	private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(5);
+	private static final RedisScript<Long> PUT_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/expert-leaderboard-put.lua"), Long.class);
+	// 스크립트 한 번에 반영할 전문가 수 (Redis를 오래 막지 않도록)
+	private static final int BATCH_SIZE = 500;
+	// 이전 대분류를 읽은 뒤 다른 갱신과 겹쳤을 때 다시 시도할 횟수
+	private static final int MAX_PUT_ATTEMPTS = 3;
+	private static final int MAX_LIMIT = 100;
+	private static final int MAX_TIE_BREAK_REVIEWS = 99_999;
+
+	private final ExpertRepository expertRepository;
+	private final ReviewStatsRepository reviewStatsRepository;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisLock redisLock;
+
+	@Value("${expert.leaderboard.prior-mean:3.0}")
+	private double priorMean;
+
+	@Value("${expert.leaderboard.prior-count:5}")
+	private int priorCount;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		try {
+			if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(ALL_KEY))) {
+				rebuild();
+			}
+		} catch (RuntimeException e) {
+			// 조회는 DB로 대체되고, 주기적인 재생성 때 다시 시도
+			log.warn("전문가 순위표 생성 실패. error: {}", e.getMessage());
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${expert.leaderboard.rebuild-interval-ms:3600000}",
+		initialDelayString = "${expert.leaderboard.rebuild-interval-ms:3600000}")
+	public void scheduledRebuild() {
+		rebuild();
+	}
+
+	/**
+	 * DB 기준으로 모든 전문가의 점수를 다시 반영하고, 없어진 전문가를 순위표에서 뺍니다.
+	 * 다른 노드가 생성 중이면 건너뜁니다.
+	 */
+	public void rebuild() {
+		Optional<RedisLock.Lease> lease = redisLock.tryAcquire(REBUILD_LOCK_KEY, REBUILD_LOCK_TTL);
+		if (lease.isEmpty()) {
+			return;
+		}
+		try {
+			long start = System.nanoTime();
+			List<ExpertRatingRow> rows = expertRepository.findRatingRows();
+			Set<String> expertIds = new HashSet<>();
+			List<String> entries = new ArrayList<>();
+			for (ExpertRatingRow row : rows) {
+				expertIds.add(String.valueOf(row.expertId()));
+				addEntry(entries, row);
+				if (entries.size() >= BATCH_SIZE * 3) {
+					put(entries);
+					entries.clear();
+				}
+			}
+			put(entries);
+
+			// 순위표에만 남아 있는 전문가 제거
+			List<String> removed = new ArrayList<>();
+			for (Object expertId : stringRedisTemplate.opsForHash().keys(CATEGORIES_KEY)) {
+				if (!expertIds.contains(expertId.toString())) {
+					removed.addAll(List.of(expertId.toString(), "", "0"));
+				}
+			}
+			put(removed);
+			log.info("전문가 순위표 생성 완료. experts: {}, removed: {}, elapsedMs: {}", rows.size(),
+				removed.size() / 3, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		} finally {
+			redisLock.release(lease.get());
+		}
+	}
+
+	/**
+	 * 전문가의 평점이나 대분류가 바뀌면 커밋 후 순위표에 반영합니다.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onExpertChanged(ExpertChangedEvent event) {
+		refresh(event.expertId());
+	}
+
+	/**
+	 * 점수 상위 전문가 ID를 반환합니다.
+	 *
+	 * @param categoryId 대분류 카테고리 ID (null이면 전체)
+	 * @param limit      최대 결과 수 (1~{@value #MAX_LIMIT})
+	 */
+	public List<Long> top(Long categoryId, int limit) {
+		int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+		try {
+			Set<String> expertIds = stringRedisTemplate.opsForZSet()
+				.reverseRange(categoryId != null ? CATEGORY_KEY_PREFIX + categoryId : ALL_KEY, 0, boundedLimit - 1);
+			// 결과가 없으면 빈 대분류인지, 순위표가 아직 없는지 구분
+			boolean built = expertIds != null
+				&& (!expertIds.isEmpty() || Boolean.TRUE.equals(stringRedisTemplate.hasKey(ALL_KEY)));
+			if (built) {
+				return expertIds.stream().map(Long::valueOf).toList();
+			}
+		} catch (RuntimeException e) {
+			log.warn("전문가 순위표 조회 실패, DB에서 조회합니다. categoryId: {}, error: {}", categoryId, e.getMessage());
+		}
+		return reviewStatsRepository.findTopExpertIdsByRatingAndCategory(categoryId, priorMean, priorCount,
+			PageRequest.of(0, boundedLimit));
+	}
+
+	/**
+	 * 순위표 점수: 소수 넷째 자리까지의 베이지안 평점 + 리뷰 수 (같은 평점이면 리뷰가 많은 쪽이 앞, 평점 자리에는 영향 없음)
+	 */
+	double score(double averageScore, int reviewCount) {
+		double bayesian = (priorCount * priorMean + averageScore * reviewCount) / (priorCount + reviewCount);
+		return Math.round(bayesian * 10_000) / 10_000.0 + Math.min(reviewCount, MAX_TIE_BREAK_REVIEWS) * 1e-10;
+	}
+
+	/**
+	 * 전문가 한 명의 점수를 DB 기준으로 순위표에 반영합니다. (삭제된 전문가는 제거)
+	 *
+	 * @param expertId 전문가 ID
+	 */
+	public void refresh(Long expertId) {
+		try {
+			List<String> entries = new ArrayList<>(3);
+			expertRepository.findRatingRowById(expertId).ifPresentOrElse(
+				row -> addEntry(entries, row),
+				() -> entries.addAll(List.of(String.valueOf(expertId), "", "0")));
+			put(entries);
+		} catch (RuntimeException e) {
+			// 주기적인 재생성 때 반영됨
+			log.warn("전문가 순위표 갱신 실패. expertId: {}, error: {}", expertId, e.getMessage());
+		}
+	}
+
+	private void addEntry(List<String> entries, ExpertRatingRow row) {
+		double averageScore = row.averageScore() != null ? row.averageScore().doubleValue() : 0;
+		int reviewCount = row.reviewCount() != null ? row.reviewCount() : 0;
+		entries.add(String.valueOf(row.expertId()));
+		entries.add(String.valueOf(row.categoryId()));
+		entries.add(String.valueOf(score(averageScore, reviewCount)));
+	}
+
+	/**
+	 * (전문가 ID, 대분류 ID, 점수) 묶음을 순위표에 반영합니다.
+	 * 스크립트가 쓰는 키를 모두 KEYS로 넘기기 위해 이전 대분류를 먼저 읽고,
+	 * 그 사이에 다른 갱신이 대분류를 바꿨으면 다시 읽어 반영합니다.
+	 */
+	private void put(List<String> entries) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		for (int attempt = 1; attempt <= MAX_PUT_ATTEMPTS; attempt++) {
+			if (tryPut(entries)) {
+				return;
+			}
+		}
+		throw new IllegalStateException("전문가 순위표 갱신이 다른 갱신과 계속 겹칩니다.");
+	}
+
+	private boolean tryPut(List<String> entries) {
+		int count = entries.size() / 3;
+		List<Object> expertIds = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			expertIds.add(entries.get(3 * i));
+		}
+		List<Object> previousIds = stringRedisTemplate.opsForHash().multiGet(CATEGORIES_KEY, expertIds);
+
+		List<String> keys = new ArrayList<>(2 + count * 2);
+		keys.add(ALL_KEY);
+		keys.add(CATEGORIES_KEY);
+		List<String> args = new ArrayList<>(count * 4);
+		for (int i = 0; i < count; i++) {
+			String categoryId = entries.get(3 * i + 1);
+			String previousId = previousIds.get(i) != null ? previousIds.get(i).toString() : "";
+			keys.add(categoryKey(categoryId));
+			keys.add(categoryKey(previousId));
+			args.add(entries.get(3 * i));
+			args.add(categoryId);
+			args.add(entries.get(3 * i + 2));
+			args.add(previousId);
+		}
+		Long removed = stringRedisTemplate.execute(PUT_SCRIPT, keys, args.toArray());
+		return removed != null && removed >= 0;
+	}
+
+	/**
+	 * 대분류 순위표 키 (대분류가 없으면 스크립트가 쓰지 않는 자리이므로 전체 순위표 키)
+	 */
+	private String categoryKey(String categoryId) {
+		return categoryId.isEmpty() ? ALL_KEY : CATEGORY_KEY_PREFIX + categoryId;
+	}
+}
@@ -0,0 +1,226 @@
+package com.ll.dopdang.domain.expert.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ll.dopdang.domain.expert.category.repository.ExpertCategoryRepository;
+import com.ll.dopdang.domain.expert.dto.response.ExpertIndexName;
+import com.ll.dopdang.domain.expert.dto.response.ExpertSearchRow;
+import com.ll.dopdang.domain.expert.event.ExpertChangedEvent;
+import com.ll.dopdang.domain.expert.repository.ExpertCertificateRepository;
+import com.ll.dopdang.domain.expert.repository.ExpertRepository;
+import com.ll.dopdang.domain.expert.util.ExpertSearchEngine;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 로컬 전문가 검색 인덱스
+ * 전문가 이름, 자기소개, 대분류/소분류, 자격증 이름을 {@link ExpertSearchEngine}에 색인하고,
+ * LIKE 조회 대신 BM25와 리뷰 평점으로 순위를 매긴 상위 k건을 반환합니다.
+ * <ul>
+ *     <li>생성: 애플리케이션 시작 시(또는 첫 조회 시) DB에서 프로젝션으로 전체 생성</li>
+ *     <li>갱신: 전문가 등록/수정, 리뷰 등록/삭제({@link ExpertChangedEvent}) 커밋 후 Redis로 모든 노드에 알리고,
+ *     각 노드가 해당 전문가만 DB에서 다시 읽어 반영</li>
+ *     <li>보정: 알림을 놓쳐도 expert.search.rebuild-interval-ms마다 전체 재생성 (삭제 표시된 문서도 정리)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpertSearchIndex {
+
+	static final String REFRESH_CHANNEL = "expert:search-index:refresh";
+	private static final int MAX_LIMIT = 100;
+
+	private final ExpertRepository expertRepository;
+	private final ExpertCategoryRepository expertCategoryRepository;
+	private final ExpertCertificateRepository expertCertificateRepository;
+	private final IndexRefreshNotifier indexRefreshNotifier;
+
+	@Value("${expert.search.rating-weight:0.3}")
+	private double ratingWeight;
+
+	@Value("${expert.search.rating-prior-mean:3.0}")
+	private double ratingPriorMean;
+
+	@Value("${expert.search.rating-prior-count:5}")
+	private int ratingPriorCount;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Object rebuildMonitor = new Object();
+	// 전체 재생성 중에 갱신된 전문가 (이전 인덱스에 반영되므로 재생성 후 다시 반영)
+	private final Set<Long> refreshedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+	private volatile ExpertSearchEngine engine;
+	private volatile boolean rebuilding;
+
+	@PostConstruct
+	public void init() {
+		indexRefreshNotifier.subscribe(REFRESH_CHANNEL, payload -> refreshLocal(Long.valueOf(payload)));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			// 첫 조회 때 다시 생성
+			log.warn("전문가 검색 인덱스 생성 실패. error: {}", e.getMessage());
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${expert.search.rebuild-interval-ms:600000}",
+		initialDelayString = "${expert.search.rebuild-interval-ms:600000}")
+	public void scheduledRebuild() {
+		rebuild();
+	}
+
+	/**
+	 * DB에서 인덱스를 새로 만들어 교체합니다. 생성 중에도 기존 인덱스로 검색할 수 있습니다.
+	 */
+	public void rebuild() {
+		synchronized (rebuildMonitor) {
+			long start = System.nanoTime();
+			rebuilding = true;
+			ExpertSearchEngine rebuilt = new ExpertSearchEngine(ratingWeight, ratingPriorMean, ratingPriorCount);
+			try {
+				Map<Long, List<String>> categoryNames = group(expertCategoryRepository.findIndexNames());
+				Map<Long, List<String>> certificateNames = group(expertCertificateRepository.findIndexNames());
+				for (ExpertSearchRow row : expertRepository.findSearchRows()) {
+					rebuilt.put(toDocument(row, categoryNames.getOrDefault(row.expertId(), List.of()),
+						certificateNames.getOrDefault(row.expertId(), List.of())));
+				}
+				lock.writeLock().lock();
+				try {
+					engine = rebuilt;
+				} finally {
+					lock.writeLock().unlock();
+				}
+			} finally {
+				rebuilding = false;
+			}
+			for (Long expertId : List.copyOf(refreshedDuringRebuild)) {
+				refreshedDuringRebuild.remove(expertId);
+				refreshLocal(expertId);
+			}
+			log.info("전문가 검색 인덱스 생성 완료. experts: {}, elapsedMs: {}", rebuilt.size(),
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		}
+	}
+
+	/**
+	 * 전문가 검색 정보(이름, 소개, 카테고리, 자격증, 리뷰 평점)가 바뀌면 커밋 후 모든 노드에 알립니다.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onExpertChanged(ExpertChangedEvent event) {
+		indexRefreshNotifier.publish(REFRESH_CHANNEL, String.valueOf(event.expertId()),
+			payload -> refreshLocal(event.expertId()));
+	}
+
+	/**
+	 * 이 노드의 인덱스에서 전문가 하나를 DB 기준으로 다시 반영합니다. (삭제된 전문가는 제거)
+	 */
+	void refreshLocal(Long expertId) {
+		if (rebuilding) {
+			refreshedDuringRebuild.add(expertId);
+		}
+		if (engine == null) {
+			// 아직 생성 전이면 생성할 때 DB에서 함께 읽음
+			return;
+		}
+		Optional<ExpertSearchRow> row = expertRepository.findSearchRowById(expertId);
+		Optional<ExpertSearchEngine.Document> document = row.map(value -> toDocument(value,
+			expertCategoryRepository.findSubCategoryNamesByExpertId(expertId),
+			expertCertificateRepository.findCertificateNamesByExpertId(expertId)));
+
+		lock.writeLock().lock();
+		try {
+			document.ifPresentOrElse(engine::put, () -> engine.remove(expertId));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 검색어와 일치하는 전문가 ID를 점수 내림차순으로 반환합니다.
+	 *
+	 * @param query  검색어
+	 * @param limit  최대 결과 수 (1~{@value #MAX_LIMIT})
+	 * @param filter 전문가 ID 조건 (null이면 조건 없음)
+	 * @param fields 검색할 필드 (null이면 전체)
+	 */
+	public List<Long> search(String query, int limit, IntPredicate filter, Set<ExpertSearchEngine.Field> fields) {
+		int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+		List<ExpertSearchEngine.Hit> hits;
+		lock.readLock().lock();
+		try {
+			hits = ensureBuilt().search(query, boundedLimit, filter, fields);
+		} finally {
+			lock.readLock().unlock();
+		}
+		return hits.stream().map(ExpertSearchEngine.Hit::expertId).toList();
+	}
+
+	/**
+	 * 읽기 잠금을 잡은 상태에서 호출합니다. 아직 생성 전이면 잠금을 잠시 풀고 생성합니다.
+	 */
+	private ExpertSearchEngine ensureBuilt() {
+		ExpertSearchEngine current = engine;
+		if (current != null) {
+			return current;
+		}
+		lock.readLock().unlock();
+		try {
+			synchronized (rebuildMonitor) {
+				if (engine == null) {
+					rebuild();
+				}
+			}
+		} finally {
+			lock.readLock().lock();
+		}
+		return engine;
+	}
+
+	private static ExpertSearchEngine.Document toDocument(ExpertSearchRow row, List<String> subCategoryNames,
+		List<String> certificateNames) {
+		List<String> categoryNames = new ArrayList<>(subCategoryNames.size() + 1);
+		categoryNames.add(row.categoryName());
+		categoryNames.addAll(subCategoryNames);
+		return new ExpertSearchEngine.Document(
+			row.expertId(),
+			row.name(),
+			row.introduction(),
+			categoryNames,
+			certificateNames,
+			row.averageScore() != null ? row.averageScore().doubleValue() : 0,
+			row.reviewCount() != null ? row.reviewCount() : 0
+		);
+	}
+
+	private static Map<Long, List<String>> group(List<ExpertIndexName> names) {
+		Map<Long, List<String>> grouped = new HashMap<>();
+		for (ExpertIndexName name : names) {
+			grouped.computeIfAbsent(name.expertId(), ignored -> new ArrayList<>(2)).add(name.name());
+		}
+		return grouped;
+	}
+}
@@ -2,29 +2,41 @@ package com.ll.dopdang.domain.expert.service;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.IntPredicate;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import com.ll.dopdang.domain.expert.category.entity.Category;
 import com.ll.dopdang.domain.expert.category.entity.ExpertCategory;
-import com.ll.dopdang.domain.expert.category.repository.CategoryRepository;
 import com.ll.dopdang.domain.expert.category.repository.ExpertCategoryRepository;
+import com.ll.dopdang.domain.expert.category.service.CategoryService;
+import com.ll.dopdang.domain.expert.category.util.CategoryTree;
 import com.ll.dopdang.domain.expert.dto.request.ExpertRequestDto;
 import com.ll.dopdang.domain.expert.dto.request.ExpertUpdateRequestDto;
 import com.ll.dopdang.domain.expert.dto.response.ExpertDetailResponseDto;
+import com.ll.dopdang.domain.expert.dto.response.ExpertFacetResponseDto;
+import com.ll.dopdang.domain.expert.dto.response.ExpertPageResponseDto;
 import com.ll.dopdang.domain.expert.dto.response.ExpertResponseDto;
+import com.ll.dopdang.domain.expert.entity.CareerLevel;
 import com.ll.dopdang.domain.expert.entity.Certificate;
 import com.ll.dopdang.domain.expert.entity.Expert;
 import com.ll.dopdang.domain.expert.entity.ExpertCertificate;
 import com.ll.dopdang.domain.expert.entity.Portfolio;
+import com.ll.dopdang.domain.expert.event.ExpertChangedEvent;
 import com.ll.dopdang.domain.expert.repository.CertificateRepository;
 import com.ll.dopdang.domain.expert.repository.ExpertCertificateRepository;
 import com.ll.dopdang.domain.expert.repository.ExpertRepository;
 import com.ll.dopdang.domain.expert.repository.PortfolioRepository;
+import com.ll.dopdang.domain.expert.util.ExpertSearchEngine;
 import com.ll.dopdang.domain.member.entity.Member;
 import com.ll.dopdang.domain.member.repository.MemberRepository;
+import com.ll.dopdang.domain.member.service.MemberSummaryCache;
 import com.ll.dopdang.domain.review.entity.ReviewStats;
 import com.ll.dopdang.domain.review.repository.ReviewStatsRepository;
 import com.ll.dopdang.global.exception.ErrorCode;
@@ -42,12 +54,20 @@ public class ExpertService {
 
 	private final ExpertRepository expertRepository;
 	private final MemberRepository memberRepository;
-	private final CategoryRepository categoryRepository;
+	private final CategoryService categoryService;
 	private final CertificateRepository certificateRepository;
 	private final ExpertCategoryRepository expertCategoryRepository;
 	private final ExpertCertificateRepository expertCertificateRepository;
 	private final PortfolioRepository portfolioRepository;
 	private final ReviewStatsRepository reviewStatsRepository;
+	private final MemberSummaryCache memberSummaryCache;
+	private final ExpertFilterIndex expertFilterIndex;
+	private final ExpertSearchIndex expertSearchIndex;
+	private final ExpertLeaderboard expertLeaderboard;
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	// 전문가 목록 페이지 최대 크기
+	private static final int MAX_PAGE_SIZE = 100;
 
 	/**
 	 * 전문가를 등록합니다.
@@ -62,13 +82,16 @@ public class ExpertService {
 		Member member = memberRepository.findById(memberId)
 			.orElseThrow(() -> new ServiceException(ErrorCode.MEMBER_NOT_FOUND));
 
-		// 2. 대분류 카테고리 조회 및 검증
-		Category category = categoryRepository.findByNameAndParentIsNull(expertRequestDto.getCategoryName())
+		// 2. 대분류 카테고리 조회 및 검증 (카테고리 트리 스냅샷에서 조회)
+		CategoryTree categoryTree = categoryService.tree();
+		CategoryTree.Node mainCategory = categoryTree.findRoot(expertRequestDto.getCategoryName())
 			.orElseThrow(() -> new ServiceException(ErrorCode.MAIN_CATEGORY_NOT_FOUND));
+		Category category = categoryService.getReference(mainCategory);
 
 		// 3. 소분류 카테고리 조회 및 검증
 		List<Category> subCategories = expertRequestDto.getSubCategoryNames().stream()
-			.map(subCategoryName -> categoryRepository.findByNameAndParent(subCategoryName, category)
+			.map(subCategoryName -> categoryTree.findChild(mainCategory.id(), subCategoryName)
+				.map(categoryService::getReference)
 				.orElseThrow(() -> new ServiceException(ErrorCode.SUB_CATEGORY_NOT_FOUND)))
 			.toList();
 
@@ -116,91 +139,92 @@ public class ExpertService {
 		// 새로 생성한 포트폴리오 저장
 		portfolioRepository.save(portfolio);
 		member.updateRoleToExpert();
+		// 회원 요약 정보의 전문가 ID가 바뀌므로 캐시 무효화
+		memberSummaryCache.invalidate(member.getId(), member.getEmail());
 
 		ReviewStats stats = ReviewStats.of(expert, BigDecimal.ZERO, 0);
 		reviewStatsRepository.save(stats);
+		// 커밋 후 모든 노드의 필터/검색/자동완성 인덱스와 순위표에 반영
+		applicationEventPublisher.publishEvent(ExpertChangedEvent.profile(expert.getId()));
 
 		return expert.getId();
 	}
 
 	/**
-	 * 전문가 목록을 조회합니다.
+	 * 전문가 목록을 전문가 ID 오름차순 키셋 페이지로 조회합니다.
+	 * 필터 조건은 DB 대신 노드 로컬 비트맵 인덱스({@link ExpertFilterIndex})로 계산하고,
+	 * 페이지에 해당하는 전문가만 프로젝션 쿼리 한 번으로 읽습니다. (엔티티를 만들지 않음)
 	 *
 	 * @param categoryNames 필터링할 카테고리 이름 리스트.
 	 * @param careerLevel 필터링할 경력 수준 (junior, senior, expert).
-	 * @return 전문가 목록을 담은 DTO 리스트.
-	 * @throws IllegalArgumentException 잘못된 careerLevel이 제공된 경우 예외 발생.
+	 * @param subCategoryIds 필터링할 소분류 카테고리 ID 리스트.
+	 * @param certificateIds 필터링할 자격증 ID 리스트.
+	 * @param available 활동 가능 여부.
+	 * @param cursor 이전 페이지의 nextCursor (null이면 첫 페이지)
+	 * @param size 페이지 크기 (최대 {@value #MAX_PAGE_SIZE})
+	 * @return 전문가 목록 페이지.
+	 * @throws ServiceException 잘못된 careerLevel이 제공된 경우 예외 발생.
 	 */
-	public List<ExpertResponseDto> getAllExperts(List<String> categoryNames, String careerLevel) {
-		Integer minYears = null;
-		Integer maxYears = null;
-
-		// careerLevel에 따른 경력 필터링 기준 설정
-		if (Objects.nonNull(careerLevel)) {
-			switch (careerLevel.toLowerCase()) {
-				case "junior": // 1~5년
-					minYears = 1;
-					maxYears = 5;
-					break;
-				case "senior": // 6~10년
-					minYears = 6;
-					maxYears = 10;
-					break;
-				case "expert": // 11년 이상
-					minYears = 11;
-					maxYears = 100; // 제한 없는 최대값 설정
-					break;
-				default:
-					throw new ServiceException(ErrorCode.INVALID_CAREER_EXCEPTION, careerLevel);
-			}
-		}
-		// 데이터베이스 조회를 통한 필터링 결과
-		List<Expert> experts = expertRepository.findByFilters(categoryNames, minYears, maxYears);
+	public ExpertPageResponseDto getAllExperts(List<String> categoryNames, String careerLevel,
+		List<Long> subCategoryIds, List<Long> certificateIds, Boolean available, Long cursor, int size) {
+		CareerLevel level = Objects.nonNull(careerLevel) ? CareerLevel.from(careerLevel) : null;
+		int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		// 다음 페이지 여부를 알기 위해 한 명 더 조회
+		List<Long> expertIds = expertFilterIndex.search(categoryNames, subCategoryIds, level, certificateIds,
+			available, cursor, pageSize + 1);
+		boolean hasNext = expertIds.size() > pageSize;
+		List<Long> pageIds = hasNext ? expertIds.subList(0, pageSize) : expertIds;
+
+		return ExpertPageResponseDto.builder()
+			.experts(findInOrder(pageIds))
+			.nextCursor(hasNext ? pageIds.get(pageIds.size() - 1) : null)
+			.hasNext(hasNext)
+			.build();
+	}
 
-		// Expert 데이터를 DTO로 변환하여 반환
-		return experts.stream()
-			.map(this::mapToResponseDto)
-			.toList();
+	/**
+	 * 전문가 목록 필터의 항목별 전문가 수를 조회합니다. (조건은 {@link #getAllExperts}와 같음)
+	 *
+	 * @return 조건에 맞는 전문가 수와 대분류, 소분류, 경력 수준, 자격증별 전문가 수
+	 */
+	public ExpertFacetResponseDto getExpertFacets(List<String> categoryNames, String careerLevel,
+		List<Long> subCategoryIds, List<Long> certificateIds, Boolean available) {
+		CareerLevel level = Objects.nonNull(careerLevel) ? CareerLevel.from(careerLevel) : null;
+		return expertFilterIndex.facets(categoryNames, subCategoryIds, level, certificateIds, available);
 	}
 
-	public List<ExpertResponseDto> searchExperts(List<String> categoryNames, String careerLevel, String name) {
-		Integer minYears = null;
-		Integer maxYears = null;
-
-		// careerLevel에 따른 경력 필터링 기준 설정
-		if (Objects.nonNull(careerLevel)) {
-			switch (careerLevel.toLowerCase()) {
-				case "junior": // 1~5년
-					minYears = 1;
-					maxYears = 5;
-					break;
-				case "senior": // 6~10년
-					minYears = 6;
-					maxYears = 10;
-					break;
-				case "expert": // 11년 이상
-					minYears = 11;
-					maxYears = 100; // 제한 없는 최대 값 설정
-					break;
-				default:
-					throw new ServiceException(ErrorCode.INVALID_CAREER_EXCEPTION, careerLevel);
-			}
+	/**
+	 * 검색어로 전문가를 검색합니다.
+	 * 이름, 자기소개, 대분류/소분류, 자격증 이름을 노드 로컬 검색 인덱스({@link ExpertSearchIndex})에서 찾고,
+	 * BM25 점수와 리뷰 평점으로 순위를 매겨 상위 size건을 반환합니다.
+	 *
+	 * @param query 검색어 (비어 있으면 필터 조건만으로 {@link #getAllExperts} 첫 페이지를 반환)
+	 * @param categoryNames 필터링할 카테고리 이름 리스트.
+	 * @param careerLevel 필터링할 경력 수준 (junior, senior, expert).
+	 * @param size 최대 결과 수.
+	 * @return 점수 내림차순 전문가 목록.
+	 * @throws ServiceException 잘못된 careerLevel이 제공된 경우 예외 발생.
+	 */
+	public List<ExpertResponseDto> searchExperts(String query, List<String> categoryNames, String careerLevel,
+		int size) {
+		CareerLevel level = Objects.nonNull(careerLevel) ? CareerLevel.from(careerLevel) : null;
+		if (query == null || query.isBlank()) {
+			return getAllExperts(categoryNames, careerLevel, null, null, null, null, size).getExperts();
 		}
-
-		// 데이터베이스에서 조건에 맞는 전문가 조회
-		List<Expert> experts = expertRepository.findByFilters(categoryNames, minYears, maxYears, name);
-
-		// Expert 데이터를 DTO로 변환하여 반환
-		return experts.stream()
-			.map(this::mapToResponseDto)
-			.toList();
+		IntPredicate filter = categoryNames != null || level != null
+			? expertFilterIndex.matcher(categoryNames, null, level, null, null) : null;
+		return findInOrder(expertSearchIndex.search(query, size, filter, null));
 	}
 
-	public List<ExpertResponseDto> getTopRatedExperts(Long categoryId) {
-		List<ReviewStats> statsList = reviewStatsRepository.findTopExpertsByRatingAndCategory(categoryId);
-		return statsList.stream()
-			.map(rs -> mapToResponseDto(rs.getExpert())) // ReviewStats에서 Expert로 매핑
-			.toList();
+	/**
+	 * 평점 상위 전문가를 조회합니다. (Redis 순위표에서 상위 size건의 ID만 읽고 해당 전문가만 DB에서 조회)
+	 *
+	 * @param categoryId 대분류 카테고리 ID (null이면 전체)
+	 * @param size 최대 결과 수.
+	 * @return 베이지안 평점 내림차순 전문가 목록.
+	 */
+	public List<ExpertResponseDto> getTopRatedExperts(Long categoryId, int size) {
+		return findInOrder(expertLeaderboard.top(categoryId, size));
 	}
 
 	public ExpertDetailResponseDto getExpertById(Long expertId) {
@@ -212,10 +236,28 @@ public class ExpertService {
 		return mapToDetailResponseDto(expert, portfolio);
 	}
 
-	public List<ExpertResponseDto> searchByName(String name) {
-		List<Expert> experts = expertRepository.findByMemberNameContaining(name);
-		return experts.stream()
-			.map(this::mapToResponseDto)
+	/**
+	 * 이름으로 전문가를 검색합니다. (검색 인덱스의 이름 필드만 사용, 점수 내림차순)
+	 */
+	public List<ExpertResponseDto> searchByName(String name, int size) {
+		if (name == null || name.isBlank()) {
+			return List.of();
+		}
+		return findInOrder(expertSearchIndex.search(name, size, null, EnumSet.of(ExpertSearchEngine.Field.NAME)));
+	}
+
+	/**
+	 * 전문가 목록 항목을 주어진 ID 순서대로 읽습니다. (프로젝션 쿼리 한 번, DB에서 사라진 전문가는 제외)
+	 */
+	private List<ExpertResponseDto> findInOrder(List<Long> expertIds) {
+		if (expertIds.isEmpty()) {
+			return List.of();
+		}
+		Map<Long, ExpertResponseDto> experts = new HashMap<>();
+		expertRepository.findListItemsByIdIn(expertIds).forEach(expert -> experts.put(expert.getExpertId(), expert));
+		return expertIds.stream()
+			.map(experts::get)
+			.filter(Objects::nonNull)
 			.toList();
 	}
 
@@ -231,14 +273,19 @@ public class ExpertService {
 		// 1. 전문가 조회
 		Expert existingExpert = expertRepository.findById(expertId)
 			.orElseThrow(() -> new ServiceException(ErrorCode.EXPERT_NOT_EXISTS, String.valueOf(expertId)));
+		// 커밋 후 모든 노드의 필터/검색/자동완성 인덱스와 순위표에 반영 (대분류가 바뀔 수 있음)
+		applicationEventPublisher.publishEvent(ExpertChangedEvent.profile(expertId));
 
-		// 2. 대분류 카테고리 변경 처리
+		// 2. 대분류 카테고리 변경 처리 (카테고리 트리 스냅샷에서 조회)
+		CategoryTree categoryTree = categoryService.tree();
 		Category category = existingExpert.getCategory(); // 기존 대분류
 		if (updateRequestDto.getCategoryName() != null) {
-			category = categoryRepository.findByNameAndParentIsNull(updateRequestDto.getCategoryName())
+			category = categoryTree.findRoot(updateRequestDto.getCategoryName())
+				.map(categoryService::getReference)
 				.orElseThrow(
 					() -> new ServiceException(ErrorCode.MAIN_CATEGORY_NOT_FOUND, updateRequestDto.getCategoryName()));
 		}
+		long mainCategoryId = category.getId();
 		existingExpert.setCategory(category);
 
 		// 3. 소분류 카테고리 변경 처리
@@ -249,7 +296,8 @@ public class ExpertService {
 
 			// 새로운 소분류 생성 및 저장
 			List<Category> subCategories = updateRequestDto.getSubCategoryNames().stream()
-				.map(name -> categoryRepository.findByName(name)
+				.map(name -> categoryTree.findChild(mainCategoryId, name)
+					.map(categoryService::getReference)
 					.orElseThrow(() -> new ServiceException(ErrorCode.SUB_CATEGORY_NOT_FOUND, name)))
 				.toList();
 
@@ -318,25 +366,6 @@ public class ExpertService {
 		return mapToDetailResponseDto(expert, expert.getPortfolio());
 	}
 
-	/**
-	 * Expert 엔티티를 ExpertResponseDto로 변환합니다.
-	 */
-	private ExpertResponseDto mapToResponseDto(Expert expert) {
-		ReviewStats reviewStats = expert.getReviewStats();
-
-		return ExpertResponseDto.builder()
-			.expertId(expert.getId())
-			.name(expert.getMember().getName()) // Member 이름
-			.categoryName(expert.getCategory().getName())
-			.careerYears(expert.getCareerYears())
-			.introduction(expert.getIntroduction())
-			.mainCategoryId(expert.getCategory().getId())
-			.profileImage(expert.getMember().getProfileImage())
-			.reviewCounts(reviewStats != null ? reviewStats.getReviewCount() : 0)
-			.averageScore(reviewStats != null ? reviewStats.getAverageScore() : BigDecimal.ZERO)
-			.build();
-	}
-
 	/**
 	 * Expert 엔티티 -> ExpertDetailResponseDto로 변환합니다.
 	 */
@@ -0,0 +1,59 @@
+package com.ll.dopdang.domain.expert.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 로컬 인덱스의 갱신 알림을 Redis pub/sub으로 모든 노드에 전달합니다.
+ * 알림을 보내지 못하면 이 노드에만 바로 반영하고, 다른 노드는 각 인덱스의 주기적인 전체 재생성 때 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexRefreshNotifier {
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	/**
+	 * 채널의 갱신 알림을 받으면 이 노드의 인덱스에 반영합니다. (이 노드가 보낸 알림도 받음)
+	 *
+	 * @param channel Redis 채널
+	 * @param handler 알림 내용을 받아 반영하는 함수 (실패는 기록만 함)
+	 */
+	public void subscribe(String channel, Consumer<String> handler) {
+		redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+			String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+			try {
+				handler.accept(payload);
+			} catch (RuntimeException e) {
+				log.warn("인덱스 갱신 알림 처리 실패. channel: {}, payload: {}, error: {}", channel, payload,
+					e.getMessage());
+			}
+		}, new ChannelTopic(channel));
+	}
+
+	/**
+	 * 모든 노드에 갱신을 알립니다.
+	 *
+	 * @param channel       Redis 채널
+	 * @param payload       알림 내용
+	 * @param localFallback 알림을 보내지 못했을 때 이 노드에만 반영하는 함수
+	 */
+	public void publish(String channel, String payload, Consumer<String> localFallback) {
+		try {
+			stringRedisTemplate.convertAndSend(channel, payload);
+		} catch (RuntimeException e) {
+			log.warn("인덱스 갱신 알림 실패. channel: {}, payload: {}, error: {}", channel, payload, e.getMessage());
+			localFallback.accept(payload);
+		}
+	}
+}
@@ -0,0 +1,367 @@
+package com.ll.dopdang.domain.expert.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import com.ll.dopdang.domain.expert.dto.response.AutocompleteResponseDto;
+import com.ll.dopdang.domain.expert.dto.response.AutocompleteRow;
+
+/**
+ * 자동완성 접두어 트라이 (불변)
+ * 이름을 {@link HangulJamo} 자모 키와 초성 키로 색인해, 입력 중인 글자("정보ㅊ")와 초성("ㅈㅂㅊㄹ")이 모두 앞부분으로 일치합니다.
+ * <ul>
+ *     <li>구조: 노드를 너비 우선 순서로 배열에 펼쳐 자식이 연속되고(라벨 정렬, 이진 탐색),
+ *     노드마다 하위 키에 달린 항목이 {@code entries}의 연속 구간이 되도록 깊이 우선 순서로 항목을 나열</li>
+ *     <li>순위: 항목 번호를 인기도 순위로 매겨, 상위 k건은 구간에서 가장 작은 번호 k개</li>
+ *     <li>조회: 구간이 {@value #SCAN_LIMIT}건보다 큰 노드는 상위 {@value #MAX_LIMIT}건을 미리 계산해 두고 복사,
+ *     작은 노드는 구간을 훑어 고름. 호출자가 넘긴 버퍼에 항목 번호를 쓰므로 조회 중 객체를 만들지 않음</li>
+ * </ul>
+ * 변경은 새 트라이를 만들어 통째로 교체합니다. 여러 스레드가 잠금 없이 공유할 수 있습니다.
+ */
+public final class AutocompleteTrie {
+
+	public static final int MAX_LIMIT = 20;
+	// 하위 항목이 이보다 많은 노드만 상위 결과를 미리 계산
+	private static final int SCAN_LIMIT = 256;
+	private static final int ROOT = 0;
+
+	private final AutocompleteResponseDto[] items;
+	private final char[] labels;
+	private final int[] childStart;
+	private final int[] childCount;
+	private final int[] rangeStart;
+	private final int[] rangeEnd;
+	// 미리 계산한 상위 결과 위치 (없으면 -1), tops[위치] = 건수, 이어서 항목 번호
+	private final int[] topStart;
+	private final int[] entries;
+	private final int[] tops;
+
+	private AutocompleteTrie(AutocompleteResponseDto[] items, char[] labels, int[] childStart, int[] childCount,
+		int[] rangeStart, int[] rangeEnd, int[] topStart, int[] entries, int[] tops) {
+		this.items = items;
+		this.labels = labels;
+		this.childStart = childStart;
+		this.childCount = childCount;
+		this.rangeStart = rangeStart;
+		this.rangeEnd = rangeEnd;
+		this.topStart = topStart;
+		this.entries = entries;
+		this.tops = tops;
+	}
+
+	/**
+	 * 항목으로 트라이를 만듭니다.
+	 *
+	 * @param rows  항목 (이름이 비어 있으면 제외)
+	 * @param infix true면 이름의 모든 글자 위치부터 색인 (이름 중간 일치, 항목 수가 적은 자격증/카테고리용),
+	 *              false면 단어 시작 위치부터만 색인 (전문가 이름용)
+	 */
+	public static AutocompleteTrie of(Collection<AutocompleteRow> rows, boolean infix) {
+		List<AutocompleteRow> ranked = rows.stream()
+			.filter(row -> row.name() != null && !row.name().isBlank())
+			.sorted(Comparator.comparingLong((AutocompleteRow row) -> row.popularity() != null ? row.popularity() : 0)
+				.reversed()
+				.thenComparingInt(row -> row.name().length())
+				.thenComparing(AutocompleteRow::name)
+				.thenComparing(AutocompleteRow::id))
+			.toList();
+
+		Builder builder = new Builder();
+		AutocompleteResponseDto[] items = new AutocompleteResponseDto[ranked.size()];
+		for (int entry = 0; entry < items.length; entry++) {
+			AutocompleteRow row = ranked.get(entry);
+			items[entry] = new AutocompleteResponseDto(row.id(), row.name(), row.detail());
+			String name = row.name();
+			for (int begin = 0; begin < name.length(); begin++) {
+				boolean wordStart = begin == 0 || !HangulJamo.isIndexed(name.charAt(begin - 1));
+				if (HangulJamo.isIndexed(name.charAt(begin)) && (infix || wordStart)) {
+					builder.insert(HangulJamo.decompose(name, begin), entry);
+					builder.insert(HangulJamo.choseongOf(name, begin), entry);
+				}
+			}
+		}
+		return builder.build(items);
+	}
+
+	/**
+	 * 검색어로 시작하는 항목을 인기도 순으로 버퍼에 씁니다. (조회 중 객체를 만들지 않음)
+	 *
+	 * @param query  검색어 (공백, 기호는 무시)
+	 * @param buffer 항목 번호를 받을 버퍼 ({@link #item(int)}로 조회)
+	 * @param limit  최대 결과 수 (최대 {@value #MAX_LIMIT}, 버퍼 크기 이하)
+	 * @return 버퍼에 쓴 항목 수
+	 */
+	public int search(CharSequence query, int[] buffer, int limit) {
+		int k = Math.min(Math.min(limit, buffer.length), MAX_LIMIT);
+		int node = find(query);
+		if (node < 0 || k <= 0) {
+			return 0;
+		}
+		int top = topStart[node];
+		if (top >= 0) {
+			int count = Math.min(tops[top], k);
+			System.arraycopy(tops, top + 1, buffer, 0, count);
+			return count;
+		}
+		return select(entries, rangeStart[node], rangeEnd[node], buffer, k);
+	}
+
+	public AutocompleteResponseDto item(int entry) {
+		return items[entry];
+	}
+
+	public int size() {
+		return items.length;
+	}
+
+	public int nodeCount() {
+		return labels.length;
+	}
+
+	/**
+	 * 대략적인 배열 힙 사용량 (항목 객체 제외)
+	 */
+	public long sizeInBytes() {
+		return labels.length * 2L + (childStart.length + childCount.length + rangeStart.length + rangeEnd.length
+			+ topStart.length + entries.length + tops.length) * 4L + items.length * 4L;
+	}
+
+	private int find(CharSequence query) {
+		int node = ROOT;
+		boolean matched = false;
+		for (int i = 0; i < query.length() && node >= 0; i++) {
+			char c = query.charAt(i);
+			if (!HangulJamo.isIndexed(c)) {
+				continue;
+			}
+			matched = true;
+			if (HangulJamo.isSyllable(c)) {
+				node = child(node, HangulJamo.choseong(c));
+				node = child(node, HangulJamo.jungseong(c));
+				node = child(node, HangulJamo.jongseong(c));
+				continue;
+			}
+			char[] jamo = HangulJamo.compatibility(c);
+			node = jamo != null ? child(node, jamo) : child(node, Character.toLowerCase(c));
+		}
+		return matched ? node : -1;
+	}
+
+	private int child(int node, char[] jamo) {
+		for (int i = 0; i < jamo.length && node >= 0; i++) {
+			node = child(node, jamo[i]);
+		}
+		return node;
+	}
+
+	private int child(int node, char label) {
+		if (node < 0) {
+			return -1;
+		}
+		int low = childStart[node];
+		int high = low + childCount[node] - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			char midLabel = labels[mid];
+			if (midLabel < label) {
+				low = mid + 1;
+			} else if (midLabel > label) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 구간에서 중복 없이 가장 작은 항목 번호 k개를 오름차순으로 out에 씁니다.
+	 */
+	private static int select(int[] entries, int from, int to, int[] out, int k) {
+		int count = 0;
+		for (int i = from; i < to; i++) {
+			int entry = entries[i];
+			if (count == k && entry >= out[k - 1]) {
+				continue;
+			}
+			int position = 0;
+			while (position < count && out[position] < entry) {
+				position++;
+			}
+			if (position < count && out[position] == entry) {
+				continue;
+			}
+			int last = Math.min(count, k - 1);
+			System.arraycopy(out, position, out, position + 1, last - position);
+			out[position] = entry;
+			if (count < k) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 생성용 가변 트라이 (자식은 연결 목록, 노드의 항목도 연결 목록)
+	 */
+	private static final class Builder {
+
+		private char[] label = new char[1024];
+		private int[] firstChild = new int[1024];
+		private int[] nextSibling = new int[1024];
+		private int[] termHead = new int[1024];
+		private int size;
+		private int[] termNext = new int[1024];
+		private int[] termEntry = new int[1024];
+		private int termSize;
+
+		private Builder() {
+			newNode('\0');
+		}
+
+		private void insert(String key, int entry) {
+			if (key.isEmpty()) {
+				return;
+			}
+			int node = ROOT;
+			for (int i = 0; i < key.length(); i++) {
+				node = childOrCreate(node, key.charAt(i));
+			}
+			// 같은 항목의 키가 겹치면(예: 영문 이름의 자모 키와 초성 키) 한 번만
+			int head = termHead[node];
+			if (head >= 0 && termEntry[head] == entry) {
+				return;
+			}
+			if (termSize == termEntry.length) {
+				termNext = Arrays.copyOf(termNext, termSize * 2);
+				termEntry = Arrays.copyOf(termEntry, termSize * 2);
+			}
+			termNext[termSize] = head;
+			termEntry[termSize] = entry;
+			termHead[node] = termSize++;
+		}
+
+		private int childOrCreate(int node, char c) {
+			for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+				if (label[child] == c) {
+					return child;
+				}
+			}
+			int child = newNode(c);
+			nextSibling[child] = firstChild[node];
+			firstChild[node] = child;
+			return child;
+		}
+
+		private int newNode(char c) {
+			if (size == label.length) {
+				label = Arrays.copyOf(label, size * 2);
+				firstChild = Arrays.copyOf(firstChild, size * 2);
+				nextSibling = Arrays.copyOf(nextSibling, size * 2);
+				termHead = Arrays.copyOf(termHead, size * 2);
+			}
+			label[size] = c;
+			firstChild[size] = -1;
+			nextSibling[size] = -1;
+			termHead[size] = -1;
+			return size++;
+		}
+
+		private AutocompleteTrie build(AutocompleteResponseDto[] items) {
+			// 너비 우선으로 펼쳐 자식을 라벨 순으로 연속 배치
+			int[] order = new int[size];
+			char[] labels = new char[size];
+			int[] childStart = new int[size];
+			int[] childCount = new int[size];
+			int[] children = new int[64];
+			int next = 1;
+			order[0] = ROOT;
+			for (int index = 0; index < size; index++) {
+				int count = 0;
+				for (int child = firstChild[order[index]]; child >= 0; child = nextSibling[child]) {
+					if (count == children.length) {
+						children = Arrays.copyOf(children, count * 2);
+					}
+					children[count++] = child;
+				}
+				sortByLabel(children, count);
+				childStart[index] = next;
+				childCount[index] = count;
+				for (int i = 0; i < count; i++) {
+					labels[next] = label[children[i]];
+					order[next++] = children[i];
+				}
+			}
+
+			// 깊이 우선으로 항목을 나열해 노드마다 하위 항목 구간을 만듦
+			int[] entries = new int[termSize];
+			int[] rangeStart = new int[size];
+			int[] rangeEnd = new int[size];
+			int written = 0;
+			int[] stack = new int[64];
+			int[] cursor = new int[64];
+			int depth = 0;
+			stack[0] = ROOT;
+			cursor[0] = -1;
+			while (depth >= 0) {
+				int node = stack[depth];
+				if (cursor[depth] < 0) {
+					rangeStart[node] = written;
+					for (int term = termHead[order[node]]; term >= 0; term = termNext[term]) {
+						entries[written++] = termEntry[term];
+					}
+					cursor[depth] = 0;
+				}
+				if (cursor[depth] < childCount[node]) {
+					int child = childStart[node] + cursor[depth]++;
+					if (++depth == stack.length) {
+						stack = Arrays.copyOf(stack, depth * 2);
+						cursor = Arrays.copyOf(cursor, depth * 2);
+					}
+					stack[depth] = child;
+					cursor[depth] = -1;
+				} else {
+					rangeEnd[node] = written;
+					depth--;
+				}
+			}
+
+			// 하위 항목이 많은 노드는 상위 결과를 미리 계산
+			int[] topStart = new int[size];
+			Arrays.fill(topStart, -1);
+			int[] tops = new int[0];
+			int topsSize = 0;
+			int[] top = new int[MAX_LIMIT];
+			for (int node = 0; node < size; node++) {
+				if (rangeEnd[node] - rangeStart[node] <= SCAN_LIMIT) {
+					continue;
+				}
+				int count = select(entries, rangeStart[node], rangeEnd[node], top, MAX_LIMIT);
+				if (topsSize + count + 1 > tops.length) {
+					tops = Arrays.copyOf(tops, Math.max(tops.length * 2, topsSize + count + 1));
+				}
+				topStart[node] = topsSize;
+				tops[topsSize++] = count;
+				System.arraycopy(top, 0, tops, topsSize, count);
+				topsSize += count;
+			}
+
+			return new AutocompleteTrie(items, labels, childStart, childCount, rangeStart, rangeEnd, topStart,
+				entries, Arrays.copyOf(tops, topsSize));
+		}
+
+		private void sortByLabel(int[] nodes, int count) {
+			for (int i = 1; i < count; i++) {
+				int node = nodes[i];
+				int j = i - 1;
+				while (j >= 0 && label[nodes[j]] > label[node]) {
+					nodes[j + 1] = nodes[j];
+					j--;
+				}
+				nodes[j + 1] = node;
+			}
+		}
+	}
+}
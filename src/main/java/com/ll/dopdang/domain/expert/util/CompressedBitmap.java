@@ -0,0 +1,623 @@
+package com.ll.dopdang.domain.expert.util;
+
+import java.util.Arrays;
+
+/**
+ * 0 이상 int 값의 압축 비트맵 (Roaring 방식)
+ * 값을 상위 16비트 구간(컨테이너)으로 나누고, 구간 안의 값이 {@value #ARRAY_MAX_SIZE}개 이하이면 정렬된 char 배열,
+ * 넘으면 65536비트 long 배열로 저장합니다. ID가 듬성듬성한 구간은 배열, 빽빽한 구간은 비트맵이 되어
+ * 어느 쪽이든 값 하나에 2바이트 이하를 쓰고, 교집합/합집합은 컨테이너 단위로 계산합니다.
+ * 스레드 안전하지 않습니다.
+ */
+public final class CompressedBitmap {
+
+	static final int ARRAY_MAX_SIZE = 4096;
+	private static final int BITMAP_WORDS = 1024;
+	// 배열 크기가 이 배수 이상 차이 나면 병합 대신 작은 쪽 값을 큰 쪽에서 이진 탐색
+	private static final int SKEW_RATIO = 32;
+	// toDense()에서 비트맵으로 바꿀 최소 원소 수
+	private static final int DENSE_MIN_SIZE = 256;
+
+	// 컨테이너별 상위 16비트 (오름차순)
+	private char[] keys;
+	// 배열 컨테이너 (비트맵 컨테이너면 null)
+	private char[][] arrays;
+	// 비트맵 컨테이너 (배열 컨테이너면 null)
+	private long[][] bitmaps;
+	private int[] cardinalities;
+	private int size;
+
+	public CompressedBitmap() {
+		this(4);
+	}
+
+	private CompressedBitmap(int capacity) {
+		int initialCapacity = Math.max(capacity, 1);
+		keys = new char[initialCapacity];
+		arrays = new char[initialCapacity][];
+		bitmaps = new long[initialCapacity][];
+		cardinalities = new int[initialCapacity];
+	}
+
+	public static CompressedBitmap of(int... values) {
+		CompressedBitmap bitmap = new CompressedBitmap();
+		for (int value : values) {
+			bitmap.add(value);
+		}
+		return bitmap;
+	}
+
+	/**
+	 * @return 새로 추가했으면 true, 이미 있었으면 false
+	 */
+	public boolean add(int value) {
+		checkValue(value);
+		char key = (char)(value >>> 16);
+		char low = (char)value;
+		int index = indexOf(key);
+		if (index < 0) {
+			insertContainer(-index - 1, key, new char[] {low}, null, 1);
+			return true;
+		}
+		long[] words = bitmaps[index];
+		if (words != null) {
+			long mask = 1L << low;
+			if ((words[low >>> 6] & mask) != 0) {
+				return false;
+			}
+			words[low >>> 6] |= mask;
+			cardinalities[index]++;
+			return true;
+		}
+		char[] array = arrays[index];
+		int cardinality = cardinalities[index];
+		int position = Arrays.binarySearch(array, 0, cardinality, low);
+		if (position >= 0) {
+			return false;
+		}
+		position = -position - 1;
+		if (cardinality == ARRAY_MAX_SIZE) {
+			// 배열이 가득 차면 비트맵으로 전환
+			long[] converted = toBitmap(array, cardinality);
+			converted[low >>> 6] |= 1L << low;
+			arrays[index] = null;
+			bitmaps[index] = converted;
+			cardinalities[index] = cardinality + 1;
+			return true;
+		}
+		if (cardinality == array.length) {
+			array = Arrays.copyOf(array, Math.min(Math.max(cardinality * 2, 4), ARRAY_MAX_SIZE));
+			arrays[index] = array;
+		}
+		System.arraycopy(array, position, array, position + 1, cardinality - position);
+		array[position] = low;
+		cardinalities[index] = cardinality + 1;
+		return true;
+	}
+
+	/**
+	 * @return 있던 값을 지웠으면 true, 없었으면 false
+	 */
+	public boolean remove(int value) {
+		if (value < 0) {
+			return false;
+		}
+		char low = (char)value;
+		int index = indexOf((char)(value >>> 16));
+		if (index < 0) {
+			return false;
+		}
+		long[] words = bitmaps[index];
+		if (words != null) {
+			long mask = 1L << low;
+			if ((words[low >>> 6] & mask) == 0) {
+				return false;
+			}
+			words[low >>> 6] &= ~mask;
+			int cardinality = --cardinalities[index];
+			if (cardinality <= ARRAY_MAX_SIZE) {
+				arrays[index] = toArray(words, cardinality);
+				bitmaps[index] = null;
+			}
+			return true;
+		}
+		char[] array = arrays[index];
+		int cardinality = cardinalities[index];
+		int position = Arrays.binarySearch(array, 0, cardinality, low);
+		if (position < 0) {
+			return false;
+		}
+		System.arraycopy(array, position + 1, array, position, cardinality - position - 1);
+		if (--cardinalities[index] == 0) {
+			removeContainer(index);
+		}
+		return true;
+	}
+
+	public boolean contains(int value) {
+		if (value < 0) {
+			return false;
+		}
+		char low = (char)value;
+		int index = indexOf((char)(value >>> 16));
+		if (index < 0) {
+			return false;
+		}
+		long[] words = bitmaps[index];
+		if (words != null) {
+			return (words[low >>> 6] & (1L << low)) != 0;
+		}
+		return Arrays.binarySearch(arrays[index], 0, cardinalities[index], low) >= 0;
+	}
+
+	public int cardinality() {
+		int total = 0;
+		for (int i = 0; i < size; i++) {
+			total += cardinalities[i];
+		}
+		return total;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * 모든 값을 오름차순으로 반환합니다.
+	 */
+	public int[] toArray() {
+		int[] values = new int[cardinality()];
+		int offset = 0;
+		for (int i = 0; i < size; i++) {
+			int high = keys[i] << 16;
+			long[] words = bitmaps[i];
+			if (words == null) {
+				char[] array = arrays[i];
+				for (int j = 0; j < cardinalities[i]; j++) {
+					values[offset++] = high | array[j];
+				}
+				continue;
+			}
+			for (int word = 0; word < BITMAP_WORDS; word++) {
+				long bits = words[word];
+				while (bits != 0) {
+					values[offset++] = high | (word << 6) + Long.numberOfTrailingZeros(bits);
+					bits &= bits - 1;
+				}
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * after보다 큰 값을 오름차순으로 최대 limit개 반환합니다. (키셋 페이지 조회용, 앞쪽 컨테이너는 건너뜀)
+	 */
+	public int[] toArray(int after, int limit) {
+		if (after == Integer.MAX_VALUE || limit <= 0) {
+			return new int[0];
+		}
+		int from = Math.max(after + 1, 0);
+		int[] values = new int[Math.min(limit, cardinality())];
+		int offset = 0;
+		int start = Arrays.binarySearch(keys, 0, size, (char)(from >>> 16));
+		for (int i = start >= 0 ? start : -start - 1; i < size && offset < values.length; i++) {
+			int high = keys[i] << 16;
+			long[] words = bitmaps[i];
+			if (words == null) {
+				char[] array = arrays[i];
+				for (int j = 0; j < cardinalities[i] && offset < values.length; j++) {
+					int value = high | array[j];
+					if (value >= from) {
+						values[offset++] = value;
+					}
+				}
+				continue;
+			}
+			int firstWord = high < from ? (from - high) >>> 6 : 0;
+			for (int word = firstWord; word < BITMAP_WORDS && offset < values.length; word++) {
+				long bits = words[word];
+				while (bits != 0 && offset < values.length) {
+					int value = high | (word << 6) + Long.numberOfTrailingZeros(bits);
+					if (value >= from) {
+						values[offset++] = value;
+					}
+					bits &= bits - 1;
+				}
+			}
+		}
+		return offset == values.length ? values : Arrays.copyOf(values, offset);
+	}
+
+	/**
+	 * 대략적인 힙 사용량 (배열 헤더 포함)
+	 */
+	public long sizeInBytes() {
+		long bytes = 16L + keys.length * 2L + 16 + cardinalities.length * 4L + 16 + arrays.length * 8L * 2 + 32;
+		for (int i = 0; i < size; i++) {
+			bytes += bitmaps[i] != null ? 16 + BITMAP_WORDS * 8L : 16 + arrays[i].length * 2L;
+		}
+		return bytes;
+	}
+
+	public CompressedBitmap copy() {
+		CompressedBitmap copy = new CompressedBitmap(size);
+		for (int i = 0; i < size; i++) {
+			copy.appendCopy(this, i);
+		}
+		return copy;
+	}
+
+	/**
+	 * 원소가 많은 배열 컨테이너를 비트맵으로 바꾼 복사본을 반환합니다.
+	 * 같은 비트맵과 여러 비트맵의 교집합 크기를 계산할 때(항목별 수) 배열 병합 대신 비트 확인으로 계산하기 위한 용도입니다.
+	 */
+	public CompressedBitmap toDense() {
+		CompressedBitmap dense = new CompressedBitmap(size);
+		for (int i = 0; i < size; i++) {
+			if (arrays[i] != null && cardinalities[i] >= DENSE_MIN_SIZE) {
+				dense.append(keys[i], null, toBitmap(arrays[i], cardinalities[i]), cardinalities[i]);
+			} else {
+				dense.appendCopy(this, i);
+			}
+		}
+		return dense;
+	}
+
+	/**
+	 * 교집합을 새 비트맵으로 반환합니다.
+	 */
+	public static CompressedBitmap and(CompressedBitmap left, CompressedBitmap right) {
+		CompressedBitmap result = new CompressedBitmap(Math.min(left.size, right.size));
+		int i = 0;
+		int j = 0;
+		while (i < left.size && j < right.size) {
+			char leftKey = left.keys[i];
+			char rightKey = right.keys[j];
+			if (leftKey < rightKey) {
+				i++;
+			} else if (leftKey > rightKey) {
+				j++;
+			} else {
+				result.appendAnd(leftKey, left, i, right, j);
+				i++;
+				j++;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 교집합의 크기만 계산합니다. (결과 비트맵을 만들지 않음)
+	 */
+	public static int andCardinality(CompressedBitmap left, CompressedBitmap right) {
+		int total = 0;
+		int i = 0;
+		int j = 0;
+		while (i < left.size && j < right.size) {
+			char leftKey = left.keys[i];
+			char rightKey = right.keys[j];
+			if (leftKey < rightKey) {
+				i++;
+			} else if (leftKey > rightKey) {
+				j++;
+			} else {
+				total += andCardinality(left, i, right, j);
+				i++;
+				j++;
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * 합집합을 새 비트맵으로 반환합니다.
+	 */
+	public static CompressedBitmap or(CompressedBitmap left, CompressedBitmap right) {
+		CompressedBitmap result = new CompressedBitmap(left.size + right.size);
+		int i = 0;
+		int j = 0;
+		while (i < left.size || j < right.size) {
+			if (j == right.size || i < left.size && left.keys[i] < right.keys[j]) {
+				result.appendCopy(left, i++);
+			} else if (i == left.size || left.keys[i] > right.keys[j]) {
+				result.appendCopy(right, j++);
+			} else {
+				result.appendOr(left.keys[i], left, i, right, j);
+				i++;
+				j++;
+			}
+		}
+		return result;
+	}
+
+	private void appendAnd(char key, CompressedBitmap left, int i, CompressedBitmap right, int j) {
+		long[] leftWords = left.bitmaps[i];
+		long[] rightWords = right.bitmaps[j];
+		if (leftWords != null && rightWords != null) {
+			int cardinality = 0;
+			for (int word = 0; word < BITMAP_WORDS; word++) {
+				cardinality += Long.bitCount(leftWords[word] & rightWords[word]);
+			}
+			if (cardinality == 0) {
+				return;
+			}
+			if (cardinality > ARRAY_MAX_SIZE) {
+				long[] words = new long[BITMAP_WORDS];
+				for (int word = 0; word < BITMAP_WORDS; word++) {
+					words[word] = leftWords[word] & rightWords[word];
+				}
+				append(key, null, words, cardinality);
+				return;
+			}
+			char[] array = new char[cardinality];
+			int offset = 0;
+			for (int word = 0; word < BITMAP_WORDS; word++) {
+				long bits = leftWords[word] & rightWords[word];
+				while (bits != 0) {
+					array[offset++] = (char)((word << 6) + Long.numberOfTrailingZeros(bits));
+					bits &= bits - 1;
+				}
+			}
+			append(key, array, null, cardinality);
+			return;
+		}
+		if (leftWords != null || rightWords != null) {
+			// 배열 쪽 값 중 비트맵에 있는 값만 남김
+			char[] source = leftWords == null ? left.arrays[i] : right.arrays[j];
+			int sourceSize = leftWords == null ? left.cardinalities[i] : right.cardinalities[j];
+			long[] words = leftWords != null ? leftWords : rightWords;
+			char[] array = new char[sourceSize];
+			int cardinality = 0;
+			for (int k = 0; k < sourceSize; k++) {
+				char low = source[k];
+				if ((words[low >>> 6] & (1L << low)) != 0) {
+					array[cardinality++] = low;
+				}
+			}
+			if (cardinality > 0) {
+				append(key, array, null, cardinality);
+			}
+			return;
+		}
+		char[] leftArray = left.arrays[i];
+		char[] rightArray = right.arrays[j];
+		int leftSize = left.cardinalities[i];
+		int rightSize = right.cardinalities[j];
+		char[] array = new char[Math.min(leftSize, rightSize)];
+		int cardinality = 0;
+		if (leftSize * SKEW_RATIO < rightSize || rightSize * SKEW_RATIO < leftSize) {
+			boolean leftSmaller = leftSize < rightSize;
+			char[] small = leftSmaller ? leftArray : rightArray;
+			int smallSize = leftSmaller ? leftSize : rightSize;
+			char[] large = leftSmaller ? rightArray : leftArray;
+			int largeSize = leftSmaller ? rightSize : leftSize;
+			int from = 0;
+			for (int k = 0; k < smallSize && from < largeSize; k++) {
+				int position = Arrays.binarySearch(large, from, largeSize, small[k]);
+				if (position >= 0) {
+					array[cardinality++] = small[k];
+					from = position + 1;
+				} else {
+					from = -position - 1;
+				}
+			}
+			if (cardinality > 0) {
+				append(key, array, null, cardinality);
+			}
+			return;
+		}
+		int a = 0;
+		int b = 0;
+		while (a < leftSize && b < rightSize) {
+			char leftValue = leftArray[a];
+			char rightValue = rightArray[b];
+			if (leftValue < rightValue) {
+				a++;
+			} else if (leftValue > rightValue) {
+				b++;
+			} else {
+				array[cardinality++] = leftValue;
+				a++;
+				b++;
+			}
+		}
+		if (cardinality > 0) {
+			append(key, array, null, cardinality);
+		}
+	}
+
+	private static int andCardinality(CompressedBitmap left, int i, CompressedBitmap right, int j) {
+		long[] leftWords = left.bitmaps[i];
+		long[] rightWords = right.bitmaps[j];
+		if (leftWords != null && rightWords != null) {
+			int cardinality = 0;
+			for (int word = 0; word < BITMAP_WORDS; word++) {
+				cardinality += Long.bitCount(leftWords[word] & rightWords[word]);
+			}
+			return cardinality;
+		}
+		if (leftWords != null || rightWords != null) {
+			char[] source = leftWords == null ? left.arrays[i] : right.arrays[j];
+			int sourceSize = leftWords == null ? left.cardinalities[i] : right.cardinalities[j];
+			long[] words = leftWords != null ? leftWords : rightWords;
+			int cardinality = 0;
+			for (int k = 0; k < sourceSize; k++) {
+				char low = source[k];
+				cardinality += (int)(words[low >>> 6] >>> low) & 1;
+			}
+			return cardinality;
+		}
+		char[] leftArray = left.arrays[i];
+		char[] rightArray = right.arrays[j];
+		int leftSize = left.cardinalities[i];
+		int rightSize = right.cardinalities[j];
+		if (leftSize * SKEW_RATIO < rightSize) {
+			return skewedCardinality(leftArray, leftSize, rightArray, rightSize);
+		}
+		if (rightSize * SKEW_RATIO < leftSize) {
+			return skewedCardinality(rightArray, rightSize, leftArray, leftSize);
+		}
+		int cardinality = 0;
+		int a = 0;
+		int b = 0;
+		while (a < leftSize && b < rightSize) {
+			char leftValue = leftArray[a];
+			char rightValue = rightArray[b];
+			if (leftValue < rightValue) {
+				a++;
+			} else if (leftValue > rightValue) {
+				b++;
+			} else {
+				cardinality++;
+				a++;
+				b++;
+			}
+		}
+		return cardinality;
+	}
+
+	private static int skewedCardinality(char[] small, int smallSize, char[] large, int largeSize) {
+		int cardinality = 0;
+		int from = 0;
+		for (int k = 0; k < smallSize && from < largeSize; k++) {
+			int position = Arrays.binarySearch(large, from, largeSize, small[k]);
+			if (position >= 0) {
+				cardinality++;
+				from = position + 1;
+			} else {
+				from = -position - 1;
+			}
+		}
+		return cardinality;
+	}
+
+	private void appendOr(char key, CompressedBitmap left, int i, CompressedBitmap right, int j) {
+		long[] leftWords = left.bitmaps[i];
+		long[] rightWords = right.bitmaps[j];
+		if (leftWords == null && rightWords == null
+			&& left.cardinalities[i] + right.cardinalities[j] <= ARRAY_MAX_SIZE) {
+			char[] leftArray = left.arrays[i];
+			char[] rightArray = right.arrays[j];
+			int leftSize = left.cardinalities[i];
+			int rightSize = right.cardinalities[j];
+			char[] array = new char[leftSize + rightSize];
+			int cardinality = 0;
+			int a = 0;
+			int b = 0;
+			while (a < leftSize || b < rightSize) {
+				if (b == rightSize || a < leftSize && leftArray[a] < rightArray[b]) {
+					array[cardinality++] = leftArray[a++];
+				} else if (a == leftSize || leftArray[a] > rightArray[b]) {
+					array[cardinality++] = rightArray[b++];
+				} else {
+					array[cardinality++] = leftArray[a++];
+					b++;
+				}
+			}
+			append(key, array, null, cardinality);
+			return;
+		}
+		long[] words = leftWords != null ? leftWords.clone() : toBitmap(left.arrays[i], left.cardinalities[i]);
+		if (rightWords != null) {
+			for (int word = 0; word < BITMAP_WORDS; word++) {
+				words[word] |= rightWords[word];
+			}
+		} else {
+			char[] rightArray = right.arrays[j];
+			for (int k = 0; k < right.cardinalities[j]; k++) {
+				char low = rightArray[k];
+				words[low >>> 6] |= 1L << low;
+			}
+		}
+		int cardinality = 0;
+		for (long word : words) {
+			cardinality += Long.bitCount(word);
+		}
+		if (cardinality <= ARRAY_MAX_SIZE) {
+			append(key, toArray(words, cardinality), null, cardinality);
+		} else {
+			append(key, null, words, cardinality);
+		}
+	}
+
+	private void appendCopy(CompressedBitmap source, int index) {
+		long[] words = source.bitmaps[index];
+		int cardinality = source.cardinalities[index];
+		if (words != null) {
+			append(source.keys[index], null, words.clone(), cardinality);
+		} else {
+			append(source.keys[index], Arrays.copyOf(source.arrays[index], cardinality), null, cardinality);
+		}
+	}
+
+	private void append(char key, char[] array, long[] words, int cardinality) {
+		insertContainer(size, key, array, words, cardinality);
+	}
+
+	private int indexOf(char key) {
+		// 대부분 ID 오름차순으로 추가하므로 마지막 컨테이너를 먼저 확인
+		if (size > 0 && keys[size - 1] == key) {
+			return size - 1;
+		}
+		return Arrays.binarySearch(keys, 0, size, key);
+	}
+
+	private void insertContainer(int index, char key, char[] array, long[] words, int cardinality) {
+		if (size == keys.length) {
+			int capacity = keys.length * 2;
+			keys = Arrays.copyOf(keys, capacity);
+			arrays = Arrays.copyOf(arrays, capacity);
+			bitmaps = Arrays.copyOf(bitmaps, capacity);
+			cardinalities = Arrays.copyOf(cardinalities, capacity);
+		}
+		int moved = size - index;
+		System.arraycopy(keys, index, keys, index + 1, moved);
+		System.arraycopy(arrays, index, arrays, index + 1, moved);
+		System.arraycopy(bitmaps, index, bitmaps, index + 1, moved);
+		System.arraycopy(cardinalities, index, cardinalities, index + 1, moved);
+		keys[index] = key;
+		arrays[index] = array;
+		bitmaps[index] = words;
+		cardinalities[index] = cardinality;
+		size++;
+	}
+
+	private void removeContainer(int index) {
+		int moved = size - index - 1;
+		System.arraycopy(keys, index + 1, keys, index, moved);
+		System.arraycopy(arrays, index + 1, arrays, index, moved);
+		System.arraycopy(bitmaps, index + 1, bitmaps, index, moved);
+		System.arraycopy(cardinalities, index + 1, cardinalities, index, moved);
+		size--;
+		arrays[size] = null;
+		bitmaps[size] = null;
+	}
+
+	private static long[] toBitmap(char[] array, int cardinality) {
+		long[] words = new long[BITMAP_WORDS];
+		for (int k = 0; k < cardinality; k++) {
+			char low = array[k];
+			words[low >>> 6] |= 1L << low;
+		}
+		return words;
+	}
+
+	private static char[] toArray(long[] words, int cardinality) {
+		char[] array = new char[cardinality];
+		int offset = 0;
+		for (int word = 0; word < BITMAP_WORDS; word++) {
+			long bits = words[word];
+			while (bits != 0) {
+				array[offset++] = (char)((word << 6) + Long.numberOfTrailingZeros(bits));
+				bits &= bits - 1;
+			}
+		}
+		return array;
+	}
+
+	private static void checkValue(int value) {
+		if (value < 0) {
+			throw new IllegalArgumentException("음수는 저장할 수 없습니다: " + value);
+		}
+	}
+}
@@ -0,0 +1,262 @@
+package com.ll.dopdang.domain.expert.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ll.dopdang.domain.expert.dto.response.ExpertIndexRow;
+import com.ll.dopdang.domain.expert.entity.CareerLevel;
+
+/**
+ * 전문가 필터 비트맵 인덱스
+ * 대분류, 소분류, 경력 수준, 자격증, 활동 가능 여부의 값마다 해당 전문가 ID의 {@link CompressedBitmap}을 두고,
+ * 필터 조회는 비트맵 교집합, 항목별 전문가 수(facet)는 교집합 크기로 계산합니다.
+ * 같은 항목 안의 여러 값(예: 대분류 2개)은 합집합, 항목끼리는 교집합입니다.
+ * 스레드 안전하지 않으므로 {@link com.ll.dopdang.domain.expert.service.ExpertFilterIndex}가 잠금을 걸고 사용합니다.
+ */
+public class ExpertBitmapIndex {
+
+	private static final int MAIN_CATEGORY = 0;
+	private static final int SUB_CATEGORY = 1;
+	private static final int CAREER_LEVEL = 2;
+	private static final int CERTIFICATE = 3;
+	private static final int AVAILABILITY = 4;
+	private static final int DIMENSIONS = 5;
+
+	private final CompressedBitmap all = new CompressedBitmap();
+	private final CompressedBitmap available = new CompressedBitmap();
+	private final CompressedBitmap unavailable = new CompressedBitmap();
+	private final Map<Long, CompressedBitmap> mainCategories = new HashMap<>();
+	private final Map<Long, CompressedBitmap> subCategories = new HashMap<>();
+	private final Map<Long, CompressedBitmap> certificates = new HashMap<>();
+	private final Map<CareerLevel, CompressedBitmap> careerLevels = new EnumMap<>(CareerLevel.class);
+
+	/**
+	 * 전문가를 추가합니다. (전체 생성용, 이미 있는 전문가면 {@link #put}을 사용)
+	 */
+	public void add(ExpertIndexRow row) {
+		int id = toIndex(row.expertId());
+		all.add(id);
+		(row.availability() ? available : unavailable).add(id);
+		mainCategories.computeIfAbsent(row.categoryId(), ignored -> new CompressedBitmap()).add(id);
+		CareerLevel level = CareerLevel.of(row.careerYears());
+		if (level != null) {
+			careerLevels.computeIfAbsent(level, ignored -> new CompressedBitmap()).add(id);
+		}
+	}
+
+	public void addSubCategory(long expertId, long subCategoryId) {
+		subCategories.computeIfAbsent(subCategoryId, ignored -> new CompressedBitmap()).add(toIndex(expertId));
+	}
+
+	public void addCertificate(long expertId, long certificateId) {
+		certificates.computeIfAbsent(certificateId, ignored -> new CompressedBitmap()).add(toIndex(expertId));
+	}
+
+	/**
+	 * 전문가의 기존 값을 모두 지우고 새 값으로 다시 넣습니다.
+	 */
+	public void put(ExpertIndexRow row, Collection<Long> subCategoryIds, Collection<Long> certificateIds) {
+		remove(row.expertId());
+		add(row);
+		subCategoryIds.forEach(subCategoryId -> addSubCategory(row.expertId(), subCategoryId));
+		certificateIds.forEach(certificateId -> addCertificate(row.expertId(), certificateId));
+	}
+
+	/**
+	 * 전문가를 모든 비트맵에서 지웁니다.
+	 * 전문가별 역색인을 따로 두지 않고 값별 비트맵을 모두 확인합니다. (값 종류가 수백 개 수준이라 충분히 빠름)
+	 */
+	public void remove(long expertId) {
+		int id = toIndex(expertId);
+		if (!all.remove(id)) {
+			return;
+		}
+		available.remove(id);
+		unavailable.remove(id);
+		removeFrom(mainCategories, id);
+		removeFrom(subCategories, id);
+		removeFrom(certificates, id);
+		removeFrom(careerLevels, id);
+	}
+
+	public int size() {
+		return all.cardinality();
+	}
+
+	/**
+	 * 조건에 맞는 전문가 ID를 오름차순으로 반환합니다.
+	 */
+	public int[] search(Filter filter) {
+		return intersect(dimensions(filter), -1).toArray();
+	}
+
+	/**
+	 * 조건에 맞는 전문가 중 ID가 after보다 큰 전문가를 오름차순으로 최대 limit명 반환합니다.
+	 */
+	public int[] search(Filter filter, int after, int limit) {
+		return intersect(dimensions(filter), -1).toArray(after, limit);
+	}
+
+	/**
+	 * 조건에 맞는 전문가 ID 비트맵을 반환합니다. (인덱스와 공유하지 않는 복사본이라 잠금 밖에서 사용 가능)
+	 */
+	public CompressedBitmap match(Filter filter) {
+		return intersect(dimensions(filter), -1).copy();
+	}
+
+	/**
+	 * 조건에 맞는 전문가 수와 항목별 전문가 수를 계산합니다.
+	 * 항목별 수는 해당 항목의 조건만 빼고 계산합니다. (대분류를 골라도 다른 대분류의 수가 보이도록)
+	 */
+	public Facets facets(Filter filter) {
+		CompressedBitmap[] dimensions = dimensions(filter);
+		return new Facets(
+			intersect(dimensions, -1).cardinality(),
+			count(mainCategories, intersect(dimensions, MAIN_CATEGORY)),
+			count(subCategories, intersect(dimensions, SUB_CATEGORY)),
+			count(careerLevels, intersect(dimensions, CAREER_LEVEL)),
+			count(certificates, intersect(dimensions, CERTIFICATE)),
+			countIn(available, intersect(dimensions, AVAILABILITY))
+		);
+	}
+
+	/**
+	 * 대략적인 비트맵 힙 사용량
+	 */
+	public long sizeInBytes() {
+		long bytes = all.sizeInBytes() + available.sizeInBytes() + unavailable.sizeInBytes();
+		for (Map<?, CompressedBitmap> bitmaps : List.of(mainCategories, subCategories, certificates, careerLevels)) {
+			for (CompressedBitmap bitmap : bitmaps.values()) {
+				bytes += bitmap.sizeInBytes();
+			}
+		}
+		return bytes;
+	}
+
+	/**
+	 * 항목별 조건 비트맵 (조건이 없는 항목은 null)
+	 */
+	private CompressedBitmap[] dimensions(Filter filter) {
+		CompressedBitmap[] dimensions = new CompressedBitmap[DIMENSIONS];
+		dimensions[MAIN_CATEGORY] = union(mainCategories, filter.mainCategoryIds());
+		dimensions[SUB_CATEGORY] = union(subCategories, filter.subCategoryIds());
+		dimensions[CAREER_LEVEL] = filter.careerLevel() == null ? null
+			: careerLevels.getOrDefault(filter.careerLevel(), new CompressedBitmap());
+		dimensions[CERTIFICATE] = union(certificates, filter.certificateIds());
+		dimensions[AVAILABILITY] = filter.available() == null ? null
+			: filter.available() ? available : unavailable;
+		return dimensions;
+	}
+
+	private static <K> CompressedBitmap union(Map<K, CompressedBitmap> bitmaps, Collection<K> keys) {
+		if (keys == null) {
+			return null;
+		}
+		CompressedBitmap result = null;
+		for (K key : keys) {
+			CompressedBitmap bitmap = bitmaps.get(key);
+			if (bitmap != null) {
+				result = result == null ? bitmap : CompressedBitmap.or(result, bitmap);
+			}
+		}
+		return result != null ? result : new CompressedBitmap();
+	}
+
+	/**
+	 * 조건 비트맵의 교집합 (skip 항목 제외, 작은 비트맵부터 교집합해 중간 결과를 줄임)
+	 * 저장된 비트맵을 그대로 반환할 수 있으므로 결과를 수정하면 안 됩니다.
+	 */
+	private CompressedBitmap intersect(CompressedBitmap[] dimensions, int skip) {
+		List<CompressedBitmap> bitmaps = new ArrayList<>(DIMENSIONS);
+		for (int i = 0; i < DIMENSIONS; i++) {
+			if (i != skip && dimensions[i] != null) {
+				bitmaps.add(dimensions[i]);
+			}
+		}
+		if (bitmaps.isEmpty()) {
+			return all;
+		}
+		bitmaps.sort(Comparator.comparingInt(CompressedBitmap::cardinality));
+		CompressedBitmap result = bitmaps.get(0);
+		for (int i = 1; i < bitmaps.size() && !result.isEmpty(); i++) {
+			result = CompressedBitmap.and(result, bitmaps.get(i));
+		}
+		return result;
+	}
+
+	private <K> Map<K, Integer> count(Map<K, CompressedBitmap> bitmaps, CompressedBitmap base) {
+		Map<K, Integer> counts = new LinkedHashMap<>();
+		// 값마다 교집합 크기를 계산하므로 기준 비트맵을 한 번 비트맵 컨테이너로 바꿔 둠
+		CompressedBitmap countingBase = base == all || bitmaps.size() < 4 ? base : base.toDense();
+		bitmaps.forEach((key, bitmap) -> {
+			int count = countIn(bitmap, countingBase);
+			if (count > 0) {
+				counts.put(key, count);
+			}
+		});
+		return counts;
+	}
+
+	private int countIn(CompressedBitmap bitmap, CompressedBitmap base) {
+		return base == all ? bitmap.cardinality() : CompressedBitmap.andCardinality(bitmap, base);
+	}
+
+	private static <K> void removeFrom(Map<K, CompressedBitmap> bitmaps, int id) {
+		Iterator<CompressedBitmap> iterator = bitmaps.values().iterator();
+		while (iterator.hasNext()) {
+			CompressedBitmap bitmap = iterator.next();
+			if (bitmap.remove(id) && bitmap.isEmpty()) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private static int toIndex(long expertId) {
+		return Math.toIntExact(expertId);
+	}
+
+	/**
+	 * 필터 조건 (null이면 해당 항목 조건 없음, 빈 목록이면 해당하는 전문가 없음)
+	 *
+	 * @param mainCategoryIds 대분류 카테고리 ID (하나라도 해당)
+	 * @param subCategoryIds  소분류 카테고리 ID (하나라도 해당)
+	 * @param careerLevel     경력 수준
+	 * @param certificateIds  자격증 ID (하나라도 보유)
+	 * @param available       활동 가능 여부
+	 */
+	public record Filter(
+		Collection<Long> mainCategoryIds,
+		Collection<Long> subCategoryIds,
+		CareerLevel careerLevel,
+		Collection<Long> certificateIds,
+		Boolean available
+	) {
+	}
+
+	/**
+	 * 항목별 전문가 수 (0인 값은 제외)
+	 *
+	 * @param total          조건에 맞는 전문가 수
+	 * @param mainCategories 대분류 ID -> 전문가 수
+	 * @param subCategories  소분류 ID -> 전문가 수
+	 * @param careerLevels   경력 수준 -> 전문가 수
+	 * @param certificates   자격증 ID -> 전문가 수
+	 * @param available      활동 가능한 전문가 수
+	 */
+	public record Facets(
+		int total,
+		Map<Long, Integer> mainCategories,
+		Map<Long, Integer> subCategories,
+		Map<CareerLevel, Integer> careerLevels,
+		Map<Long, Integer> certificates,
+		int available
+	) {
+	}
+}
@@ -0,0 +1,393 @@
+package com.ll.dopdang.domain.expert.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.IntPredicate;
+
+/**
+ * 전문가 검색 엔진 (메모리 역색인 + BM25)
+ * 필드(이름, 카테고리, 자격증, 자기소개)마다 n-gram({@link ExpertSearchTokenizer}) 역색인을 두고,
+ * 필드별 BM25 점수에 필드 가중치를 곱해 더한 뒤 리뷰 평점(베이지안 평균)으로 보정해 상위 k건을 반환합니다.
+ * <ul>
+ *     <li>색인: 문서 번호 순으로 뒤에만 추가 (posting list가 항상 정렬 상태)</li>
+ *     <li>수정/삭제: 기존 문서 번호를 삭제 표시하고 새 번호로 추가 (삭제된 번호는 전체 재생성 때 정리)</li>
+ *     <li>검색: 검색어 토큰의 posting list를 하나씩 끝까지 훑으며(term-at-a-time) 문서별 점수를 배열에 누적,
+ *     검색어 토큰의 {@value #MIN_MATCH_PERCENT}% 이상이 일치한 문서만 후보</li>
+ * </ul>
+ * 스레드 안전하지 않으므로 {@link com.ll.dopdang.domain.expert.service.ExpertSearchIndex}가 잠금을 걸고 사용합니다.
+ */
+public class ExpertSearchEngine {
+
+	private static final float K1 = 1.2f;
+	private static final float B = 0.75f;
+	private static final int MIN_MATCH_PERCENT = 75;
+	private static final int MAX_TERM_FREQUENCY = 255;
+	private static final double MAX_SCORE = 5.0;
+
+	/**
+	 * 검색 필드와 가중치
+	 */
+	public enum Field {
+		NAME(3.0f, true),
+		CATEGORY(2.0f, false),
+		CERTIFICATE(1.5f, false),
+		INTRODUCTION(1.0f, false);
+
+		private final float weight;
+		// 2글자 이상 단어도 1-gram을 색인할지 여부 (이름은 성만으로도 검색)
+		private final boolean unigrams;
+
+		Field(float weight, boolean unigrams) {
+			this.weight = weight;
+			this.unigrams = unigrams;
+		}
+	}
+
+	private static final Field[] FIELDS = Field.values();
+
+	private final double ratingWeight;
+	private final double priorMean;
+	private final int priorCount;
+
+	// 필드별 토큰 -> posting list
+	private final List<Map<String, Postings>> postings = new ArrayList<>(FIELDS.length);
+	// 필드별 문서 길이 (토큰 수), 살아 있는 문서의 길이 합
+	private final int[][] lengths = new int[FIELDS.length][];
+	private final long[] totalLengths = new long[FIELDS.length];
+
+	private int[] expertIds = new int[1024];
+	private float[] qualities = new float[1024];
+	private final BitSet deleted = new BitSet();
+	private final Map<Integer, Integer> docByExpertId = new HashMap<>();
+	// 검색 중 점수 누적 공간 (동시에 검색하는 수만큼만 만들어 재사용, 읽기 잠금 아래에서 여러 스레드가 사용)
+	private final Queue<Accumulator> accumulators = new ConcurrentLinkedQueue<>();
+	private int maxDoc;
+
+	/**
+	 * @param ratingWeight 평점 보정 가중치 (최종 점수 = BM25 x (1 + 가중치 x 베이지안 평점 / 5))
+	 * @param priorMean    베이지안 평균의 사전 평점 (리뷰가 적을수록 이 값에 가까워짐)
+	 * @param priorCount   베이지안 평균의 사전 리뷰 수
+	 */
+	public ExpertSearchEngine(double ratingWeight, double priorMean, int priorCount) {
+		this.ratingWeight = ratingWeight;
+		this.priorMean = priorMean;
+		this.priorCount = priorCount;
+		for (int field = 0; field < FIELDS.length; field++) {
+			postings.add(new HashMap<>());
+			lengths[field] = new int[1024];
+		}
+	}
+
+	/**
+	 * 전문가 문서를 추가합니다. 이미 있는 전문가면 기존 문서를 삭제 표시하고 새로 추가합니다.
+	 */
+	public void put(Document document) {
+		int expertId = Math.toIntExact(document.expertId());
+		remove(expertId);
+		int doc = maxDoc++;
+		ensureCapacity(maxDoc);
+		expertIds[doc] = expertId;
+		qualities[doc] = (float)quality(document.averageScore(), document.reviewCount());
+		index(doc, Field.NAME, List.of(nullToEmpty(document.name())));
+		index(doc, Field.CATEGORY, document.categoryNames());
+		index(doc, Field.CERTIFICATE, document.certificateNames());
+		index(doc, Field.INTRODUCTION, List.of(nullToEmpty(document.introduction())));
+		docByExpertId.put(expertId, doc);
+	}
+
+	public void remove(long expertId) {
+		Integer doc = docByExpertId.remove(Math.toIntExact(expertId));
+		if (doc == null) {
+			return;
+		}
+		deleted.set(doc);
+		for (int field = 0; field < FIELDS.length; field++) {
+			totalLengths[field] -= lengths[field][doc];
+		}
+	}
+
+	/**
+	 * 검색 가능한 전문가 수
+	 */
+	public int size() {
+		return docByExpertId.size();
+	}
+
+	/**
+	 * 삭제 표시만 되고 아직 색인에 남아 있는 문서 수
+	 */
+	public int deletedDocs() {
+		return deleted.cardinality();
+	}
+
+	/**
+	 * 검색어와 일치하는 전문가를 점수 내림차순으로 최대 limit건 반환합니다.
+	 *
+	 * @param query  검색어
+	 * @param limit  최대 결과 수
+	 * @param filter 전문가 ID 조건 (null이면 조건 없음)
+	 * @param fields 검색할 필드 (null이면 전체)
+	 */
+	public List<Hit> search(String query, int limit, IntPredicate filter, Set<Field> fields) {
+		List<String> terms = ExpertSearchTokenizer.queryTerms(query);
+		int liveDocs = size();
+		if (terms.isEmpty() || liveDocs == 0 || limit <= 0) {
+			return List.of();
+		}
+		int minMatch = (terms.size() * MIN_MATCH_PERCENT + 99) / 100;
+		Accumulator accumulator = acquireAccumulator();
+		for (Field field : fields != null ? fields : EnumSet.allOf(Field.class)) {
+			int ordinal = field.ordinal();
+			float averageLength = (float)Math.max(1.0, (double)totalLengths[ordinal] / liveDocs);
+			for (int term = 0; term < terms.size(); term++) {
+				Postings list = postings.get(ordinal).get(terms.get(term));
+				if (list != null) {
+					// 삭제 표시된 문서가 남아 있어 문서 빈도가 전체 수보다 클 수 있음
+					int documentFrequency = Math.min(list.size, liveDocs);
+					double idf = Math.log(1 + (liveDocs - documentFrequency + 0.5) / (documentFrequency + 0.5));
+					accumulator.add(list, (float)(field.weight * idf), lengths[ordinal], averageLength, 1L << term);
+				}
+			}
+		}
+
+		TopHits top = new TopHits(limit);
+		for (int i = 0; i < accumulator.touchedCount; i++) {
+			int doc = accumulator.touched[i];
+			long matched = accumulator.matched[doc];
+			float score = accumulator.scores[doc];
+			accumulator.matched[doc] = 0;
+			accumulator.scores[doc] = 0;
+			if (Long.bitCount(matched) < minMatch || deleted.get(doc)) {
+				continue;
+			}
+			int expertId = expertIds[doc];
+			if (filter == null || filter.test(expertId)) {
+				top.offer(expertId, (float)(score * (1 + ratingWeight * qualities[doc])));
+			}
+		}
+		accumulator.touchedCount = 0;
+		// 예외로 중간에 끝나면 누적 공간이 정리되지 않으므로 반납하지 않음
+		accumulators.offer(accumulator);
+		return top.toHits();
+	}
+
+	/**
+	 * 리뷰 평점의 베이지안 평균을 0~1로 정규화합니다. (리뷰가 적으면 사전 평점에 가까움)
+	 */
+	double quality(double averageScore, int reviewCount) {
+		double bayesian = (priorCount * priorMean + averageScore * reviewCount) / (priorCount + reviewCount);
+		return Math.max(0, Math.min(1, bayesian / MAX_SCORE));
+	}
+
+	private void index(int doc, Field field, Collection<String> values) {
+		Map<String, int[]> frequencies = new HashMap<>();
+		int[] length = new int[1];
+		for (String value : values) {
+			ExpertSearchTokenizer.tokenize(value, field.unigrams, term -> {
+				frequencies.computeIfAbsent(term, ignored -> new int[1])[0]++;
+				length[0]++;
+			});
+		}
+		Map<String, Postings> fieldPostings = postings.get(field.ordinal());
+		frequencies.forEach((term, frequency) -> fieldPostings.computeIfAbsent(term, ignored -> new Postings())
+			.add(doc, Math.min(frequency[0], MAX_TERM_FREQUENCY)));
+		lengths[field.ordinal()][doc] = length[0];
+		totalLengths[field.ordinal()] += length[0];
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity <= expertIds.length) {
+			return;
+		}
+		int newCapacity = Math.max(capacity, expertIds.length * 2);
+		expertIds = Arrays.copyOf(expertIds, newCapacity);
+		qualities = Arrays.copyOf(qualities, newCapacity);
+		for (int field = 0; field < FIELDS.length; field++) {
+			lengths[field] = Arrays.copyOf(lengths[field], newCapacity);
+		}
+	}
+
+	private Accumulator acquireAccumulator() {
+		Accumulator accumulator = accumulators.poll();
+		if (accumulator == null || accumulator.scores.length < maxDoc) {
+			accumulator = new Accumulator(expertIds.length);
+		}
+		return accumulator;
+	}
+
+	private static String nullToEmpty(String value) {
+		return value != null ? value : "";
+	}
+
+	/**
+	 * 검색 대상 전문가
+	 *
+	 * @param expertId         전문가 ID
+	 * @param name             이름
+	 * @param introduction     자기소개
+	 * @param categoryNames    대분류, 소분류 카테고리 이름
+	 * @param certificateNames 자격증 이름
+	 * @param averageScore     리뷰 평균 평점
+	 * @param reviewCount      리뷰 수
+	 */
+	public record Document(
+		long expertId,
+		String name,
+		String introduction,
+		List<String> categoryNames,
+		List<String> certificateNames,
+		double averageScore,
+		int reviewCount
+	) {
+	}
+
+	/**
+	 * @param expertId 전문가 ID
+	 * @param score    최종 점수 (BM25 x 평점 보정)
+	 */
+	public record Hit(long expertId, float score) {
+	}
+
+	/**
+	 * 토큰 하나의 문서 번호(오름차순)와 토큰 빈도
+	 */
+	private static final class Postings {
+		private int[] docs = new int[4];
+		private byte[] frequencies = new byte[4];
+		private int size;
+
+		private void add(int doc, int frequency) {
+			if (size == docs.length) {
+				docs = Arrays.copyOf(docs, size * 2);
+				frequencies = Arrays.copyOf(frequencies, size * 2);
+			}
+			docs[size] = doc;
+			frequencies[size] = (byte)frequency;
+			size++;
+		}
+	}
+
+	/**
+	 * 검색 한 번의 문서별 점수 누적 공간 (문서 번호로 바로 접근, 검색 후 건드린 문서만 0으로 되돌려 재사용)
+	 */
+	private static final class Accumulator {
+		private final float[] scores;
+		// 문서별 일치한 검색어 토큰 (토큰 순서 비트)
+		private final long[] matched;
+		// 이번 검색에서 처음 점수가 더해진 문서 번호
+		private final int[] touched;
+		private int touchedCount;
+
+		private Accumulator(int capacity) {
+			scores = new float[capacity];
+			matched = new long[capacity];
+			touched = new int[capacity];
+		}
+
+		/**
+		 * posting list 하나를 처음부터 끝까지 훑으며 BM25 점수를 더합니다. (term-at-a-time)
+		 */
+		private void add(Postings postings, float weight, int[] lengths, float averageLength, long termBit) {
+			int[] docs = postings.docs;
+			byte[] frequencies = postings.frequencies;
+			// 문서마다 반복되는 상수 계산을 미리 해 둠
+			float scaledWeight = weight * (K1 + 1);
+			float baseNorm = K1 * (1 - B);
+			float lengthNorm = K1 * B / averageLength;
+			for (int i = 0; i < postings.size; i++) {
+				int doc = docs[i];
+				int frequency = frequencies[i] & 0xff;
+				if (matched[doc] == 0) {
+					touched[touchedCount++] = doc;
+				}
+				matched[doc] |= termBit;
+				scores[doc] += scaledWeight * frequency / (frequency + baseNorm + lengthNorm * lengths[doc]);
+			}
+		}
+	}
+
+	/**
+	 * 점수 상위 k건 (최소 힙)
+	 */
+	private static final class TopHits {
+		private final int[] ids;
+		private final float[] scores;
+		private int size;
+
+		private TopHits(int limit) {
+			ids = new int[limit];
+			scores = new float[limit];
+		}
+
+		private void offer(int id, float score) {
+			if (size < ids.length) {
+				ids[size] = id;
+				scores[size] = score;
+				siftUp(size++);
+			} else if (score > scores[0]) {
+				ids[0] = id;
+				scores[0] = score;
+				siftDown(0);
+			}
+		}
+
+		private List<Hit> toHits() {
+			List<Hit> hits = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				hits.add(new Hit(ids[i], scores[i]));
+			}
+			hits.sort((left, right) -> left.score() != right.score()
+				? Float.compare(right.score(), left.score())
+				: Long.compare(left.expertId(), right.expertId()));
+			return hits;
+		}
+
+		private void siftUp(int index) {
+			while (index > 0) {
+				int parent = (index - 1) / 2;
+				if (scores[parent] <= scores[index]) {
+					return;
+				}
+				swap(parent, index);
+				index = parent;
+			}
+		}
+
+		private void siftDown(int index) {
+			while (true) {
+				int smallest = index;
+				int left = index * 2 + 1;
+				int right = left + 1;
+				if (left < size && scores[left] < scores[smallest]) {
+					smallest = left;
+				}
+				if (right < size && scores[right] < scores[smallest]) {
+					smallest = right;
+				}
+				if (smallest == index) {
+					return;
+				}
+				swap(smallest, index);
+				index = smallest;
+			}
+		}
+
+		private void swap(int i, int j) {
+			int id = ids[i];
+			ids[i] = ids[j];
+			ids[j] = id;
+			float score = scores[i];
+			scores[i] = scores[j];
+			scores[j] = score;
+		}
+	}
+}
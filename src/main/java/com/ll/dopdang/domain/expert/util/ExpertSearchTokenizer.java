@@ -0,0 +1,83 @@
+package com.ll.dopdang.domain.expert.util;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 전문가 검색용 n-gram 토크나이저
+ * 형태소 분석 없이 한국어 부분 검색이 되도록 단어를 글자 2-gram으로 나눕니다. ("백엔드개발" -> 백엔, 엔드, 드개, 개발)
+ * <ul>
+ *     <li>정규화: NFKC(전각/호환 문자 통일) 후 소문자, 글자/숫자가 아닌 문자는 단어 구분자</li>
+ *     <li>문서: 2-gram, 1글자 단어는 1-gram. 이름처럼 짧은 필드는 1-gram도 함께 색인 (성만으로 검색)</li>
+ *     <li>검색어: 2글자 이상 단어는 2-gram, 1글자 단어는 1-gram</li>
+ * </ul>
+ */
+public final class ExpertSearchTokenizer {
+
+	// 검색어에서 사용할 최대 토큰 수 (문서별 일치 토큰을 long 비트로 표시)
+	public static final int MAX_QUERY_TERMS = 64;
+
+	private ExpertSearchTokenizer() {
+	}
+
+	/**
+	 * 문서 필드의 토큰을 순서대로 전달합니다. (중복 포함, 빈도 계산용)
+	 *
+	 * @param text      필드 값 (null이면 토큰 없음)
+	 * @param unigrams  2글자 이상 단어도 1-gram을 함께 만들지 여부
+	 * @param consumer  토큰을 받을 함수
+	 */
+	public static void tokenize(String text, boolean unigrams, Consumer<String> consumer) {
+		if (text == null || text.isBlank()) {
+			return;
+		}
+		String normalized = normalize(text);
+		int length = normalized.length();
+		int start = -1;
+		for (int i = 0; i <= length; i++) {
+			boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+			if (wordChar && start < 0) {
+				start = i;
+			} else if (!wordChar && start >= 0) {
+				emitWord(normalized, start, i, unigrams, consumer);
+				start = -1;
+			}
+		}
+	}
+
+	/**
+	 * 검색어의 토큰을 중복 없이 반환합니다. (최대 {@value #MAX_QUERY_TERMS}개)
+	 */
+	public static List<String> queryTerms(String query) {
+		Set<String> terms = new LinkedHashSet<>();
+		tokenize(query, false, term -> {
+			if (terms.size() < MAX_QUERY_TERMS) {
+				terms.add(term);
+			}
+		});
+		return List.copyOf(terms);
+	}
+
+	static String normalize(String text) {
+		return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+	}
+
+	private static void emitWord(String text, int start, int end, boolean unigrams, Consumer<String> consumer) {
+		if (end - start == 1) {
+			consumer.accept(text.substring(start, end));
+			return;
+		}
+		for (int i = start; i < end; i++) {
+			if (unigrams) {
+				consumer.accept(text.substring(i, i + 1));
+			}
+			if (i + 1 < end) {
+				consumer.accept(text.substring(i, i + 2));
+			}
+		}
+	}
+}
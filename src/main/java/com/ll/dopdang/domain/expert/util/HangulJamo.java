@@ -0,0 +1,145 @@
+package com.ll.dopdang.domain.expert.util;
+
+/**
+ * 자동완성용 한글 자모 분해
+ * 입력 중인 글자(예: "정보ㅊ", "정봋")도 완성된 이름의 앞부분과 일치하도록, 음절을 초성/중성/종성 호환 자모로 나누고
+ * 겹모음과 겹받침은 입력 순서대로 다시 나눕니다. ("봤" -> ㅂ ㅗ ㅏ ㅆ, "닭" -> ㄷ ㅏ ㄹ ㄱ)
+ * 된소리(ㄲ, ㄸ, ㅃ, ㅆ, ㅉ)는 한 번에 입력하므로 나누지 않습니다.
+ * <p>
+ * 조회 경로에서 객체를 만들지 않도록 분해 결과는 공유하는 상수 배열로 반환합니다. (변경하면 안 됨)
+ */
+public final class HangulJamo {
+
+	private static final char SYLLABLE_BEGIN = 0xAC00;
+	private static final char SYLLABLE_END = 0xD7A3;
+	private static final char COMPATIBILITY_BEGIN = 0x3131;
+	private static final char COMPATIBILITY_END = 0x3163;
+	private static final char[] EMPTY = new char[0];
+
+	// 중성/종성 번호 순서의 호환 자모
+	private static final String JUNGSEONG_LETTERS = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+	private static final String JONGSEONG_LETTERS = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+	private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+	private static final char[][] JUNGSEONG = split(
+		"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+		"ㅠ", "ㅡ", "ㅡㅣ", "ㅣ");
+	private static final char[][] JONGSEONG = split(
+		"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+		"ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ");
+	// 호환 자모 (ㄱ ~ ㅣ) -> 나눈 자모
+	private static final char[][] COMPATIBILITY = compatibility();
+
+	private HangulJamo() {
+	}
+
+	/**
+	 * 자동완성 색인/검색에서 글자로 취급하는 문자인지 (공백, 기호는 건너뜀)
+	 */
+	public static boolean isIndexed(char c) {
+		return Character.isLetterOrDigit(c);
+	}
+
+	public static boolean isSyllable(char c) {
+		return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+	}
+
+	/**
+	 * 음절의 초성 (음절이 아니면 소문자로 바꾼 문자 그대로)
+	 */
+	public static char choseong(char c) {
+		return isSyllable(c) ? CHOSEONG[(c - SYLLABLE_BEGIN) / 588] : Character.toLowerCase(c);
+	}
+
+	/**
+	 * 음절의 중성 자모 (겹모음은 두 개)
+	 */
+	public static char[] jungseong(char c) {
+		return JUNGSEONG[(c - SYLLABLE_BEGIN) % 588 / 28];
+	}
+
+	/**
+	 * 음절의 종성 자모 (받침이 없으면 빈 배열, 겹받침은 두 개)
+	 */
+	public static char[] jongseong(char c) {
+		return JONGSEONG[(c - SYLLABLE_BEGIN) % 28];
+	}
+
+	/**
+	 * 호환 자모를 나눈 자모 (호환 자모가 아니면 null)
+	 */
+	public static char[] compatibility(char c) {
+		return c >= COMPATIBILITY_BEGIN && c <= COMPATIBILITY_END ? COMPATIBILITY[c - COMPATIBILITY_BEGIN] : null;
+	}
+
+	/**
+	 * 색인 키: 글자를 모두 자모로 나눈 문자열 ("정보 처리" -> ㅈㅓㅇㅂㅗㅊㅓㄹㅣ)
+	 *
+	 * @param text  원문
+	 * @param begin 시작 위치 (원문 기준)
+	 */
+	public static String decompose(String text, int begin) {
+		StringBuilder key = new StringBuilder(text.length() * 3);
+		for (int i = begin; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (!isIndexed(c)) {
+				continue;
+			}
+			if (isSyllable(c)) {
+				key.append(choseong(c)).append(jungseong(c)).append(jongseong(c));
+				continue;
+			}
+			char[] jamo = compatibility(c);
+			if (jamo != null) {
+				key.append(jamo);
+			} else {
+				key.append(Character.toLowerCase(c));
+			}
+		}
+		return key.toString();
+	}
+
+	/**
+	 * 초성 키: 음절은 초성만, 나머지 글자는 그대로 ("정보처리 기사" -> ㅈㅂㅊㄹㄱㅅ)
+	 *
+	 * @param text  원문
+	 * @param begin 시작 위치 (원문 기준)
+	 */
+	public static String choseongOf(String text, int begin) {
+		StringBuilder key = new StringBuilder(text.length());
+		for (int i = begin; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (isIndexed(c)) {
+				key.append(choseong(c));
+			}
+		}
+		return key.toString();
+	}
+
+	private static char[][] split(String... values) {
+		char[][] result = new char[values.length][];
+		for (int i = 0; i < values.length; i++) {
+			result[i] = values[i].isEmpty() ? EMPTY : values[i].toCharArray();
+		}
+		return result;
+	}
+
+	private static char[][] compatibility() {
+		char[][] result = new char[COMPATIBILITY_END - COMPATIBILITY_BEGIN + 1][];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = new char[] {(char)(COMPATIBILITY_BEGIN + i)};
+		}
+		// 단독으로 입력된 겹받침, 겹모음도 음절 안에서와 같이 나눔
+		putCompounds(result, JONGSEONG_LETTERS, JONGSEONG);
+		putCompounds(result, JUNGSEONG_LETTERS, JUNGSEONG);
+		return result;
+	}
+
+	private static void putCompounds(char[][] table, String letters, char[][] jamo) {
+		for (int i = 0; i < jamo.length; i++) {
+			if (jamo[i].length == 2) {
+				table[letters.charAt(i) - COMPATIBILITY_BEGIN] = jamo[i];
+			}
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.ll.dopdang.domain.member.dto.response;
+
+/**
+ * 회원 요약 정보 (다른 도메인의 응답 DTO에서 이름, 프로필 이미지를 표시할 때 사용)
+ * {@link com.ll.dopdang.domain.member.service.MemberSummaryCache}를 통해 조회합니다.
+ *
+ * @param id           회원 ID
+ * @param email        이메일
+ * @param name         이름
+ * @param profileImage 프로필 이미지 URL
+ * @param expertId     전문가 ID (전문가가 아니면 null)
+ */
+public record MemberSummary(
+	Long id,
+	String email,
+	String name,
+	String profileImage,
+	Long expertId
+) {
+}
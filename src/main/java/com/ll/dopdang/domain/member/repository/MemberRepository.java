@@ -1,11 +1,16 @@
 package com.ll.dopdang.domain.member.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.ll.dopdang.domain.member.dto.response.MemberSummary;
 import com.ll.dopdang.domain.member.entity.Member;
 
 /**
@@ -34,4 +39,24 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 	 */
 	@Override
 	@NotNull Optional<Member> findById(@NotNull Long id);
+
+	/**
+	 * ID 목록으로 회원 요약 정보 조회 (엔티티를 만들지 않는 프로젝션)
+	 * @param ids ID 목록
+	 * @return {@link List<MemberSummary>}
+	 */
+	@Query("SELECT new com.ll.dopdang.domain.member.dto.response.MemberSummary("
+		+ "m.id, m.email, m.name, m.profileImage, e.id) "
+		+ "FROM Member m LEFT JOIN m.expert e WHERE m.id IN :ids")
+	List<MemberSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * 이메일 목록으로 회원 요약 정보 조회 (엔티티를 만들지 않는 프로젝션)
+	 * @param emails 이메일 목록
+	 * @return {@link List<MemberSummary>}
+	 */
+	@Query("SELECT new com.ll.dopdang.domain.member.dto.response.MemberSummary("
+		+ "m.id, m.email, m.name, m.profileImage, e.id) "
+		+ "FROM Member m LEFT JOIN m.expert e WHERE m.email IN :emails")
+	List<MemberSummary> findSummariesByEmailIn(@Param("emails") Collection<String> emails);
 }
@@ -41,6 +41,7 @@ public class MemberService {
 	private final RedisRepository redisRepository;
 	private final MemberUtilService memberUtilService;
 	private final TokenManagementService tokenManagementService;
+	private final MemberSummaryCache memberSummaryCache;
 
 	// Todo: MemberUtilService의 findMember() 사용하도록 코드 수정
 	public Member getMemberById(Long id) {
@@ -147,6 +148,7 @@ public class MemberService {
 			.updatedAt(LocalDateTime.now())
 			.build();
 		memberRepository.save(updateMember);
+		memberSummaryCache.invalidate(updateMember.getId(), updateMember.getEmail());
 		return UpdateProfileResponse.of(updateMember);
 	}
 
@@ -175,6 +177,7 @@ public class MemberService {
 			.updatedAt(LocalDateTime.now())
 			.build();
 		memberRepository.save(deleteMember);
+		memberSummaryCache.invalidate(deleteMember.getId(), deleteMember.getEmail());
 	}
 
 	@Transactional
@@ -0,0 +1,279 @@
+package com.ll.dopdang.domain.member.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ll.dopdang.domain.member.dto.response.MemberSummary;
+import com.ll.dopdang.domain.member.repository.MemberRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 요약 정보(이름, 프로필 이미지 등) 2단계 캐시
+ * <ul>
+ *     <li>L1: 노드 로컬 Caffeine 캐시 (ID -> 요약, 이메일 -> ID)</li>
+ *     <li>L2: Redis (member:summary:{id}, member:summary:email:{email})</li>
+ * </ul>
+ * 목록 조회에서는 {@link #getAll(Collection)}, {@link #getAllByEmail(Collection)}으로 한 번에 조회하고,
+ * 회원 정보가 바뀌면 {@link #invalidate(Long, String)}로 모든 노드의 캐시를 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberSummaryCache {
+
+	static final String INVALIDATION_CHANNEL = "member:summary:invalidate";
+	private static final String ID_KEY_PREFIX = "member:summary:";
+	private static final String EMAIL_KEY_PREFIX = "member:summary:email:";
+	private static final String INVALIDATION_SEPARATOR = "|";
+
+	private final MemberRepository memberRepository;
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${member.summary-cache.maximum-size:50000}")
+	private long maximumSize;
+
+	@Value("${member.summary-cache.local-ttl-seconds:300}")
+	private long localTtlSeconds;
+
+	@Value("${member.summary-cache.redis-ttl-seconds:3600}")
+	private long redisTtlSeconds;
+
+	private Cache<Long, MemberSummary> summaryById;
+	private Cache<String, Long> idByEmail;
+
+	@PostConstruct
+	public void init() {
+		summaryById = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+			.recordStats()
+			.build();
+		idByEmail = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, summaryById, "member.summary");
+		redisMessageListenerContainer.addMessageListener(
+			(message, pattern) -> evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+			new ChannelTopic(INVALIDATION_CHANNEL));
+	}
+
+	/**
+	 * ID로 회원 요약 정보를 조회합니다.
+	 */
+	public Optional<MemberSummary> get(Long id) {
+		if (id == null) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(getAll(List.of(id)).get(id));
+	}
+
+	/**
+	 * 이메일로 회원 요약 정보를 조회합니다.
+	 */
+	public Optional<MemberSummary> getByEmail(String email) {
+		if (email == null) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(getAllByEmail(List.of(email)).get(email));
+	}
+
+	/**
+	 * 여러 회원의 요약 정보를 L1 -> L2 -> DB 순서로 한 번에 조회합니다.
+	 *
+	 * @param ids 회원 ID 목록 (중복, null 허용)
+	 * @return 회원 ID -> 요약 정보 (존재하지 않는 회원은 제외)
+	 */
+	public Map<Long, MemberSummary> getAll(Collection<Long> ids) {
+		Set<Long> distinctIds = new LinkedHashSet<>(ids);
+		distinctIds.remove(null);
+		Map<Long, MemberSummary> result = new HashMap<>(summaryById.getAllPresent(distinctIds));
+		if (result.size() == distinctIds.size()) {
+			return result;
+		}
+
+		// L2 (Redis)
+		List<Long> missing = distinctIds.stream().filter(id -> !result.containsKey(id)).toList();
+		List<Object> cached = redisTemplate.opsForValue().multiGet(
+			missing.stream().map(id -> ID_KEY_PREFIX + id).toList());
+		List<Long> dbIds = new ArrayList<>();
+		for (int i = 0; i < missing.size(); i++) {
+			Object value = (cached != null) ? cached.get(i) : null;
+			if (value == null) {
+				dbIds.add(missing.get(i));
+				continue;
+			}
+			MemberSummary summary = objectMapper.convertValue(value, MemberSummary.class);
+			putLocal(summary);
+			result.put(summary.id(), summary);
+		}
+
+		// DB
+		if (!dbIds.isEmpty()) {
+			List<MemberSummary> loaded = memberRepository.findSummariesByIdIn(dbIds);
+			loaded.forEach(summary -> {
+				putLocal(summary);
+				result.put(summary.id(), summary);
+			});
+			putRemote(loaded);
+		}
+		return result;
+	}
+
+	/**
+	 * 여러 회원의 요약 정보를 이메일로 한 번에 조회합니다. (이메일은 대소문자를 구분하지 않음)
+	 *
+	 * @param emails 이메일 목록 (중복, null 허용)
+	 * @return 요청한 이메일 -> 요약 정보 (존재하지 않는 회원은 제외)
+	 */
+	public Map<String, MemberSummary> getAllByEmail(Collection<String> emails) {
+		Set<String> distinctEmails = new LinkedHashSet<>();
+		for (String email : emails) {
+			if (email != null) {
+				distinctEmails.add(normalize(email));
+			}
+		}
+		Map<String, Long> ids = new HashMap<>(idByEmail.getAllPresent(distinctEmails));
+		Map<String, MemberSummary> loadedByEmail = new HashMap<>();
+
+		List<String> missing = distinctEmails.stream().filter(email -> !ids.containsKey(email)).toList();
+		if (!missing.isEmpty()) {
+			// L2 (Redis)
+			List<Object> cachedIds = redisTemplate.opsForValue().multiGet(
+				missing.stream().map(email -> EMAIL_KEY_PREFIX + email).toList());
+			List<String> dbEmails = new ArrayList<>();
+			for (int i = 0; i < missing.size(); i++) {
+				Object value = (cachedIds != null) ? cachedIds.get(i) : null;
+				if (value instanceof Number id) {
+					ids.put(missing.get(i), id.longValue());
+					idByEmail.put(missing.get(i), id.longValue());
+				} else {
+					dbEmails.add(missing.get(i));
+				}
+			}
+			// DB
+			if (!dbEmails.isEmpty()) {
+				List<MemberSummary> loaded = memberRepository.findSummariesByEmailIn(dbEmails);
+				loaded.forEach(summary -> {
+					putLocal(summary);
+					loadedByEmail.put(normalize(summary.email()), summary);
+				});
+				putRemote(loaded);
+			}
+		}
+
+		Map<Long, MemberSummary> summaries = getAll(ids.values());
+		Map<String, MemberSummary> result = new HashMap<>();
+		for (String email : emails) {
+			if (email == null) {
+				continue;
+			}
+			String normalized = normalize(email);
+			MemberSummary summary = loadedByEmail.containsKey(normalized)
+				? loadedByEmail.get(normalized) : summaries.get(ids.get(normalized));
+			if (summary != null) {
+				result.put(email, summary);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 회원 요약 정보를 모든 노드에서 무효화합니다.
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 무효화하여, 커밋 전의 값이 다시 캐시되지 않도록 합니다.
+	 *
+	 * @param id    회원 ID
+	 * @param email 회원 이메일
+	 */
+	public void invalidate(Long id, String email) {
+		Runnable eviction = () -> {
+			String payload = id + INVALIDATION_SEPARATOR + normalize(email);
+			evictLocal(payload);
+			try {
+				redisTemplate.delete(List.of(ID_KEY_PREFIX + id, EMAIL_KEY_PREFIX + normalize(email)));
+				stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, payload);
+			} catch (RuntimeException e) {
+				// 다른 노드의 L1은 TTL이 지나면 갱신됨
+				log.warn("회원 요약 캐시 무효화 실패. memberId: {}, error: {}", id, e.getMessage());
+			}
+		};
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					eviction.run();
+				}
+			});
+		} else {
+			eviction.run();
+		}
+	}
+
+	private void evictLocal(String payload) {
+		int separator = payload.indexOf(INVALIDATION_SEPARATOR);
+		summaryById.invalidate(Long.valueOf(payload.substring(0, separator)));
+		idByEmail.invalidate(payload.substring(separator + 1));
+	}
+
+	private void putLocal(MemberSummary summary) {
+		summaryById.put(summary.id(), summary);
+		idByEmail.put(normalize(summary.email()), summary.id());
+	}
+
+	private void putRemote(List<MemberSummary> summaries) {
+		if (summaries.isEmpty()) {
+			return;
+		}
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object execute(RedisOperations operations) {
+				for (MemberSummary summary : summaries) {
+					operations.opsForValue().set(ID_KEY_PREFIX + summary.id(), summary,
+						redisTtlSeconds, TimeUnit.SECONDS);
+					operations.opsForValue().set(EMAIL_KEY_PREFIX + normalize(summary.email()), summary.id(),
+						redisTtlSeconds, TimeUnit.SECONDS);
+				}
+				return null;
+			}
+		});
+	}
+
+	private String normalize(String email) {
+		return Objects.requireNonNull(email).trim().toLowerCase(Locale.ROOT);
+	}
+}
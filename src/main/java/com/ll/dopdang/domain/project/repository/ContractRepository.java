@@ -24,7 +24,6 @@ public interface ContractRepository extends JpaRepository<Contract, Long> {
 	 */
 	@Query("SELECT c FROM Contract c "
 		+ "JOIN FETCH c.project p "
-		+ "JOIN FETCH c.client m "
 		+ "WHERE c.expert.member.id = :memberId "
 		+ "ORDER BY c.createdAt DESC")
 	List<Contract> findContractsByExpertMemberId(@Param("memberId") Long memberId, Pageable pageable);
@@ -3,12 +3,15 @@ package com.ll.dopdang.domain.project.service;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ll.dopdang.domain.member.dto.response.MemberSummary;
 import com.ll.dopdang.domain.member.entity.Member;
+import com.ll.dopdang.domain.member.service.MemberSummaryCache;
 import com.ll.dopdang.domain.project.dto.ContractCompletedResponse;
 import com.ll.dopdang.domain.project.dto.ContractDetailResponse;
 import com.ll.dopdang.domain.project.dto.ContractSummaryResponse;
@@ -28,6 +31,7 @@ public class ContractService {
 
 	private final OfferService offerService;
 	private final ContractRepository contractRepository;
+	private final MemberSummaryCache memberSummaryCache;
 
 	/**
 	 * 계약 ID로 계약 단건 조회
@@ -97,13 +101,15 @@ public class ContractService {
 	 */
 	public List<ContractSummaryResponse> getContractsForExpert(Long expertMemberId, Pageable pageable) {
 		List<Contract> contracts = contractRepository.findContractsByExpertMemberId(expertMemberId, pageable);
+		Map<Long, MemberSummary> clients = memberSummaryCache.getAll(
+			contracts.stream().map(contract -> contract.getClient().getId()).toList());
 
 		return contracts.stream()
 			.map(contract -> ContractSummaryResponse.builder()
 				.contractId(contract.getId())
 				.projectId(contract.getProject().getId())
 				.projectTitle(contract.getProject().getTitle())
-				.clientName(contract.getClient().getName())
+				.clientName(clientName(clients, contract))
 				.price(contract.getPrice())
 				.startDate(contract.getStartDate())
 				.endDate(contract.getEndDate())
@@ -112,6 +118,11 @@ public class ContractService {
 			.toList();
 	}
 
+	private String clientName(Map<Long, MemberSummary> clients, Contract contract) {
+		MemberSummary client = clients.get(contract.getClient().getId());
+		return client != null ? client.name() : null;
+	}
+
 	/**
 	 * 프로젝트 ID로 계약 단건 조회 (존재하지 않으면 예외 발생)
 	 *
@@ -11,7 +11,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.ll.dopdang.domain.expert.category.entity.Category;
-import com.ll.dopdang.domain.expert.category.repository.CategoryRepository;
+import com.ll.dopdang.domain.expert.category.service.CategoryService;
 import com.ll.dopdang.domain.expert.entity.Expert;
 import com.ll.dopdang.domain.expert.repository.ExpertRepository;
 import com.ll.dopdang.domain.member.entity.Member;
@@ -39,7 +39,7 @@ import lombok.RequiredArgsConstructor;
 public class ProjectService {
 	private final ProjectRepository projectRepository;
 	private final MemberRepository memberRepository;
-	private final CategoryRepository categoryRepository;
+	private final CategoryService categoryService;
 	private final ExpertRepository expertRepository;
 	private final ProjectImageRepository projectImageRepository;
 	private final ContractRepository contractRepository;
@@ -60,9 +60,9 @@ public class ProjectService {
 		Member client = memberRepository.findById(clientId)
 			.orElseThrow(() -> new ServiceException(ErrorCode.MEMBER_NOT_FOUND));
 
-		// 2. 카테고리 조회
-		Category category = categoryRepository.findById(request.getCategoryId())
-			.orElseThrow(() -> new ServiceException(ErrorCode.CATEGORY_NOT_FOUND));
+		// 2. 카테고리 조회 (카테고리 트리 스냅샷에서 확인, DB 조회 없음)
+		Integer categoryId = request.getCategoryId();
+		Category category = categoryService.findById(categoryId != null ? categoryId.longValue() : null);
 
 		// 3. 전문가가 선택되었는지 확인 후 조회 (선택적)
 		Expert expert = null;
@@ -1,9 +1,11 @@
 package com.ll.dopdang.domain.review.dto;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Page;
 
+import com.ll.dopdang.domain.member.dto.response.MemberSummary;
 import com.ll.dopdang.domain.review.entity.Review;
 
 import lombok.AllArgsConstructor;
@@ -22,9 +24,9 @@ public class ExpertReviewPageResponse {
 	private int size;
 	private boolean hasNext;
 
-	public static ExpertReviewPageResponse from(Page<Review> page) {
+	public static ExpertReviewPageResponse from(Page<Review> page, Map<Long, MemberSummary> reviewers) {
 		List<ExpertReviewResponse> content = page.getContent().stream()
-			.map(ExpertReviewResponse::from)
+			.map(review -> ExpertReviewResponse.from(review, reviewers.get(review.getReviewer().getId())))
 			.toList();
 
 		return ExpertReviewPageResponse.builder()
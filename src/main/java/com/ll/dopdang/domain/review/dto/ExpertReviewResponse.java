@@ -3,6 +3,7 @@ package com.ll.dopdang.domain.review.dto;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import com.ll.dopdang.domain.member.dto.response.MemberSummary;
 import com.ll.dopdang.domain.review.entity.Review;
 
 import lombok.AllArgsConstructor;
@@ -24,14 +25,14 @@ public class ExpertReviewResponse {
 	private String reviewerProfileImage;
 	private LocalDateTime createdAt;
 
-	public static ExpertReviewResponse from(Review review) {
+	public static ExpertReviewResponse from(Review review, MemberSummary reviewer) {
 		return ExpertReviewResponse.builder()
 			.reviewId(review.getId())
 			.score(review.getScore())
 			.content(review.getContent())
 			.imageUrl(review.getImageUrl())
-			.reviewerName(review.getReviewer().getName())
-			.reviewerProfileImage(review.getReviewer().getProfileImage())
+			.reviewerName(reviewer != null ? reviewer.name() : null)
+			.reviewerProfileImage(reviewer != null ? reviewer.profileImage() : null)
 			.createdAt(review.getCreatedAt())
 			.build();
 	}
@@ -26,14 +26,13 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
 	@Query(
 		"SELECT r FROM Review r "
-			+ "JOIN FETCH r.reviewer "
 			+ "JOIN r.contract c "
 			+ "WHERE r.deleted = false "
 			+ "AND c.expert.id = :expertId "
 			+ "AND c.status = 'COMPLETED' "
 			+ "ORDER BY r.createdAt DESC"
 	)
-	Page<Review> findByExpertIdWithReviewer(
+	Page<Review> findByExpertId(
 		@Param("expertId") Long expertId,
 		Pageable pageable
 	);
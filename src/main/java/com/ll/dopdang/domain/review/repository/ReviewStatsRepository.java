@@ -2,6 +2,7 @@ package com.ll.dopdang.domain.review.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,12 +12,17 @@ import com.ll.dopdang.domain.review.entity.ReviewStats;
 
 @Repository
 public interface ReviewStatsRepository extends JpaRepository<ReviewStats, Long> {
+	/**
+	 * 베이지안 평점 순 상위 전문가 ID (Redis 순위표를 쓸 수 없을 때 사용, 점수 계산은 ExpertLeaderboard와 같음)
+	 */
 	@Query("""
-       SELECT rs
+       SELECT rs.expertId
        FROM ReviewStats rs
-       JOIN FETCH rs.expert e
+       JOIN rs.expert e
        WHERE (:categoryId IS NULL OR e.category.id = :categoryId)
-       ORDER BY rs.averageScore DESC, rs.reviewCount DESC
+       ORDER BY (:priorCount * :priorMean + rs.averageScore * rs.reviewCount) / (:priorCount + rs.reviewCount) DESC,
+           rs.reviewCount DESC, rs.expertId
     """)
-	List<ReviewStats> findTopExpertsByRatingAndCategory(@Param("categoryId") Long categoryId);
+	List<Long> findTopExpertIdsByRatingAndCategory(@Param("categoryId") Long categoryId,
+		@Param("priorMean") double priorMean, @Param("priorCount") int priorCount, Pageable pageable);
 }
@@ -1,12 +1,18 @@
 package com.ll.dopdang.domain.review.sevice;
 
+import java.util.Map;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ll.dopdang.domain.expert.event.ExpertChangedEvent;
 import com.ll.dopdang.domain.member.entity.Member;
+import com.ll.dopdang.domain.member.dto.response.MemberSummary;
 import com.ll.dopdang.domain.member.repository.MemberRepository;
+import com.ll.dopdang.domain.member.service.MemberSummaryCache;
 import com.ll.dopdang.domain.project.entity.Contract;
 import com.ll.dopdang.domain.project.repository.ContractRepository;
 import com.ll.dopdang.domain.review.dto.ClientReviewPageResponse;
@@ -30,6 +36,8 @@ public class ReviewService {
 	private final MemberRepository memberRepository;
 	private final ReviewRepository reviewRepository;
 	private final ReviewStatsRepository reviewStatsRepository;
+	private final MemberSummaryCache memberSummaryCache;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	/**
 	 * 주어진 프로젝트 ID에 대해 리뷰를 생성합니다.
@@ -77,6 +85,8 @@ public class ReviewService {
 
 		stats.addReview(review.getScore());
 		reviewStatsRepository.save(stats);
+		// 커밋 후 검색 순위의 평점 보정과 평점 순위표에 반영
+		applicationEventPublisher.publishEvent(ExpertChangedEvent.review(contract.getExpert().getId()));
 
 		// 5. 응답 생성
 		return ReviewCreateResponse.from(saved);
@@ -108,8 +118,11 @@ public class ReviewService {
 	 * @return 페이지 형태의 리뷰 응답
 	 */
 	public ExpertReviewPageResponse getReviewsByExpert(Long expertId, Pageable pageable) {
-		Page<Review> page = reviewRepository.findByExpertIdWithReviewer(expertId, pageable);
-		return ExpertReviewPageResponse.from(page);
+		Page<Review> page = reviewRepository.findByExpertId(expertId, pageable);
+		// 작성자 정보는 프록시 초기화 없이 ID만 꺼내 회원 요약 캐시에서 한 번에 조회
+		Map<Long, MemberSummary> reviewers = memberSummaryCache.getAll(
+			page.getContent().stream().map(review -> review.getReviewer().getId()).toList());
+		return ExpertReviewPageResponse.from(page, reviewers);
 	}
 
 	/**
@@ -147,5 +160,7 @@ public class ReviewService {
 		stats.removeReview(review.getScore());
 
 		reviewStatsRepository.save(stats);
+		// 커밋 후 검색 순위의 평점 보정과 평점 순위표에 반영
+		applicationEventPublisher.publishEvent(ExpertChangedEvent.review(review.getContract().getExpert().getId()));
 	}
 }
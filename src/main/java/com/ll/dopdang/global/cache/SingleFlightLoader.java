@@ -0,0 +1,76 @@
+package com.ll.dopdang.global.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 로드를 하나로 합칩니다. (single-flight)
+ * 캐시 미스가 동시에 발생하면 먼저 들어온 스레드(leader)만 로드하고,
+ * 나머지 스레드는 그 결과를 함께 받습니다. 로드가 끝나면 결과를 보관하지 않으므로 캐시가 아니라
+ * 노드 내 중복 로드를 막는 용도입니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입 (여러 스레드가 공유하므로 호출자가 변경하지 않아야 함)
+ */
+public class SingleFlightLoader<K, V> {
+
+	private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * 키에 대한 로드가 진행 중이면 그 결과를 기다리고, 아니면 직접 로드합니다.
+	 * leader의 로드가 예외로 끝나면 기다리던 스레드에도 같은 예외가 전달됩니다.
+	 *
+	 * @param key    로드 키
+	 * @param loader 실제 로드 함수 (leader 스레드에서 실행)
+	 * @return 로드 결과
+	 */
+	public V load(K key, Supplier<V> loader) {
+		CompletableFuture<V> future = new CompletableFuture<>();
+		CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+		if (existing != null) {
+			onJoin(key);
+			return join(existing);
+		}
+		try {
+			V value = loader.get();
+			future.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, future);
+		}
+	}
+
+	/**
+	 * 현재 로드 중인 키 수를 반환합니다.
+	 */
+	public int inFlightCount() {
+		return inFlight.size();
+	}
+
+	/**
+	 * 진행 중인 로드의 결과를 기다리기 직전에 호출됩니다. 이 시점 이후에는 leader의 결과를 받는 것이 보장됩니다.
+	 * (테스트에서 대기 시작을 확인하는 용도)
+	 */
+	void onJoin(K key) {
+	}
+
+	private V join(CompletableFuture<V> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+}
@@ -63,6 +63,7 @@ public enum ErrorCode {
 	EXPERT_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 전문가입니다."),
 	INVALID_EXPERT_ASSIGNMENT(HttpStatus.BAD_REQUEST, "지정된 전문가 정보를 확인할 수 없습니다."),
 	INVALID_CAREER_EXCEPTION(HttpStatus.INTERNAL_SERVER_ERROR,"Invalid careerLevel: "),
+	INVALID_AUTOCOMPLETE_TYPE(HttpStatus.BAD_REQUEST, "유효하지 않은 자동완성 유형입니다."),
 	EXPERT_NOT_EXISTS(HttpStatus.INTERNAL_SERVER_ERROR,"Expert not found with ID: "),
 
 	// 프로젝트 관련 에러
@@ -116,7 +117,10 @@ public enum ErrorCode {
 	//채팅 관련 에러
 	CHATTING_EQUALS_EMAIL(HttpStatus.BAD_REQUEST, "자신에게는 메시지를 보낼 수 없습니다."),
 	CHATTING_CLOSE_OTHER(HttpStatus.FORBIDDEN, "상대방이 채팅방에서 나간 상태입니다. 메시지를 보낼 수 없습니다."),
-	CHATTING_SENDER_EQUAL(HttpStatus.BAD_REQUEST, "메시지의 sender가 채팅방 멤버와 일치하지 않습니다.");
+	CHATTING_SENDER_EQUAL(HttpStatus.BAD_REQUEST, "메시지의 sender가 채팅방 멤버와 일치하지 않습니다."),
+	CHATTING_NOT_MEMBER(HttpStatus.FORBIDDEN, "채팅방 참여자가 아닙니다."),
+	CHATTING_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "메시지 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+	CHATTING_SYNC_TOO_MANY_ROOMS(HttpStatus.BAD_REQUEST, "한 번에 동기화할 수 있는 채팅방 수를 초과했습니다.");
 
 	private final HttpStatus status;
 	private final String message;
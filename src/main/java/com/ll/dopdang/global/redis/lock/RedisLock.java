@@ -0,0 +1,68 @@
+package com.ll.dopdang.global.redis.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰 기반 Redis 분산 락
+ * 락을 얻을 때 소유자별 고유 토큰을 값으로 저장하고(SET NX PX),
+ * 해제할 때는 값이 자신의 토큰과 같을 때만 삭제합니다. (compare-and-delete)
+ * 작업이 TTL보다 오래 걸려 락이 만료되고 다른 소유자가 락을 얻은 경우에도 그 락을 지우지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+	private static final RedisScript<Long> RELEASE_SCRIPT =
+		RedisScript.of(new ClassPathResource("redis/lock-release.lua"), Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 락 획득을 한 번 시도합니다.
+	 *
+	 * @param key 락 키
+	 * @param ttl 락 만료 시간 (소유자가 해제하지 못해도 이 시간이 지나면 풀림)
+	 * @return 획득한 락, 다른 소유자가 있으면 empty
+	 */
+	public Optional<Lease> tryAcquire(String key, Duration ttl) {
+		String token = UUID.randomUUID().toString();
+		Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+		return Boolean.TRUE.equals(acquired) ? Optional.of(new Lease(key, token)) : Optional.empty();
+	}
+
+	/**
+	 * 락을 해제합니다.
+	 *
+	 * @return 해제했으면 true, 이미 만료되었거나 다른 소유자의 락이면 false
+	 */
+	public boolean release(Lease lease) {
+		Long deleted = stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lease.key()), lease.token());
+		return deleted != null && deleted > 0;
+	}
+
+	/**
+	 * 락이 아직 자신의 소유인지 확인합니다. (긴 작업 중간에 결과를 반영하기 전 확인용)
+	 */
+	public boolean isHeld(Lease lease) {
+		return lease.token().equals(stringRedisTemplate.opsForValue().get(lease.key()));
+	}
+
+	/**
+	 * 획득한 락
+	 *
+	 * @param key   락 키
+	 * @param token 소유자 토큰
+	 */
+	public record Lease(String key, String token) {
+	}
+}
@@ -68,7 +68,9 @@ public class SecurityConfig {
 			"/reviews/project/**",
 			"/reviews/experts/**",
 			"/posts/**",
-			"/products/**"
+			"/products/**",
+			"/categories",
+			"/autocomplete"
 		));
 		PUBLIC_URLS.put(HttpMethod.POST, Arrays.asList(
 			"/users/login",
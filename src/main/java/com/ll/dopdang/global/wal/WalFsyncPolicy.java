@@ -0,0 +1,15 @@
+package com.ll.dopdang.global.wal;
+
+/**
+ * WAL을 디스크에 강제로 기록(fsync)하는 시점
+ * 기록(append) 자체는 mmap 페이지 캐시에 쓰이므로 프로세스가 죽어도 남지만,
+ * OS, 전원 장애에도 남기려면 fsync가 끝나야 합니다.
+ */
+public enum WalFsyncPolicy {
+	/** 레코드마다 fsync 후 반환 (가장 안전, 가장 느림) */
+	MESSAGE,
+	/** 저장 배치를 모을 때마다 한 번 fsync (group commit) */
+	BATCH,
+	/** 백그라운드에서 일정 주기마다 fsync */
+	PERIODIC
+}
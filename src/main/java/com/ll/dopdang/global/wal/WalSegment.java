@@ -0,0 +1,181 @@
+package com.ll.dopdang.global.wal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * 고정 크기 mmap WAL 세그먼트 파일
+ * <pre>
+ * [magic:int][version:int] 다음에 레코드가 이어짐
+ * 레코드: [length:int][crc32c:int][type:byte][lsn:long][payload]
+ *         length는 type부터 payload 끝까지의 길이, crc32c도 같은 범위
+ * </pre>
+ * 파일은 처음부터 세그먼트 크기로 만들어지고 0으로 채워지므로, length가 0이면 데이터의 끝입니다.
+ * 마지막 레코드가 쓰이다 만 경우(torn write)는 checksum이 맞지 않으므로 그 앞까지만 읽습니다.
+ */
+class WalSegment {
+
+	static final int MAGIC = 0x4357414C;
+	static final int VERSION = 1;
+	static final int HEADER_SIZE = 8;
+	static final int RECORD_HEADER_SIZE = 8;
+	static final int RECORD_META_SIZE = 1 + 8;
+
+	static final byte TYPE_DATA = 1;
+	static final byte TYPE_ABORT = 2;
+	/** 반영 확인된 LSN 목록 (payload: long 배열) */
+	static final byte TYPE_CONFIRM = 3;
+
+	private final long number;
+	private final Path path;
+	private final FileChannel channel;
+	private final MappedByteBuffer buffer;
+	private final CRC32C crc = new CRC32C();
+	private int forcedPosition;
+	private long lastLsn;
+
+	private WalSegment(long number, Path path, FileChannel channel, MappedByteBuffer buffer) {
+		this.number = number;
+		this.path = path;
+		this.channel = channel;
+		this.buffer = buffer;
+	}
+
+	/**
+	 * 새 세그먼트 파일을 만듭니다.
+	 */
+	static WalSegment create(Path directory, long number, int size) {
+		Path path = directory.resolve(fileName(number));
+		try {
+			FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+			buffer.putInt(MAGIC).putInt(VERSION);
+			WalSegment segment = new WalSegment(number, path, channel, buffer);
+			segment.force();
+			return segment;
+		} catch (IOException e) {
+			throw new UncheckedIOException("WAL 세그먼트를 만들 수 없습니다: " + path, e);
+		}
+	}
+
+	/**
+	 * 기존 세그먼트 파일의 유효한 레코드를 읽습니다.
+	 */
+	static List<WalRecord> read(Path path) {
+		List<WalRecord> records = new ArrayList<>();
+		ByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} catch (IOException e) {
+			throw new UncheckedIOException("WAL 세그먼트를 읽을 수 없습니다: " + path, e);
+		}
+		if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+			return records;
+		}
+		CRC32C checksum = new CRC32C();
+		while (buffer.remaining() >= RECORD_HEADER_SIZE + RECORD_META_SIZE) {
+			int start = buffer.position();
+			int length = buffer.getInt();
+			int expectedCrc = buffer.getInt();
+			if (length < RECORD_META_SIZE || length > buffer.remaining()) {
+				break;
+			}
+			checksum.reset();
+			checksum.update(buffer.slice(buffer.position(), length));
+			if ((int)checksum.getValue() != expectedCrc) {
+				buffer.position(start);
+				break;
+			}
+			byte type = buffer.get();
+			long lsn = buffer.getLong();
+			byte[] payload = new byte[length - RECORD_META_SIZE];
+			buffer.get(payload);
+			records.add(new WalRecord(type, lsn, payload));
+		}
+		return records;
+	}
+
+	static String fileName(long number) {
+		return String.format("wal-%020d.log", number);
+	}
+
+	static long parseNumber(Path path) {
+		String name = path.getFileName().toString();
+		return Long.parseLong(name.substring(4, name.length() - 4));
+	}
+
+	/**
+	 * 레코드를 기록합니다.
+	 *
+	 * @return 기록했으면 true, 남은 공간이 부족하면 false (세그먼트 교체 필요)
+	 */
+	boolean append(byte type, long lsn, byte[] payload) {
+		int length = RECORD_META_SIZE + payload.length;
+		if (buffer.remaining() < RECORD_HEADER_SIZE + length) {
+			return false;
+		}
+		int start = buffer.position();
+		buffer.position(start + RECORD_HEADER_SIZE);
+		buffer.put(type).putLong(lsn).put(payload);
+		crc.reset();
+		crc.update(buffer.slice(start + RECORD_HEADER_SIZE, length));
+		// 길이는 마지막에 써서, 중간에 죽으면 레코드가 없는 것으로 보이게 함
+		buffer.putInt(start + 4, (int)crc.getValue());
+		buffer.putInt(start, length);
+		lastLsn = Math.max(lastLsn, lsn);
+		return true;
+	}
+
+	/**
+	 * 아직 fsync 되지 않은 구간을 디스크에 기록합니다.
+	 */
+	void force() {
+		int position = buffer.position();
+		if (position > forcedPosition) {
+			buffer.force(forcedPosition, position - forcedPosition);
+			forcedPosition = position;
+		}
+	}
+
+	long number() {
+		return number;
+	}
+
+	long lastLsn() {
+		return lastLsn;
+	}
+
+	Path path() {
+		return path;
+	}
+
+	void close() {
+		try {
+			channel.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	void delete() {
+		close();
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			throw new UncheckedIOException("WAL 세그먼트를 삭제할 수 없습니다: " + path, e);
+		}
+	}
+
+	record WalRecord(byte type, long lsn, byte[] payload) {
+	}
+}
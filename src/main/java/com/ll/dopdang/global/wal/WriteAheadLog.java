@@ -0,0 +1,264 @@
+package com.ll.dopdang.global.wal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세그먼트 단위로 교체되는 mmap 기반 append-only 로그 (노드 로컬)
+ * <ul>
+ *     <li>{@link #append(byte[])}: 레코드를 checksum과 함께 기록하고 LSN을 발급합니다.</li>
+ *     <li>{@link #confirm(Collection)}: 다른 저장소(DB)에 반영된 LSN을 알려주면, 확인 레코드를 남기고
+ *     모든 레코드가 반영된 지난 세그먼트 파일을 삭제합니다.</li>
+ *     <li>{@link #open()}: 시작 시 남아 있는 세그먼트에서 반영이 확인되지 않은 레코드를 읽어 반환합니다.</li>
+ * </ul>
+ * 세그먼트가 가득 차면 새 세그먼트로 교체하며, fsync 시점은 {@link WalFsyncPolicy}를 따릅니다.
+ */
+@Slf4j
+public class WriteAheadLog implements AutoCloseable {
+
+	private static final byte[] EMPTY = new byte[0];
+	// 확인 레코드 하나에 담는 최대 LSN 수 (세그먼트가 더 작으면 세그먼트에 들어가는 만큼)
+	private static final int CONFIRM_CHUNK_SIZE = 1024;
+
+	private final Path directory;
+	private final int segmentSize;
+	private final WalFsyncPolicy fsyncPolicy;
+	private final Duration fsyncInterval;
+
+	private final Deque<WalSegment> sealedSegments = new ArrayDeque<>();
+	private final ConcurrentSkipListSet<Long> unconfirmed = new ConcurrentSkipListSet<>();
+	private List<Path> recoveredSegments = List.of();
+	private WalSegment active;
+	private long nextLsn = 1;
+	private long nextSegmentNumber = 1;
+	private ScheduledExecutorService fsyncExecutor;
+
+	/**
+	 * @param directory     세그먼트 파일 디렉터리 (노드마다 달라야 함)
+	 * @param segmentSize   세그먼트 파일 크기(바이트)
+	 * @param fsyncPolicy   fsync 시점
+	 * @param fsyncInterval {@link WalFsyncPolicy#PERIODIC}일 때 fsync 주기
+	 */
+	public WriteAheadLog(Path directory, int segmentSize, WalFsyncPolicy fsyncPolicy, Duration fsyncInterval) {
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.fsyncPolicy = fsyncPolicy;
+		this.fsyncInterval = fsyncInterval;
+	}
+
+	/**
+	 * 로그를 열고, 이전 실행에서 남은 레코드 중 중단(abort)되거나 반영 확인되지 않은 레코드를 기록 순서대로 반환합니다.
+	 * 반환된 레코드를 모두 반영한 뒤 {@link #discardRecovered()}를 호출해야 이전 세그먼트가 삭제됩니다.
+	 */
+	public synchronized List<byte[]> open() {
+		List<Path> existing = listSegments();
+		Map<Long, byte[]> records = new LinkedHashMap<>();
+		Set<Long> settled = new HashSet<>();
+		for (Path path : existing) {
+			for (WalSegment.WalRecord record : WalSegment.read(path)) {
+				if (record.type() == WalSegment.TYPE_DATA) {
+					records.put(record.lsn(), record.payload());
+				} else if (record.type() == WalSegment.TYPE_ABORT) {
+					settled.add(record.lsn());
+				} else if (record.type() == WalSegment.TYPE_CONFIRM) {
+					ByteBuffer lsns = ByteBuffer.wrap(record.payload());
+					while (lsns.remaining() >= Long.BYTES) {
+						settled.add(lsns.getLong());
+					}
+				}
+				nextLsn = Math.max(nextLsn, record.lsn() + 1);
+			}
+			nextSegmentNumber = Math.max(nextSegmentNumber, WalSegment.parseNumber(path) + 1);
+		}
+		settled.forEach(records::remove);
+		recoveredSegments = existing;
+
+		active = WalSegment.create(directory, nextSegmentNumber++, segmentSize);
+		if (fsyncPolicy == WalFsyncPolicy.PERIODIC) {
+			fsyncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "wal-fsync");
+				thread.setDaemon(true);
+				return thread;
+			});
+			fsyncExecutor.scheduleWithFixedDelay(this::sync, fsyncInterval.toMillis(), fsyncInterval.toMillis(),
+				TimeUnit.MILLISECONDS);
+		}
+		log.info("WAL 열기: directory={}, 복구 대상 세그먼트 {}개, 레코드 {}건, fsync={}",
+			directory, existing.size(), records.size(), fsyncPolicy);
+		return new ArrayList<>(records.values());
+	}
+
+	/**
+	 * {@link #open()}이 반환한 레코드를 모두 반영한 뒤 이전 세그먼트 파일을 삭제합니다.
+	 */
+	public synchronized void discardRecovered() {
+		for (Path path : recoveredSegments) {
+			try {
+				Files.deleteIfExists(path);
+			} catch (IOException e) {
+				throw new UncheckedIOException("WAL 세그먼트를 삭제할 수 없습니다: " + path, e);
+			}
+		}
+		recoveredSegments = List.of();
+	}
+
+	/**
+	 * 레코드를 기록합니다. {@link WalFsyncPolicy#MESSAGE}이면 fsync까지 끝낸 뒤 반환합니다.
+	 *
+	 * @return 레코드의 LSN (반영 확인, 중단 시 사용)
+	 */
+	public synchronized long append(byte[] payload) {
+		long lsn = nextLsn++;
+		write(WalSegment.TYPE_DATA, lsn, payload);
+		unconfirmed.add(lsn);
+		if (fsyncPolicy == WalFsyncPolicy.MESSAGE) {
+			active.force();
+		}
+		return lsn;
+	}
+
+	/**
+	 * 기록한 레코드를 중단합니다. (수신을 거절한 경우, 재시작 시 복구 대상에서 제외)
+	 */
+	public synchronized void abort(long lsn) {
+		write(WalSegment.TYPE_ABORT, lsn, EMPTY);
+		release(List.of(lsn));
+	}
+
+	/**
+	 * 다른 저장소에 반영되었거나 다른 복구 경로로 넘긴 레코드를 알려줍니다.
+	 * 확인 레코드를 남겨 재시작 시 복구 대상에서 제외하고, 모든 레코드가 확인된 지난 세그먼트 파일은 삭제합니다.
+	 * (확인되지 않은 레코드가 하나라도 남으면 그 세그먼트와 이후 세그먼트가 모두 남으므로,
+	 * 저장을 포기한 레코드도 반드시 확인하거나 중단해야 합니다.)
+	 * 확인 레코드는 fsync를 기다리지 않습니다. 잃어버리면 재시작 때 다시 복구될 뿐이며, 복구는 DB에 이미 있는 메시지를 건너뜁니다.
+	 */
+	public void confirm(Collection<Long> lsns) {
+		if (lsns.isEmpty()) {
+			return;
+		}
+		synchronized (this) {
+			if (active != null) {
+				List<Long> ordered = new ArrayList<>(lsns);
+				int chunkSize = Math.min(CONFIRM_CHUNK_SIZE, (segmentSize - WalSegment.HEADER_SIZE
+					- WalSegment.RECORD_HEADER_SIZE - WalSegment.RECORD_META_SIZE) / Long.BYTES);
+				for (int from = 0; from < ordered.size(); from += chunkSize) {
+					List<Long> chunk = ordered.subList(from, Math.min(from + chunkSize, ordered.size()));
+					ByteBuffer payload = ByteBuffer.allocate(chunk.size() * Long.BYTES);
+					chunk.forEach(payload::putLong);
+					// 확인 레코드의 LSN은 0으로 두어 세그먼트의 마지막 LSN(삭제 기준)에 영향을 주지 않음
+					write(WalSegment.TYPE_CONFIRM, 0, payload.array());
+				}
+			}
+		}
+		release(lsns);
+	}
+
+	/**
+	 * 확인되지 않은 레코드에서 빼고, 모든 레코드가 확인된 지난 세그먼트 파일을 삭제합니다.
+	 */
+	private void release(Collection<Long> lsns) {
+		unconfirmed.removeAll(lsns);
+		synchronized (this) {
+			Long oldestUnconfirmed = unconfirmed.ceiling(Long.MIN_VALUE);
+			while (!sealedSegments.isEmpty()
+				&& (oldestUnconfirmed == null || sealedSegments.peekFirst().lastLsn() < oldestUnconfirmed)) {
+				sealedSegments.pollFirst().delete();
+			}
+		}
+	}
+
+	/**
+	 * 아직 fsync 되지 않은 기록을 디스크에 반영합니다.
+	 */
+	public synchronized void sync() {
+		if (active != null) {
+			active.force();
+		}
+	}
+
+	/**
+	 * 저장 배치 단위 fsync 정책이면 fsync 합니다.
+	 */
+	public void syncBatch() {
+		if (fsyncPolicy == WalFsyncPolicy.BATCH) {
+			sync();
+		}
+	}
+
+	/**
+	 * 반영이 확인되지 않은 레코드 수
+	 */
+	public int unconfirmedCount() {
+		return unconfirmed.size();
+	}
+
+	/**
+	 * 디스크에 남아 있는 세그먼트 수 (현재 세그먼트 포함)
+	 */
+	public synchronized int segmentCount() {
+		return sealedSegments.size() + recoveredSegments.size() + (active != null ? 1 : 0);
+	}
+
+	/**
+	 * fsync 후 파일을 닫습니다. 반영이 확인되지 않은 세그먼트는 다음 시작 때 복구됩니다.
+	 */
+	@Override
+	public synchronized void close() {
+		if (fsyncExecutor != null) {
+			fsyncExecutor.shutdownNow();
+		}
+		if (active != null) {
+			active.force();
+			active.close();
+			active = null;
+		}
+		sealedSegments.forEach(WalSegment::close);
+		sealedSegments.clear();
+	}
+
+	private void write(byte type, long lsn, byte[] payload) {
+		if (active.append(type, lsn, payload)) {
+			return;
+		}
+		active.force();
+		sealedSegments.addLast(active);
+		active = WalSegment.create(directory, nextSegmentNumber++, segmentSize);
+		if (!active.append(type, lsn, payload)) {
+			throw new IllegalArgumentException("WAL 레코드가 세그먼트 크기보다 큽니다: " + payload.length + " bytes");
+		}
+	}
+
+	private List<Path> listSegments() {
+		try {
+			Files.createDirectories(directory);
+			try (Stream<Path> files = Files.list(directory)) {
+				return files
+					.filter(path -> path.getFileName().toString().matches("wal-\\d{20}\\.log"))
+					.sorted()
+					.toList();
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("WAL 디렉터리를 읽을 수 없습니다: " + directory, e);
+		}
+	}
+}
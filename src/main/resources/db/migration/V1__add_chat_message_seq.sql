@@ -0,0 +1,12 @@
+-- 기존 스키마(버전 0, Flyway 도입 전 테이블)를 전제로 하는 첫 변경분입니다. 빈 DB에서는 실행되지 않습니다.
+-- 채팅방별 메시지 순번(seq) 추가
+ALTER TABLE chat_message ADD COLUMN seq BIGINT NULL;
+
+-- 기존 메시지는 (timestamp, id) 순서로 채팅방별 1부터 순번을 부여
+UPDATE chat_message cm
+    JOIN (SELECT id, ROW_NUMBER() OVER (PARTITION BY room_id ORDER BY timestamp, id) AS rn
+          FROM chat_message) numbered ON numbered.id = cm.id
+SET cm.seq = numbered.rn;
+
+-- 키셋 페이지 조회용 복합 인덱스
+CREATE UNIQUE INDEX idx_chat_message_room_seq ON chat_message (room_id, seq);
@@ -0,0 +1,4 @@
+-- 채팅방 참여자별 읽은 위치를 메시지 순번으로 저장
+-- (읽은 시각 컬럼은 호환을 위해 함께 갱신, 기존 값은 Redis에만 있으므로 다음 읽음 처리 때 채워짐)
+ALTER TABLE chat_room ADD COLUMN last_read_seq_user1 BIGINT NULL;
+ALTER TABLE chat_room ADD COLUMN last_read_seq_user2 BIGINT NULL;
@@ -0,0 +1,31 @@
+-- 채팅방 참여자 테이블 (회원 -> 채팅방)
+-- 기본 키 (member_id, room_id)만으로 회원별 채팅방 목록을 조회 (member1 = ? OR member2 = ? 대체)
+CREATE TABLE chat_room_member (
+    member_id     BIGINT NOT NULL,
+    room_id       BIGINT NOT NULL,
+    active        BIT(1) NOT NULL DEFAULT 1,
+    last_read_seq BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (member_id, room_id)
+);
+CREATE INDEX idx_chat_room_member_room ON chat_room_member (room_id);
+
+-- 기존 채팅방의 참여자, 활성 상태, 읽은 위치를 옮김 (회원 테이블에 없는 이메일은 제외)
+INSERT IGNORE INTO chat_room_member (member_id, room_id, active, last_read_seq)
+SELECT m.id, cr.id, cr.member_active1, COALESCE(cr.last_read_seq_user1, 0)
+FROM chat_room cr
+    JOIN member m ON m.email = cr.member1;
+
+INSERT IGNORE INTO chat_room_member (member_id, room_id, active, last_read_seq)
+SELECT m.id, cr.id, cr.member_active2, COALESCE(cr.last_read_seq_user2, 0)
+FROM chat_room cr
+    JOIN member m ON m.email = cr.member2;
+
+-- 메시지는 숫자 채팅방 ID로만 식별 (chat_room_id가 비어 있는 예전 메시지는 외부 채팅방 ID로 채움)
+UPDATE chat_message cm
+    JOIN chat_room cr ON cr.room_id = cm.room_id
+SET cm.chat_room_id = cr.id
+WHERE cm.chat_room_id IS NULL;
+
+CREATE UNIQUE INDEX idx_chat_message_chat_room_seq ON chat_message (chat_room_id, seq);
+DROP INDEX idx_chat_message_room_seq ON chat_message;
+ALTER TABLE chat_message DROP COLUMN room_id;
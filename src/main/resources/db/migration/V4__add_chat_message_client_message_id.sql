@@ -0,0 +1,5 @@
+-- 클라이언트가 만든 메시지 ID (재전송 중복 제거, 선택)
+ALTER TABLE chat_message ADD COLUMN client_message_id VARCHAR(64) NULL;
+
+-- Redis 보관 범위를 벗어난 재전송도 DB에는 한 번만 저장되도록 (NULL은 중복으로 보지 않음)
+CREATE UNIQUE INDEX idx_chat_message_chat_room_client_id ON chat_message (chat_room_id, client_message_id);
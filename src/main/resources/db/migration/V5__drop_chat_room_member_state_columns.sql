@@ -0,0 +1,5 @@
+-- 참여자별 활성 상태와 읽은 위치는 chat_room_member만 기준으로 함 (V3에서 옮긴 뒤 이중으로 쓰던 컬럼 제거)
+ALTER TABLE chat_room DROP COLUMN member_active1;
+ALTER TABLE chat_room DROP COLUMN member_active2;
+ALTER TABLE chat_room DROP COLUMN last_read_seq_user1;
+ALTER TABLE chat_room DROP COLUMN last_read_seq_user2;
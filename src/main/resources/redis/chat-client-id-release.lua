@@ -0,0 +1,10 @@
+-- 저장하지 못한 메시지의 클라이언트 메시지 ID를 지워 재전송을 다시 받을 수 있게 합니다.
+-- 그 사이 같은 ID로 다른 순번이 발급되었으면 지우지 않습니다.
+-- KEYS[1] 채팅방 클라이언트 메시지 ID ZSET
+-- ARGV[1] 클라이언트 메시지 ID  ARGV[2] 발급했던 순번
+-- 반환값: 지운 ID 수
+
+if tonumber(redis.call('ZSCORE', KEYS[1], ARGV[1]) or '-1') == tonumber(ARGV[2]) then
+	return redis.call('ZREM', KEYS[1], ARGV[1])
+end
+return 0
@@ -0,0 +1,12 @@
+-- 사용자의 읽은 위치(순번)를 앞으로만 옮깁니다. (여러 탭, 노드에서 늦게 온 요청이 되돌리지 않도록)
+-- KEYS[1] 채팅방 읽은 순번 해시
+-- ARGV[1] 사용자  ARGV[2] 읽은 순번
+-- 반환값: {적용 후 읽은 순번, 이동했으면 1 아니면 0}
+
+local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+local seq = tonumber(ARGV[2])
+if seq > current then
+	redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+	return {seq, 1}
+end
+return {current, 0}
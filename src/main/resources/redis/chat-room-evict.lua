@@ -0,0 +1,15 @@
+-- 마지막 활동 시각이 기준보다 오래된 채팅방을 활성 목록에서 제거합니다.
+-- 모두 저장되어 dirty, 저장 실패 채팅방이 아닌 채팅방은 watermark도 함께 제거합니다.
+-- (dirty 채팅방의 watermark는 sweeper가 확인할 때 필요하므로 남기고, 저장이 끝나면 chat-room-flushed.lua가 제거)
+-- KEYS[1] 활성 채팅방 ZSET  KEYS[2] dirty 채팅방 ZSET  KEYS[3] watermark 해시  KEYS[4] 저장 실패 채팅방 집합
+-- ARGV[1] 기준 시각  ARGV[2] 한 번에 제거할 최대 채팅방 수
+-- 반환값: 활성 목록에서 제거된 채팅방 수
+
+local rooms = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+for _, roomId in ipairs(rooms) do
+	redis.call('ZREM', KEYS[1], roomId)
+	if not redis.call('ZSCORE', KEYS[2], roomId) and redis.call('SISMEMBER', KEYS[4], roomId) == 0 then
+		redis.call('HDEL', KEYS[3], roomId)
+	end
+end
+return #rooms
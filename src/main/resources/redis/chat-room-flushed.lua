@@ -0,0 +1,27 @@
+-- 배치 저장된 채팅방의 watermark를 올리고, 모두 저장된 채팅방은 dirty에서 제거합니다.
+-- dirty에서 제거된 채팅방이 이미 활성 목록에서도 빠져 있으면 watermark도 함께 제거합니다.
+-- KEYS[1] dirty 채팅방 ZSET  KEYS[2] watermark 해시  KEYS[3] 저장 실패 채팅방 집합  KEYS[4] 활성 채팅방 ZSET
+-- KEYS[5..] 채팅방별 순번 카운터 (ARGV 순서와 같음)
+-- ARGV[2i-1] 채팅방 ID  ARGV[2i] 이번에 저장된 마지막 순번
+-- 반환값: dirty에서 제거된 채팅방 수
+
+local cleaned = 0
+for i = 1, #ARGV / 2 do
+	local roomId = ARGV[2 * i - 1]
+	local seq = tonumber(ARGV[2 * i])
+	local flushed = tonumber(redis.call('HGET', KEYS[2], roomId) or '0')
+	if seq > flushed then
+		redis.call('HSET', KEYS[2], roomId, seq)
+		flushed = seq
+	end
+	local last = tonumber(redis.call('GET', KEYS[4 + i]) or '0')
+	if flushed >= last and redis.call('SISMEMBER', KEYS[3], roomId) == 0 then
+		if redis.call('ZREM', KEYS[1], roomId) == 1 then
+			cleaned = cleaned + 1
+		end
+		if not redis.call('ZSCORE', KEYS[4], roomId) then
+			redis.call('HDEL', KEYS[2], roomId)
+		end
+	end
+end
+return cleaned
@@ -0,0 +1,43 @@
+-- 채팅 메시지 1건 전송에 필요한 Redis 변경을 한 번의 호출로 수행합니다.
+-- KEYS[1] 채팅방 메시지 리스트      KEYS[2] 활성 채팅방 ZSET
+-- KEYS[3] 보낸 사람 inbox           KEYS[4] 받는 사람 inbox
+-- KEYS[5] 보낸 사람 inbox 항목      KEYS[6] 받는 사람 inbox 항목
+-- KEYS[7] 채팅방 타임스탬프         KEYS[8] 받는 사람이 보고 있는 채팅방
+-- KEYS[9] 받는 사람 안 읽은 메시지 수 해시 (채팅방 ID -> 수, 합계 필드 포함)
+-- KEYS[10] DB 저장 대기 채팅방 ZSET
+-- ARGV[1] 직렬화된 메시지(바이너리)  ARGV[2] 최근 메시지 보관 개수  ARGV[3] TTL(초)
+-- ARGV[4] 채팅방 ID  ARGV[5] 직렬화된 채팅방 ID  ARGV[6] 직렬화된 타임스탬프
+-- ARGV[7] 메시지 내용  ARGV[8] 타임스탬프  ARGV[9] inbox 점수(epoch millis)  ARGV[10] inbox TTL(초)
+-- ARGV[11] 안 읽은 수 합계 필드 이름  ARGV[12] 숫자 채팅방 ID (활성, dirty 채팅방, inbox 멤버)
+-- ARGV[13] 받는 사람이 호출한 노드에서 채팅방을 보고 있으면 '1' (이때는 KEYS[8]을 읽지 않음)
+-- 반환값: {증가된 채팅방 안 읽은 수, 증가된 합계}, 받는 사람이 채팅방을 보고 있으면 {-1}
+
+redis.call('RPUSH', KEYS[1], ARGV[1])
+redis.call('LTRIM', KEYS[1], -tonumber(ARGV[2]), -1)
+redis.call('EXPIRE', KEYS[1], ARGV[3])
+
+-- 활성 채팅방은 마지막 활동 시각, dirty 채팅방은 처음 변경된 시각(NX)으로 기록
+redis.call('ZADD', KEYS[2], ARGV[9], ARGV[12])
+redis.call('ZADD', KEYS[10], 'NX', ARGV[9], ARGV[12])
+
+-- inbox는 이미 만들어진 경우에만 갱신 (없으면 조회 시 DB에서 전체를 만듦)
+local function touchInbox(inboxKey, entryKey)
+	if redis.call('EXISTS', inboxKey) == 0 then
+		return
+	end
+	redis.call('ZADD', inboxKey, ARGV[9], ARGV[12])
+	redis.call('HSET', entryKey, 'roomId', ARGV[4], 'lastMessage', ARGV[7], 'lastMessageTime', ARGV[8])
+	redis.call('EXPIRE', inboxKey, ARGV[10])
+	redis.call('EXPIRE', entryKey, ARGV[10])
+end
+touchInbox(KEYS[3], KEYS[5])
+touchInbox(KEYS[4], KEYS[6])
+
+redis.call('SET', KEYS[7], ARGV[6], 'EX', ARGV[3])
+
+if ARGV[13] == '1' or redis.call('GET', KEYS[8]) == ARGV[5] then
+	return {-1}
+end
+local unread = redis.call('HINCRBY', KEYS[9], ARGV[4], 1)
+local total = redis.call('HINCRBY', KEYS[9], ARGV[11], 1)
+return {unread, total}
@@ -0,0 +1,25 @@
+-- 클라이언트 메시지 ID가 있는 메시지의 순번을 발급합니다. (재전송 중복 제거)
+-- 중복 확인과 순번 발급을 한 번에 수행하므로, 동시에 재전송되어도 순번에 빈틈이 생기지 않습니다.
+-- KEYS[1] 채팅방 순번 카운터  KEYS[2] 채팅방 클라이언트 메시지 ID ZSET (ID -> 순번)
+-- ARGV[1] 클라이언트 메시지 ID  ARGV[2] 보관할 최근 순번 범위  ARGV[3] ID 보관 TTL(초)
+-- ARGV[4] (선택) 카운터가 없을 때 사용할 초기값 (DB의 마지막 순번)
+-- 반환값: {발급된 순번, 0}, 이미 받은 ID면 {처음 발급된 순번, 1}, 카운터가 없고 초기값도 없으면 {-1, 0}
+
+local existing = redis.call('ZSCORE', KEYS[2], ARGV[1])
+if existing then
+	return {tonumber(existing), 1}
+end
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	if ARGV[4] == nil then
+		return {-1, 0}
+	end
+	redis.call('SET', KEYS[1], ARGV[4])
+end
+local seq = redis.call('INCR', KEYS[1])
+
+-- 순번이 보관 범위를 벗어난 ID는 제거 (재전송은 최근 메시지에서만 일어남)
+redis.call('ZADD', KEYS[2], seq, ARGV[1])
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', seq - tonumber(ARGV[2]))
+redis.call('EXPIRE', KEYS[2], ARGV[3])
+return {seq, 0}
@@ -0,0 +1,12 @@
+-- 채팅방 메시지 순번을 원자적으로 발급합니다.
+-- KEYS[1] 채팅방 순번 카운터
+-- ARGV[1] (선택) 카운터가 없을 때 사용할 초기값 (DB의 마지막 순번)
+-- 반환값: 발급된 순번, 카운터가 없고 초기값도 없으면 -1
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+	if ARGV[1] == nil then
+		return -1
+	end
+	redis.call('SET', KEYS[1], ARGV[1])
+end
+return redis.call('INCR', KEYS[1])
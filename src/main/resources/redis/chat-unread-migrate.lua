@@ -0,0 +1,11 @@
+-- 이메일로 만들던 이전 안 읽은 수 해시를 회원 ID 키로 옮깁니다.
+-- 옮기기 전에 새 키에 쌓인 값이 있으면 더합니다. (배포 직후 받은 메시지의 안 읽은 수를 잃지 않도록)
+-- KEYS[1] 이전 안 읽은 수 해시  KEYS[2] 회원 ID 안 읽은 수 해시
+-- 반환값: 옮긴 필드 수
+
+local entries = redis.call('HGETALL', KEYS[1])
+for i = 1, #entries, 2 do
+	redis.call('HINCRBY', KEYS[2], entries[i], entries[i + 1])
+end
+redis.call('DEL', KEYS[1])
+return #entries / 2
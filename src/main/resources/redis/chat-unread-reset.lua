@@ -0,0 +1,23 @@
+-- 채팅방의 안 읽은 메시지 수를 0으로 만들고, 그만큼 합계에서 뺍니다.
+-- KEYS[1] 사용자 안 읽은 메시지 수 해시
+-- ARGV[1] 채팅방 ID  ARGV[2] 합계 필드 이름
+-- 반환값: 초기화 후 합계
+
+local unread = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+if unread == 0 then
+	return tonumber(redis.call('HGET', KEYS[1], ARGV[2]) or '0')
+end
+redis.call('HDEL', KEYS[1], ARGV[1])
+local total = redis.call('HINCRBY', KEYS[1], ARGV[2], -unread)
+if total < 0 then
+	-- 합계가 어긋난 경우 남은 채팅방 값으로 다시 계산
+	total = 0
+	local entries = redis.call('HGETALL', KEYS[1])
+	for i = 1, #entries, 2 do
+		if entries[i] ~= ARGV[2] then
+			total = total + tonumber(entries[i + 1])
+		end
+	end
+	redis.call('HSET', KEYS[1], ARGV[2], total)
+end
+return total
@@ -0,0 +1,35 @@
+-- 전문가 평점 순위표를 갱신합니다. 대분류가 바뀐 전문가는 이전 대분류 순위표에서 뺍니다.
+-- 이전 대분류는 호출한 쪽이 미리 읽어 키로 넘기고, 그 사이에 바뀌었으면 아무것도 반영하지 않습니다.
+-- KEYS[1] 전체 순위표 ZSET  KEYS[2] 전문가 ID -> 대분류 ID 해시
+-- KEYS[2i+1] i번째 전문가의 대분류 순위표  KEYS[2i+2] i번째 전문가의 이전 대분류 순위표
+-- (해당 순위표가 없으면 KEYS[1]을 넘기며, 사용하지 않음)
+-- ARGV[4i-3] 전문가 ID  ARGV[4i-2] 대분류 ID (빈 문자열이면 순위표에서 제거)  ARGV[4i-1] 점수
+-- ARGV[4i] 호출한 쪽이 읽은 이전 대분류 ID (없으면 빈 문자열)
+-- 반환값: 순위표에서 제거된 전문가 수, 이전 대분류가 그 사이에 바뀌었으면 -1
+
+local count = #ARGV / 4
+for i = 1, count do
+	local previous = redis.call('HGET', KEYS[2], ARGV[4 * i - 3]) or ''
+	if previous ~= ARGV[4 * i] then
+		return -1
+	end
+end
+
+local removed = 0
+for i = 1, count do
+	local expertId = ARGV[4 * i - 3]
+	local categoryId = ARGV[4 * i - 2]
+	local previous = ARGV[4 * i]
+	if previous ~= '' and previous ~= categoryId then
+		redis.call('ZREM', KEYS[2 * i + 2], expertId)
+	end
+	if categoryId == '' then
+		removed = removed + redis.call('ZREM', KEYS[1], expertId)
+		redis.call('HDEL', KEYS[2], expertId)
+	else
+		redis.call('ZADD', KEYS[1], ARGV[4 * i - 1], expertId)
+		redis.call('ZADD', KEYS[2 * i + 1], ARGV[4 * i - 1], expertId)
+		redis.call('HSET', KEYS[2], expertId, categoryId)
+	end
+end
+return removed
@@ -0,0 +1,9 @@
+-- 락 값이 자신의 토큰과 같을 때만 삭제합니다. (만료 후 다른 소유자가 얻은 락을 지우지 않도록)
+-- KEYS[1] 락 키
+-- ARGV[1] 락을 얻을 때 받은 토큰
+-- 반환값: 삭제했으면 1, 아니면 0
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+	return redis.call('DEL', KEYS[1])
+end
+return 0
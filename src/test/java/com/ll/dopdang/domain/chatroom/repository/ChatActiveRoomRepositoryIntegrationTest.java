@@ -0,0 +1,153 @@
+package com.ll.dopdang.domain.chatroom.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.ll.dopdang.domain.chatroom.util.ChatRedisKeys;
+
+/**
+ * 활성 채팅방 제거와 watermark 정리를 로컬 Redis로 검증합니다.
+ * 로컬 Redis(localhost:6379, 환경변수 REDIS_HOST/REDIS_PORT로 변경 가능)가 필요하며, 없으면 건너뜁니다.
+ * 다른 데이터와 섞이지 않도록 음수 채팅방 ID를 사용합니다.
+ */
+@Tag("integration")
+class ChatActiveRoomRepositoryIntegrationTest {
+
+	private static final long FLUSHED_ROOM = -101L;
+	private static final long DIRTY_ROOM = -102L;
+	private static final long RECENT_ROOM = -103L;
+	private static final List<Long> ROOMS = List.of(FLUSHED_ROOM, DIRTY_ROOM, RECENT_ROOM);
+
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate stringRedisTemplate;
+	private ChatActiveRoomRepository chatActiveRoomRepository;
+
+	@BeforeEach
+	void setUp() {
+		String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+		int port = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+		connectionFactory.afterPropertiesSet();
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.ping();
+		} catch (Exception e) {
+			connectionFactory.destroy();
+			connectionFactory = null;
+			assumeTrue(false, "로컬 Redis에 연결할 수 없어 통합 테스트를 건너뜁니다: " + e.getMessage());
+		}
+		stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+		chatActiveRoomRepository = new ChatActiveRoomRepository(stringRedisTemplate);
+		cleanUp();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (connectionFactory != null) {
+			cleanUp();
+			connectionFactory.destroy();
+		}
+	}
+
+	@Test
+	@DisplayName("모두 저장된 채팅방은 유휴 제거될 때 watermark 필드가 남지 않는다")
+	void evictedRoomLeavesNoWatermark() {
+		sent(FLUSHED_ROOM, 3, 1_000);
+		chatActiveRoomRepository.markFlushed(Map.of(FLUSHED_ROOM, 3L));
+		assertThat(chatActiveRoomRepository.findFlushedSeq(FLUSHED_ROOM)).isEqualTo(3);
+
+		assertThat(chatActiveRoomRepository.evictIdle(2_000, 1)).isEqualTo(1);
+
+		assertThat(isActive(FLUSHED_ROOM)).isFalse();
+		assertThat(stringRedisTemplate.opsForHash().hasKey(ChatRedisKeys.FLUSHED_SEQ, String.valueOf(FLUSHED_ROOM)))
+			.isFalse();
+	}
+
+	@Test
+	@DisplayName("dirty 채팅방은 유휴 제거되어도 watermark를 남기고, 이후 모두 저장되면 함께 제거한다")
+	void dirtyRoomKeepsWatermarkUntilFlushed() {
+		sent(DIRTY_ROOM, 5, 1_000);
+		chatActiveRoomRepository.markFlushed(Map.of(DIRTY_ROOM, 3L));
+
+		chatActiveRoomRepository.evictIdle(2_000, 100);
+		assertThat(isActive(DIRTY_ROOM)).isFalse();
+		assertThat(chatActiveRoomRepository.findFlushedSeq(DIRTY_ROOM)).isEqualTo(3);
+
+		assertThat(chatActiveRoomRepository.markFlushed(Map.of(DIRTY_ROOM, 5L))).isEqualTo(1);
+		assertThat(stringRedisTemplate.opsForHash().hasKey(ChatRedisKeys.FLUSHED_SEQ, String.valueOf(DIRTY_ROOM)))
+			.isFalse();
+	}
+
+	@Test
+	@DisplayName("배치 크기보다 많은 유휴 채팅방도 한 번에 모두 제거하고, 최근 채팅방은 watermark와 함께 남긴다")
+	void evictsAllIdleRoomsAcrossBatches() {
+		sent(FLUSHED_ROOM, 1, 1_000);
+		sent(DIRTY_ROOM, 1, 1_500);
+		sent(RECENT_ROOM, 1, 5_000);
+		chatActiveRoomRepository.markFlushed(Map.of(FLUSHED_ROOM, 1L, DIRTY_ROOM, 1L, RECENT_ROOM, 1L));
+
+		assertThat(chatActiveRoomRepository.evictIdle(2_000, 1)).isEqualTo(2);
+
+		assertThat(isActive(RECENT_ROOM)).isTrue();
+		assertThat(chatActiveRoomRepository.findFlushedSeq(RECENT_ROOM)).isEqualTo(1);
+		assertThat(stringRedisTemplate.opsForHash().hasKey(ChatRedisKeys.FLUSHED_SEQ, String.valueOf(DIRTY_ROOM)))
+			.isFalse();
+	}
+
+	@Test
+	@DisplayName("다른 노드가 뒤 순번을 저장해 dirty에서 빠진 채팅방도, 저장 대기 중인 노드가 확인 시각을 미루면 다시 dirty가 된다")
+	void deferDirtyReaddsRoomFlushedByAnotherNode() {
+		sent(DIRTY_ROOM, 2, 1_000);
+		// 다른 노드가 순번 2를 저장 (이 노드의 순번 1은 아직 큐에 있음)
+		chatActiveRoomRepository.markFlushed(Map.of(DIRTY_ROOM, 2L));
+		assertThat(isDirty(DIRTY_ROOM)).isFalse();
+
+		chatActiveRoomRepository.deferDirty(List.of(DIRTY_ROOM), 3_000);
+		assertThat(stringRedisTemplate.opsForZSet().score(ChatRedisKeys.DIRTY_ROOMS, String.valueOf(DIRTY_ROOM)))
+			.isEqualTo(3_000);
+
+		// 확인 시각은 앞으로만 미룸
+		chatActiveRoomRepository.deferDirty(List.of(DIRTY_ROOM), 2_000);
+		assertThat(stringRedisTemplate.opsForZSet().score(ChatRedisKeys.DIRTY_ROOMS, String.valueOf(DIRTY_ROOM)))
+			.isEqualTo(3_000);
+	}
+
+	/** chat-send.lua처럼 순번을 올리고 활성, dirty 채팅방으로 등록 */
+	private void sent(long chatRoomId, long seq, long epochMillis) {
+		String room = String.valueOf(chatRoomId);
+		stringRedisTemplate.opsForValue().set(ChatRedisKeys.sequence(chatRoomId), String.valueOf(seq));
+		stringRedisTemplate.opsForZSet().add(ChatRedisKeys.ACTIVE_ROOMS, room, epochMillis);
+		stringRedisTemplate.opsForZSet().addIfAbsent(ChatRedisKeys.DIRTY_ROOMS, room, epochMillis);
+	}
+
+	private boolean isActive(long chatRoomId) {
+		return stringRedisTemplate.opsForZSet().score(ChatRedisKeys.ACTIVE_ROOMS, String.valueOf(chatRoomId)) != null;
+	}
+
+	private boolean isDirty(long chatRoomId) {
+		return stringRedisTemplate.opsForZSet().score(ChatRedisKeys.DIRTY_ROOMS, String.valueOf(chatRoomId)) != null;
+	}
+
+	private void cleanUp() {
+		for (Long chatRoomId : ROOMS) {
+			String room = String.valueOf(chatRoomId);
+			stringRedisTemplate.opsForZSet().remove(ChatRedisKeys.ACTIVE_ROOMS, room);
+			stringRedisTemplate.opsForZSet().remove(ChatRedisKeys.DIRTY_ROOMS, room);
+			stringRedisTemplate.opsForSet().remove(ChatRedisKeys.DROPPED_ROOMS, room);
+			stringRedisTemplate.opsForHash().delete(ChatRedisKeys.FLUSHED_SEQ, room);
+			stringRedisTemplate.delete(ChatRedisKeys.sequence(chatRoomId));
+		}
+	}
+}
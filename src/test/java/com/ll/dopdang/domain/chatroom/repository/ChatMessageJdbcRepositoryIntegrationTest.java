@@ -0,0 +1,175 @@
+package com.ll.dopdang.domain.chatroom.repository;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.ll.dopdang.domain.chatroom.entity.ChatMessage;
+
+/**
+ * 배치 저장 전 기존 행 조회와 중복/순번 충돌 구분을 H2(MySQL 모드)로 검증합니다.
+ */
+@Tag("integration")
+class ChatMessageJdbcRepositoryIntegrationTest {
+
+	private static final long ROOM = 19L;
+	private static final LocalDateTime SENT_AT = LocalDateTime.of(2026, 1, 1, 10, 0, 0);
+
+	private JdbcTemplate jdbcTemplate;
+	private ChatMessageJdbcRepository chatMessageJdbcRepository;
+
+	@BeforeEach
+	void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:chat-message-jdbc;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE chat_message ("
+			+ "id BIGINT AUTO_INCREMENT PRIMARY KEY, chat_room_id BIGINT, seq BIGINT, client_message_id VARCHAR(64), "
+			+ "sender VARCHAR(255), receiver VARCHAR(255), content VARCHAR(255), timestamp TIMESTAMP(6), "
+			+ "file_url TEXT, project_id BIGINT, "
+			+ "CONSTRAINT idx_chat_message_chat_room_seq UNIQUE (chat_room_id, seq), "
+			+ "CONSTRAINT idx_chat_message_chat_room_client_id UNIQUE (chat_room_id, client_message_id))");
+		chatMessageJdbcRepository = new ChatMessageJdbcRepository(jdbcTemplate,
+			new NamedParameterJdbcTemplate(jdbcTemplate));
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute("DROP TABLE chat_message");
+	}
+
+	@Test
+	@DisplayName("이미 저장된 클라이언트 메시지 ID의 메시지는 순번이 달라도 중복으로 건너뛴다")
+	void skipsSameClientMessageId() {
+		chatMessageJdbcRepository.batchInsert(List.of(message(1L, "client-1", "a@test.com")));
+
+		ChatMessageJdbcRepository.InsertResult result = chatMessageJdbcRepository.batchInsert(
+			List.of(message(2L, "client-1", "a@test.com"), message(3L, "client-3", "a@test.com")));
+
+		assertThat(result.inserted()).isEqualTo(1);
+		assertThat(result.duplicates()).isEqualTo(1);
+		assertThat(result.collisions()).isEmpty();
+		assertThat(storedSeqs()).containsExactly(1L, 3L);
+	}
+
+	@Test
+	@DisplayName("클라이언트 메시지 ID가 없는 재시도는 순번, 보낸 사람, 시각이 같으면 중복으로 건너뛴다")
+	void skipsSameSeqWithoutClientMessageId() {
+		chatMessageJdbcRepository.batchInsert(List.of(message(1L, null, "a@test.com")));
+
+		ChatMessageJdbcRepository.InsertResult result = chatMessageJdbcRepository.batchInsert(
+			List.of(message(1L, null, "a@test.com")));
+
+		assertThat(result.inserted()).isZero();
+		assertThat(result.duplicates()).isEqualTo(1);
+		assertThat(result.collisions()).isEmpty();
+		assertThat(storedSeqs()).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("같은 순번에 다른 클라이언트 메시지 ID가 저장되어 있으면 저장하지 않고 순번 충돌로 돌려준다")
+	void reportsSeqCollision() {
+		chatMessageJdbcRepository.batchInsert(List.of(message(1L, "client-1", "a@test.com")));
+		ChatMessage other = message(1L, "client-2", "b@test.com");
+
+		ChatMessageJdbcRepository.InsertResult result = chatMessageJdbcRepository.batchInsert(
+			List.of(other, message(2L, "client-3", "a@test.com")));
+
+		assertThat(result.inserted()).isEqualTo(1);
+		assertThat(result.duplicates()).isZero();
+		assertThat(result.collisions()).containsExactly(other);
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT client_message_id FROM chat_message WHERE chat_room_id = ? AND seq = 1", String.class, ROOM))
+			.isEqualTo("client-1");
+	}
+
+	@Test
+	@DisplayName("같은 배치 안의 중복과 순번 충돌도 기존 행과 같은 기준으로 구분한다")
+	void classifiesWithinBatch() {
+		ChatMessage first = message(1L, "client-1", "a@test.com");
+		ChatMessage resent = message(1L, "client-1", "a@test.com");
+		ChatMessage collided = message(1L, "client-2", "b@test.com");
+
+		ChatMessageJdbcRepository.InsertResult result = chatMessageJdbcRepository.batchInsert(
+			List.of(first, resent, collided));
+
+		assertThat(result.inserted()).isEqualTo(1);
+		assertThat(result.duplicates()).isEqualTo(1);
+		assertThat(result.collisions()).containsExactly(collided);
+		assertThat(storedSeqs()).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("다른 채팅방의 같은 순번, 같은 클라이언트 메시지 ID는 중복이나 충돌로 보지 않는다")
+	void ignoresOtherRooms() {
+		chatMessageJdbcRepository.batchInsert(List.of(message(1L, "client-1", "a@test.com")));
+		ChatMessage otherRoom = message(1L, "client-1", "a@test.com");
+		otherRoom.setChatRoomId(ROOM + 1);
+
+		ChatMessageJdbcRepository.InsertResult result = chatMessageJdbcRepository.batchInsert(List.of(otherRoom));
+
+		assertThat(result.inserted()).isEqualTo(1);
+		assertThat(result.duplicates()).isZero();
+		assertThat(result.collisions()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("드라이버가 1건이 아닌 반영 행 수를 돌려주면 예외를 던진다")
+	void throwsOnUnexpectedUpdateCount() {
+		JdbcTemplate counting = spy(jdbcTemplate);
+		doReturn(new int[][] {{1, 0}}).when(counting).batchUpdate(anyString(), anyCollection(), anyInt(),
+			any(ParameterizedPreparedStatementSetter.class));
+		ChatMessageJdbcRepository repository = new ChatMessageJdbcRepository(counting,
+			new NamedParameterJdbcTemplate(jdbcTemplate));
+
+		assertThatThrownBy(() -> repository.batchInsert(
+			List.of(message(1L, "client-1", "a@test.com"), message(2L, "client-2", "a@test.com"))))
+			.isInstanceOf(JdbcUpdateAffectedIncorrectNumberOfRowsException.class);
+	}
+
+	@Test
+	@DisplayName("rewriteBatchedStatements의 SUCCESS_NO_INFO는 저장된 것으로 본다")
+	void acceptsSuccessNoInfo() {
+		JdbcTemplate rewritten = spy(jdbcTemplate);
+		doReturn(new int[][] {{Statement.SUCCESS_NO_INFO}}).when(rewritten).batchUpdate(anyString(),
+			anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+		ChatMessageJdbcRepository repository = new ChatMessageJdbcRepository(rewritten,
+			new NamedParameterJdbcTemplate(jdbcTemplate));
+
+		assertThat(repository.batchInsert(List.of(message(1L, "client-1", "a@test.com"))).inserted())
+			.isEqualTo(1);
+	}
+
+	private List<Long> storedSeqs() {
+		return jdbcTemplate.queryForList("SELECT seq FROM chat_message WHERE chat_room_id = ? ORDER BY seq",
+			Long.class, ROOM);
+	}
+
+	private ChatMessage message(Long seq, String clientMessageId, String sender) {
+		ChatMessage message = new ChatMessage();
+		message.setChatRoomId(ROOM);
+		message.setSeq(seq);
+		message.setClientMessageId(clientMessageId);
+		message.setSender(sender);
+		message.setReceiver("receiver@test.com");
+		message.setContent("message " + seq);
+		message.setTimestamp(SENT_AT);
+		message.setProjectId(1L);
+		return message;
+	}
+}
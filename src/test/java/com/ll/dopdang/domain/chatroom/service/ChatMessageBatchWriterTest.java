@@ -0,0 +1,235 @@
+package com.ll.dopdang.domain.chatroom.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.dopdang.domain.chatroom.entity.ChatMessage;
+import com.ll.dopdang.domain.chatroom.repository.ChatActiveRoomRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatInboxRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatMessageJdbcRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatMessageJdbcRepository.InsertResult;
+import com.ll.dopdang.domain.chatroom.repository.ChatMessageRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatRoomRepository;
+import com.ll.dopdang.global.exception.ErrorCode;
+import com.ll.dopdang.global.exception.ServiceException;
+import com.ll.dopdang.global.wal.WriteAheadLog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * write-behind 저장기의 재시도, 저장 실패 처리, backpressure와 저장 대기 추적을 검증합니다.
+ * DB와 Redis는 stub으로 대신합니다.
+ */
+class ChatMessageBatchWriterTest {
+
+	private static final long TIMEOUT_MS = 5000;
+	private static final long ROOM_A = 1L;
+	private static final long ROOM_B = 2L;
+	private static final LocalDateTime SENT_AT = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+	private final ChatMessageJdbcRepository chatMessageJdbcRepository = mock(ChatMessageJdbcRepository.class);
+	private final ChatActiveRoomRepository chatActiveRoomRepository = mock(ChatActiveRoomRepository.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ChatMessageBatchWriter writer = new ChatMessageBatchWriter(chatMessageJdbcRepository,
+		mock(ChatMessageRepository.class), new TransactionTemplate(mock(PlatformTransactionManager.class)),
+		chatActiveRoomRepository, mock(ChatRoomRepository.class), new ObjectMapper(), meterRegistry);
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(writer, "enabled", true);
+		ReflectionTestUtils.setField(writer, "queueCapacity", 100);
+		ReflectionTestUtils.setField(writer, "batchSize", 10);
+		ReflectionTestUtils.setField(writer, "flushIntervalMs", 20L);
+		ReflectionTestUtils.setField(writer, "offerTimeoutMs", 50L);
+		ReflectionTestUtils.setField(writer, "inFlightRefreshMs", 60_000L);
+		ReflectionTestUtils.setField(writer, "walEnabled", false);
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		writer.stop();
+	}
+
+	@Test
+	@DisplayName("저장이 두 번 실패해도 세 번째 시도에 성공하면 watermark를 올리고 추적에서 뺀다")
+	void retriesUntilSuccess() {
+		when(chatMessageJdbcRepository.batchInsert(anyList()))
+			.thenThrow(new QueryTimeoutException("first"))
+			.thenThrow(new QueryTimeoutException("second"))
+			.thenReturn(new InsertResult(1, 0, List.of()));
+		writer.start();
+
+		writer.submit(message(ROOM_A, 7L));
+
+		verify(chatMessageJdbcRepository, timeout(TIMEOUT_MS).times(3)).batchInsert(anyList());
+		verify(chatActiveRoomRepository, timeout(TIMEOUT_MS)).markFlushed(Map.of(ROOM_A, 7L));
+		verify(chatActiveRoomRepository, never()).markDropped(anyCollection(), anyLong());
+		awaitNotInFlight(ROOM_A);
+		assertThat(meterRegistry.counter("chat.write_behind.dropped").count()).isZero();
+	}
+
+	@Test
+	@DisplayName("세 번 모두 실패하면 채팅방을 복구 대상으로 표시하고 추적에서 뺀다")
+	void marksDroppedAfterMaxAttempts() {
+		when(chatMessageJdbcRepository.batchInsert(anyList())).thenThrow(new QueryTimeoutException("down"));
+		writer.start();
+
+		writer.submit(message(ROOM_A, 3L));
+
+		verify(chatActiveRoomRepository, timeout(TIMEOUT_MS))
+			.markDropped(Set.of(ROOM_A), ChatInboxRepository.score(SENT_AT));
+		verify(chatMessageJdbcRepository, times(3)).batchInsert(anyList());
+		verify(chatActiveRoomRepository, never()).markFlushed(anyMap());
+		awaitNotInFlight(ROOM_A);
+		assertThat(meterRegistry.counter("chat.write_behind.dropped").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("복구 대상 표시에 실패하면 저장은 다시 시도하지 않고 표시만 다음 주기에 다시 시도하며, 그동안 추적을 유지한다")
+	void retriesUnsettledDrops() throws Exception {
+		when(chatMessageJdbcRepository.batchInsert(anyList())).thenThrow(new QueryTimeoutException("down"));
+		CountDownLatch firstMark = new CountDownLatch(1);
+		CountDownLatch releaseMark = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			firstMark.countDown();
+			releaseMark.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+			throw new QueryTimeoutException("redis down");
+		}).doNothing().when(chatActiveRoomRepository).markDropped(anyCollection(), anyLong());
+		writer.start();
+
+		writer.submit(message(ROOM_A, 3L));
+
+		assertThat(firstMark.await(TIMEOUT_MS, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(writer.hasInFlight(ROOM_A)).isTrue();
+		releaseMark.countDown();
+
+		verify(chatActiveRoomRepository, timeout(TIMEOUT_MS).times(2)).markDropped(anyCollection(), anyLong());
+		awaitNotInFlight(ROOM_A);
+		verify(chatMessageJdbcRepository, times(3)).batchInsert(anyList());
+	}
+
+	@Test
+	@DisplayName("큐가 가득 차면 대기 시간 뒤 전송을 거절하고, 거절된 메시지는 추적하지 않는다")
+	void rejectsWhenQueueIsFull() throws Exception {
+		ReflectionTestUtils.setField(writer, "queueCapacity", 1);
+		ReflectionTestUtils.setField(writer, "batchSize", 1);
+		CountDownLatch release = blockFirstBatch();
+		writer.start();
+
+		writer.submit(message(ROOM_A, 1L));
+		verify(chatMessageJdbcRepository, timeout(TIMEOUT_MS)).batchInsert(anyList());
+		writer.submit(message(ROOM_A, 2L));
+
+		assertThatThrownBy(() -> writer.submit(message(ROOM_B, 1L)))
+			.isInstanceOfSatisfying(ServiceException.class,
+				e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.CHATTING_QUEUE_FULL));
+		assertThat(meterRegistry.counter("chat.write_behind.rejected").count()).isEqualTo(1);
+		assertThat(writer.hasInFlight(ROOM_B)).isFalse();
+		assertThat(writer.hasInFlight(ROOM_A)).isTrue();
+		assertThat(writer.inFlightMaxSeq(ROOM_A)).isEqualTo(2L);
+
+		release.countDown();
+		verify(chatActiveRoomRepository, timeout(TIMEOUT_MS)).markFlushed(Map.of(ROOM_A, 2L));
+		awaitNotInFlight(ROOM_A);
+		assertThat(writer.inFlightMaxSeq(ROOM_A)).isZero();
+	}
+
+	@Test
+	@DisplayName("저장을 기다리는 메시지가 있는 채팅방은 writer가 dirty 확인 시각을 미룬다")
+	void defersDirtyForInFlightRooms() throws Exception {
+		ReflectionTestUtils.setField(writer, "batchSize", 1);
+		ReflectionTestUtils.setField(writer, "inFlightRefreshMs", 0L);
+		List<Set<Long>> deferred = new CopyOnWriteArrayList<>();
+		// 인자로 넘어오는 채팅방 집합은 추적 맵의 view이므로 호출 시점에 복사
+		doAnswer(invocation -> {
+			deferred.add(Set.copyOf(invocation.<Collection<Long>>getArgument(0)));
+			return null;
+		}).when(chatActiveRoomRepository).deferDirty(anyCollection(), anyLong());
+		CountDownLatch release = blockFirstBatch();
+		writer.start();
+
+		writer.submit(message(ROOM_A, 1L));
+		verify(chatMessageJdbcRepository, timeout(TIMEOUT_MS)).batchInsert(anyList());
+		writer.submit(message(ROOM_B, 1L));
+		release.countDown();
+
+		verify(chatActiveRoomRepository, timeout(TIMEOUT_MS)).markFlushed(Map.of(ROOM_B, 1L));
+		// 첫 배치를 저장한 뒤에는 큐에 남은 채팅방만 미룸
+		assertThat(deferred).anySatisfy(rooms -> assertThat(rooms).containsExactly(ROOM_B));
+	}
+
+	@Test
+	@DisplayName("WAL fsync가 실패해도 writer 스레드가 멈추지 않고, 남겨둔 배치를 다음 주기에 저장한다")
+	void keepsWriterAliveWhenWalSyncFails() {
+		WriteAheadLog wal = mock(WriteAheadLog.class);
+		when(wal.append(any())).thenReturn(1L);
+		doThrow(new UncheckedIOException(new IOException("disk"))).doNothing().when(wal).syncBatch();
+		when(chatMessageJdbcRepository.batchInsert(anyList())).thenReturn(new InsertResult(1, 0, List.of()));
+		ReflectionTestUtils.setField(writer, "wal", wal);
+		writer.start();
+
+		writer.submit(message(ROOM_A, 1L));
+
+		verify(chatActiveRoomRepository, timeout(TIMEOUT_MS)).markFlushed(Map.of(ROOM_A, 1L));
+		verify(wal, timeout(TIMEOUT_MS)).confirm(List.of(1L));
+		verify(wal, times(2)).syncBatch();
+		awaitNotInFlight(ROOM_A);
+
+		// 이후 메시지도 계속 저장됨
+		writer.submit(message(ROOM_B, 1L));
+		verify(chatActiveRoomRepository, timeout(TIMEOUT_MS)).markFlushed(Map.of(ROOM_B, 1L));
+	}
+
+	/**
+	 * 첫 배치 저장을 반환된 latch가 열릴 때까지 붙잡아 둡니다. 이후 배치는 바로 저장됩니다.
+	 */
+	private CountDownLatch blockFirstBatch() {
+		CountDownLatch release = new CountDownLatch(1);
+		when(chatMessageJdbcRepository.batchInsert(anyList())).thenAnswer(invocation -> {
+			release.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+			return new InsertResult(invocation.<List<ChatMessage>>getArgument(0).size(), 0, List.of());
+		});
+		return release;
+	}
+
+	private void awaitNotInFlight(long chatRoomId) {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+		while (writer.hasInFlight(chatRoomId) && System.currentTimeMillis() < deadline) {
+			Thread.onSpinWait();
+		}
+		assertThat(writer.hasInFlight(chatRoomId)).isFalse();
+	}
+
+	private ChatMessage message(long chatRoomId, long seq) {
+		ChatMessage message = new ChatMessage();
+		message.setChatRoomId(chatRoomId);
+		message.setSeq(seq);
+		message.setSender("a@test.com");
+		message.setReceiver("b@test.com");
+		message.setContent("message " + seq);
+		message.setTimestamp(SENT_AT);
+		return message;
+	}
+}
@@ -0,0 +1,85 @@
+package com.ll.dopdang.domain.chatroom.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ll.dopdang.domain.chatroom.dto.ChatReadReceiptPayload;
+import com.ll.dopdang.domain.chatroom.dto.ChatRoomInfo;
+import com.ll.dopdang.domain.chatroom.repository.ChatRoomMemberRepository;
+import com.ll.dopdang.domain.chatroom.repository.ChatRoomRepository;
+
+class ChatReadReceiptCoalescerTest {
+
+	private static final long INTERVAL_MS = 300;
+	private static final ChatRoomInfo ROOM =
+		new ChatRoomInfo(7L, "1|a@test.com:b@test.com", "a@test.com", "b@test.com", 11L, 12L, 1L, true, true);
+
+	private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+	private final ChatRoomMemberRepository chatRoomMemberRepository = mock(ChatRoomMemberRepository.class);
+	private final ChatBroadcaster chatBroadcaster = mock(ChatBroadcaster.class);
+	private final ChatReadReceiptCoalescer coalescer = new ChatReadReceiptCoalescer(chatRoomRepository,
+		chatRoomMemberRepository, chatBroadcaster, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(coalescer, "intervalMs", INTERVAL_MS);
+		coalescer.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		coalescer.stop();
+	}
+
+	@Test
+	@DisplayName("묶음 간격 안의 읽음 요청은 첫 요청과 마지막 읽은 위치, 두 번만 DB와 알림에 반영된다")
+	void coalescesReadsWithinWindow() throws Exception {
+		LocalDateTime now = LocalDateTime.now();
+		coalescer.read(ROOM, "b@test.com", 3, now, 5);
+		Thread.sleep(50);
+		for (long seq = 4; seq <= 10; seq++) {
+			coalescer.read(ROOM, "b@test.com", seq, now, 0);
+		}
+		Thread.sleep(INTERVAL_MS * 2);
+
+		verify(chatRoomRepository, times(2)).updateLastReadAtUser2(7L, now);
+		verify(chatRoomRepository, never()).updateLastReadAtUser1(anyLong(), any());
+		verify(chatRoomMemberRepository).advanceLastReadSeq(7L, "b@test.com", 3L);
+		verify(chatRoomMemberRepository).advanceLastReadSeq(7L, "b@test.com", 10L);
+
+		ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+		verify(chatBroadcaster, times(2)).broadcast(eq("/topic/read/" + ROOM.roomId()), payloads.capture());
+		assertThat(payloads.getAllValues())
+			.extracting(payload -> ((ChatReadReceiptPayload)payload).getReadSeq())
+			.containsExactly(3L, 10L);
+		// 배지는 값이 바뀐 두 번 (5 -> 0)
+		verify(chatBroadcaster, times(2)).broadcast(eq("/topic/notice/b@test.com"), any());
+	}
+
+	@Test
+	@DisplayName("읽은 위치가 그대로면 DB와 읽음 알림을 다시 보내지 않는다")
+	void skipsUnchangedReadPosition() throws Exception {
+		LocalDateTime now = LocalDateTime.now();
+		coalescer.read(ROOM, "a@test.com", 5, now, 0);
+		Thread.sleep(INTERVAL_MS + 100);
+		coalescer.read(ROOM, "a@test.com", 5, now, 0);
+		Thread.sleep(INTERVAL_MS + 100);
+
+		verify(chatRoomRepository, times(1)).updateLastReadAtUser1(7L, now);
+		verify(chatRoomMemberRepository, times(1)).advanceLastReadSeq(7L, "a@test.com", 5L);
+		verify(chatBroadcaster, times(1)).broadcast(eq("/topic/read/" + ROOM.roomId()), any());
+		verify(chatBroadcaster, times(1)).broadcast(eq("/topic/notice/a@test.com"), any());
+	}
+}
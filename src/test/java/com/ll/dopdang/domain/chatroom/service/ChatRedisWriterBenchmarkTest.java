@@ -0,0 +1,194 @@
+package com.ll.dopdang.domain.chatroom.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.ll.dopdang.domain.chatroom.entity.ChatMessage;
+import com.ll.dopdang.domain.chatroom.util.ChatMessageRedisSerializer;
+import com.ll.dopdang.domain.chatroom.util.ChatRedisKeys;
+import com.ll.dopdang.global.config.RedisConfig;
+
+/**
+ * 메시지 전송 시 Redis 쓰기 경로의 왕복 횟수와 지연 시간을 비교합니다.
+ * 로컬 Redis(localhost:6379, 환경변수 REDIS_HOST/REDIS_PORT로 변경 가능)가 필요하며,
+ * 없으면 건너뜁니다. 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class ChatRedisWriterBenchmarkTest {
+
+	private static final int WARMUP = 500;
+	private static final int ITERATIONS = 5_000;
+	private static final int MESSAGE_LIMIT = 100;
+	private static final long TTL_SECONDS = 1800;
+	private static final String ROOM_ID = "0|bench-a@test.com:bench-b@test.com";
+	private static final long CHAT_ROOM_ID = 0L;
+	private static final long SENDER_ID = -1L;
+	private static final long RECEIVER_ID = -2L;
+	// 변경 전 사용자별 채팅방 요약 해시 키
+	private static final String LEGACY_ROOMS_PREFIX = "chatrooms:";
+	// 변경 전 채팅방별 안 읽은 메시지 수 키
+	private static final String LEGACY_UNREAD_TEMPLATE = "chat:%s:unread:%s";
+	// 변경 전 활성 채팅방 집합 키
+	private static final String LEGACY_ACTIVE_ROOMS = "chat:active_rooms";
+
+	private static CountingConnectionFactory connectionFactory;
+	private static RedisTemplate<String, Object> redisTemplate;
+	private static ChatRedisWriter chatRedisWriter;
+
+	@BeforeAll
+	static void setUp() {
+		String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+		int port = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+		connectionFactory = new CountingConnectionFactory(new RedisStandaloneConfiguration(host, port));
+		connectionFactory.afterPropertiesSet();
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.ping();
+		} catch (Exception e) {
+			connectionFactory.destroy();
+			connectionFactory = null;
+			assumeTrue(false, "로컬 Redis에 연결할 수 없어 벤치마크를 건너뜁니다: " + e.getMessage());
+		}
+		redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+		chatRedisWriter = new ChatRedisWriter(redisTemplate, new ChatMessageRedisSerializer(256));
+	}
+
+	@AfterAll
+	static void tearDown() {
+		if (connectionFactory != null) {
+			cleanUp();
+			connectionFactory.destroy();
+		}
+	}
+
+	@Test
+	@DisplayName("Lua 스크립트 쓰기 경로는 메시지당 Redis 왕복 1회로 줄어든다")
+	void compareLegacyAndScriptWritePath() {
+		Result legacy = measure("legacy", this::legacyAppend);
+		Result script = measure("script", message -> chatRedisWriter.appendMessage(
+			message, SENDER_ID, RECEIVER_ID, MESSAGE_LIMIT, TTL_SECONDS, TTL_SECONDS, false));
+
+		System.out.printf("%-8s round-trips/msg=%.2f p50=%dus p99=%dus%n",
+			legacy.name, legacy.roundTripsPerMessage, legacy.p50Micros, legacy.p99Micros);
+		System.out.printf("%-8s round-trips/msg=%.2f p50=%dus p99=%dus%n",
+			script.name, script.roundTripsPerMessage, script.p50Micros, script.p99Micros);
+
+		assertThat(script.roundTripsPerMessage).isEqualTo(1.0);
+		assertThat(legacy.roundTripsPerMessage).isGreaterThan(script.roundTripsPerMessage);
+		assertThat(redisTemplate.opsForList().size(ChatRedisKeys.messages(CHAT_ROOM_ID))).isEqualTo(MESSAGE_LIMIT);
+	}
+
+	/**
+	 * 변경 전 ChatService.saveMessage의 Redis 호출 순서를 그대로 재현합니다.
+	 */
+	private void legacyAppend(ChatMessage message) {
+		String redisKey = ChatRedisKeys.messages(CHAT_ROOM_ID);
+		redisTemplate.opsForList().rightPush(redisKey, message);
+		redisTemplate.expire(redisKey, TTL_SECONDS, TimeUnit.SECONDS);
+		redisTemplate.opsForSet().add(LEGACY_ACTIVE_ROOMS, ROOM_ID);
+		long listSize = redisTemplate.opsForList().size(redisKey);
+		if (listSize > MESSAGE_LIMIT) {
+			redisTemplate.opsForList().trim(redisKey, listSize - MESSAGE_LIMIT, -1);
+		}
+		String keySender = LEGACY_ROOMS_PREFIX + message.getSender();
+		String keyReceiver = LEGACY_ROOMS_PREFIX + message.getReceiver();
+		redisTemplate.opsForHash().put(keySender, ROOM_ID, "{}");
+		redisTemplate.expire(keySender, TTL_SECONDS, TimeUnit.SECONDS);
+		redisTemplate.opsForHash().put(keyReceiver, ROOM_ID, "{}");
+		redisTemplate.expire(keyReceiver, TTL_SECONDS, TimeUnit.SECONDS);
+		String timeKey = ChatRedisKeys.roomTimestamp(CHAT_ROOM_ID);
+		redisTemplate.opsForValue().set(timeKey, message.getTimestamp().toString());
+		redisTemplate.expire(timeKey, TTL_SECONDS, TimeUnit.SECONDS);
+		Object activeRoom = redisTemplate.opsForValue().get(ChatRedisKeys.viewingRoom(RECEIVER_ID));
+		if (activeRoom == null || !activeRoom.toString().equals(ROOM_ID)) {
+			String unreadKey = String.format(LEGACY_UNREAD_TEMPLATE, ROOM_ID, message.getReceiver());
+			Object value = redisTemplate.opsForValue().get(unreadKey);
+			long currentUnread = (value != null) ? Long.parseLong(value.toString()) : 0;
+			redisTemplate.opsForValue().set(unreadKey, currentUnread + 1);
+		}
+	}
+
+	private Result measure(String name, Consumer<ChatMessage> writePath) {
+		cleanUp();
+		for (int i = 0; i < WARMUP; i++) {
+			writePath.accept(newMessage(i));
+		}
+		long roundTripsBefore = connectionFactory.roundTrips.get();
+		long[] latencies = new long[ITERATIONS];
+		for (int i = 0; i < ITERATIONS; i++) {
+			ChatMessage message = newMessage(i);
+			long start = System.nanoTime();
+			writePath.accept(message);
+			latencies[i] = System.nanoTime() - start;
+		}
+		long roundTrips = connectionFactory.roundTrips.get() - roundTripsBefore;
+		Arrays.sort(latencies);
+		return new Result(name, (double)roundTrips / ITERATIONS,
+			TimeUnit.NANOSECONDS.toMicros(latencies[ITERATIONS / 2]),
+			TimeUnit.NANOSECONDS.toMicros(latencies[(int)(ITERATIONS * 0.99)]));
+	}
+
+	private ChatMessage newMessage(int index) {
+		ChatMessage message = new ChatMessage();
+		message.setRoomId(ROOM_ID);
+		message.setChatRoomId(CHAT_ROOM_ID);
+		message.setSender("bench-a@test.com");
+		message.setReceiver("bench-b@test.com");
+		message.setContent("benchmark message " + index);
+		message.setTimestamp(LocalDateTime.now());
+		message.setProjectId(0L);
+		return message;
+	}
+
+	private static void cleanUp() {
+		redisTemplate.delete(Arrays.asList(
+			ChatRedisKeys.messages(CHAT_ROOM_ID),
+			LEGACY_ROOMS_PREFIX + "bench-a@test.com",
+			LEGACY_ROOMS_PREFIX + "bench-b@test.com",
+			ChatRedisKeys.inbox(SENDER_ID),
+			ChatRedisKeys.inbox(RECEIVER_ID),
+			ChatRedisKeys.inboxEntry(SENDER_ID, CHAT_ROOM_ID),
+			ChatRedisKeys.inboxEntry(RECEIVER_ID, CHAT_ROOM_ID),
+			ChatRedisKeys.roomTimestamp(CHAT_ROOM_ID),
+			String.format(LEGACY_UNREAD_TEMPLATE, ROOM_ID, "bench-b@test.com"),
+			ChatRedisKeys.unread(RECEIVER_ID)));
+		redisTemplate.opsForSet().remove(LEGACY_ACTIVE_ROOMS, ROOM_ID);
+		redisTemplate.opsForZSet().remove(ChatRedisKeys.ACTIVE_ROOMS, String.valueOf(CHAT_ROOM_ID));
+		redisTemplate.opsForZSet().remove(ChatRedisKeys.DIRTY_ROOMS, String.valueOf(CHAT_ROOM_ID));
+	}
+
+	private record Result(String name, double roundTripsPerMessage, long p50Micros, long p99Micros) {
+	}
+
+	/**
+	 * RedisTemplate은 파이프라인이 아닌 명령마다 커넥션을 얻으므로, 그 횟수를 Redis 왕복 횟수로 집계합니다.
+	 */
+	private static class CountingConnectionFactory extends LettuceConnectionFactory {
+		private final AtomicLong roundTrips = new AtomicLong();
+
+		CountingConnectionFactory(RedisStandaloneConfiguration configuration) {
+			super(configuration);
+		}
+
+		@Override
+		public RedisConnection getConnection() {
+			roundTrips.incrementAndGet();
+			return super.getConnection();
+		}
+	}
+}
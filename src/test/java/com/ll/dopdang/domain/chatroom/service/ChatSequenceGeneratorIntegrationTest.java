@@ -0,0 +1,124 @@
+package com.ll.dopdang.domain.chatroom.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ll.dopdang.domain.chatroom.dto.ChatRoomInfo;
+import com.ll.dopdang.domain.chatroom.repository.ChatMessageRepository;
+import com.ll.dopdang.domain.chatroom.util.ChatRedisKeys;
+import com.ll.dopdang.global.config.RedisConfig;
+
+/**
+ * 클라이언트 메시지 ID 중복 제거와 순번 발급을 로컬 Redis로 검증합니다.
+ * 로컬 Redis(localhost:6379, 환경변수 REDIS_HOST/REDIS_PORT로 변경 가능)가 필요하며, 없으면 건너뜁니다.
+ */
+@Tag("integration")
+class ChatSequenceGeneratorIntegrationTest {
+
+	private static final ChatRoomInfo ROOM = new ChatRoomInfo(-19L, "0|seq-a@test.com:seq-b@test.com",
+		"seq-a@test.com", "seq-b@test.com", -1L, -2L, 0L, true, true);
+
+	private LettuceConnectionFactory connectionFactory;
+	private RedisTemplate<String, Object> redisTemplate;
+	private ChatMessageBatchWriter chatMessageBatchWriter;
+	private ChatSequenceGenerator chatSequenceGenerator;
+
+	@BeforeEach
+	void setUp() {
+		String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+		int port = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+		connectionFactory.afterPropertiesSet();
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.ping();
+		} catch (Exception e) {
+			connectionFactory.destroy();
+			connectionFactory = null;
+			assumeTrue(false, "로컬 Redis에 연결할 수 없어 통합 테스트를 건너뜁니다: " + e.getMessage());
+		}
+		redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+		ChatMessageRepository chatMessageRepository = mock(ChatMessageRepository.class);
+		when(chatMessageRepository.findMaxSeqByChatRoomId(anyLong())).thenReturn(0L);
+		chatMessageBatchWriter = mock(ChatMessageBatchWriter.class);
+		chatSequenceGenerator = new ChatSequenceGenerator(redisTemplate, chatMessageRepository, chatMessageBatchWriter);
+		ReflectionTestUtils.setField(chatSequenceGenerator, "clientIdWindow", 1000L);
+		ReflectionTestUtils.setField(chatSequenceGenerator, "clientIdTtlSeconds", 60L);
+		cleanUp();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (connectionFactory != null) {
+			cleanUp();
+			connectionFactory.destroy();
+		}
+	}
+
+	@Test
+	@DisplayName("같은 클라이언트 메시지 ID를 동시에 재전송해도 순번은 한 번만 발급되고 빈틈이 생기지 않는다")
+	void concurrentRetriesGetSameSeq() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<ChatSequenceGenerator.Sequence>> retries = new ArrayList<>();
+		try {
+			for (int i = 0; i < 50; i++) {
+				retries.add(executor.submit(() -> chatSequenceGenerator.next(ROOM, "retry-1")));
+			}
+			List<ChatSequenceGenerator.Sequence> results = new ArrayList<>();
+			for (Future<ChatSequenceGenerator.Sequence> retry : retries) {
+				results.add(retry.get());
+			}
+
+			assertThat(results).filteredOn(sequence -> !sequence.duplicate()).hasSize(1);
+			assertThat(results).extracting(ChatSequenceGenerator.Sequence::seq).containsOnly(1L);
+		} finally {
+			executor.shutdownNow();
+		}
+		assertThat(chatSequenceGenerator.next(ROOM, "retry-2").seq()).isEqualTo(2L);
+		assertThat(chatSequenceGenerator.next(ROOM)).isEqualTo(3L);
+	}
+
+	@Test
+	@DisplayName("저장하지 못해 ID를 지운 메시지의 재전송은 새 메시지로 받는다")
+	void releasedIdIsAcceptedAgain() {
+		ChatSequenceGenerator.Sequence first = chatSequenceGenerator.next(ROOM, "rejected");
+		chatSequenceGenerator.release(ROOM, "rejected", first.seq());
+
+		ChatSequenceGenerator.Sequence retry = chatSequenceGenerator.next(ROOM, "rejected");
+		assertThat(retry.duplicate()).isFalse();
+		assertThat(retry.seq()).isEqualTo(first.seq() + 1);
+		assertThat(chatSequenceGenerator.next(ROOM, "rejected")).isEqualTo(
+			new ChatSequenceGenerator.Sequence(retry.seq(), true));
+	}
+
+	@Test
+	@DisplayName("카운터를 다시 초기화할 때 저장 큐에 남은 순번 다음부터 발급한다")
+	void reseedSkipsInFlightSeqs() {
+		when(chatMessageBatchWriter.inFlightMaxSeq(ROOM.id())).thenReturn(42L);
+
+		assertThat(chatSequenceGenerator.next(ROOM)).isEqualTo(43L);
+	}
+
+	private void cleanUp() {
+		redisTemplate.delete(List.of(ChatRedisKeys.sequence(ROOM.id()), ChatRedisKeys.clientMessageIds(ROOM.id()),
+			ChatRedisKeys.legacySequence(ROOM.roomId())));
+	}
+}
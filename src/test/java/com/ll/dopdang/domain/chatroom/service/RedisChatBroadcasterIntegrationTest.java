@@ -0,0 +1,235 @@
+package com.ll.dopdang.domain.chatroom.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import com.ll.dopdang.domain.chatroom.dto.NotificationPayload;
+
+/**
+ * 두 노드(각자 simple broker + RedisChatBroadcaster)를 하나의 Redis로 연결해 노드 간 중계를 검증합니다.
+ * 로컬 Redis(localhost:6379, 환경변수 REDIS_HOST/REDIS_PORT로 변경 가능)가 필요하며, 없으면 건너뜁니다.
+ */
+@Tag("integration")
+class RedisChatBroadcasterIntegrationTest {
+
+	private static final long TIMEOUT_SECONDS = 5;
+	private static final byte[] NUMSUB_SCRIPT =
+		"return redis.call('PUBSUB', 'NUMSUB', KEYS[1])[2]".getBytes(StandardCharsets.UTF_8);
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static Node nodeA;
+	private static Node nodeB;
+
+	@BeforeAll
+	static void setUp() {
+		String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+		int port = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+		connectionFactory.afterPropertiesSet();
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.ping();
+		} catch (Exception e) {
+			connectionFactory.destroy();
+			connectionFactory = null;
+			assumeTrue(false, "로컬 Redis에 연결할 수 없어 통합 테스트를 건너뜁니다: " + e.getMessage());
+		}
+		nodeA = new Node();
+		nodeB = new Node();
+	}
+
+	@AfterAll
+	static void tearDown() throws Exception {
+		if (nodeA != null) {
+			nodeA.close();
+			nodeB.close();
+		}
+		if (connectionFactory != null) {
+			connectionFactory.destroy();
+		}
+	}
+
+	@Test
+	@DisplayName("A 노드에서 보낸 채팅 메시지가 B 노드 구독자에게 한 번 전달된다")
+	void relaysChatMessageToOtherNode() throws Exception {
+		String destination = "/topic/chat/0|a@test.com:b@test.com";
+		nodeB.subscribe("b-session", "sub-1", destination);
+		awaitRedisSubscribers(destination, 1);
+
+		// A 노드는 로컬 구독자가 없으므로 해당 채널을 구독하지 않음
+		assertThat(nodeA.broadcaster.getRelayedDestinations()).doesNotContain(destination);
+		assertThat(nodeB.broadcaster.getRelayedDestinations()).contains(destination);
+
+		nodeA.broadcaster.broadcast(destination, Map.of("content", "안녕하세요", "seq", 1));
+
+		Message<?> received = nodeB.outbound.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		assertThat(received).isNotNull();
+		assertThat(SimpMessageHeaderAccessor.getDestination(received.getHeaders())).isEqualTo(destination);
+		assertThat(new String((byte[])received.getPayload(), StandardCharsets.UTF_8)).contains("안녕하세요");
+		assertThat(nodeB.outbound.poll(300, TimeUnit.MILLISECONDS)).isNull();
+		assertThat(nodeA.outbound).isEmpty();
+
+		nodeB.disconnect("b-session");
+		awaitRedisSubscribers(destination, 0);
+	}
+
+	@Test
+	@DisplayName("양쪽 노드 구독자 모두 받고, 보낸 노드의 구독자도 중복 없이 한 번만 받는다")
+	void deliversOnceToEveryNode() throws Exception {
+		String destination = "/topic/notice/b@test.com";
+		nodeA.subscribe("a-session", "sub-1", destination);
+		nodeB.subscribe("b-session", "sub-1", destination);
+		awaitRedisSubscribers(destination, 2);
+
+		nodeA.broadcaster.broadcast(destination, new NotificationPayload("room", "a@test.com", "hi", 3, 3));
+
+		Message<?> onA = nodeA.outbound.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		Message<?> onB = nodeB.outbound.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		assertThat(onA).isNotNull();
+		assertThat(onB).isNotNull();
+		assertThat(new String((byte[])onB.getPayload(), StandardCharsets.UTF_8)).contains("\"unreadCount\":3");
+		assertThat(nodeA.outbound.poll(300, TimeUnit.MILLISECONDS)).isNull();
+
+		nodeA.disconnect("a-session");
+		nodeB.disconnect("b-session");
+		awaitRedisSubscribers(destination, 0);
+	}
+
+	@Test
+	@DisplayName("마지막 로컬 구독이 해제되면 노드는 Redis 채널 구독도 해제한다")
+	void unsubscribesChannelWhenLastLocalSubscriberLeaves() throws Exception {
+		String destination = "/topic/read/0|a@test.com:b@test.com";
+		nodeB.subscribe("b-session-1", "sub-1", destination);
+		nodeB.subscribe("b-session-2", "sub-1", destination);
+		awaitRedisSubscribers(destination, 1);
+
+		nodeB.unsubscribe("b-session-1", "sub-1");
+		assertThat(nodeB.broadcaster.getRelayedDestinations()).contains(destination);
+
+		nodeB.unsubscribe("b-session-2", "sub-1");
+		assertThat(nodeB.broadcaster.getRelayedDestinations()).doesNotContain(destination);
+		awaitRedisSubscribers(destination, 0);
+
+		nodeA.broadcaster.broadcast(destination, "{\"reader\":\"b@test.com\"}");
+		assertThat(nodeB.outbound.poll(300, TimeUnit.MILLISECONDS)).isNull();
+	}
+
+	private static void awaitRedisSubscribers(String destination, long expected) throws InterruptedException {
+		byte[] channel = (RedisChatBroadcaster.CHANNEL_PREFIX + destination).getBytes(StandardCharsets.UTF_8);
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+		while (System.nanoTime() < deadline) {
+			try (RedisConnection connection = connectionFactory.getConnection()) {
+				Long subscribers = connection.scriptingCommands().eval(NUMSUB_SCRIPT, ReturnType.INTEGER, 1, channel);
+				if (subscribers != null && subscribers == expected) {
+					return;
+				}
+			}
+			Thread.sleep(20);
+		}
+		fail("Redis 채널 구독자 수가 " + expected + "가 되지 않았습니다: " + destination);
+	}
+
+	/**
+	 * 한 서버 노드: simple broker, 메시징 템플릿, Redis 리스너 컨테이너, 중계기
+	 */
+	private static class Node {
+		private final ExecutorSubscribableChannel inbound = new ExecutorSubscribableChannel();
+		private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+		private final BlockingQueue<Message<?>> outbound = new LinkedBlockingQueue<>();
+		private final SimpleBrokerMessageHandler broker;
+		private final RedisMessageListenerContainer container;
+		private final RedisChatBroadcaster broadcaster;
+
+		Node() {
+			ExecutorSubscribableChannel outboundChannel = new ExecutorSubscribableChannel();
+			outboundChannel.subscribe(message -> {
+				// CONNECT_ACK 등 제어 메시지는 제외하고 구독자에게 가는 메시지만 모음
+				if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+					outbound.add(message);
+				}
+			});
+			broker = new SimpleBrokerMessageHandler(inbound, outboundChannel, brokerChannel, List.of("/topic"));
+			broker.start();
+
+			SimpMessagingTemplate template = new SimpMessagingTemplate(brokerChannel);
+			template.setMessageConverter(new CompositeMessageConverter(List.of(
+				new StringMessageConverter(), new ByteArrayMessageConverter(), new MappingJackson2MessageConverter())));
+
+			container = new RedisMessageListenerContainer();
+			container.setConnectionFactory(connectionFactory);
+			container.afterPropertiesSet();
+			container.start();
+
+			broadcaster = new RedisChatBroadcaster(template, connectionFactory, container);
+		}
+
+		void subscribe(String sessionId, String subscriptionId, String destination) {
+			SimpMessageHeaderAccessor connect = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+			connect.setSessionId(sessionId);
+			inbound.send(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+			accessor.setSessionId(sessionId);
+			accessor.setSubscriptionId(subscriptionId);
+			accessor.setDestination(destination);
+			Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+			inbound.send(message);
+			broadcaster.onSubscribe(new SessionSubscribeEvent(this, message));
+		}
+
+		void unsubscribe(String sessionId, String subscriptionId) {
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+			accessor.setSessionId(sessionId);
+			accessor.setSubscriptionId(subscriptionId);
+			Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+			inbound.send(message);
+			broadcaster.onUnsubscribe(new SessionUnsubscribeEvent(this, message));
+		}
+
+		void disconnect(String sessionId) {
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.DISCONNECT);
+			accessor.setSessionId(sessionId);
+			Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+			inbound.send(message);
+			broadcaster.onDisconnect(new SessionDisconnectEvent(this, message, sessionId, CloseStatus.NORMAL));
+		}
+
+		void close() throws Exception {
+			container.stop();
+			container.destroy();
+			broker.stop();
+		}
+	}
+}
@@ -0,0 +1,210 @@
+package com.ll.dopdang.domain.chatroom.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ll.dopdang.domain.chatroom.entity.ChatMessage;
+
+/**
+ * 채팅 메시지 캐시의 기존 JSON serializer(RedisConfig)와 {@link ChatMessageRedisSerializer}를 비교합니다.
+ * <ul>
+ *     <li>메모리: 메시지 1건 크기와 100건 리스트 크기, 로컬 Redis가 있으면 MEMORY USAGE도 함께 출력</li>
+ *     <li>속도: 직렬화/역직렬화 ns/op (워밍업 후 여러 라운드 중 가장 빠른 라운드)</li>
+ * </ul>
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class ChatMessageCodecBenchmarkTest {
+
+	private static final int LIST_SIZE = 100;
+	private static final int WARMUP = 50_000;
+	private static final int ROUNDS = 5;
+	private static final int ITERATIONS = 200_000;
+	private static final String ROOM_ID = "1024|client.kim@example.com:expert.lee@example.com";
+	private static final String CLIENT = "client.kim@example.com";
+	private static final String EXPERT = "expert.lee@example.com";
+	private static final byte[] MEMORY_USAGE_SCRIPT =
+		"return redis.call('MEMORY', 'USAGE', KEYS[1], 'SAMPLES', '0')".getBytes(StandardCharsets.UTF_8);
+
+	private final ObjectMapper objectMapper = redisObjectMapper();
+	private final RedisSerializer<Object> jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+	private final ChatMessageRedisSerializer binarySerializer = new ChatMessageRedisSerializer(256);
+
+	// 블랙홀 역할 (JIT가 측정 루프를 제거하지 못하도록 결과를 누적)
+	private long sink;
+
+	@Test
+	@DisplayName("바이너리 형식은 짧은 메시지 캐시 크기를 기존 JSON의 절반 이하로 줄인다")
+	void memoryFootprint() {
+		System.out.printf("%-10s %10s %10s %8s%n", "profile", "json(B)", "binary(B)", "ratio");
+		for (Profile profile : Profile.values()) {
+			List<ChatMessage> messages = messages(profile);
+			long json = totalSize(jsonSerializer, messages);
+			long binary = totalSize(binarySerializer, messages);
+			System.out.printf("%-10s %10.1f %10.1f %8.2f%n", profile.name().toLowerCase(),
+				(double)json / LIST_SIZE, (double)binary / LIST_SIZE, (double)binary / json);
+			if (profile == Profile.SHORT) {
+				assertThat(binary).isLessThan(json / 2);
+			} else {
+				assertThat(binary).isLessThan(json);
+			}
+		}
+		System.out.printf("list of %d mixed messages: json=%dB binary=%dB%n", LIST_SIZE,
+			totalSize(jsonSerializer, mixedMessages()), totalSize(binarySerializer, mixedMessages()));
+		printRedisMemoryUsage();
+	}
+
+	@Test
+	@DisplayName("직렬화/역직렬화 처리 시간 비교")
+	void throughput() {
+		List<ChatMessage> messages = mixedMessages();
+		List<byte[]> jsonBytes = messages.stream().map(jsonSerializer::serialize).toList();
+		List<byte[]> binaryBytes = messages.stream().map(binarySerializer::serialize).toList();
+
+		double jsonEncode = measure(i -> jsonSerializer.serialize(messages.get(i % LIST_SIZE)).length);
+		double binaryEncode = measure(i -> binarySerializer.serialize(messages.get(i % LIST_SIZE)).length);
+		// 변경 전 조회 경로처럼 LinkedHashMap으로 읽은 뒤 ChatMessage로 변환
+		double jsonDecode = measure(i -> objectMapper.convertValue(jsonSerializer.deserialize(
+			jsonBytes.get(i % LIST_SIZE)), ChatMessage.class).getSeq());
+		double binaryDecode = measure(i -> binarySerializer.deserialize(binaryBytes.get(i % LIST_SIZE)).getSeq());
+
+		System.out.printf("%-8s encode=%.0fns/op decode=%.0fns/op%n", "json", jsonEncode, jsonDecode);
+		System.out.printf("%-8s encode=%.0fns/op decode=%.0fns/op%n", "binary", binaryEncode, binaryDecode);
+		System.out.println("sink=" + sink);
+
+		assertThat(binaryDecode).isLessThan(jsonDecode);
+	}
+
+	private double measure(IntOp op) {
+		for (int i = 0; i < WARMUP; i++) {
+			sink += op.apply(i);
+		}
+		double best = Double.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; round++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < ITERATIONS; i++) {
+				sink += op.apply(i);
+			}
+			best = Math.min(best, (double)(System.nanoTime() - start) / ITERATIONS);
+		}
+		return best;
+	}
+
+	/**
+	 * 같은 100건 리스트를 두 형식으로 Redis에 넣고 MEMORY USAGE를 비교합니다. (Redis가 없으면 생략)
+	 */
+	private void printRedisMemoryUsage() {
+		String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+		int port = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+		LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+		factory.afterPropertiesSet();
+		try (RedisConnection connection = factory.getConnection()) {
+			List<ChatMessage> messages = mixedMessages();
+			long json = memoryUsage(connection, "bench:codec:json", jsonSerializer, messages);
+			long binary = memoryUsage(connection, "bench:codec:binary", binarySerializer, messages);
+			System.out.printf("redis MEMORY USAGE (%d messages): json=%dB binary=%dB%n", LIST_SIZE, json, binary);
+		} catch (Exception e) {
+			System.out.println("로컬 Redis에 연결할 수 없어 MEMORY USAGE 측정을 건너뜁니다: " + e.getMessage());
+		} finally {
+			factory.destroy();
+		}
+	}
+
+	private <T> long memoryUsage(RedisConnection connection, String key, RedisSerializer<T> serializer,
+		List<ChatMessage> messages) {
+		byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+		connection.keyCommands().del(rawKey);
+		@SuppressWarnings("unchecked")
+		byte[][] values = messages.stream().map(message -> serializer.serialize((T)message)).toArray(byte[][]::new);
+		connection.listCommands().rPush(rawKey, values);
+		// 사용자 정의 명령의 정수 응답은 Lettuce에서 받을 수 없어 스크립트로 실행
+		Long usage = connection.scriptingCommands().eval(MEMORY_USAGE_SCRIPT, ReturnType.INTEGER, 1, rawKey);
+		connection.keyCommands().del(rawKey);
+		return usage != null ? usage : -1;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> long totalSize(RedisSerializer<T> serializer, List<ChatMessage> messages) {
+		long total = 0;
+		for (ChatMessage message : messages) {
+			total += serializer.serialize((T)message).length;
+		}
+		return total;
+	}
+
+	private List<ChatMessage> messages(Profile profile) {
+		List<ChatMessage> messages = new ArrayList<>(LIST_SIZE);
+		for (int i = 0; i < LIST_SIZE; i++) {
+			messages.add(message(i, profile));
+		}
+		return messages;
+	}
+
+	/** 짧은 메시지 위주에 긴 메시지와 파일 메시지가 섞인 채팅방 */
+	private List<ChatMessage> mixedMessages() {
+		List<ChatMessage> messages = new ArrayList<>(LIST_SIZE);
+		for (int i = 0; i < LIST_SIZE; i++) {
+			Profile profile = (i % 20 == 0) ? Profile.LONG : (i % 10 == 0) ? Profile.FILE : Profile.SHORT;
+			messages.add(message(i, profile));
+		}
+		return messages;
+	}
+
+	private ChatMessage message(int index, Profile profile) {
+		ChatMessage message = new ChatMessage();
+		message.setId(1_000_000L + index);
+		message.setRoomId(ROOM_ID);
+		message.setSeq(5_000L + index);
+		message.setSender(index % 2 == 0 ? CLIENT : EXPERT);
+		message.setReceiver(index % 2 == 0 ? EXPERT : CLIENT);
+		message.setTimestamp(LocalDateTime.of(2025, 4, 1, 9, 0).plusSeconds(index * 37L)
+			.plusNanos(index * 1_234_000L).truncatedTo(ChronoUnit.MICROS));
+		message.setProjectId(1024L);
+		switch (profile) {
+			case SHORT -> message.setContent("네, 확인했습니다. " + index + "번 시안 기준으로 진행할게요!");
+			case FILE -> {
+				message.setContent("파일을 보냈습니다.");
+				message.setFileUrl("https://dopdang-bucket.s3.ap-northeast-2.amazonaws.com/chat/" + index
+					+ "/7f3c2a9e-1b4d-4e8a-9c21-draft.pdf");
+			}
+			case LONG -> message.setContent(("요청하신 기능 명세를 다시 정리했습니다. 로그인, 결제, 알림 화면은 "
+				+ "1차 범위에 포함되고 관리자 통계는 2차로 넘기는 것으로 하겠습니다. ").repeat(6) + index);
+		}
+		return message;
+	}
+
+	private static ObjectMapper redisObjectMapper() {
+		// RedisConfig.redisTemplate과 같은 설정
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new JavaTimeModule());
+		objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		return objectMapper;
+	}
+
+	private enum Profile {
+		SHORT, FILE, LONG
+	}
+
+	@FunctionalInterface
+	private interface IntOp {
+		long apply(int i);
+	}
+}
@@ -0,0 +1,119 @@
+package com.ll.dopdang.domain.chatroom.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ll.dopdang.domain.chatroom.entity.ChatMessage;
+
+class ChatMessageRedisSerializerTest {
+
+	private static final String ROOM_ID = "12|client@test.com:expert@test.com";
+
+	private final ChatMessageRedisSerializer serializer = new ChatMessageRedisSerializer(64);
+
+	@Test
+	@DisplayName("참여자를 채팅방 ID에서 유도하는 메시지는 모든 필드가 그대로 복원된다")
+	void roundTripWithParticipantsFromRoom() {
+		ChatMessage message = message("expert@test.com", "client@test.com", "안녕하세요, 견적 문의 드립니다.");
+		message.setId(1234L);
+		message.setSeq(77L);
+		message.setFileUrl("https://bucket.s3.amazonaws.com/chat/file.png");
+
+		ChatMessage restored = serializer.deserialize(serializer.serialize(message));
+
+		assertThat(restored).usingRecursiveComparison().isEqualTo(message);
+	}
+
+	@Test
+	@DisplayName("채팅방 ID와 다른 참여자, null 필드, 나노초 타임스탬프도 그대로 복원된다")
+	void roundTripWithExplicitParticipantsAndNulls() {
+		ChatMessage message = message("Client@Test.com", "expert@test.com", null);
+		message.setTimestamp(LocalDateTime.of(2025, 4, 1, 9, 30, 15, 123_456_789));
+		message.setProjectId(null);
+
+		ChatMessage restored = serializer.deserialize(serializer.serialize(message));
+
+		assertThat(restored).usingRecursiveComparison().isEqualTo(message);
+	}
+
+	@Test
+	@DisplayName("클라이언트 메시지 ID가 있는 메시지는 확장 형식으로 쓰이고 그대로 복원된다")
+	void roundTripWithClientMessageId() {
+		ChatMessage message = message("expert@test.com", "client@test.com", "재전송 확인용 메시지");
+		message.setId(1235L);
+		message.setSeq(78L);
+		message.setClientMessageId("c5f1e2a0-8d3b-4f6e-9a71-0b2c4d6e8f10");
+
+		byte[] bytes = serializer.serialize(message);
+		ChatMessage restored = serializer.deserialize(bytes);
+
+		assertThat(bytes[0]).isEqualTo(ChatMessageRedisSerializer.VERSION_EXTENDED);
+		assertThat(restored).usingRecursiveComparison().isEqualTo(message);
+	}
+
+	@Test
+	@DisplayName("클라이언트 메시지 ID가 없는 메시지는 기존 v1 형식으로 쓰인다")
+	void writesV1WithoutClientMessageId() {
+		ChatMessage message = message("client@test.com", "expert@test.com", "안녕하세요");
+
+		byte[] bytes = serializer.serialize(message);
+
+		assertThat(bytes[0]).isEqualTo(ChatMessageRedisSerializer.VERSION);
+		assertThat(serializer.deserialize(bytes).getClientMessageId()).isNull();
+	}
+
+	@Test
+	@DisplayName("기준 길이 이상의 내용은 LZ4로 압축되고 원문으로 복원된다")
+	void compressesLongContent() {
+		String content = "프로젝트 진행 일정과 산출물 목록을 다시 정리해서 공유드립니다. ".repeat(20);
+		ChatMessage message = message("client@test.com", "expert@test.com", content);
+
+		byte[] bytes = serializer.serialize(message);
+		ChatMessage restored = serializer.deserialize(bytes);
+
+		assertThat(bytes.length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length / 2);
+		assertThat(restored.getContent()).isEqualTo(content);
+	}
+
+	@Test
+	@DisplayName("변경 전 JSON 형식으로 캐시된 메시지도 읽을 수 있다")
+	void readsLegacyJson() {
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new JavaTimeModule());
+		objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		ChatMessage message = message("client@test.com", "expert@test.com", "기존 메시지");
+		message.setSeq(3L);
+
+		byte[] legacy = new GenericJackson2JsonRedisSerializer(objectMapper).serialize(message);
+
+		assertThat(serializer.deserialize(legacy)).usingRecursiveComparison().isEqualTo(message);
+	}
+
+	@Test
+	@DisplayName("알 수 없는 형식 버전은 SerializationException으로 실패한다")
+	void rejectsUnknownVersion() {
+		assertThatThrownBy(() -> serializer.deserialize(new byte[] {9, 0}))
+			.isInstanceOf(SerializationException.class);
+	}
+
+	private ChatMessage message(String sender, String receiver, String content) {
+		ChatMessage message = new ChatMessage();
+		message.setRoomId(ROOM_ID);
+		message.setSender(sender);
+		message.setReceiver(receiver);
+		message.setContent(content);
+		message.setTimestamp(LocalDateTime.of(2025, 4, 1, 9, 30, 15, 123_456_000));
+		message.setProjectId(12L);
+		return message;
+	}
+}
@@ -0,0 +1,77 @@
+package com.ll.dopdang.domain.expert.category.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ll.dopdang.domain.expert.category.dto.response.CategoryNodeResponseDto;
+import com.ll.dopdang.domain.expert.category.dto.response.CategoryRow;
+import com.ll.dopdang.domain.expert.category.entity.CategoryType;
+
+class CategoryTreeTest {
+
+	private static final List<CategoryRow> ROWS = List.of(
+		new CategoryRow(12L, "프론트엔드", 1L, CategoryType.PROVISION),
+		new CategoryRow(1L, "개발", null, CategoryType.PROVISION),
+		new CategoryRow(2L, "디자인", null, CategoryType.PROVISION),
+		new CategoryRow(11L, "백엔드", 1L, CategoryType.PROVISION),
+		new CategoryRow(21L, "기타", 2L, CategoryType.PROVISION),
+		new CategoryRow(13L, "기타", 1L, CategoryType.PROVISION)
+	);
+
+	@Test
+	@DisplayName("ID, 대분류 이름, 상위 카테고리 아래 이름, 경로로 조회한다")
+	void lookups() {
+		CategoryTree tree = CategoryTree.of(ROWS);
+
+		assertThat(tree.size()).isEqualTo(6);
+		assertThat(tree.find(11L)).map(CategoryTree.Node::name).contains("백엔드");
+		assertThat(tree.find(99L)).isEmpty();
+		assertThat(tree.find(null)).isEmpty();
+		assertThat(tree.findRoot("개발")).map(CategoryTree.Node::id).contains(1L);
+		assertThat(tree.findRoot("백엔드")).isEmpty();
+		// 같은 이름의 소분류도 상위 카테고리별로 구분
+		assertThat(tree.findChild(1L, "기타")).map(CategoryTree.Node::id).contains(13L);
+		assertThat(tree.findChild(2L, "기타")).map(CategoryTree.Node::id).contains(21L);
+		assertThat(tree.findChild(2L, "백엔드")).isEmpty();
+		assertThat(tree.findByPath(List.of("디자인", "기타"))).map(CategoryTree.Node::id).contains(21L);
+		assertThat(tree.findByPath(List.of("디자인", "백엔드"))).isEmpty();
+		assertThat(tree.path(12L)).extracting(CategoryTree.Node::name).containsExactly("개발", "프론트엔드");
+		assertThat(tree.path(99L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("대분류와 하위 카테고리를 ID 순으로 인접 목록과 응답 트리로 만든다")
+	void adjacencyAndResponse() {
+		CategoryTree tree = CategoryTree.of(ROWS);
+
+		assertThat(tree.roots()).extracting(CategoryTree.Node::id).containsExactly(1L, 2L);
+		assertThat(tree.children(1L)).extracting(CategoryTree.Node::id).containsExactly(11L, 12L, 13L);
+		assertThat(tree.children(11L)).isEmpty();
+
+		List<CategoryNodeResponseDto> response = tree.response();
+		assertThat(response).extracting(CategoryNodeResponseDto::name).containsExactly("개발", "디자인");
+		assertThat(response.get(0).children()).extracting(CategoryNodeResponseDto::name)
+			.containsExactly("백엔드", "프론트엔드", "기타");
+		assertThatThrownBy(() -> response.add(response.get(0))).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	@DisplayName("버전은 내용으로만 정해진다")
+	void versionDependsOnContent() {
+		CategoryTree tree = CategoryTree.of(ROWS);
+
+		List<CategoryRow> reordered = new ArrayList<>(ROWS);
+		Collections.reverse(reordered);
+		assertThat(CategoryTree.of(reordered).version()).isEqualTo(tree.version());
+		List<CategoryRow> renamed = ROWS.stream()
+			.map(row -> row.id() == 11L ? new CategoryRow(11L, "서버", 1L, CategoryType.PROVISION) : row)
+			.toList();
+		assertThat(CategoryTree.of(renamed).version()).isNotEqualTo(tree.version());
+	}
+}
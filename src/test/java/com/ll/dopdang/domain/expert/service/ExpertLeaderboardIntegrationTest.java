@@ -0,0 +1,118 @@
+package com.ll.dopdang.domain.expert.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ll.dopdang.domain.expert.dto.response.ExpertRatingRow;
+import com.ll.dopdang.domain.expert.repository.ExpertRepository;
+import com.ll.dopdang.domain.review.repository.ReviewStatsRepository;
+import com.ll.dopdang.global.redis.lock.RedisLock;
+
+/**
+ * 대분류별 평점 순위표 갱신과 조회를 로컬 Redis로 검증합니다.
+ * 로컬 Redis(localhost:6379, 환경변수 REDIS_HOST/REDIS_PORT로 변경 가능)가 필요하며, 없으면 건너뜁니다.
+ * 다른 데이터와 섞이지 않도록 음수 전문가 ID, 대분류 ID를 사용합니다.
+ */
+@Tag("integration")
+class ExpertLeaderboardIntegrationTest {
+
+	private static final long DEV = -221L;
+	private static final long DESIGN = -222L;
+	private static final List<Long> EXPERTS = List.of(-1L, -2L, -3L, -4L);
+
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate stringRedisTemplate;
+	private ExpertRepository expertRepository;
+	private ExpertLeaderboard expertLeaderboard;
+
+	@BeforeEach
+	void setUp() {
+		String host = System.getenv().getOrDefault("REDIS_HOST", "localhost");
+		int port = Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"));
+		connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+		connectionFactory.afterPropertiesSet();
+		try (RedisConnection connection = connectionFactory.getConnection()) {
+			connection.ping();
+		} catch (Exception e) {
+			connectionFactory.destroy();
+			connectionFactory = null;
+			assumeTrue(false, "로컬 Redis에 연결할 수 없어 통합 테스트를 건너뜁니다: " + e.getMessage());
+		}
+		stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+		expertRepository = mock(ExpertRepository.class);
+		expertLeaderboard = new ExpertLeaderboard(expertRepository, mock(ReviewStatsRepository.class),
+			stringRedisTemplate, new RedisLock(stringRedisTemplate));
+		ReflectionTestUtils.setField(expertLeaderboard, "priorMean", 3.0);
+		ReflectionTestUtils.setField(expertLeaderboard, "priorCount", 5);
+		cleanUp();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (connectionFactory != null) {
+			cleanUp();
+			connectionFactory.destroy();
+		}
+	}
+
+	@Test
+	@DisplayName("리뷰 1건짜리 만점 전문가보다 리뷰가 많은 고평점 전문가가 앞이고, 평점이 같으면 리뷰가 많은 쪽이 앞이다")
+	void bayesianOrder() {
+		refresh(-1L, DEV, "5.00", 1);
+		refresh(-2L, DEV, "4.80", 120);
+		refresh(-3L, DEV, "3.00", 0);
+		refresh(-4L, DEV, "3.00", 40);
+
+		assertThat(expertLeaderboard.top(DEV, 10)).containsExactly(-2L, -1L, -4L, -3L);
+		assertThat(expertLeaderboard.top(DEV, 2)).containsExactly(-2L, -1L);
+		assertThat(expertLeaderboard.score(5.0, 1)).isLessThan(expertLeaderboard.score(4.8, 120));
+	}
+
+	@Test
+	@DisplayName("대분류가 바뀌면 이전 대분류 순위표에서 빠지고, 삭제된 전문가는 모든 순위표에서 빠진다")
+	void moveAndRemove() {
+		refresh(-1L, DEV, "4.50", 10);
+		refresh(-2L, DEV, "4.00", 10);
+
+		refresh(-1L, DESIGN, "4.50", 10);
+		assertThat(expertLeaderboard.top(DEV, 10)).containsExactly(-2L);
+		assertThat(expertLeaderboard.top(DESIGN, 10)).containsExactly(-1L);
+
+		when(expertRepository.findRatingRowById(-2L)).thenReturn(Optional.empty());
+		expertLeaderboard.refresh(-2L);
+		assertThat(expertLeaderboard.top(DEV, 10)).isEmpty();
+		assertThat(stringRedisTemplate.opsForZSet().score(ExpertLeaderboard.ALL_KEY, "-2")).isNull();
+		assertThat(stringRedisTemplate.opsForHash().hasKey(ExpertLeaderboard.CATEGORIES_KEY, "-2")).isFalse();
+	}
+
+	private void refresh(long expertId, long categoryId, String averageScore, int reviewCount) {
+		when(expertRepository.findRatingRowById(expertId)).thenReturn(
+			Optional.of(new ExpertRatingRow(expertId, categoryId, new BigDecimal(averageScore), reviewCount)));
+		expertLeaderboard.refresh(expertId);
+	}
+
+	private void cleanUp() {
+		stringRedisTemplate.delete(List.of(ExpertLeaderboard.CATEGORY_KEY_PREFIX + DEV,
+			ExpertLeaderboard.CATEGORY_KEY_PREFIX + DESIGN));
+		for (Long expertId : EXPERTS) {
+			stringRedisTemplate.opsForZSet().remove(ExpertLeaderboard.ALL_KEY, String.valueOf(expertId));
+			stringRedisTemplate.opsForHash().delete(ExpertLeaderboard.CATEGORIES_KEY, String.valueOf(expertId));
+		}
+	}
+}
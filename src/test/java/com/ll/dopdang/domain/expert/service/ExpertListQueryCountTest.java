@@ -0,0 +1,152 @@
+package com.ll.dopdang.domain.expert.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.ll.dopdang.domain.expert.category.entity.Category;
+import com.ll.dopdang.domain.expert.category.entity.CategoryType;
+import com.ll.dopdang.domain.expert.category.repository.ExpertCategoryRepository;
+import com.ll.dopdang.domain.expert.category.service.CategoryService;
+import com.ll.dopdang.domain.expert.dto.response.ExpertPageResponseDto;
+import com.ll.dopdang.domain.expert.dto.response.ExpertResponseDto;
+import com.ll.dopdang.domain.expert.entity.Expert;
+import com.ll.dopdang.domain.expert.repository.CertificateRepository;
+import com.ll.dopdang.domain.expert.repository.ExpertCertificateRepository;
+import com.ll.dopdang.domain.expert.repository.ExpertRepository;
+import com.ll.dopdang.domain.expert.repository.PortfolioRepository;
+import com.ll.dopdang.domain.member.entity.Member;
+import com.ll.dopdang.domain.member.repository.MemberRepository;
+import com.ll.dopdang.domain.member.service.MemberSummaryCache;
+import com.ll.dopdang.domain.review.entity.ReviewStats;
+import com.ll.dopdang.domain.review.repository.ReviewStatsRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 전문가 목록 페이지가 엔티티를 만들지 않고 SQL 한 번으로 조회되는지 H2로 검증합니다.
+ * 필터 인덱스는 목으로 대신하고(메모리 계산이라 SQL 없음), 목록 항목 조회만 실제 DB로 실행합니다.
+ */
+@DataJpaTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:expert-list;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+	"spring.datasource.driver-class-name=org.h2.Driver",
+	"spring.datasource.username=sa",
+	"spring.datasource.password=",
+	"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+	"spring.jpa.properties.hibernate.generate_statistics=true",
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"spring.flyway.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ExpertListQueryCountTest {
+
+	private static final int EXPERTS = 25;
+
+	@Autowired
+	private TestEntityManager entityManager;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private ExpertRepository expertRepository;
+
+	private ExpertFilterIndex expertFilterIndex;
+	private ExpertService expertService;
+	private final List<Long> expertIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		Category category = entityManager.persist(Category.builder()
+			.name("개발")
+			.categoryType(CategoryType.PROVISION)
+			.build());
+		for (int i = 0; i < EXPERTS; i++) {
+			Member member = entityManager.persist(Member.builder()
+				.email("expert" + i + "@test.com")
+				.password("password")
+				.name("전문가" + i)
+				.status("ACTIVE")
+				.memberId("expert" + i)
+				.uniqueKey("expert-list-" + i)
+				.profileImage("https://image/" + i)
+				.build());
+			Expert expert = entityManager.persist(Expert.builder()
+				.member(member)
+				.category(category)
+				.careerYears(i)
+				.introduction("소개" + i)
+				.gender(i % 2 == 0)
+				.bankName("은행")
+				.accountNumber("000-" + i)
+				.availability(true)
+				.build());
+			// 리뷰 통계가 없는 전문가도 포함
+			if (i % 2 == 0) {
+				entityManager.persist(ReviewStats.of(expert, new BigDecimal("4.50"), i));
+			}
+			expertIds.add(expert.getId());
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		expertFilterIndex = mock(ExpertFilterIndex.class);
+		expertService = new ExpertService(expertRepository, mock(MemberRepository.class),
+			mock(CategoryService.class), mock(CertificateRepository.class), mock(ExpertCategoryRepository.class),
+			mock(ExpertCertificateRepository.class), mock(PortfolioRepository.class), mock(ReviewStatsRepository.class),
+			mock(MemberSummaryCache.class), expertFilterIndex, mock(ExpertSearchIndex.class),
+			mock(ExpertLeaderboard.class), mock(ApplicationEventPublisher.class));
+	}
+
+	@Test
+	@DisplayName("전문가 목록은 페이지마다 SQL 한 번으로 조회되고, 엔티티를 만들지 않는다")
+	void onePreparedStatementPerPage() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		List<ExpertResponseDto> all = new ArrayList<>();
+		Long cursor = null;
+		int pages = 0;
+		do {
+			long after = cursor != null ? cursor : 0L;
+			List<Long> candidates = expertIds.stream()
+				.filter(id -> id > after)
+				.limit(11)
+				.toList();
+			when(expertFilterIndex.search(isNull(), isNull(), isNull(), isNull(), isNull(), eq(cursor), eq(11)))
+				.thenReturn(candidates);
+
+			statistics.clear();
+			ExpertPageResponseDto page = expertService.getAllExperts(null, null, null, null, null, cursor, 10);
+
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+			assertThat(statistics.getEntityLoadCount()).isZero();
+			all.addAll(page.getExperts());
+			cursor = page.getNextCursor();
+			pages++;
+		} while (cursor != null);
+
+		assertThat(pages).isEqualTo(3);
+		assertThat(all).extracting(ExpertResponseDto::getExpertId).containsExactlyElementsOf(expertIds);
+		ExpertResponseDto withStats = all.get(2);
+		assertThat(withStats.getName()).isEqualTo("전문가2");
+		assertThat(withStats.getCategoryName()).isEqualTo("개발");
+		assertThat(withStats.getProfileImage()).isEqualTo("https://image/2");
+		assertThat(withStats.getAverageScore()).isEqualByComparingTo("4.50");
+		assertThat(withStats.getReviewCounts()).isEqualTo(2);
+		ExpertResponseDto withoutStats = all.get(1);
+		assertThat(withoutStats.getAverageScore()).isEqualByComparingTo("0");
+		assertThat(withoutStats.getReviewCounts()).isZero();
+	}
+}
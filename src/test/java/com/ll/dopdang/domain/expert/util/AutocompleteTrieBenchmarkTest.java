@@ -0,0 +1,126 @@
+package com.ll.dopdang.domain.expert.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import com.ll.dopdang.domain.expert.dto.response.AutocompleteRow;
+
+/**
+ * 전문가 20만 명(가상 데이터)의 이름으로 {@link AutocompleteTrie}의 상위 10건 조회 속도와 조회당 할당량을 측정합니다.
+ * 비교 대상은 이름 전체를 String.startsWith로 훑는 방식입니다. (DB의 LIKE '검색어%'에 해당, 순위/초성 없음)
+ * <ul>
+ *     <li>이름: 성 20개 x 이름 글자 조합, 인기도(리뷰 수) 0~199</li>
+ *     <li>조회별 ns/op (워밍업 후 여러 라운드 중 가장 빠른 라운드)</li>
+ * </ul>
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AutocompleteTrieBenchmarkTest {
+
+	private static final int EXPERTS = 200_000;
+	private static final int LIMIT = 10;
+	private static final int WARMUP = 20_000;
+	private static final int ROUNDS = 5;
+	private static final int ITERATIONS = 10_000;
+
+	private static final String[] LAST_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서",
+		"신", "권", "황", "안", "송", "류", "홍"};
+	private static final String[] NAME_SYLLABLES = {"민", "서", "지", "현", "우", "준", "하", "윤", "도", "수", "영", "진",
+		"은", "호", "재", "연", "성", "태", "유", "빈"};
+
+	private final String[] names = new String[EXPERTS];
+	private final int[] buffer = new int[AutocompleteTrie.MAX_LIMIT];
+
+	private AutocompleteTrie trie;
+
+	// 블랙홀 역할 (JIT가 측정 루프를 제거하지 못하도록 결과를 누적)
+	private long sink;
+
+	@BeforeAll
+	void setUp() {
+		SplittableRandom random = new SplittableRandom(2025);
+		List<AutocompleteRow> rows = new ArrayList<>(EXPERTS);
+		for (int i = 0; i < EXPERTS; i++) {
+			names[i] = LAST_NAMES[random.nextInt(LAST_NAMES.length)]
+				+ NAME_SYLLABLES[random.nextInt(NAME_SYLLABLES.length)]
+				+ NAME_SYLLABLES[random.nextInt(NAME_SYLLABLES.length)];
+			rows.add(new AutocompleteRow(i + 1L, names[i], "개발", (long)random.nextInt(200)));
+		}
+
+		long start = System.nanoTime();
+		trie = AutocompleteTrie.of(rows, false);
+		System.out.printf("build: %d ms, experts: %d, nodes: %d, bytes: %d%n", (System.nanoTime() - start) / 1_000_000,
+			trie.size(), trie.nodeCount(), trie.sizeInBytes());
+	}
+
+	@Test
+	@DisplayName("상위 10건 조회가 마이크로초 단위로 끝나고 조회 중 객체를 만들지 않는지 확인한다")
+	void search() {
+		Map<String, String> queries = new LinkedHashMap<>();
+		queries.put("choseong 1", "ㄱ");
+		queries.put("last name", "김");
+		queries.put("typing", "김ㅁ");
+		queries.put("two chars", "김민");
+		queries.put("full name", "김민준");
+		queries.put("choseong 3", "ㄱㅁㅈ");
+		System.out.printf("%-12s %12s %12s %8s%n", "query", "trie(ns/op)", "scan(ns/op)", "speedup");
+		queries.forEach((name, query) -> {
+			assertThat(trie.search(query, buffer, LIMIT)).isPositive();
+			double indexed = measure(query, true);
+			double scan = measure(query, false);
+			System.out.printf("%-12s %12.0f %12.0f %7.1fx%n", name, indexed, scan, scan / indexed);
+			assertThat(indexed).isLessThan(100_000);
+		});
+
+		// 조회당 할당량 (측정 자체의 소량 할당을 감안해 조회 1회당 1바이트 미만이면 할당 없음으로 봄)
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		long before = threads.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < ITERATIONS; i++) {
+			sink += trie.search("김민", buffer, LIMIT);
+			sink += trie.search("ㄱㅁㅈ", buffer, LIMIT);
+		}
+		long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+		System.out.printf("allocated: %d bytes / %d lookups%n", allocated, ITERATIONS * 2);
+		assertThat(allocated).isLessThan(ITERATIONS * 2L);
+	}
+
+	private double measure(String query, boolean indexed) {
+		int iterations = indexed ? ITERATIONS : 20;
+		for (int i = 0; i < (indexed ? WARMUP : 100); i++) {
+			sink += indexed ? trie.search(query, buffer, LIMIT) : scan(query);
+		}
+		double best = Double.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; round++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < iterations; i++) {
+				sink += indexed ? trie.search(query, buffer, LIMIT) : scan(query);
+			}
+			best = Math.min(best, (System.nanoTime() - start) / (double)iterations);
+		}
+		return best;
+	}
+
+	private int scan(String query) {
+		int matches = 0;
+		for (String name : names) {
+			if (name.startsWith(query)) {
+				matches++;
+			}
+		}
+		return matches;
+	}
+}
@@ -0,0 +1,119 @@
+package com.ll.dopdang.domain.expert.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ll.dopdang.domain.expert.dto.response.AutocompleteResponseDto;
+import com.ll.dopdang.domain.expert.dto.response.AutocompleteRow;
+
+class AutocompleteTrieTest {
+
+	private static final List<AutocompleteRow> CERTIFICATES = List.of(
+		new AutocompleteRow(1L, "정보처리기사", 120L),
+		new AutocompleteRow(2L, "정보처리산업기사", 30L),
+		new AutocompleteRow(3L, "정보보안기사", 50L),
+		new AutocompleteRow(4L, "전기기사", 80L),
+		new AutocompleteRow(5L, "SQLD", 40L),
+		new AutocompleteRow(6L, "AWS Solutions Architect", 10L),
+		new AutocompleteRow(7L, "닭가공기능사", 1L)
+	);
+
+	@Test
+	@DisplayName("완성된 글자, 입력 중인 글자, 초성 모두 앞부분으로 일치하고 인기도 순으로 반환한다")
+	void prefixJamoAndChoseong() {
+		AutocompleteTrie trie = AutocompleteTrie.of(CERTIFICATES, true);
+
+		assertThat(search(trie, "정보")).containsExactly(1L, 3L, 2L);
+		assertThat(search(trie, "정보처")).containsExactly(1L, 2L);
+		// 받침이 다음 글자의 초성이 될 수 있는 입력 중 상태
+		assertThat(search(trie, "정보ㅊ")).containsExactly(1L, 2L);
+		assertThat(search(trie, "정봋")).containsExactly(1L, 2L);
+		assertThat(search(trie, "전")).containsExactly(4L);
+		assertThat(search(trie, "저")).containsExactly(1L, 4L, 3L, 2L);
+		// 초성
+		assertThat(search(trie, "ㅈㅂㅊㄹ")).containsExactly(1L, 2L);
+		assertThat(search(trie, "ㅈ")).containsExactly(1L, 4L, 3L, 2L);
+		// 겹받침 (닭 -> ㄷ ㅏ ㄹ ㄱ)
+		assertThat(search(trie, "달")).containsExactly(7L);
+		assertThat(search(trie, "닭가")).containsExactly(7L);
+		// 영문은 대소문자, 공백 무시
+		assertThat(search(trie, "sql")).containsExactly(5L);
+		assertThat(search(trie, "awsso")).containsExactly(6L);
+		assertThat(search(trie, "처리기")).containsExactly(1L);
+		assertThat(search(trie, "정보통신")).isEmpty();
+		assertThat(search(trie, " ")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("이름 중간 일치는 infix일 때만, 단어 시작은 항상 일치한다")
+	void infixAndWordStart() {
+		AutocompleteTrie infix = AutocompleteTrie.of(CERTIFICATES, true);
+		AutocompleteTrie prefix = AutocompleteTrie.of(CERTIFICATES, false);
+
+		assertThat(search(infix, "기사")).containsExactly(1L, 4L, 3L, 2L);
+		assertThat(search(infix, "ㄱㅅ")).containsExactly(1L, 4L, 3L, 2L);
+		assertThat(search(prefix, "기사")).isEmpty();
+		assertThat(search(prefix, "architect")).containsExactly(6L);
+		assertThat(search(prefix, "정보")).containsExactly(1L, 3L, 2L);
+	}
+
+	@Test
+	@DisplayName("결과 수는 limit과 버퍼 크기로 제한되고, 같은 항목은 한 번만 나온다")
+	void limitAndDeduplicate() {
+		AutocompleteTrie trie = AutocompleteTrie.of(List.of(new AutocompleteRow(1L, "기사기사기사", 1L),
+			new AutocompleteRow(2L, "기사", 2L), new AutocompleteRow(3L, "기사시험", 3L)), true);
+
+		assertThat(search(trie, "기사")).containsExactly(3L, 2L, 1L);
+		int[] buffer = new int[2];
+		assertThat(trie.search("기사", buffer, 10)).isEqualTo(2);
+		assertThat(trie.search("기사", new int[10], 1)).isEqualTo(1);
+		assertThat(trie.item(buffer[0])).isEqualTo(new AutocompleteResponseDto(3L, "기사시험", null));
+	}
+
+	@Test
+	@DisplayName("미리 계산한 상위 결과와 구간 탐색 결과가 전체 탐색 결과와 같다")
+	void matchesBruteForce() {
+		Random random = new Random(3);
+		String[] syllables = {"가", "각", "간", "나", "다", "닭", "라", "마", "바", "사"};
+		List<AutocompleteRow> rows = new ArrayList<>();
+		for (long id = 1; id <= 3000; id++) {
+			StringBuilder name = new StringBuilder();
+			for (int i = 1 + random.nextInt(4); i > 0; i--) {
+				name.append(syllables[random.nextInt(syllables.length)]);
+			}
+			rows.add(new AutocompleteRow(id, name.toString(), (long)random.nextInt(100)));
+		}
+		AutocompleteTrie trie = AutocompleteTrie.of(rows, false);
+
+		for (String query : List.of("가", "ㄱ", "각", "가ㄴ", "닭", "달", "ㄷㄱ", "나다", "사사사")) {
+			List<Long> expected = rows.stream()
+				.filter(row -> HangulJamo.decompose(row.name(), 0).startsWith(HangulJamo.decompose(query, 0))
+					|| HangulJamo.choseongOf(row.name(), 0).startsWith(HangulJamo.decompose(query, 0)))
+				.sorted(Comparator.comparingLong(AutocompleteRow::popularity).reversed()
+					.thenComparingInt(row -> row.name().length())
+					.thenComparing(AutocompleteRow::name)
+					.thenComparing(AutocompleteRow::id))
+				.limit(AutocompleteTrie.MAX_LIMIT)
+				.map(AutocompleteRow::id)
+				.toList();
+			assertThat(search(trie, query)).as(query).isEqualTo(expected);
+		}
+	}
+
+	private static List<Long> search(AutocompleteTrie trie, String query) {
+		int[] buffer = new int[AutocompleteTrie.MAX_LIMIT];
+		int count = trie.search(query, buffer, AutocompleteTrie.MAX_LIMIT);
+		List<Long> ids = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			ids.add(trie.item(buffer[i]).id());
+		}
+		return ids;
+	}
+}
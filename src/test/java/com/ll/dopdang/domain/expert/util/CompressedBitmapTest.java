@@ -0,0 +1,138 @@
+package com.ll.dopdang.domain.expert.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CompressedBitmapTest {
+
+	// 배열/비트맵 컨테이너가 모두 생기도록 구간마다 밀도를 다르게 채움
+	private static final int[] DENSITIES = {10, 3_000, 5_000, 60_000};
+
+	@Test
+	@DisplayName("추가/삭제/포함 여부가 BitSet과 같고, 컨테이너 전환 경계에서도 값이 유지된다")
+	void addRemoveMatchesBitSet() {
+		Random random = new Random(42);
+		CompressedBitmap bitmap = new CompressedBitmap();
+		BitSet expected = new BitSet();
+		fill(random, bitmap, expected);
+
+		for (int i = 0; i < 200_000; i++) {
+			int value = random.nextInt(DENSITIES.length << 16);
+			assertThat(bitmap.remove(value)).isEqualTo(expected.get(value));
+			expected.clear(value);
+		}
+
+		assertThat(bitmap.cardinality()).isEqualTo(expected.cardinality());
+		assertThat(bitmap.toArray()).isEqualTo(expected.stream().toArray());
+		for (int value = 0; value < DENSITIES.length << 16; value += 7) {
+			assertThat(bitmap.contains(value)).isEqualTo(expected.get(value));
+		}
+	}
+
+	@Test
+	@DisplayName("교집합, 교집합 크기, 합집합이 BitSet 연산 결과와 같다")
+	void setOperationsMatchBitSet() {
+		Random random = new Random(7);
+		CompressedBitmap left = new CompressedBitmap();
+		CompressedBitmap right = new CompressedBitmap();
+		BitSet leftExpected = new BitSet();
+		BitSet rightExpected = new BitSet();
+		fill(random, left, leftExpected);
+		fill(random, right, rightExpected);
+		right.add(1_000_000);
+		rightExpected.set(1_000_000);
+
+		BitSet and = (BitSet)leftExpected.clone();
+		and.and(rightExpected);
+		BitSet or = (BitSet)leftExpected.clone();
+		or.or(rightExpected);
+
+		assertThat(CompressedBitmap.and(left, right).toArray()).isEqualTo(and.stream().toArray());
+		assertThat(CompressedBitmap.andCardinality(left, right)).isEqualTo(and.cardinality());
+		assertThat(CompressedBitmap.or(left, right).toArray()).isEqualTo(or.stream().toArray());
+		assertThat(CompressedBitmap.or(left, right).cardinality()).isEqualTo(or.cardinality());
+		assertThat(CompressedBitmap.andCardinality(left.toDense(), right)).isEqualTo(and.cardinality());
+		assertThat(CompressedBitmap.and(right, left.toDense()).toArray()).isEqualTo(and.stream().toArray());
+	}
+
+	@Test
+	@DisplayName("크기 차이가 큰 배열끼리의 교집합도 병합 결과와 같다")
+	void skewedIntersection() {
+		Random random = new Random(11);
+		CompressedBitmap large = new CompressedBitmap();
+		CompressedBitmap small = new CompressedBitmap();
+		BitSet largeExpected = new BitSet();
+		BitSet smallExpected = new BitSet();
+		for (int i = 0; i < 3_000; i++) {
+			int value = random.nextInt(1 << 14);
+			large.add(value);
+			largeExpected.set(value);
+		}
+		for (int i = 0; i < 40; i++) {
+			int value = random.nextInt(1 << 14);
+			small.add(value);
+			smallExpected.set(value);
+		}
+		smallExpected.and(largeExpected);
+
+		assertThat(CompressedBitmap.and(small, large).toArray()).isEqualTo(smallExpected.stream().toArray());
+		assertThat(CompressedBitmap.and(large, small).toArray()).isEqualTo(smallExpected.stream().toArray());
+		assertThat(CompressedBitmap.andCardinality(large, small)).isEqualTo(smallExpected.cardinality());
+	}
+
+	@Test
+	@DisplayName("키셋 페이지 조회를 이어 붙이면 전체 값과 같다")
+	void pagedToArrayMatchesBitSet() {
+		Random random = new Random(11);
+		CompressedBitmap bitmap = new CompressedBitmap();
+		BitSet expected = new BitSet();
+		fill(random, bitmap, expected);
+
+		for (int limit : new int[] {1, 37, 4_096, 100_000}) {
+			int[] collected = new int[bitmap.cardinality()];
+			int count = 0;
+			int after = -1;
+			int[] page;
+			while ((page = bitmap.toArray(after, limit)).length > 0) {
+				assertThat(page.length).isLessThanOrEqualTo(limit);
+				System.arraycopy(page, 0, collected, count, page.length);
+				count += page.length;
+				after = page[page.length - 1];
+			}
+			assertThat(collected).hasSize(count).isEqualTo(expected.stream().toArray());
+		}
+		assertThat(bitmap.toArray(Integer.MAX_VALUE, 10)).isEmpty();
+		assertThat(bitmap.toArray(expected.length(), 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("빈 비트맵과의 연산, 음수 값 처리")
+	void emptyAndNegative() {
+		CompressedBitmap bitmap = CompressedBitmap.of(1, 70_000);
+
+		assertThat(CompressedBitmap.and(bitmap, new CompressedBitmap()).isEmpty()).isTrue();
+		assertThat(CompressedBitmap.or(new CompressedBitmap(), bitmap).toArray()).containsExactly(1, 70_000);
+		assertThat(bitmap.contains(-1)).isFalse();
+		assertThat(bitmap.remove(-1)).isFalse();
+		assertThatThrownBy(() -> bitmap.add(-1)).isInstanceOf(IllegalArgumentException.class);
+
+		bitmap.remove(1);
+		bitmap.remove(70_000);
+		assertThat(bitmap.isEmpty()).isTrue();
+	}
+
+	private static void fill(Random random, CompressedBitmap bitmap, BitSet expected) {
+		for (int container = 0; container < DENSITIES.length; container++) {
+			for (int i = 0; i < DENSITIES[container]; i++) {
+				int value = (container << 16) | random.nextInt(1 << 16);
+				assertThat(bitmap.add(value)).isEqualTo(!expected.get(value));
+				expected.set(value);
+			}
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package com.ll.dopdang.domain.expert.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import com.ll.dopdang.domain.expert.dto.response.ExpertIndexRow;
+import com.ll.dopdang.domain.expert.entity.CareerLevel;
+
+/**
+ * 전문가 100만 명(가상 데이터)으로 {@link ExpertBitmapIndex}의 조회/항목별 수 계산 속도와 크기를 측정합니다.
+ * 비교 대상은 같은 데이터를 기본형 배열로 들고 전체를 훑는 방식입니다. (DB의 findByFilters 조건 평가보다 유리한 기준)
+ * <ul>
+ *     <li>대분류 10개(앞쪽에 몰림), 대분류마다 소분류 8개 중 1~3개, 경력 0~30년, 자격증 50개 중 0~2개, 활동 가능 80%</li>
+ *     <li>조회별 ns/op (워밍업 후 여러 라운드 중 가장 빠른 라운드), 결과가 전체 탐색과 같은지 확인</li>
+ * </ul>
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExpertBitmapIndexBenchmarkTest {
+
+	private static final int EXPERTS = 1_000_000;
+	private static final int MAIN_CATEGORIES = 10;
+	private static final int SUB_CATEGORIES_PER_MAIN = 8;
+	private static final int CERTIFICATES = 50;
+	private static final int WARMUP = 200;
+	private static final int ROUNDS = 5;
+	private static final int ITERATIONS = 20;
+
+	// 전체 탐색 기준용 기본형 배열 (ID = 인덱스 + 1)
+	private final long[] categoryIds = new long[EXPERTS];
+	private final int[] careerYears = new int[EXPERTS];
+	private final boolean[] availabilities = new boolean[EXPERTS];
+	private final long[][] subCategoryIds = new long[EXPERTS][];
+	private final long[][] certificateIds = new long[EXPERTS][];
+
+	private ExpertBitmapIndex index;
+
+	// 블랙홀 역할 (JIT가 측정 루프를 제거하지 못하도록 결과를 누적)
+	private long sink;
+
+	@BeforeAll
+	void setUp() {
+		SplittableRandom random = new SplittableRandom(2025);
+		for (int i = 0; i < EXPERTS; i++) {
+			// 앞쪽 대분류에 전문가가 몰리도록 (1번이 가장 많음)
+			long categoryId = 1 + (long)(MAIN_CATEGORIES * Math.pow(random.nextDouble(), 2));
+			categoryIds[i] = categoryId;
+			careerYears[i] = random.nextInt(31);
+			availabilities[i] = random.nextInt(10) < 8;
+			subCategoryIds[i] = random.longs(1 + random.nextInt(3), 0, SUB_CATEGORIES_PER_MAIN)
+				.distinct()
+				.map(sub -> categoryId * 100 + sub)
+				.toArray();
+			certificateIds[i] = random.longs(random.nextInt(3), 1, CERTIFICATES + 1).distinct().toArray();
+		}
+
+		long start = System.nanoTime();
+		index = new ExpertBitmapIndex();
+		for (int i = 0; i < EXPERTS; i++) {
+			index.add(new ExpertIndexRow(i + 1L, categoryIds[i], careerYears[i], availabilities[i]));
+		}
+		for (int i = 0; i < EXPERTS; i++) {
+			for (long subCategoryId : subCategoryIds[i]) {
+				index.addSubCategory(i + 1L, subCategoryId);
+			}
+			for (long certificateId : certificateIds[i]) {
+				index.addCertificate(i + 1L, certificateId);
+			}
+		}
+		System.out.printf("build: %d ms, index: %.1f MB%n", (System.nanoTime() - start) / 1_000_000,
+			index.sizeInBytes() / 1024.0 / 1024.0);
+	}
+
+	@Test
+	@DisplayName("필터 조회 결과가 전체 탐색과 같고, 비트맵 교집합 속도를 출력한다")
+	void search() {
+		Map<String, ExpertBitmapIndex.Filter> filters = new LinkedHashMap<>();
+		filters.put("category", filter(List.of(1L), null, null, null, null));
+		filters.put("category+senior", filter(List.of(1L, 2L), null, CareerLevel.SENIOR, null, null));
+		filters.put("sub+cert+available", filter(null, List.of(301L), null, List.of(7L), true));
+		filters.put("rare category+expert", filter(List.of(10L), null, CareerLevel.EXPERT, null, true));
+		filters.put("no filter", filter(null, null, null, null, null));
+		System.out.printf("%-22s %9s %14s %14s %8s%n", "filter", "matches", "bitmap(ns/op)", "scan(ns/op)",
+			"speedup");
+		filters.forEach((name, filter) -> {
+			int[] expected = scan(filter);
+			assertThat(index.search(filter)).isEqualTo(expected);
+			double bitmap = measure(() -> index.search(filter).length);
+			double scan = measure(() -> scan(filter).length);
+			System.out.printf("%-22s %9d %14.0f %14.0f %7.1fx%n", name, expected.length, bitmap, scan, scan / bitmap);
+		});
+	}
+
+	@Test
+	@DisplayName("항목별 수가 전체 탐색과 같고, 계산 속도를 출력한다")
+	void facets() {
+		ExpertBitmapIndex.Filter filter = filter(List.of(1L), null, CareerLevel.SENIOR, null, true);
+		ExpertBitmapIndex.Facets facets = index.facets(filter);
+
+		// 대분류별 수는 대분류 조건을 뺀 경력, 활동 가능 조건만 적용
+		for (long categoryId = 1; categoryId <= MAIN_CATEGORIES; categoryId++) {
+			ExpertBitmapIndex.Filter withoutCategory = filter(List.of(categoryId), null, CareerLevel.SENIOR, null, true);
+			assertThat(facets.mainCategories().getOrDefault(categoryId, 0)).isEqualTo(scan(withoutCategory).length);
+		}
+		assertThat(facets.total()).isEqualTo(scan(filter).length);
+
+		double bitmap = measure(() -> index.facets(filter).total());
+		System.out.printf("facets (%d sub categories, %d certificates): %.0f ns/op%n",
+			facets.subCategories().size(), facets.certificates().size(), bitmap);
+	}
+
+	private int[] scan(ExpertBitmapIndex.Filter filter) {
+		List<Integer> matches = new ArrayList<>();
+		for (int i = 0; i < EXPERTS; i++) {
+			if (filter.mainCategoryIds() != null && !filter.mainCategoryIds().contains(categoryIds[i])) {
+				continue;
+			}
+			if (filter.careerLevel() != null && CareerLevel.of(careerYears[i]) != filter.careerLevel()) {
+				continue;
+			}
+			if (filter.available() != null && availabilities[i] != filter.available()) {
+				continue;
+			}
+			if (filter.subCategoryIds() != null && !containsAny(subCategoryIds[i], filter.subCategoryIds())) {
+				continue;
+			}
+			if (filter.certificateIds() != null && !containsAny(certificateIds[i], filter.certificateIds())) {
+				continue;
+			}
+			matches.add(i + 1);
+		}
+		return matches.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private static boolean containsAny(long[] values, Collection<Long> candidates) {
+		for (long value : values) {
+			if (candidates.contains(value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private double measure(Supplier<Integer> operation) {
+		for (int i = 0; i < WARMUP; i++) {
+			sink += operation.get();
+		}
+		double best = Double.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; round++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < ITERATIONS; i++) {
+				sink += operation.get();
+			}
+			best = Math.min(best, (System.nanoTime() - start) / (double)ITERATIONS);
+		}
+		return best;
+	}
+
+	private static ExpertBitmapIndex.Filter filter(List<Long> mainCategoryIds, List<Long> subCategoryIds,
+		CareerLevel careerLevel, List<Long> certificateIds, Boolean available) {
+		return new ExpertBitmapIndex.Filter(mainCategoryIds, subCategoryIds, careerLevel, certificateIds, available);
+	}
+}
@@ -0,0 +1,82 @@
+package com.ll.dopdang.domain.expert.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.ll.dopdang.domain.expert.dto.response.ExpertIndexRow;
+import com.ll.dopdang.domain.expert.entity.CareerLevel;
+
+class ExpertBitmapIndexTest {
+
+	private static final long DEV = 1L;
+	private static final long DESIGN = 2L;
+	private static final long BACKEND = 11L;
+	private static final long FRONTEND = 12L;
+	private static final long CERTIFICATE = 100L;
+
+	@Test
+	@DisplayName("항목끼리는 교집합, 같은 항목의 여러 값은 합집합으로 조회하고, 없는 값은 결과가 없다")
+	void search() {
+		ExpertBitmapIndex index = sample();
+
+		assertThat(index.search(filter(List.of(DEV), null, null, null, null))).containsExactly(1, 2, 3);
+		assertThat(index.search(filter(List.of(DEV, DESIGN), null, CareerLevel.SENIOR, null, null)))
+			.containsExactly(2, 4);
+		assertThat(index.search(filter(null, List.of(BACKEND), null, List.of(CERTIFICATE), true)))
+			.containsExactly(1);
+		assertThat(index.search(filter(List.of(), null, null, null, null))).isEmpty();
+		assertThat(index.search(filter(null, null, null, null, false))).containsExactly(3);
+	}
+
+	@Test
+	@DisplayName("항목별 수는 해당 항목의 조건만 빼고 계산한다")
+	void facets() {
+		ExpertBitmapIndex.Facets facets = sample().facets(filter(List.of(DEV), null, CareerLevel.SENIOR, null, null));
+
+		assertThat(facets.total()).isEqualTo(1);
+		// 대분류 수는 경력 조건만 적용
+		assertThat(facets.mainCategories()).isEqualTo(Map.of(DEV, 1, DESIGN, 1));
+		// 경력 수는 대분류 조건만 적용
+		assertThat(facets.careerLevels()).isEqualTo(Map.of(CareerLevel.JUNIOR, 1, CareerLevel.SENIOR, 1));
+		assertThat(facets.subCategories()).isEqualTo(Map.of(FRONTEND, 1));
+		assertThat(facets.available()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("수정하면 이전 값의 비트맵에서 빠지고, 삭제하면 모든 비트맵에서 빠진다")
+	void putAndRemove() {
+		ExpertBitmapIndex index = sample();
+
+		index.put(new ExpertIndexRow(1L, DESIGN, 12, true), List.of(), List.of());
+		assertThat(index.search(filter(List.of(DEV), null, null, null, null))).containsExactly(2, 3);
+		assertThat(index.search(filter(null, List.of(BACKEND), null, null, null))).isEmpty();
+		assertThat(index.search(filter(null, null, null, List.of(CERTIFICATE), null))).isEmpty();
+		assertThat(index.search(filter(List.of(DESIGN), null, CareerLevel.EXPERT, null, null))).containsExactly(1);
+
+		index.remove(2L);
+		assertThat(index.size()).isEqualTo(3);
+		assertThat(index.facets(filter(null, null, null, null, null)).subCategories()).isEmpty();
+	}
+
+	/**
+	 * 1: 개발/백엔드/3년/자격증, 2: 개발/프론트엔드/7년, 3: 개발/0년/활동 불가, 4: 디자인/8년
+	 */
+	private static ExpertBitmapIndex sample() {
+		ExpertBitmapIndex index = new ExpertBitmapIndex();
+		index.put(new ExpertIndexRow(1L, DEV, 3, true), List.of(BACKEND), List.of(CERTIFICATE));
+		index.put(new ExpertIndexRow(2L, DEV, 7, true), List.of(FRONTEND), List.of());
+		index.put(new ExpertIndexRow(3L, DEV, 0, false), List.of(), List.of());
+		index.put(new ExpertIndexRow(4L, DESIGN, 8, true), List.of(), List.of());
+		return index;
+	}
+
+	private static ExpertBitmapIndex.Filter filter(List<Long> mainCategoryIds, List<Long> subCategoryIds,
+		CareerLevel careerLevel, List<Long> certificateIds, Boolean available) {
+		return new ExpertBitmapIndex.Filter(mainCategoryIds, subCategoryIds, careerLevel, certificateIds, available);
+	}
+}
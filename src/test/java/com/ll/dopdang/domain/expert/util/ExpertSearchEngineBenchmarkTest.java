@@ -0,0 +1,164 @@
+package com.ll.dopdang.domain.expert.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+/**
+ * 전문가 20만 명(가상 데이터)으로 {@link ExpertSearchEngine}의 상위 20건 검색 속도를 측정합니다.
+ * 비교 대상은 이름과 자기소개를 소문자로 미리 바꿔 두고 전체를 String.contains로 훑는 방식입니다. (DB의 LIKE '%검색어%'에 해당, 순위 없음)
+ * <ul>
+ *     <li>이름: 성 20개 x 이름 글자 조합, 자기소개: 단어 60개 중 8~20개, 대분류 10개, 소분류 1~3개, 자격증 0~2개</li>
+ *     <li>검색별 ns/op (워밍업 후 여러 라운드 중 가장 빠른 라운드)</li>
+ * </ul>
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExpertSearchEngineBenchmarkTest {
+
+	private static final int EXPERTS = 200_000;
+	private static final int LIMIT = 20;
+	private static final int WARMUP = 200;
+	private static final int ROUNDS = 5;
+	private static final int ITERATIONS = 20;
+
+	private static final String[] LAST_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서",
+		"신", "권", "황", "안", "송", "류", "홍"};
+	private static final String[] NAME_SYLLABLES = {"민", "서", "지", "현", "우", "준", "하", "윤", "도", "수", "영", "진",
+		"은", "호", "재", "연", "성", "태", "유", "빈"};
+	private static final String[] CATEGORIES = {"개발", "디자인", "마케팅", "영상", "번역", "문서", "세무", "법률", "교육",
+		"컨설팅"};
+	private static final String[] SUB_CATEGORIES = {"백엔드", "프론트엔드", "모바일앱", "데이터분석", "로고디자인", "웹디자인",
+		"퍼포먼스마케팅", "유튜브편집", "영문번역", "일문번역", "사업계획서", "종합소득세"};
+	private static final String[] CERTIFICATES = {"정보처리기사", "컴퓨터활용능력", "GTQ", "세무사", "변호사", "TOEIC",
+		"SQLD", "AWS Solutions Architect"};
+	private static final String[] WORDS = {"백엔드", "프론트엔드", "서버", "스프링", "자바", "파이썬", "리액트", "데이터",
+		"분석", "머신러닝", "클라우드", "인프라", "쇼핑몰", "홈페이지", "앱", "개발", "유지보수", "디자인", "브랜딩", "로고",
+		"상세페이지", "마케팅", "광고", "블로그", "유튜브", "영상", "편집", "촬영", "번역", "통역", "영어", "일본어", "문서",
+		"작성", "기획", "컨설팅", "세무", "신고", "법률", "상담", "강의", "교육", "경력", "년", "대기업", "스타트업", "프리랜서",
+		"빠른", "꼼꼼한", "소통", "납기", "준수", "포트폴리오", "다수", "보유", "전문", "책임감", "합리적인", "가격", "만족"};
+
+	// 전체 탐색 기준용 (ID = 인덱스 + 1)
+	private final String[] names = new String[EXPERTS];
+	private final String[] introductions = new String[EXPERTS];
+
+	private ExpertSearchEngine engine;
+
+	// 블랙홀 역할 (JIT가 측정 루프를 제거하지 못하도록 결과를 누적)
+	private long sink;
+
+	@BeforeAll
+	void setUp() {
+		SplittableRandom random = new SplittableRandom(2025);
+		List<ExpertSearchEngine.Document> documents = new ArrayList<>(EXPERTS);
+		for (int i = 0; i < EXPERTS; i++) {
+			String name = LAST_NAMES[random.nextInt(LAST_NAMES.length)]
+				+ NAME_SYLLABLES[random.nextInt(NAME_SYLLABLES.length)]
+				+ NAME_SYLLABLES[random.nextInt(NAME_SYLLABLES.length)];
+			StringBuilder introduction = new StringBuilder();
+			int words = 8 + random.nextInt(13);
+			for (int word = 0; word < words; word++) {
+				introduction.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+			}
+			List<String> categoryNames = new ArrayList<>();
+			categoryNames.add(CATEGORIES[(int)(CATEGORIES.length * Math.pow(random.nextDouble(), 2))]);
+			for (int sub = random.nextInt(3); sub >= 0; sub--) {
+				categoryNames.add(SUB_CATEGORIES[random.nextInt(SUB_CATEGORIES.length)]);
+			}
+			List<String> certificateNames = new ArrayList<>();
+			for (int certificate = random.nextInt(3); certificate > 0; certificate--) {
+				certificateNames.add(CERTIFICATES[random.nextInt(CERTIFICATES.length)]);
+			}
+			names[i] = name.toLowerCase();
+			introductions[i] = introduction.toString().toLowerCase();
+			documents.add(new ExpertSearchEngine.Document(i + 1L, name, introduction.toString(), categoryNames,
+				certificateNames, 1 + random.nextDouble() * 4, random.nextInt(200)));
+		}
+
+		long start = System.nanoTime();
+		engine = new ExpertSearchEngine(0.3, 3.0, 5);
+		documents.forEach(engine::put);
+		System.out.printf("build: %d ms, experts: %d%n", (System.nanoTime() - start) / 1_000_000, engine.size());
+	}
+
+	@Test
+	@DisplayName("상위 20건 검색이 한 자릿수 ms 안에 끝나는지 확인하고, 전체 탐색과 속도를 비교해 출력한다")
+	void search() {
+		Map<String, String> queries = new LinkedHashMap<>();
+		queries.put("full name", "김민준");
+		queries.put("last name", "김");
+		queries.put("word", "백엔드");
+		queries.put("two words", "스프링 클라우드");
+		queries.put("sentence", "꼼꼼한 유튜브 영상 편집 전문");
+		queries.put("certificate", "정보처리기사");
+		System.out.printf("%-12s %14s %14s %8s%n", "query", "engine(ns/op)", "scan(ns/op)", "speedup");
+		queries.forEach((name, query) -> {
+			assertThat(engine.search(query, LIMIT, null, null)).isNotEmpty();
+			double indexed = measure(() -> engine.search(query, LIMIT, null, null).size());
+			double scan = measure(() -> scan(query));
+			System.out.printf("%-12s %14.0f %14.0f %7.1fx%n", name, indexed, scan, scan / indexed);
+			assertThat(indexed).isLessThan(10_000_000);
+		});
+
+		// 필터 조건(전문가 ID 1/10)과 함께 검색
+		IntPredicate filter = expertId -> expertId % 10 == 0;
+		double filtered = measure(() -> engine.search("백엔드 개발", LIMIT, filter, null).size());
+		System.out.printf("%-12s %14.0f%n", "filtered", filtered);
+		assertThat(engine.search("백엔드 개발", LIMIT, filter, null))
+			.allSatisfy(hit -> assertThat(hit.expertId() % 10).isZero());
+	}
+
+	@Test
+	@DisplayName("수정이 반복돼도 삭제 표시된 문서는 검색되지 않는다")
+	void update() {
+		ExpertSearchEngine updated = new ExpertSearchEngine(0.3, 3.0, 5);
+		for (int round = 0; round < 3; round++) {
+			for (int i = 0; i < 1000; i++) {
+				updated.put(new ExpertSearchEngine.Document(i + 1L, names[i], introductions[i], List.of("개발"),
+					List.of(), 4.0, round));
+			}
+		}
+		assertThat(updated.size()).isEqualTo(1000);
+		assertThat(updated.deletedDocs()).isEqualTo(2000);
+		assertThat(updated.search("개발", 1000, null, null)).hasSize(1000);
+	}
+
+	private int scan(String query) {
+		String lowerCase = query.toLowerCase();
+		int matches = 0;
+		for (int i = 0; i < EXPERTS; i++) {
+			if (names[i].contains(lowerCase) || introductions[i].contains(lowerCase)) {
+				matches++;
+			}
+		}
+		return matches;
+	}
+
+	private double measure(Supplier<Integer> operation) {
+		for (int i = 0; i < WARMUP; i++) {
+			sink += operation.get();
+		}
+		double best = Double.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; round++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < ITERATIONS; i++) {
+				sink += operation.get();
+			}
+			best = Math.min(best, (System.nanoTime() - start) / (double)ITERATIONS);
+		}
+		return best;
+	}
+}
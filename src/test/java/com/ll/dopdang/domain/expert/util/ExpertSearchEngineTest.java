@@ -0,0 +1,94 @@
+package com.ll.dopdang.domain.expert.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpertSearchEngineTest {
+
+	@Test
+	@DisplayName("단어를 2-gram으로 나누고, 1글자 단어와 이름 필드는 1-gram도 만든다")
+	void tokenize() {
+		List<String> document = new ArrayList<>();
+		ExpertSearchTokenizer.tokenize("백엔드 Ｊava 개발, 웹", false, document::add);
+		assertThat(document).containsExactly("백엔", "엔드", "ja", "av", "va", "개발", "웹");
+
+		List<String> name = new ArrayList<>();
+		ExpertSearchTokenizer.tokenize("김철수", true, name::add);
+		assertThat(name).containsExactly("김", "김철", "철", "철수", "수");
+
+		assertThat(ExpertSearchTokenizer.queryTerms("개발 개발자")).containsExactly("개발", "발자");
+	}
+
+	@Test
+	@DisplayName("이름, 카테고리, 자격증, 소개 모두 검색하고, 더 많이 더 중요한 필드에서 일치한 전문가가 앞에 온다")
+	void search() {
+		ExpertSearchEngine engine = sample();
+
+		assertThat(ids(engine.search("백엔드", 10, null, null))).containsExactly(1L, 3L);
+		// 단어 일부로도 검색 ("프론트엔드"의 "엔드")
+		assertThat(ids(engine.search("엔드", 10, null, null))).containsExactly(1L, 3L, 2L);
+		assertThat(ids(engine.search("정보처리기사", 10, null, null))).containsExactly(2L);
+		assertThat(ids(engine.search("김", 10, null, EnumSet.of(ExpertSearchEngine.Field.NAME))))
+			.containsExactly(1L);
+		// 검색어 토큰의 75% 이상이 일치해야 함
+		assertThat(engine.search("백엔드 디자인 영상편집", 10, null, null)).isEmpty();
+		assertThat(ids(engine.search("백엔드", 10, expertId -> expertId != 1, null))).containsExactly(3L);
+		assertThat(engine.search("백엔드", 1, null, null)).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("BM25 점수가 같으면 리뷰 평점이 높고 리뷰가 많은 전문가가 앞에 온다")
+	void rating() {
+		ExpertSearchEngine engine = new ExpertSearchEngine(0.3, 3.0, 5);
+		engine.put(document(1L, "이영희", "로고 디자인", List.of("디자인"), 3.0, 2));
+		engine.put(document(2L, "박민수", "로고 디자인", List.of("디자인"), 5.0, 1));
+		engine.put(document(3L, "최지훈", "로고 디자인", List.of("디자인"), 4.8, 100));
+
+		assertThat(ids(engine.search("로고", 10, null, null))).containsExactly(3L, 2L, 1L);
+		assertThat(engine.quality(0, 0)).isEqualTo(0.6);
+	}
+
+	@Test
+	@DisplayName("수정하면 이전 내용으로는 검색되지 않고, 삭제하면 검색되지 않는다")
+	void putAndRemove() {
+		ExpertSearchEngine engine = sample();
+
+		engine.put(document(1L, "김철수", "영상 편집", List.of("영상"), 0, 0));
+		assertThat(ids(engine.search("백엔드", 10, null, null))).containsExactly(3L);
+		assertThat(ids(engine.search("영상", 10, null, null))).containsExactly(1L);
+
+		engine.remove(3L);
+		assertThat(engine.search("백엔드", 10, null, null)).isEmpty();
+		assertThat(engine.size()).isEqualTo(3);
+		assertThat(engine.deletedDocs()).isEqualTo(2);
+	}
+
+	private static ExpertSearchEngine sample() {
+		ExpertSearchEngine engine = new ExpertSearchEngine(0.3, 3.0, 5);
+		engine.put(new ExpertSearchEngine.Document(1L, "김철수", "백엔드 개발 10년, 백엔드 설계",
+			List.of("개발", "백엔드"), List.of(), 4.5, 10));
+		engine.put(new ExpertSearchEngine.Document(2L, "이영희", "웹 서비스 개발",
+			List.of("개발", "프론트엔드"), List.of("정보처리기사"), 4.0, 3));
+		engine.put(new ExpertSearchEngine.Document(3L, "박민수", "백엔드 API 개발",
+			List.of("개발", "백엔드"), List.of(), 4.0, 3));
+		engine.put(new ExpertSearchEngine.Document(4L, "최지훈", "로고 디자인",
+			List.of("디자인"), List.of(), 5.0, 20));
+		return engine;
+	}
+
+	private static ExpertSearchEngine.Document document(long expertId, String name, String introduction,
+		List<String> categoryNames, double averageScore, int reviewCount) {
+		return new ExpertSearchEngine.Document(expertId, name, introduction, categoryNames, List.of(), averageScore,
+			reviewCount);
+	}
+
+	private static List<Long> ids(List<ExpertSearchEngine.Hit> hits) {
+		return hits.stream().map(ExpertSearchEngine.Hit::expertId).toList();
+	}
+}
@@ -0,0 +1,115 @@
+package com.ll.dopdang.global.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightLoaderTest {
+
+	private static final int READERS = 32;
+
+	// 진행 중인 로드를 기다리기 시작한 follower를 세는 래치 (테스트마다 기다릴 수로 다시 만듦)
+	private volatile CountDownLatch joined = new CountDownLatch(0);
+	private final SingleFlightLoader<String, List<String>> loader = new SingleFlightLoader<>() {
+		@Override
+		void onJoin(String key) {
+			joined.countDown();
+		}
+	};
+	private final ExecutorService executor = Executors.newFixedThreadPool(READERS);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("같은 키를 동시에 읽는 N개 스레드는 DB 로드 1회의 결과를 함께 받는다")
+	void concurrentReadersShareSingleLoad() throws Exception {
+		AtomicInteger dbLoads = new AtomicInteger();
+		CountDownLatch leaderLoading = new CountDownLatch(1);
+		CountDownLatch releaseLoad = new CountDownLatch(1);
+		List<String> history = List.of("m1", "m2");
+
+		Future<List<String>> leader = executor.submit(() -> loader.load("room", () -> {
+			dbLoads.incrementAndGet();
+			leaderLoading.countDown();
+			await(releaseLoad);
+			return history;
+		}));
+		assertThat(leaderLoading.await(5, TimeUnit.SECONDS)).isTrue();
+
+		joined = new CountDownLatch(READERS - 1);
+		List<Future<List<String>>> followers = new ArrayList<>();
+		for (int i = 1; i < READERS; i++) {
+			followers.add(executor.submit(() -> loader.load("room", () -> {
+				dbLoads.incrementAndGet();
+				return List.of();
+			})));
+		}
+		// 모든 follower가 진행 중인 로드를 기다리기 시작한 뒤 leader의 로드를 끝냄
+		assertThat(joined.await(5, TimeUnit.SECONDS)).isTrue();
+		releaseLoad.countDown();
+
+		assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(history);
+		for (Future<List<String>> follower : followers) {
+			assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(history);
+		}
+		assertThat(dbLoads).hasValue(1);
+		assertThat(loader.inFlightCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("로드가 끝난 뒤의 요청은 다시 로드한다")
+	void loadsAgainAfterCompletion() {
+		AtomicInteger dbLoads = new AtomicInteger();
+
+		loader.load("room", () -> List.of(String.valueOf(dbLoads.incrementAndGet())));
+		List<String> second = loader.load("room", () -> List.of(String.valueOf(dbLoads.incrementAndGet())));
+
+		assertThat(second).containsExactly("2");
+		assertThat(dbLoads).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("leader의 로드가 실패하면 기다리던 스레드도 같은 예외를 받고, 이후 요청은 다시 로드한다")
+	void failurePropagatesToWaiters() throws Exception {
+		CountDownLatch leaderLoading = new CountDownLatch(1);
+		CountDownLatch releaseLoad = new CountDownLatch(1);
+		IllegalStateException failure = new IllegalStateException("db down");
+
+		Future<List<String>> leader = executor.submit(() -> loader.load("room", () -> {
+			leaderLoading.countDown();
+			await(releaseLoad);
+			throw failure;
+		}));
+		assertThat(leaderLoading.await(5, TimeUnit.SECONDS)).isTrue();
+		joined = new CountDownLatch(1);
+		Future<List<String>> follower = executor.submit(() -> loader.load("room", List::of));
+		assertThat(joined.await(5, TimeUnit.SECONDS)).isTrue();
+		releaseLoad.countDown();
+
+		assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+		assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(failure);
+		assertThat(loader.load("room", () -> List.of("ok"))).containsExactly("ok");
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
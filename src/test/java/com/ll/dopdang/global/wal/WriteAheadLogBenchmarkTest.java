@@ -0,0 +1,96 @@
+package com.ll.dopdang.global.wal;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * fsync 정책별 WAL 기록(append) 처리량과 지연 시간을 측정합니다.
+ * 측정 후 마지막 일부만 남기고 반영 확인(confirm)한 채로 다시 열어, 확인되지 않은 레코드만 복구되는지도 확인합니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class WriteAheadLogBenchmarkTest {
+
+	private static final int WARMUP = 1_000;
+	private static final int ITERATIONS = 20_000;
+	// 레코드마다 fsync 하는 정책은 디스크 속도에 묶이므로 횟수를 줄임
+	private static final int MESSAGE_POLICY_ITERATIONS = 2_000;
+	private static final int BATCH_SIZE = 200;
+	private static final int SEGMENT_SIZE = 4 * 1024 * 1024;
+	private static final int UNCONFIRMED_TAIL = 150;
+
+	@TempDir
+	Path directory;
+
+	@ParameterizedTest
+	@EnumSource(WalFsyncPolicy.class)
+	@DisplayName("fsync 정책별 append 처리량, 재시작 시 미확인 레코드만 복구")
+	void appendThroughput(WalFsyncPolicy policy) {
+		int iterations = (policy == WalFsyncPolicy.MESSAGE) ? MESSAGE_POLICY_ITERATIONS : ITERATIONS;
+		byte[] payload = samplePayload();
+
+		WriteAheadLog wal = new WriteAheadLog(directory, SEGMENT_SIZE, policy, Duration.ofMillis(10));
+		assertThat(wal.open()).isEmpty();
+		List<Long> warmupLsns = new ArrayList<>();
+		for (int i = 0; i < WARMUP; i++) {
+			warmupLsns.add(wal.append(payload));
+		}
+		wal.confirm(warmupLsns);
+
+		List<Long> lsns = new ArrayList<>(iterations);
+		long[] latencies = new long[iterations];
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			long begin = System.nanoTime();
+			lsns.add(wal.append(payload));
+			if ((i + 1) % BATCH_SIZE == 0) {
+				wal.syncBatch();
+			}
+			latencies[i] = System.nanoTime() - begin;
+		}
+		long elapsed = System.nanoTime() - start;
+
+		Arrays.sort(latencies);
+		System.out.printf("%-8s appends=%d throughput=%.0f msg/s (%.1f MB/s) p50=%dus p99=%dus p999=%dus%n",
+			policy, iterations,
+			iterations / (elapsed / 1e9),
+			(double)iterations * payload.length / (elapsed / 1e9) / (1024 * 1024),
+			TimeUnit.NANOSECONDS.toMicros(latencies[iterations / 2]),
+			TimeUnit.NANOSECONDS.toMicros(latencies[(int)(iterations * 0.99)]),
+			TimeUnit.NANOSECONDS.toMicros(latencies[(int)(iterations * 0.999)]));
+
+		// 마지막 일부를 제외하고 DB 반영 확인 -> 지난 세그먼트는 삭제되어야 함
+		wal.confirm(lsns.subList(0, iterations - UNCONFIRMED_TAIL));
+		int segmentsBeforeClose = wal.segmentCount();
+		wal.close();
+
+		WriteAheadLog reopened = new WriteAheadLog(directory, SEGMENT_SIZE, policy, Duration.ofMillis(10));
+		List<byte[]> recovered = reopened.open();
+		reopened.discardRecovered();
+		reopened.close();
+
+		assertThat(segmentsBeforeClose).isLessThanOrEqualTo(2);
+		assertThat(recovered).hasSize(UNCONFIRMED_TAIL);
+		assertThat(recovered.get(recovered.size() - 1)).isEqualTo(payload);
+	}
+
+	private byte[] samplePayload() {
+		String json = "{\"roomId\":\"123|alice@test.com:bob@test.com\",\"seq\":1024,\"sender\":\"alice@test.com\","
+			+ "\"receiver\":\"bob@test.com\",\"content\":\"안녕하세요, 견적 관련해서 문의드립니다.\","
+			+ "\"timestamp\":\"2025-04-01T12:34:56.123456\",\"fileUrl\":null,\"projectId\":123}";
+		return json.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,201 @@
+package com.ll.dopdang.global.wal;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * WAL 복구(손상된 끝부분, 중단, 반영 확인)와 세그먼트 삭제를 임시 디렉터리에서 검증합니다.
+ * 레코드는 모두 같은 길이("msg-N")로 기록하여 파일 안의 위치를 계산합니다.
+ */
+class WriteAheadLogTest {
+
+	private static final int SEGMENT_SIZE = 4 * 1024;
+	private static final int RECORD_SIZE = WalSegment.RECORD_HEADER_SIZE + WalSegment.RECORD_META_SIZE + 5;
+
+	@TempDir
+	Path directory;
+
+	private WriteAheadLog wal;
+
+	@AfterEach
+	void tearDown() {
+		if (wal != null) {
+			wal.close();
+		}
+	}
+
+	@Test
+	@DisplayName("checksum이 맞지 않는 레코드부터 끝까지는 복구하지 않는다")
+	void truncatesAtBadChecksum() throws IOException {
+		wal = create();
+		for (int i = 1; i <= 3; i++) {
+			wal.append(payload(i));
+		}
+		wal.close();
+
+		// 두 번째 레코드의 payload 한 바이트를 바꿈
+		corrupt(1, offset(1) + WalSegment.RECORD_HEADER_SIZE + WalSegment.RECORD_META_SIZE);
+
+		wal = create();
+		assertThat(strings(wal.open())).containsExactly("msg-1");
+	}
+
+	@Test
+	@DisplayName("길이만 기록되고 내용이 쓰이다 만 마지막 레코드(torn write)는 버리고, 이후 기록은 새 세그먼트에 이어간다")
+	void truncatesTornTail() throws IOException {
+		wal = create();
+		for (int i = 1; i <= 3; i++) {
+			wal.append(payload(i));
+		}
+		wal.close();
+
+		// 세 번째 레코드의 checksum과 내용이 디스크에 반영되기 전에 죽은 경우
+		try (RandomAccessFile file = new RandomAccessFile(segment(1).toFile(), "rw")) {
+			file.seek(offset(2) + 4);
+			file.write(new byte[RECORD_SIZE - 4]);
+		}
+
+		wal = create();
+		assertThat(strings(wal.open())).containsExactly("msg-1", "msg-2");
+		long next = wal.append(payload(4));
+		wal.discardRecovered();
+		wal.close();
+
+		assertThat(next).isGreaterThan(2);
+		assertThat(segment(1)).doesNotExist();
+		wal = create();
+		assertThat(strings(wal.open())).containsExactly("msg-4");
+	}
+
+	@Test
+	@DisplayName("중단(abort)된 레코드는 복구하지 않는다")
+	void skipsAbortedRecords() {
+		wal = create();
+		wal.append(payload(1));
+		long rejected = wal.append(payload(2));
+		wal.append(payload(3));
+		wal.abort(rejected);
+		assertThat(wal.unconfirmedCount()).isEqualTo(2);
+		wal.close();
+
+		wal = create();
+		assertThat(strings(wal.open())).containsExactly("msg-1", "msg-3");
+	}
+
+	@Test
+	@DisplayName("모든 레코드가 반영 확인된 지난 세그먼트만 삭제하고, 확인되지 않은 레코드가 남은 세그먼트는 남긴다")
+	void confirmDeletesFullyConfirmedSegments() {
+		wal = create();
+		List<Long> first = appendUntilSegment(2);
+		List<Long> second = appendUntilSegment(3);
+		long secondSegmentHead = first.get(first.size() - 1);
+		assertThat(segment(1)).exists();
+		assertThat(segment(2)).exists();
+
+		// 두 번째 세그먼트의 첫 레코드만 확인하지 않음
+		wal.confirm(first.subList(0, first.size() - 1));
+		wal.confirm(second.subList(0, second.size() - 1));
+
+		assertThat(segment(1)).doesNotExist();
+		assertThat(segment(2)).exists();
+
+		wal.confirm(List.of(secondSegmentHead));
+		assertThat(segment(2)).doesNotExist();
+		// 세 번째 세그먼트의 레코드만 남음
+		assertThat(wal.unconfirmedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("다시 열면 반영 확인되지 않은 레코드만 기록 순서대로 복구하고, 복구를 마치면 다시 복구하지 않는다")
+	void replaysOnlyUnconfirmedRecords() {
+		wal = create();
+		List<Long> lsns = new ArrayList<>();
+		for (int i = 1; i <= 5; i++) {
+			lsns.add(wal.append(payload(i)));
+		}
+		wal.confirm(List.of(lsns.get(0), lsns.get(1), lsns.get(3)));
+		wal.close();
+
+		wal = create();
+		assertThat(strings(wal.open())).containsExactly("msg-3", "msg-5");
+		assertThat(wal.append(payload(6))).isGreaterThan(lsns.get(4));
+		wal.discardRecovered();
+		wal.close();
+
+		wal = create();
+		assertThat(strings(wal.open())).containsExactly("msg-6");
+	}
+
+	@Test
+	@DisplayName("세그먼트가 여러 개여도 반영 확인된 레코드는 복구하지 않는다")
+	void replaysOnlyUnconfirmedRecordsAcrossSegments() {
+		wal = create();
+		List<Long> first = appendUntilSegment(2);
+		List<Long> second = appendUntilSegment(3);
+		// 첫 세그먼트의 마지막 레코드만 남기고 모두 확인 -> 세그먼트 파일은 모두 남지만 확인된 레코드는 복구하지 않음
+		int kept = first.size() - 2;
+		List<Long> confirmed = new ArrayList<>(first);
+		confirmed.remove(kept);
+		confirmed.addAll(second);
+		wal.confirm(confirmed);
+		assertThat(segment(1)).exists();
+		wal.close();
+
+		wal = create();
+		assertThat(strings(wal.open())).containsExactly("msg-" + (kept + 1));
+	}
+
+	/**
+	 * target 번호의 세그먼트가 만들어질 때까지 기록하고 LSN을 반환합니다.
+	 * 마지막 LSN만 새 세그먼트(target)에 기록되고, 나머지는 그 이전 세그먼트에 있습니다.
+	 */
+	private List<Long> appendUntilSegment(int target) {
+		List<Long> lsns = new ArrayList<>();
+		while (!Files.exists(segment(target))) {
+			lsns.add(wal.append(payload(lsns.size() + 1)));
+		}
+		return lsns;
+	}
+
+	private WriteAheadLog create() {
+		return new WriteAheadLog(directory, SEGMENT_SIZE, WalFsyncPolicy.BATCH, Duration.ZERO);
+	}
+
+	private void corrupt(long segmentNumber, long position) throws IOException {
+		try (RandomAccessFile file = new RandomAccessFile(segment(segmentNumber).toFile(), "rw")) {
+			file.seek(position);
+			int value = file.read();
+			file.seek(position);
+			file.write(value ^ 0xFF);
+		}
+	}
+
+	private Path segment(long number) {
+		return directory.resolve(WalSegment.fileName(number));
+	}
+
+	private static long offset(int index) {
+		return WalSegment.HEADER_SIZE + (long)RECORD_SIZE * index;
+	}
+
+	private static byte[] payload(int index) {
+		return ("msg-" + index).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static List<String> strings(List<byte[]> payloads) {
+		return payloads.stream().map(payload -> new String(payload, StandardCharsets.UTF_8)).toList();
+	}
+}